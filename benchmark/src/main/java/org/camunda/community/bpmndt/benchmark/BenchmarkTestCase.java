@@ -0,0 +1,100 @@
+package org.camunda.community.bpmndt.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.community.bpmndt.api.AbstractTestCase;
+import org.camunda.community.bpmndt.api.TestCaseInstance;
+
+/**
+ * Test case, which is implemented the same way as the generated test cases, but is independent of a
+ * test framework.
+ */
+public class BenchmarkTestCase extends AbstractTestCase<BenchmarkTestCase> {
+
+  private final byte[] bpmnResource;
+  private final BiConsumer<TestCaseInstance, ProcessInstance> execute;
+
+  private boolean deploymentCacheEnabled = true;
+  private HistoryLevel historyLevel = HistoryLevel.HISTORY_LEVEL_FULL;
+
+  /**
+   * Creates a new test case for the synthetic process, which goes from the start event to the end
+   * event.
+   * 
+   * @param bpmnXml The BPMN model as XML (see {@link BpmnModels}).
+   * 
+   * @param execute Function that executes the test case, using the test case instance and the
+   *        started process instance.
+   */
+  public BenchmarkTestCase(String bpmnXml, BiConsumer<TestCaseInstance, ProcessInstance> execute) {
+    this.bpmnResource = bpmnXml.getBytes(StandardCharsets.UTF_8);
+    this.execute = execute;
+
+    testClass = BenchmarkTestCase.class;
+    testMethodName = "benchmark";
+  }
+
+  /**
+   * Performs the setup, the same way it is done before each test.
+   */
+  public void start() {
+    beforeEach();
+  }
+
+  /**
+   * Performs the teardown, the same way it is done after each test.
+   */
+  public void finish() {
+    afterEach();
+  }
+
+  @Override
+  protected void execute(ProcessInstance pi) {
+    execute.accept(instance, pi);
+  }
+
+  @Override
+  protected InputStream getBpmnResource() {
+    return new ByteArrayInputStream(bpmnResource);
+  }
+
+  @Override
+  public String getEnd() {
+    return "endEvent";
+  }
+
+  @Override
+  protected HistoryLevel getHistoryLevel() {
+    return historyLevel;
+  }
+
+  @Override
+  public String getProcessDefinitionKey() {
+    return BpmnModels.PROCESS_ID;
+  }
+
+  @Override
+  public String getStart() {
+    return "startEvent";
+  }
+
+  @Override
+  protected boolean isDeploymentCacheEnabled() {
+    return deploymentCacheEnabled;
+  }
+
+  public BenchmarkTestCase withDeploymentCacheEnabled(boolean deploymentCacheEnabled) {
+    this.deploymentCacheEnabled = deploymentCacheEnabled;
+    return this;
+  }
+
+  public BenchmarkTestCase withHistoryLevel(HistoryLevel historyLevel) {
+    this.historyLevel = historyLevel;
+    return this;
+  }
+}
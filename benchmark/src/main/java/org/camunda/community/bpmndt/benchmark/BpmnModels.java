@@ -0,0 +1,371 @@
+package org.camunda.community.bpmndt.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Generates synthetic BPMN models, which contain {@code bpmndt:testCase} extension elements, to
+ * measure how generation and execution scale with model size, path length and test case count.
+ */
+public class BpmnModels {
+
+  /** ID of the process, provided by all models. */
+  public static final String PROCESS_ID = "benchmark";
+
+  /**
+   * Shapes of synthetic BPMN models.
+   */
+  public enum Shape {
+
+    /** Long linear path: start event, n manual tasks, end event - 1 test case. */
+    LINEAR,
+    /** Wide exclusive gateway with n branches - 1 test case per branch. */
+    GATEWAYS,
+    /** n deeply nested embedded sub processes - 1 test case. */
+    SUB_PROCESSES,
+    /** Linear path with 10 manual tasks - n test cases. */
+    TEST_CASES;
+
+    /**
+     * Creates a BPMN model of this shape.
+     *
+     * @param size The size of the model (number of tasks, branches, nesting levels or test cases).
+     *
+     * @return The BPMN model as XML.
+     */
+    public String create(int size) {
+      switch (this) {
+        case LINEAR:
+          return linear(size, "manualTask");
+        case GATEWAYS:
+          return gateways(size);
+        case SUB_PROCESSES:
+          return subProcesses(size);
+        case TEST_CASES:
+          return testCases(size);
+        default:
+          throw new IllegalStateException(String.format("Unsupported shape '%s'", this));
+      }
+    }
+  }
+
+  /**
+   * Creates a process with an exclusive gateway, which splits into the given number of branches. Each
+   * branch consists of a manual task and is covered by a test case.
+   *
+   * @param width The number of branches.
+   *
+   * @return The BPMN model as XML.
+   */
+  public static String gateways(int width) {
+    Model model = new Model();
+
+    Node startEvent = model.process.add("startEvent", "startEvent");
+    Node fork = model.process.add("exclusiveGateway", "fork");
+    Node join = model.process.add("exclusiveGateway", "join");
+    Node endEvent = model.process.add("endEvent", "endEvent");
+
+    model.connect(model.process, startEvent, fork);
+    model.connect(model.process, join, endEvent);
+
+    for (int i = 0; i < width; i++) {
+      Node task = model.process.add("manualTask", "task" + i);
+
+      Flow flow = model.connect(model.process, fork, task);
+      model.connect(model.process, task, join);
+
+      if (i == 0) {
+        fork.defaultFlow = flow.id;
+      } else {
+        flow.condition = String.format("${execution.getVariable('branch') == %d}", i);
+      }
+
+      model.addTestCase("Branch " + i, Arrays.asList(startEvent.id, fork.id, task.id, join.id, endEvent.id));
+    }
+
+    return model.toXml();
+  }
+
+  /**
+   * Creates a process with a linear path of activities of the given type, which is covered by a
+   * single test case.
+   *
+   * @param length The number of activities.
+   *
+   * @param type The activity type (e.g. {@code manualTask} or {@code userTask}).
+   *
+   * @return The BPMN model as XML.
+   */
+  public static String linear(int length, String type) {
+    Model model = new Model();
+    model.addTestCase("Linear", model.linear(model.process, length, type));
+    return model.toXml();
+  }
+
+  /**
+   * Creates a process with a sequential multi instance manual task, which loops the given number of
+   * times.
+   *
+   * @param loopCount The loop cardinality.
+   *
+   * @return The BPMN model as XML.
+   */
+  public static String multiInstance(int loopCount) {
+    Model model = new Model();
+
+    Node startEvent = model.process.add("startEvent", "startEvent");
+    Node task = model.process.add("manualTask", "multiInstanceTask");
+    Node endEvent = model.process.add("endEvent", "endEvent");
+
+    task.body = String.format("<bpmn:multiInstanceLoopCharacteristics isSequential=\"true\">"
+        + "<bpmn:loopCardinality>%d</bpmn:loopCardinality>"
+        + "</bpmn:multiInstanceLoopCharacteristics>", loopCount);
+
+    model.connect(model.process, startEvent, task);
+    model.connect(model.process, task, endEvent);
+
+    model.addTestCase("Multi instance", Arrays.asList(startEvent.id, task.id, endEvent.id));
+
+    return model.toXml();
+  }
+
+  /**
+   * Creates a process with embedded sub processes, nested up to the given depth. The path of the
+   * single test case leads through all sub processes.
+   *
+   * @param depth The nesting depth.
+   *
+   * @return The BPMN model as XML.
+   */
+  public static String subProcesses(int depth) {
+    Model model = new Model();
+
+    List<String> path = new LinkedList<>();
+
+    Scope scope = model.process;
+    int index = 0;
+    for (int i = 0; i <= depth; i++) {
+      Node startEvent = scope.add("startEvent", "startEvent" + i);
+      Node endEvent = scope.add("endEvent", "endEvent" + i);
+
+      path.add(index, startEvent.id);
+      path.add(index + 1, endEvent.id);
+
+      if (i == depth) {
+        model.connect(scope, startEvent, endEvent);
+        break;
+      }
+
+      Node subProcess = scope.add("subProcess", "subProcess" + (i + 1));
+      subProcess.scope = new Scope();
+
+      model.connect(scope, startEvent, subProcess);
+      model.connect(scope, subProcess, endEvent);
+
+      scope = subProcess.scope;
+      index++;
+    }
+
+    model.addTestCase("Sub processes", path);
+
+    return model.toXml();
+  }
+
+  /**
+   * Creates a process with a linear path of 10 manual tasks and the given number of test cases, which
+   * cover a varying part of the path.
+   *
+   * @param count The number of test cases.
+   *
+   * @return The BPMN model as XML.
+   */
+  public static String testCases(int count) {
+    Model model = new Model();
+
+    List<String> path = model.linear(model.process, 10, "manualTask");
+    for (int i = 0; i < count; i++) {
+      model.addTestCase("Test case " + i, path.subList(0, 2 + i % (path.size() - 1)));
+    }
+
+    return model.toXml();
+  }
+
+  /**
+   * Writes the given BPMN model into the given directory.
+   *
+   * @param directory An existing directory.
+   *
+   * @param fileName The name of the BPMN file.
+   *
+   * @param bpmnXml The BPMN model as XML.
+   *
+   * @return The path of the written BPMN file.
+   */
+  public static Path write(Path directory, String fileName, String bpmnXml) {
+    Path bpmnFile = directory.resolve(fileName);
+    try {
+      Files.write(bpmnFile, bpmnXml.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new RuntimeException("BPMN file could not be written", e);
+    }
+    return bpmnFile;
+  }
+
+  private BpmnModels() {
+  }
+
+  private static class Model {
+
+    private final Scope process = new Scope();
+    private final StringBuilder testCases = new StringBuilder();
+
+    private int flowCount;
+
+    void addTestCase(String name, List<String> path) {
+      testCases.append("<bpmndt:testCase>");
+      testCases.append("<bpmndt:name>").append(name).append("</bpmndt:name>");
+      testCases.append("<bpmndt:path>");
+      path.forEach(flowNodeId -> testCases.append("<bpmndt:node>").append(flowNodeId).append("</bpmndt:node>"));
+      testCases.append("</bpmndt:path>");
+      testCases.append("</bpmndt:testCase>");
+    }
+
+    Flow connect(Scope scope, Node source, Node target) {
+      Flow flow = new Flow("flow" + (flowCount++), source.id, target.id);
+
+      source.outgoing.add(flow.id);
+      target.incoming.add(flow.id);
+
+      scope.flows.add(flow);
+      return flow;
+    }
+
+    List<String> linear(Scope scope, int length, String type) {
+      List<String> path = new ArrayList<>(length + 2);
+
+      Node previous = scope.add("startEvent", "startEvent");
+      path.add(previous.id);
+
+      for (int i = 0; i < length; i++) {
+        Node activity = scope.add(type, type + i);
+        connect(scope, previous, activity);
+
+        previous = activity;
+        path.add(previous.id);
+      }
+
+      Node endEvent = scope.add("endEvent", "endEvent");
+      connect(scope, previous, endEvent);
+      path.add(endEvent.id);
+
+      return path;
+    }
+
+    String toXml() {
+      StringBuilder sb = new StringBuilder();
+      sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+      sb.append("<bpmn:definitions xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"");
+      sb.append(" xmlns:bpmndt=\"http://camunda.org/schema/extension/bpmn-driven-testing\"");
+      sb.append(" id=\"definitions\" targetNamespace=\"http://bpmn.io/schema/bpmn\">\n");
+      sb.append(String.format("<bpmn:process id=\"%s\" isExecutable=\"true\">\n", PROCESS_ID));
+      sb.append("<bpmn:extensionElements><bpmndt:testCases>");
+      sb.append(testCases);
+      sb.append("</bpmndt:testCases></bpmn:extensionElements>\n");
+      process.appendTo(sb);
+      sb.append("</bpmn:process>\n");
+      sb.append("</bpmn:definitions>\n");
+      return sb.toString();
+    }
+  }
+
+  private static class Scope {
+
+    private final List<Node> nodes = new LinkedList<>();
+    private final List<Flow> flows = new ArrayList<>();
+
+    Node add(String type, String id) {
+      Node node = new Node(type, id);
+      nodes.add(node);
+      return node;
+    }
+
+    void appendTo(StringBuilder sb) {
+      nodes.forEach(node -> node.appendTo(sb));
+      flows.forEach(flow -> flow.appendTo(sb));
+    }
+  }
+
+  private static class Node {
+
+    private final String type;
+    private final String id;
+
+    private final List<String> incoming = new LinkedList<>();
+    private final List<String> outgoing = new LinkedList<>();
+
+    private String body;
+    private String defaultFlow;
+    private Scope scope;
+
+    Node(String type, String id) {
+      this.type = type;
+      this.id = id;
+    }
+
+    void appendTo(StringBuilder sb) {
+      sb.append(String.format("<bpmn:%s id=\"%s\"", type, id));
+      if (defaultFlow != null) {
+        sb.append(String.format(" default=\"%s\"", defaultFlow));
+      }
+      sb.append(">\n");
+
+      incoming.forEach(flowId -> sb.append("<bpmn:incoming>").append(flowId).append("</bpmn:incoming>\n"));
+      outgoing.forEach(flowId -> sb.append("<bpmn:outgoing>").append(flowId).append("</bpmn:outgoing>\n"));
+
+      if (body != null) {
+        sb.append(body).append('\n');
+      }
+      if (scope != null) {
+        scope.appendTo(sb);
+      }
+
+      sb.append(String.format("</bpmn:%s>\n", type));
+    }
+  }
+
+  private static class Flow {
+
+    private final String id;
+    private final String sourceRef;
+    private final String targetRef;
+
+    private String condition;
+
+    Flow(String id, String sourceRef, String targetRef) {
+      this.id = id;
+      this.sourceRef = sourceRef;
+      this.targetRef = targetRef;
+    }
+
+    void appendTo(StringBuilder sb) {
+      sb.append(String.format("<bpmn:sequenceFlow id=\"%s\" sourceRef=\"%s\" targetRef=\"%s\"", id, sourceRef, targetRef));
+
+      if (condition == null) {
+        sb.append(" />\n");
+        return;
+      }
+
+      sb.append(">\n");
+      sb.append("<bpmn:conditionExpression xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"bpmn:tFormalExpression\">");
+      sb.append(condition);
+      sb.append("</bpmn:conditionExpression>\n");
+      sb.append("</bpmn:sequenceFlow>\n");
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package org.camunda.community.bpmndt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
+import org.camunda.community.bpmndt.api.MultiInstanceHandler;
+import org.camunda.community.bpmndt.api.UserTaskHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the execution of test cases, including setup and teardown, the same way as it is done
+ * for each test: {@code beforeEach}, {@code TestCaseExecutor#execute()} and {@code afterEach}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+public class ExecuteBenchmark {
+
+  /**
+   * Executes a linear path of user tasks.
+   * 
+   * @param state The state, providing the path length.
+   * 
+   * @return The executed process instance.
+   */
+  @Benchmark
+  public ProcessInstance linear(LinearState state) {
+    BenchmarkTestCase tc = new BenchmarkTestCase(state.bpmnXml, (instance, pi) -> {
+      for (int i = 0; i < state.length; i++) {
+        instance.apply(new UserTaskHandler(instance.getProcessEngine(), "userTask" + i));
+      }
+
+      ProcessEngineTests.assertThat(pi).isEnded();
+    });
+
+    return execute(tc);
+  }
+
+  /**
+   * Executes a sequential multi instance manual task.
+   * 
+   * @param state The state, providing the loop count.
+   * 
+   * @return The executed process instance.
+   */
+  @Benchmark
+  public ProcessInstance multiInstance(MultiInstanceState state) {
+    BenchmarkTestCase tc = new BenchmarkTestCase(state.bpmnXml, (instance, pi) -> {
+      MultiInstanceHandler<?, ?> handler = new MultiInstanceHandler<>(instance, "multiInstanceTask");
+      handler.verifyLoopCount(state.loopCount);
+
+      instance.apply(handler);
+
+      ProcessEngineTests.assertThat(pi).isEnded();
+    });
+
+    return execute(tc);
+  }
+
+  private ProcessInstance execute(BenchmarkTestCase tc) {
+    tc.start();
+
+    try {
+      return tc.createExecutor().execute();
+    } finally {
+      tc.finish();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class LinearState {
+
+    @Param({"1", "10", "50"})
+    private int length;
+
+    private String bpmnXml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      bpmnXml = BpmnModels.linear(length, "userTask");
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class MultiInstanceState {
+
+    @Param({"1", "10", "50"})
+    private int loopCount;
+
+    private String bpmnXml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      bpmnXml = BpmnModels.multiInstance(loopCount);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package org.camunda.community.bpmndt.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.camunda.community.bpmndt.BpmnSupport;
+import org.camunda.community.bpmndt.BpmnTestCase;
+import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorResult;
+import org.camunda.community.bpmndt.TestCaseContext;
+import org.camunda.community.bpmndt.benchmark.BpmnModels.Shape;
+import org.camunda.community.bpmndt.cmd.BuildTestCaseContext;
+import org.camunda.community.bpmndt.cmd.GenerateTestCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the steps of the test code generation: BPMN parsing, building of test case contexts and
+ * the generation of test cases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class GeneratorBenchmark {
+
+  @Param({"LINEAR", "GATEWAYS", "SUB_PROCESSES", "TEST_CASES"})
+  private Shape shape;
+
+  @Param({"10", "100", "500"})
+  private int size;
+
+  private Path directory;
+  private Path bpmnFile;
+
+  private GeneratorContext gCtx;
+
+  private BpmnSupport bpmnSupport;
+  private List<BpmnTestCase> testCases;
+  private List<TestCaseContext> testCaseContexts;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("bpmndt-benchmark");
+
+    bpmnFile = BpmnModels.write(directory, "benchmark.bpmn", shape.create(size));
+
+    gCtx = new GeneratorContext();
+    gCtx.setBasePath(directory);
+    gCtx.setMainResourcePath(directory);
+    gCtx.setTestSourcePath(directory.resolve("bpmndt"));
+    gCtx.setPackageName("generated");
+
+    bpmnSupport = BpmnSupport.of(bpmnFile);
+    testCases = bpmnSupport.getTestCases();
+    testCaseContexts = buildTestCaseContext();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public BpmnSupport parse() {
+    return BpmnSupport.of(bpmnFile);
+  }
+
+  @Benchmark
+  public List<TestCaseContext> buildTestCaseContext() {
+    BuildTestCaseContext ctxBuilder = new BuildTestCaseContext(gCtx, bpmnSupport);
+    return testCases.stream().map(ctxBuilder).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public GeneratorResult generateTestCase() {
+    GeneratorResult result = new GeneratorResult();
+
+    GenerateTestCase generate = new GenerateTestCase(gCtx, result);
+    testCaseContexts.forEach(generate);
+
+    return result;
+  }
+}
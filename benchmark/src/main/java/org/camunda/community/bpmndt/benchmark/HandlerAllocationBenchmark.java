@@ -0,0 +1,114 @@
+package org.camunda.community.bpmndt.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.community.bpmndt.api.UserTaskHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the allocations of handlers, done by the {@code beforeEach} method of a generated test
+ * case: the eager construction of all handlers, as done by former versions, and the lazy
+ * construction via handler methods, where only the handlers are created that are accessed. Run with
+ * {@code -prof gc} to get the allocation rate ({@code gc.alloc.rate.norm} in bytes per operation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+public class HandlerAllocationBenchmark {
+
+  /**
+   * Creates all handlers upfront and accesses the used ones afterwards.
+   *
+   * @param state The state, providing the handler fields and the number of used handlers.
+   *
+   * @param bh Blackhole to consume the accessed handlers.
+   */
+  @Benchmark
+  public void eager(HandlerState state, Blackhole bh) {
+    UserTaskHandler[] handlers = state.handlers;
+    for (int i = 0; i < handlers.length; i++) {
+      handlers[i] = new UserTaskHandler(state.processEngine, state.activityIds[i]);
+    }
+
+    for (int i = 0; i < state.used; i++) {
+      bh.consume(handlers[i]);
+    }
+  }
+
+  /**
+   * Resets all handlers and creates the used ones on first access.
+   *
+   * @param state The state, providing the handler fields and the number of used handlers.
+   *
+   * @param bh Blackhole to consume the accessed handlers.
+   */
+  @Benchmark
+  public void lazy(HandlerState state, Blackhole bh) {
+    UserTaskHandler[] handlers = state.handlers;
+    Arrays.fill(handlers, null);
+
+    for (int i = 0; i < state.used; i++) {
+      if (handlers[i] == null) {
+        handlers[i] = new UserTaskHandler(state.processEngine, state.activityIds[i]);
+      }
+      bh.consume(handlers[i]);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class HandlerState {
+
+    /** Number of handlers of the test case. */
+    @Param({"10", "100"})
+    private int size;
+
+    /** Number of handlers, accessed by the test. */
+    @Param({"1", "10"})
+    private int used;
+
+    private String[] activityIds;
+    private UserTaskHandler[] handlers;
+
+    private BenchmarkTestCase tc;
+    private ProcessEngine processEngine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      activityIds = new String[size];
+      for (int i = 0; i < size; i++) {
+        activityIds[i] = "userTask" + i;
+      }
+
+      handlers = new UserTaskHandler[size];
+      used = Math.min(used, size);
+
+      // start a test case to get the process engine of the registry
+      tc = new BenchmarkTestCase(BpmnModels.linear(size, "userTask"), (instance, pi) -> {});
+      tc.start();
+
+      processEngine = tc.getProcessEngine();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      tc.finish();
+    }
+  }
+}
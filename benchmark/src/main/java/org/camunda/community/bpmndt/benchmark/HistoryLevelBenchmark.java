@@ -0,0 +1,136 @@
+package org.camunda.community.bpmndt.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
+import org.camunda.community.bpmndt.api.MultiInstanceHandler;
+import org.camunda.community.bpmndt.api.UserTaskHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the throughput of test cases per history level of the process engine. Each history
+ * level results in a separate process engine, held by the process engine registry.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+public class HistoryLevelBenchmark {
+
+  /**
+   * Executes a linear path of user tasks.
+   * 
+   * @param state The state, providing the history level and the path length.
+   * 
+   * @return The executed process instance.
+   */
+  @Benchmark
+  public ProcessInstance linear(LinearState state) {
+    BenchmarkTestCase tc = new BenchmarkTestCase(state.bpmnXml, (instance, pi) -> {
+      for (int i = 0; i < state.length; i++) {
+        instance.isWaitingAt(pi, "userTask" + i);
+        instance.apply(new UserTaskHandler(instance.getProcessEngine(), "userTask" + i));
+        instance.hasPassed(pi, "userTask" + i);
+      }
+
+      ProcessEngineTests.assertThat(pi).isEnded();
+    });
+
+    return execute(tc, state.historyLevel);
+  }
+
+  /**
+   * Executes a sequential multi instance manual task.
+   * 
+   * @param state The state, providing the history level and the loop count.
+   * 
+   * @return The executed process instance.
+   */
+  @Benchmark
+  public ProcessInstance multiInstance(MultiInstanceState state) {
+    BenchmarkTestCase tc = new BenchmarkTestCase(state.bpmnXml, (instance, pi) -> {
+      MultiInstanceHandler<?, ?> handler = new MultiInstanceHandler<>(instance, "multiInstanceTask");
+      handler.verifyLoopCount(state.loopCount);
+
+      instance.apply(handler);
+
+      ProcessEngineTests.assertThat(pi).isEnded();
+    });
+
+    return execute(tc, state.historyLevel);
+  }
+
+  private ProcessInstance execute(BenchmarkTestCase tc, String historyLevel) {
+    tc.withHistoryLevel(toHistoryLevel(historyLevel));
+    tc.start();
+
+    try {
+      return tc.createExecutor().execute();
+    } finally {
+      tc.finish();
+    }
+  }
+
+  private static HistoryLevel toHistoryLevel(String name) {
+    switch (name) {
+      case "full":
+        return HistoryLevel.HISTORY_LEVEL_FULL;
+      case "audit":
+        return HistoryLevel.HISTORY_LEVEL_AUDIT;
+      case "activity":
+        return HistoryLevel.HISTORY_LEVEL_ACTIVITY;
+      case "none":
+        return HistoryLevel.HISTORY_LEVEL_NONE;
+      default:
+        throw new IllegalArgumentException(String.format("Unsupported history level '%s'", name));
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class LinearState {
+
+    @Param({"full", "audit", "activity", "none"})
+    private String historyLevel;
+
+    @Param({"10", "50"})
+    private int length;
+
+    private String bpmnXml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      bpmnXml = BpmnModels.linear(length, "userTask");
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class MultiInstanceState {
+
+    @Param({"full", "audit", "activity", "none"})
+    private String historyLevel;
+
+    @Param({"10", "50"})
+    private int loopCount;
+
+    private String bpmnXml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      bpmnXml = BpmnModels.multiInstance(loopCount);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package org.camunda.community.bpmndt.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
+import org.camunda.community.bpmndt.api.cfg.BpmndtProcessEnginePlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the fixed costs of a test: building a process engine, which is done once per JVM and
+ * set of process engine plugins, and the setup and teardown of a test case with and without the
+ * reuse of deployments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+public class ProcessEngineBenchmark {
+
+  /**
+   * Builds and closes a process engine, the same way it is done for a test case, which does not
+   * provide custom process engine plugins.
+   * 
+   * @param state The state, determining if the H2 schema template is used or not.
+   */
+  @Benchmark
+  public void bootstrap(BootstrapState state) {
+    BpmndtProcessEnginePlugin plugin = new BpmndtProcessEnginePlugin();
+    plugin.setSchemaTemplateEnabled(state.schemaTemplateEnabled);
+
+    List<ProcessEnginePlugin> processEnginePlugins = Collections.singletonList(plugin);
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+    processEngineConfiguration.setProcessEnginePlugins(processEnginePlugins);
+
+    ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+    processEngine.close();
+  }
+
+  /**
+   * Executes a test case, using the process engine of the registry.
+   * 
+   * @param state The state, determining if the deployment cache is enabled or not.
+   * 
+   * @return The executed process instance.
+   */
+  @Benchmark
+  public ProcessInstance testCase(TestCaseState state) {
+    BenchmarkTestCase tc = new BenchmarkTestCase(state.bpmnXml, (instance, pi) -> {
+      ProcessEngineTests.assertThat(pi).isEnded();
+    });
+
+    tc.withDeploymentCacheEnabled(state.deploymentCacheEnabled);
+    tc.start();
+
+    try {
+      return tc.createExecutor().execute();
+    } finally {
+      tc.finish();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class BootstrapState {
+
+    @Param({"true", "false"})
+    private boolean schemaTemplateEnabled;
+  }
+
+  @State(Scope.Thread)
+  public static class TestCaseState {
+
+    @Param({"true", "false"})
+    private boolean deploymentCacheEnabled;
+
+    @Param({"10", "100"})
+    private int length;
+
+    private String bpmnXml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      bpmnXml = BpmnModels.linear(length, "manualTask");
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package org.camunda.community.bpmndt.gradle;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * Configuration of the {@code bpmndt} extension - the Gradle counterpart of the Maven plugin's
+ * parameters.
+ */
+public abstract class BpmndtExtension {
+
+  /**
+   * Returns the number of threads, used to parse BPMN files and to generate test cases in parallel.
+   *
+   * @return The number of generator threads - default: {@code 1}.
+   */
+  public abstract Property<Integer> getGeneratorThreads();
+
+  /**
+   * Determines if the incremental generation is enabled. If enabled, only BPMN files, which changed
+   * since the last generation, are processed, when the task is not up-to-date.
+   *
+   * @return {@code true}, if the incremental generation is enabled - default: {@code false}.
+   */
+  public abstract Property<Boolean> getIncrementalEnabled();
+
+  public abstract Property<Boolean> getJUnit5Enabled();
+
+  /**
+   * Returns the directory, which contains the BPMN files.
+   *
+   * @return The main resource directory - default: {@code src/main/resources}.
+   */
+  public abstract DirectoryProperty getMainResourceDirectory();
+
+  public abstract Property<Boolean> getMetricsSummaryEnabled();
+
+  public abstract Property<String> getPackageName();
+
+  /**
+   * Returns the maximum number of flow nodes of a path, enumerated for a process, which opts in to the
+   * automatic path enumeration.
+   *
+   * @return The maximum path length - default: {@code 100}.
+   */
+  public abstract Property<Integer> getPathEnumerationMaxLength();
+
+  /**
+   * Returns the maximum number of paths, enumerated for a process, which opts in to the automatic path
+   * enumeration.
+   *
+   * @return The maximum number of paths - default: {@code 100}.
+   */
+  public abstract Property<Integer> getPathEnumerationMaxPaths();
+
+  public abstract ListProperty<String> getProcessEnginePlugins();
+
+  public abstract Property<Boolean> getRuntimeApiEnabled();
+
+  public abstract Property<Boolean> getSpringEnabled();
+
+  public abstract Property<Boolean> getStepPlanEnabled();
+
+  /**
+   * Returns the directory, used for the generated test sources.
+   *
+   * @return The test source directory - default: {@code build/bpmndt}.
+   */
+  public abstract DirectoryProperty getTestSourceDirectory();
+}
@@ -0,0 +1,67 @@
+package org.camunda.community.bpmndt.gradle;
+
+import java.util.Collections;
+
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.TaskProvider;
+
+/**
+ * Gradle plugin, which registers the {@code bpmndt} extension and the {@code generateTestCases} task.
+ * If the Java plugin is applied, the task's output directory is added as source directory of the
+ * {@code test} source set - the test code is generated before it is compiled.
+ */
+public class BpmndtPlugin implements Plugin<Project> {
+
+  public static final String EXTENSION_NAME = "bpmndt";
+  public static final String TASK_NAME = "generateTestCases";
+
+  @Override
+  public void apply(Project project) {
+    BpmndtExtension extension = project.getExtensions().create(EXTENSION_NAME, BpmndtExtension.class);
+    extension.getGeneratorThreads().convention(1);
+    extension.getIncrementalEnabled().convention(false);
+    extension.getJUnit5Enabled().convention(false);
+    extension.getMainResourceDirectory().convention(project.getLayout().getProjectDirectory().dir("src/main/resources"));
+    extension.getMetricsSummaryEnabled().convention(false);
+    extension.getPackageName().convention("generated");
+    extension.getPathEnumerationMaxLength().convention(100);
+    extension.getPathEnumerationMaxPaths().convention(100);
+    extension.getProcessEnginePlugins().convention(Collections.emptyList());
+    extension.getRuntimeApiEnabled().convention(false);
+    extension.getSpringEnabled().convention(false);
+    extension.getStepPlanEnabled().convention(false);
+    extension.getTestSourceDirectory().convention(project.getLayout().getBuildDirectory().dir("bpmndt"));
+
+    TaskProvider<GeneratorTask> generatorTask = project.getTasks().register(TASK_NAME, GeneratorTask.class, task -> {
+      task.setDescription("Generates test code based on the test cases of the BPMN files.");
+      task.setGroup("build");
+
+      task.getGeneratorThreads().set(extension.getGeneratorThreads());
+      task.getIncrementalEnabled().set(extension.getIncrementalEnabled());
+      task.getJUnit5Enabled().set(extension.getJUnit5Enabled());
+      task.getMainResourceDirectory().set(extension.getMainResourceDirectory());
+      task.getMetricsSummaryEnabled().set(extension.getMetricsSummaryEnabled());
+      task.getPackageName().set(extension.getPackageName());
+      task.getPathEnumerationMaxLength().set(extension.getPathEnumerationMaxLength());
+      task.getPathEnumerationMaxPaths().set(extension.getPathEnumerationMaxPaths());
+      task.getProcessEnginePlugins().set(extension.getProcessEnginePlugins());
+      task.getProjectDirectory().set(project.getLayout().getProjectDirectory());
+      task.getRuntimeApiEnabled().set(extension.getRuntimeApiEnabled());
+      task.getSpringEnabled().set(extension.getSpringEnabled());
+      task.getStepPlanEnabled().set(extension.getStepPlanEnabled());
+      task.getTestSourceDirectory().set(extension.getTestSourceDirectory());
+    });
+
+    project.getPlugins().withType(JavaPlugin.class, javaPlugin -> {
+      SourceSetContainer sourceSets = project.getExtensions().getByType(SourceSetContainer.class);
+
+      // add test source directory - the provider carries the task dependency
+      SourceSet test = sourceSets.getByName(SourceSet.TEST_SOURCE_SET_NAME);
+      test.getJava().srcDir(generatorTask.flatMap(GeneratorTask::getTestSourceDirectory));
+    });
+  }
+}
@@ -0,0 +1,131 @@
+package org.camunda.community.bpmndt.gradle;
+
+import org.camunda.community.bpmndt.Constants;
+import org.camunda.community.bpmndt.Generator;
+import org.camunda.community.bpmndt.GeneratorContext;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Console;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Task, which generates the test code for the BPMN files of the main resource directory - the Gradle
+ * counterpart of the Maven plugin's {@code generator} goal.
+ * <p>
+ * The BPMN files (with their relative paths) and all settings, which influence the generated code,
+ * are declared as inputs, the test source directory as output. So the task is up-to-date, if no BPMN
+ * file and no setting changed, and its output can be restored from the build cache. The task action
+ * does not access the project, which makes the task compatible with the configuration cache.
+ */
+@CacheableTask
+public abstract class GeneratorTask extends DefaultTask {
+
+  /**
+   * Returns the BPMN files of the main resource directory, which are the task's file inputs.
+   *
+   * @return A file tree, containing all BPMN files.
+   */
+  @InputFiles
+  @IgnoreEmptyDirectories
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public FileTree getBpmnFiles() {
+    return getMainResourceDirectory().getAsFileTree().matching(patterns -> patterns.include("**/*" + Constants.BPMN_EXTENSION));
+  }
+
+  /**
+   * Returns the number of generator threads, which does not influence the generated code.
+   *
+   * @return The number of threads.
+   */
+  @Internal
+  public abstract Property<Integer> getGeneratorThreads();
+
+  @Input
+  public abstract Property<Boolean> getIncrementalEnabled();
+
+  @Input
+  public abstract Property<Boolean> getJUnit5Enabled();
+
+  /**
+   * Returns the main resource directory. Only the contained BPMN files are considered as inputs.
+   *
+   * @return The main resource directory.
+   * 
+   * @see #getBpmnFiles()
+   */
+  @Internal
+  public abstract DirectoryProperty getMainResourceDirectory();
+
+  @Console
+  public abstract Property<Boolean> getMetricsSummaryEnabled();
+
+  @Input
+  public abstract Property<String> getPackageName();
+
+  @Input
+  public abstract Property<Integer> getPathEnumerationMaxLength();
+
+  @Input
+  public abstract Property<Integer> getPathEnumerationMaxPaths();
+
+  @Input
+  public abstract ListProperty<String> getProcessEnginePlugins();
+
+  /**
+   * Returns the project directory, which is used to log relative paths only.
+   *
+   * @return The project directory.
+   */
+  @Internal
+  public abstract DirectoryProperty getProjectDirectory();
+
+  @Input
+  public abstract Property<Boolean> getRuntimeApiEnabled();
+
+  @Input
+  public abstract Property<Boolean> getSpringEnabled();
+
+  @Input
+  public abstract Property<Boolean> getStepPlanEnabled();
+
+  @OutputDirectory
+  public abstract DirectoryProperty getTestSourceDirectory();
+
+  @TaskAction
+  public void generate() {
+    GeneratorContext ctx = new GeneratorContext();
+    ctx.setBasePath(getProjectDirectory().get().getAsFile().toPath());
+    ctx.setGeneratorThreads(getGeneratorThreads().get());
+    ctx.setIncrementalEnabled(getIncrementalEnabled().get());
+    ctx.setJUnit5Enabled(getJUnit5Enabled().get());
+    ctx.setMainResourcePath(getMainResourceDirectory().get().getAsFile().toPath());
+    ctx.setMetricsSummaryEnabled(getMetricsSummaryEnabled().get());
+    ctx.setPackageName(getPackageName().get());
+    ctx.setPathEnumerationMaxLength(getPathEnumerationMaxLength().get());
+    ctx.setPathEnumerationMaxPaths(getPathEnumerationMaxPaths().get());
+    ctx.setProcessEnginePluginNames(getProcessEnginePlugins().get());
+    ctx.setRuntimeApiEnabled(getRuntimeApiEnabled().get());
+    ctx.setSpringEnabled(getSpringEnabled().get());
+    ctx.setStepPlanEnabled(getStepPlanEnabled().get());
+    ctx.setTestSourcePath(getTestSourceDirectory().get().getAsFile().toPath());
+
+    // generate test code
+    try {
+      new Generator(new GradleLog(getLogger())).generate(ctx);
+    } catch (RuntimeException e) {
+      throw new GradleException("Unexpected error occurred", e);
+    }
+  }
+}
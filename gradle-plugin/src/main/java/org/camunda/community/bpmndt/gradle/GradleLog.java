@@ -0,0 +1,102 @@
+package org.camunda.community.bpmndt.gradle;
+
+import org.apache.maven.plugin.logging.Log;
+import org.gradle.api.logging.Logger;
+
+/**
+ * Log, which writes the generator's messages to a Gradle logger. Since Gradle does not show info
+ * messages by default, the generator's log output is visible, when Gradle is run with
+ * {@code --info}.
+ */
+public class GradleLog implements Log {
+
+  private final Logger logger;
+
+  public GradleLog(Logger logger) {
+    this.logger = logger;
+  }
+
+  @Override
+  public void debug(CharSequence content) {
+    logger.debug(toString(content));
+  }
+
+  @Override
+  public void debug(CharSequence content, Throwable error) {
+    logger.debug(toString(content), error);
+  }
+
+  @Override
+  public void debug(Throwable error) {
+    logger.debug(error.getMessage(), error);
+  }
+
+  @Override
+  public void error(CharSequence content) {
+    logger.error(toString(content));
+  }
+
+  @Override
+  public void error(CharSequence content, Throwable error) {
+    logger.error(toString(content), error);
+  }
+
+  @Override
+  public void error(Throwable error) {
+    logger.error(error.getMessage(), error);
+  }
+
+  @Override
+  public void info(CharSequence content) {
+    logger.info(toString(content));
+  }
+
+  @Override
+  public void info(CharSequence content, Throwable error) {
+    logger.info(toString(content), error);
+  }
+
+  @Override
+  public void info(Throwable error) {
+    logger.info(error.getMessage(), error);
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return logger.isDebugEnabled();
+  }
+
+  @Override
+  public boolean isErrorEnabled() {
+    return logger.isErrorEnabled();
+  }
+
+  @Override
+  public boolean isInfoEnabled() {
+    return logger.isInfoEnabled();
+  }
+
+  @Override
+  public boolean isWarnEnabled() {
+    return logger.isWarnEnabled();
+  }
+
+  private String toString(CharSequence content) {
+    return content != null ? content.toString() : null;
+  }
+
+  @Override
+  public void warn(CharSequence content) {
+    logger.warn(toString(content));
+  }
+
+  @Override
+  public void warn(CharSequence content, Throwable error) {
+    logger.warn(toString(content), error);
+  }
+
+  @Override
+  public void warn(Throwable error) {
+    logger.warn(error.getMessage(), error);
+  }
+}
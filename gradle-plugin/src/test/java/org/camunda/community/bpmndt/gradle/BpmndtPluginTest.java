@@ -0,0 +1,117 @@
+package org.camunda.community.bpmndt.gradle;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.gradle.api.Project;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BpmndtPluginTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder(new File("./build"));
+
+  private Path projectDir;
+
+  @Before
+  public void setUp() throws IOException {
+    projectDir = temporaryFolder.getRoot().toPath().toAbsolutePath().normalize();
+
+    Path mainResourcePath = projectDir.resolve("src/main/resources");
+    Files.createDirectories(mainResourcePath);
+    Files.copy(Paths.get("./src/test/resources/happyPath.bpmn"), mainResourcePath.resolve("happyPath.bpmn"));
+
+    write("settings.gradle", "rootProject.name = 'simple'\n");
+    write("build.gradle", "plugins {\n  id 'java'\n  id 'org.camunda.community.bpmndt'\n}\n\nbpmndt {\n  packageName = 'org.example'\n}\n");
+  }
+
+  @Test
+  public void testApply() {
+    Project project = ProjectBuilder.builder().withProjectDir(projectDir.toFile()).build();
+    project.getPluginManager().apply(JavaPlugin.class);
+    project.getPluginManager().apply(BpmndtPlugin.class);
+
+    assertThat(project.getExtensions().findByName(BpmndtPlugin.EXTENSION_NAME), notNullValue());
+
+    GeneratorTask task = (GeneratorTask) project.getTasks().getByName(BpmndtPlugin.TASK_NAME);
+    assertThat(task.getPackageName().get(), is("generated"));
+    assertThat(task.getTestSourceDirectory().get().getAsFile(), is(projectDir.resolve("build/bpmndt").toFile()));
+    assertThat(task.getBpmnFiles().getFiles(), hasItem(projectDir.resolve("src/main/resources/happyPath.bpmn").toFile()));
+
+    SourceSet test = project.getExtensions().getByType(SourceSetContainer.class).getByName(SourceSet.TEST_SOURCE_SET_NAME);
+    assertThat(test.getJava().getSrcDirs(), hasItem(task.getTestSourceDirectory().get().getAsFile()));
+  }
+
+  @Test
+  public void testGenerate() throws IOException {
+    BuildResult result = build(BpmndtPlugin.TASK_NAME);
+    assertThat(result.task(":" + BpmndtPlugin.TASK_NAME).getOutcome(), is(TaskOutcome.SUCCESS));
+
+    assertThat(Files.isRegularFile(projectDir.resolve("build/bpmndt/org/example/happy_path/TC_Happy_Path.java")), is(true));
+    assertThat(Files.isRegularFile(projectDir.resolve("build/bpmndt/org/camunda/community/bpmndt/api/AbstractTestCase.java")), is(true));
+
+    // no input changed
+    result = build(BpmndtPlugin.TASK_NAME);
+    assertThat(result.task(":" + BpmndtPlugin.TASK_NAME).getOutcome(), is(TaskOutcome.UP_TO_DATE));
+
+    // setting changed
+    write("build.gradle", "plugins {\n  id 'java'\n  id 'org.camunda.community.bpmndt'\n}\n\nbpmndt {\n  packageName = 'org.example.changed'\n}\n");
+
+    result = build(BpmndtPlugin.TASK_NAME);
+    assertThat(result.task(":" + BpmndtPlugin.TASK_NAME).getOutcome(), is(TaskOutcome.SUCCESS));
+
+    assertThat(Files.exists(projectDir.resolve("build/bpmndt/org/example/happy_path/TC_Happy_Path.java")), is(false));
+    assertThat(Files.isRegularFile(projectDir.resolve("build/bpmndt/org/example/changed/happy_path/TC_Happy_Path.java")), is(true));
+  }
+
+  @Test
+  public void testGenerateFromCache() throws IOException {
+    // use a build cache per test run, since the local build cache of the test kit is shared
+    write("settings.gradle", "rootProject.name = 'simple'\n\nbuildCache {\n  local {\n    directory = file('build-cache')\n  }\n}\n");
+
+    BuildResult result = build("--build-cache", BpmndtPlugin.TASK_NAME);
+    assertThat(result.task(":" + BpmndtPlugin.TASK_NAME).getOutcome(), is(TaskOutcome.SUCCESS));
+
+    build("clean");
+
+    result = build("--build-cache", BpmndtPlugin.TASK_NAME);
+    assertThat(result.task(":" + BpmndtPlugin.TASK_NAME).getOutcome(), is(TaskOutcome.FROM_CACHE));
+
+    assertThat(Files.isRegularFile(projectDir.resolve("build/bpmndt/org/example/happy_path/TC_Happy_Path.java")), is(true));
+  }
+
+  private BuildResult build(String... arguments) {
+    String[] args = new String[arguments.length + 1];
+    args[0] = "--configuration-cache";
+    System.arraycopy(arguments, 0, args, 1, arguments.length);
+
+    return GradleRunner.create()
+        .withProjectDir(projectDir.toFile())
+        .withArguments(args)
+        .withPluginClasspath()
+        .build();
+  }
+
+  private void write(String fileName, String content) throws IOException {
+    Files.write(projectDir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,138 @@
+package org.camunda.community.bpmndt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Coverage of the process of a BPMN file - the flow nodes and sequence flows, which have been passed
+ * by the tests. Like the generation, only the first process of a BPMN file is considered.
+ */
+public class BpmnCoverage {
+
+  /** Type name of sequence flow elements. */
+  public static final String SEQUENCE_FLOW = "sequenceFlow";
+
+  private final String path;
+  private final String processId;
+
+  /** Flow nodes and sequence flows, sorted by ID. */
+  private final List<Element> elements;
+
+  /**
+   * Creates the coverage of a BPMN file.
+   *
+   * @param path The path of the BPMN file, relative to the main resource directory.
+   *
+   * @param bpmnSupport The BPMN support of the file.
+   *
+   * @param covered The IDs of the flow nodes and sequence flows, which have been passed.
+   */
+  public BpmnCoverage(String path, BpmnSupport bpmnSupport, Set<String> covered) {
+    this.path = path;
+
+    processId = bpmnSupport.getProcessId();
+
+    List<Element> elements = new ArrayList<>();
+    for (BpmnNode flowNode : bpmnSupport.getFlowNodes()) {
+      elements.add(new Element(flowNode.getId(), flowNode.getTypeName(), covered.contains(flowNode.getId())));
+
+      for (String sequenceFlowId : flowNode.getOutgoingFlows()) {
+        elements.add(new Element(sequenceFlowId, SEQUENCE_FLOW, covered.contains(sequenceFlowId)));
+      }
+    }
+
+    elements.sort(Comparator.comparing(Element::getId));
+
+    this.elements = Collections.unmodifiableList(elements);
+  }
+
+  private int count(boolean sequenceFlow, boolean coveredOnly) {
+    return (int) elements.stream()
+        .filter(element -> element.isSequenceFlow() == sequenceFlow)
+        .filter(element -> !coveredOnly || element.isCovered())
+        .count();
+  }
+
+  public int getCoveredFlowNodeCount() {
+    return count(false, true);
+  }
+
+  public int getCoveredSequenceFlowCount() {
+    return count(true, true);
+  }
+
+  /**
+   * Returns the flow nodes and sequence flows of the process.
+   *
+   * @return An unmodifiable list of elements, sorted by ID.
+   */
+  public List<Element> getElements() {
+    return elements;
+  }
+
+  public int getFlowNodeCount() {
+    return count(false, false);
+  }
+
+  /**
+   * Returns the path of the BPMN file.
+   *
+   * @return The path, relative to the main resource directory, using {@code /} as separator.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  public String getProcessId() {
+    return processId;
+  }
+
+  public int getSequenceFlowCount() {
+    return count(true, false);
+  }
+
+  /**
+   * Flow node or sequence flow and its coverage.
+   */
+  public static class Element {
+
+    private final String id;
+    private final String typeName;
+    private final boolean covered;
+
+    private Element(String id, String typeName, boolean covered) {
+      this.id = id;
+      this.typeName = typeName;
+      this.covered = covered;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    /**
+     * Returns the BPMN element type name.
+     *
+     * @return The type name - e.g. {@code userTask} or {@link BpmnCoverage#SEQUENCE_FLOW}.
+     */
+    public String getTypeName() {
+      return typeName;
+    }
+
+    /**
+     * Determines if the element has been passed by at least one test.
+     *
+     * @return {@code true}, if the element is covered. Otherwise {@code false}.
+     */
+    public boolean isCovered() {
+      return covered;
+    }
+
+    public boolean isSequenceFlow() {
+      return SEQUENCE_FLOW.equals(typeName);
+    }
+  }
+}
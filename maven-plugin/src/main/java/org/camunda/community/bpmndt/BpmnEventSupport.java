@@ -107,6 +107,15 @@ public class BpmnEventSupport {
     return is(BPMN_ELEMENT_MESSAGE_EVENT_DEFINITION);
   }
 
+  /**
+   * Determines if the event has no event definition - e.g. a none start or end event.
+   *
+   * @return {@code true}, if no event definition exists. Otherwise {@code false}.
+   */
+  public boolean isNone() {
+    return eventDefinition == null;
+  }
+
   public boolean isSignal() {
     return is(BPMN_ELEMENT_SIGNAL_EVENT_DEFINITION);
   }
@@ -0,0 +1,17 @@
+package org.camunda.community.bpmndt;
+
+/**
+ * Types of BPMN event definitions, supported by the code generation.
+ */
+public enum BpmnEventType {
+
+  CONDITIONAL,
+  ERROR,
+  ESCALATION,
+  MESSAGE,
+  SIGNAL,
+  TIMER,
+
+  /** Other event definitions (e.g. compensation or link), which need no special handling. */
+  OTHER;
+}
@@ -0,0 +1,323 @@
+package org.camunda.community.bpmndt;
+
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ATTRIBUTE_ID;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_PROCESS;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.camunda.bpm.model.bpmn.instance.Activity;
+import org.camunda.bpm.model.bpmn.instance.BoundaryEvent;
+import org.camunda.bpm.model.bpmn.instance.CatchEvent;
+import org.camunda.bpm.model.bpmn.instance.Error;
+import org.camunda.bpm.model.bpmn.instance.Escalation;
+import org.camunda.bpm.model.bpmn.instance.FlowNode;
+import org.camunda.bpm.model.bpmn.instance.Message;
+import org.camunda.bpm.model.bpmn.instance.MessageEventDefinition;
+import org.camunda.bpm.model.bpmn.instance.MultiInstanceLoopCharacteristics;
+import org.camunda.bpm.model.bpmn.instance.ReceiveTask;
+import org.camunda.bpm.model.bpmn.instance.SequenceFlow;
+import org.camunda.bpm.model.bpmn.instance.ServiceTask;
+import org.camunda.bpm.model.bpmn.instance.Signal;
+import org.camunda.bpm.model.bpmn.instance.ThrowEvent;
+import org.camunda.bpm.model.xml.instance.ModelElementInstance;
+
+/**
+ * Immutable flow node of a BPMN process graph. All information, needed for the code generation, is
+ * extracted from the BPMN model element when the node is created - the node does not reference the
+ * model instance, which can be released afterwards.
+ */
+public class BpmnNode {
+
+  private final String id;
+  private final BpmnNodeType type;
+  private final String typeName;
+
+  /** ID of the parent element - the process or an (embedded) sub process. */
+  private final String scope;
+  private final boolean processScope;
+
+  /** IDs of the source flow nodes of the incoming sequence flows. */
+  private final List<String> incoming;
+  /** IDs of the target flow nodes of the outgoing sequence flows. */
+  private final List<String> outgoing;
+  /** IDs of the outgoing sequence flows. */
+  private final List<String> outgoingFlows;
+
+  private final boolean asyncAfter;
+  private final boolean asyncBefore;
+
+  private final String attachedTo;
+
+  private final BpmnEventType eventType;
+  private final String eventCode;
+  private final String eventName;
+
+  private final boolean external;
+  private final String topicName;
+
+  private final boolean multiInstance;
+  private final boolean sequential;
+
+  BpmnNode(FlowNode flowNode) {
+    id = flowNode.getId();
+    typeName = flowNode.getElementType().getTypeName();
+    type = BpmnNodeType.of(typeName);
+
+    ModelElementInstance parent = flowNode.getParentElement();
+    scope = parent != null ? parent.getAttributeValue(BPMN_ATTRIBUTE_ID) : null;
+    processScope = parent != null && parent.getElementType().getTypeName().equals(BPMN_ELEMENT_PROCESS);
+
+    incoming = toIds(flowNode.getIncoming(), SequenceFlow::getSource);
+    outgoing = toIds(flowNode.getOutgoing(), SequenceFlow::getTarget);
+    outgoingFlows = Collections.unmodifiableList(flowNode.getOutgoing().stream().map(SequenceFlow::getId).collect(Collectors.toList()));
+
+    // the model API does not support asyncAfter for event based gateways
+    asyncAfter = type != BpmnNodeType.EVENT_BASED_GATEWAY && flowNode.isCamundaAsyncAfter();
+    asyncBefore = flowNode.isCamundaAsyncBefore();
+
+    if (type == BpmnNodeType.BOUNDARY_EVENT) {
+      Activity activity = ((BoundaryEvent) flowNode).getAttachedTo();
+      attachedTo = activity != null ? activity.getId() : null;
+    } else {
+      attachedTo = null;
+    }
+
+    // event definition
+    BpmnEventSupport eventSupport;
+    if (flowNode instanceof CatchEvent) {
+      eventSupport = new BpmnEventSupport((CatchEvent) flowNode);
+    } else if (flowNode instanceof ThrowEvent) {
+      eventSupport = new BpmnEventSupport((ThrowEvent) flowNode);
+    } else {
+      eventSupport = null;
+    }
+
+    if (eventSupport == null || eventSupport.isNone()) {
+      eventType = null;
+      eventCode = null;
+      eventName = type == BpmnNodeType.RECEIVE_TASK ? getName(((ReceiveTask) flowNode).getMessage()) : null;
+    } else if (eventSupport.isConditional()) {
+      eventType = BpmnEventType.CONDITIONAL;
+      eventCode = null;
+      eventName = null;
+    } else if (eventSupport.isError()) {
+      Error error = eventSupport.getError();
+
+      eventType = BpmnEventType.ERROR;
+      eventCode = error != null ? error.getErrorCode() : null;
+      eventName = null;
+    } else if (eventSupport.isEscalation()) {
+      Escalation escalation = eventSupport.getEscalation();
+
+      eventType = BpmnEventType.ESCALATION;
+      eventCode = escalation != null ? escalation.getEscalationCode() : null;
+      eventName = null;
+    } else if (eventSupport.isMessage()) {
+      eventType = BpmnEventType.MESSAGE;
+      eventCode = null;
+      eventName = getName(eventSupport.getMessage());
+    } else if (eventSupport.isSignal()) {
+      Signal signal = eventSupport.getSignal();
+
+      eventType = BpmnEventType.SIGNAL;
+      eventCode = null;
+      eventName = signal != null ? signal.getName() : null;
+    } else if (eventSupport.isTimer()) {
+      eventType = BpmnEventType.TIMER;
+      eventCode = null;
+      eventName = null;
+    } else {
+      eventType = BpmnEventType.OTHER;
+      eventCode = null;
+      eventName = null;
+    }
+
+    // external task
+    if (type == BpmnNodeType.SERVICE_TASK) {
+      ServiceTask serviceTask = (ServiceTask) flowNode;
+
+      external = "external".equals(serviceTask.getCamundaType());
+      topicName = external ? serviceTask.getCamundaTopic() : null;
+    } else if (type == BpmnNodeType.INTERMEDIATE_THROW_EVENT && eventType == BpmnEventType.MESSAGE) {
+      MessageEventDefinition messageEventDefinition = eventSupport.getMessageDefinition();
+
+      external = "external".equals(messageEventDefinition.getCamundaType());
+      topicName = external ? messageEventDefinition.getCamundaTopic() : null;
+    } else {
+      external = false;
+      topicName = null;
+    }
+
+    // multi instance
+    if (flowNode instanceof Activity && ((Activity) flowNode).getLoopCharacteristics() instanceof MultiInstanceLoopCharacteristics) {
+      multiInstance = true;
+      sequential = ((MultiInstanceLoopCharacteristics) ((Activity) flowNode).getLoopCharacteristics()).isSequential();
+    } else {
+      multiInstance = false;
+      sequential = false;
+    }
+  }
+
+  private static String getName(Message message) {
+    return message != null ? message.getName() : null;
+  }
+
+  private static List<String> toIds(Collection<SequenceFlow> sequenceFlows, Function<SequenceFlow, FlowNode> mapper) {
+    List<String> ids = sequenceFlows.stream()
+        .map(mapper)
+        .filter(Objects::nonNull)
+        .map(FlowNode::getId)
+        .collect(Collectors.toList());
+
+    return Collections.unmodifiableList(ids);
+  }
+
+  /**
+   * Returns the ID of the activity, the boundary event is attached to.
+   *
+   * @return The activity ID or {@code null}, if the node is no boundary event.
+   */
+  public String getAttachedTo() {
+    return attachedTo;
+  }
+
+  /**
+   * Returns the code of the error or escalation event definition.
+   *
+   * @return The event code or {@code null}, if the node has no such event definition or no code is
+   *         specified.
+   */
+  public String getEventCode() {
+    return eventCode;
+  }
+
+  /**
+   * Returns the name of the message or signal - either of the event definition or of a receive task.
+   *
+   * @return The event name or {@code null}, if the node has no message or signal.
+   */
+  public String getEventName() {
+    return eventName;
+  }
+
+  /**
+   * Returns the type of the (first) event definition.
+   *
+   * @return The event type or {@code null}, if the node is no event or an event without definition.
+   */
+  public BpmnEventType getEventType() {
+    return eventType;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the IDs of the flow nodes, which are connected via incoming sequence flows.
+   *
+   * @return An unmodifiable list of flow node IDs.
+   */
+  public List<String> getIncoming() {
+    return incoming;
+  }
+
+  /**
+   * Returns the IDs of the flow nodes, which are connected via outgoing sequence flows.
+   *
+   * @return An unmodifiable list of flow node IDs.
+   */
+  public List<String> getOutgoing() {
+    return outgoing;
+  }
+
+  /**
+   * Returns the IDs of the outgoing sequence flows.
+   *
+   * @return An unmodifiable list of sequence flow IDs.
+   */
+  public List<String> getOutgoingFlows() {
+    return outgoingFlows;
+  }
+
+  /**
+   * Returns the ID of the scope - the process or the (embedded) sub process, which contains the node.
+   *
+   * @return The scope ID.
+   */
+  public String getScope() {
+    return scope;
+  }
+
+  /**
+   * Returns the topic name of an external task or a message throw event, implemented as external
+   * task.
+   *
+   * @return The topic name or {@code null}, if the node is not external.
+   */
+  public String getTopicName() {
+    return topicName;
+  }
+
+  public BpmnNodeType getType() {
+    return type;
+  }
+
+  /**
+   * Returns the BPMN element type name.
+   *
+   * @return The type name - e.g. {@code userTask}.
+   */
+  public String getTypeName() {
+    return typeName;
+  }
+
+  public boolean is(BpmnNodeType type) {
+    return this.type == type;
+  }
+
+  public boolean isAsyncAfter() {
+    return asyncAfter;
+  }
+
+  public boolean isAsyncBefore() {
+    return asyncBefore;
+  }
+
+  /**
+   * Determines if the node is a service task or a message throw event, which is implemented as
+   * external task.
+   *
+   * @return {@code true}, if the node is external. Otherwise {@code false}.
+   */
+  public boolean isExternal() {
+    return external;
+  }
+
+  public boolean isMultiInstance() {
+    return multiInstance;
+  }
+
+  /**
+   * Determines if the node is directly contained by the process and not by a sub process.
+   *
+   * @return {@code true}, if the scope is the process. Otherwise {@code false}.
+   */
+  public boolean isProcessScope() {
+    return processScope;
+  }
+
+  /**
+   * Determines if the node is a sequential multi instance activity.
+   *
+   * @return {@code true}, if the multi instance is sequential. Otherwise {@code false}.
+   */
+  public boolean isSequential() {
+    return sequential;
+  }
+}
@@ -0,0 +1,74 @@
+package org.camunda.community.bpmndt;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Types of BPMN flow nodes, mapped by the BPMN element type name.
+ */
+public enum BpmnNodeType {
+
+  AD_HOC_SUB_PROCESS("adHocSubProcess"),
+  BOUNDARY_EVENT("boundaryEvent"),
+  BUSINESS_RULE_TASK("businessRuleTask"),
+  CALL_ACTIVITY("callActivity"),
+  COMPLEX_GATEWAY("complexGateway"),
+  END_EVENT("endEvent"),
+  EVENT_BASED_GATEWAY("eventBasedGateway"),
+  EXCLUSIVE_GATEWAY("exclusiveGateway"),
+  INCLUSIVE_GATEWAY("inclusiveGateway"),
+  INTERMEDIATE_CATCH_EVENT("intermediateCatchEvent"),
+  INTERMEDIATE_THROW_EVENT("intermediateThrowEvent"),
+  MANUAL_TASK("manualTask"),
+  PARALLEL_GATEWAY("parallelGateway"),
+  RECEIVE_TASK("receiveTask"),
+  SCRIPT_TASK("scriptTask"),
+  SEND_TASK("sendTask"),
+  SERVICE_TASK("serviceTask"),
+  START_EVENT("startEvent"),
+  SUB_PROCESS("subProcess"),
+  TASK("task"),
+  TRANSACTION("transaction"),
+  USER_TASK("userTask"),
+
+  /** Other flow nodes, not known by the type name. */
+  OTHER(null);
+
+  private static final Map<String, BpmnNodeType> TYPES;
+
+  static {
+    TYPES = new HashMap<>();
+
+    for (BpmnNodeType type : values()) {
+      if (type.typeName != null) {
+        TYPES.put(type.typeName, type);
+      }
+    }
+  }
+
+  /**
+   * Returns the node type for the given BPMN element type name.
+   *
+   * @param typeName A BPMN element type name - e.g. {@code userTask}.
+   *
+   * @return The node type or {@link #OTHER}, if the type name is unknown.
+   */
+  public static BpmnNodeType of(String typeName) {
+    return TYPES.getOrDefault(typeName, OTHER);
+  }
+
+  private final String typeName;
+
+  private BpmnNodeType(String typeName) {
+    this.typeName = typeName;
+  }
+
+  /**
+   * Returns the BPMN element type name.
+   *
+   * @return The type name or {@code null}, if the type is {@link #OTHER}.
+   */
+  public String getTypeName() {
+    return typeName;
+  }
+}
@@ -1,46 +1,34 @@
 package org.camunda.community.bpmndt;
 
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_BOUNDARY_EVENT;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_CALL_ACTIVITY;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_END_EVENT;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_EVENT_BASED_GATEWAY;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_INTERMEDIATE_CATCH_EVENT;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_INTERMEDIATE_THROW_EVENT;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_PROCESS;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_RECEIVE_TASK;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_SERVICE_TASK;
-import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_USER_TASK;
-
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.lang.model.SourceVersion;
 
 import org.camunda.bpm.model.bpmn.Bpmn;
 import org.camunda.bpm.model.bpmn.BpmnModelInstance;
-import org.camunda.bpm.model.bpmn.instance.Activity;
+import org.camunda.bpm.model.bpmn.instance.ExtensionElements;
 import org.camunda.bpm.model.bpmn.instance.FlowNode;
-import org.camunda.bpm.model.bpmn.instance.IntermediateThrowEvent;
-import org.camunda.bpm.model.bpmn.instance.MessageEventDefinition;
-import org.camunda.bpm.model.bpmn.instance.MultiInstanceLoopCharacteristics;
 import org.camunda.bpm.model.bpmn.instance.Process;
-import org.camunda.bpm.model.bpmn.instance.ServiceTask;
-import org.camunda.bpm.model.xml.instance.ModelElementInstance;
+import org.camunda.bpm.model.bpmn.instance.camunda.CamundaProperties;
 import org.camunda.community.bpmndt.cmd.CollectBpmnFlowNodes;
-import org.camunda.community.bpmndt.model.TestCase;
 import org.camunda.community.bpmndt.model.TestCases;
 
 /**
  * BPMN model instance support, allows easier working with the flow nodes of a
  * {@link org.camunda.bpm.model.bpmn.instance.Process} and the test cases, defined as {@code bpmndt}
- * extension elements.
+ * extension elements. Flow nodes and test cases are extracted into an immutable graph of
+ * {@link BpmnNode}s and {@link BpmnTestCase}s, when the BPMN file is read - the model instance is not
+ * retained.
  */
 public class BpmnSupport {
 
@@ -115,140 +103,146 @@ public class BpmnSupport {
   }
 
   private final Path file;
-  private final Map<String, FlowNode> flowNodes;
-  private final Process process;
+  private final Map<String, BpmnNode> flowNodes;
+  private final boolean pathEnumerationEnabled;
+  private final String processId;
+  private final List<BpmnTestCase> testCases;
 
   BpmnSupport(Path file, BpmnModelInstance modelInstance) {
     this.file = file;
 
     // find process
-    process = (Process) modelInstance.getDefinitions().getUniqueChildElementByType(Process.class);
+    Process process = (Process) modelInstance.getDefinitions().getUniqueChildElementByType(Process.class);
     if (process == null) {
       throw new RuntimeException("Model instance has no process definition");
     }
 
-    flowNodes = new HashMap<>();
+    processId = process.getId();
+
+    Map<String, BpmnNode> flowNodes = new HashMap<>();
 
     // collect flow nodes of process and (embedded) sub processes
     for (FlowNode flowNode : new CollectBpmnFlowNodes().apply(process)) {
-      flowNodes.put(flowNode.getId(), flowNode);
+      flowNodes.put(flowNode.getId(), new BpmnNode(flowNode));
     }
-  }
 
-  public FlowNode get(String flowNodeId) {
-    return flowNodes.get(flowNodeId);
-  }
+    this.flowNodes = Collections.unmodifiableMap(flowNodes);
 
-  public Path getFile() {
-    return file;
+    testCases = extractTestCases(process);
+
+    pathEnumerationEnabled = isPathEnumerationEnabled(process);
   }
 
-  /**
-   * Gets the multi instance loop characteristics from the flow node with the given ID.
-   * 
-   * @param flowNodeId A specific flow node ID.
-   * 
-   * @return The characteristics or {@code null}, if the flow node does not exist or does not have
-   *         such loop characteristics.
-   */
-  public MultiInstanceLoopCharacteristics getMultiInstance(String flowNodeId) {
-    if (!has(flowNodeId)) {
-      return null;
+  private static List<BpmnTestCase> extractTestCases(Process process) {
+    if (process.getExtensionElements() == null) {
+      return Collections.emptyList();
     }
 
-    FlowNode flowNode = flowNodes.get(flowNodeId);
-    if (!(flowNode instanceof Activity)) {
-      return null;
+    TestCases testCases = (TestCases) process.getExtensionElements().getUniqueChildElementByType(TestCases.class);
+    if (testCases == null) {
+      return Collections.emptyList();
     }
 
-    Activity activity = (Activity) flowNode;
-    if (activity.getLoopCharacteristics() == null) {
-      return null;
-    }
+    return Collections.unmodifiableList(testCases.getTestCases().stream().map(BpmnTestCase::new).collect(Collectors.toList()));
+  }
 
-    if (!(activity.getLoopCharacteristics() instanceof MultiInstanceLoopCharacteristics)) {
-      return null;
+  /**
+   * Determines if the process opts in to the automatic path enumeration, using the Camunda property
+   * {@value Constants#PROPERTY_ENUMERATE_PATHS} with value {@code true}.
+   */
+  private static boolean isPathEnumerationEnabled(Process process) {
+    ExtensionElements extensionElements = process.getExtensionElements();
+    if (extensionElements == null) {
+      return false;
     }
 
-    return (MultiInstanceLoopCharacteristics) activity.getLoopCharacteristics();
+    return extensionElements.getElementsQuery().filterByType(CamundaProperties.class).list().stream()
+        .flatMap(properties -> properties.getCamundaProperties().stream())
+        .filter(property -> Constants.PROPERTY_ENUMERATE_PATHS.equals(property.getCamundaName()))
+        .anyMatch(property -> Boolean.parseBoolean(property.getCamundaValue()));
   }
 
-  public String getProcessId() {
-    return process.getId();
+  public BpmnNode get(String flowNodeId) {
+    return flowNodes.get(flowNodeId);
   }
 
-  public List<TestCase> getTestCases() {
-    if (process.getExtensionElements() == null) {
-      return Collections.emptyList();
-    }
-
-    TestCases testCases = (TestCases) process.getExtensionElements().getUniqueChildElementByType(TestCases.class);
-    if (testCases == null) {
-      return Collections.emptyList();
-    }
+  /**
+   * Returns the number of flow nodes of the process, including the flow nodes of (embedded) sub
+   * processes.
+   * 
+   * @return The number of flow nodes.
+   */
+  public int getFlowNodeCount() {
+    return flowNodes.size();
+  }
 
-    return testCases.getTestCases();
+  /**
+   * Returns all flow nodes of the process, including the flow nodes of (embedded) sub processes.
+   * 
+   * @return An unmodifiable collection of flow nodes.
+   */
+  public Collection<BpmnNode> getFlowNodes() {
+    return flowNodes.values();
   }
 
-  public String getTopicName(String flowNodeId) {
-    if (!isExternalTask(flowNodeId)) {
-      return null;
-    }
+  public Path getFile() {
+    return file;
+  }
 
-    if (is(flowNodeId, BPMN_ELEMENT_SERVICE_TASK)) {
-      ServiceTask serviceTask = (ServiceTask) flowNodes.get(flowNodeId);
-      return serviceTask.getCamundaTopic();
-    } else if (is(flowNodeId, BPMN_ELEMENT_INTERMEDIATE_THROW_EVENT)) {
-      IntermediateThrowEvent event = (IntermediateThrowEvent) flowNodes.get(flowNodeId);
+  public String getProcessId() {
+    return processId;
+  }
 
-      BpmnEventSupport eventSupport = new BpmnEventSupport(event);
-      MessageEventDefinition messageEventDefinition = eventSupport.isMessage() ? eventSupport.getMessageDefinition() : null;
+  public List<BpmnTestCase> getTestCases() {
+    return testCases;
+  }
 
-      return messageEventDefinition != null ? messageEventDefinition.getCamundaTopic() : null;
-    } else {
-      return null;
-    }
+  public String getTopicName(String flowNodeId) {
+    BpmnNode flowNode = flowNodes.get(flowNodeId);
+    return flowNode != null ? flowNode.getTopicName() : null;
   }
 
   public boolean has(String flowNodeId) {
     return flowNodes.containsKey(flowNodeId);
   }
 
-  protected boolean is(String flowNodeId, String typeName) {
-    FlowNode flowNode = flowNodes.get(flowNodeId);
-    return flowNode != null && flowNode.getElementType().getTypeName().equals(typeName);
+  protected boolean is(String flowNodeId, BpmnNodeType type) {
+    BpmnNode flowNode = flowNodes.get(flowNodeId);
+    return flowNode != null && flowNode.is(type);
   }
 
   public boolean isBoundaryEvent(String flowNodeId) {
-    return is(flowNodeId, BPMN_ELEMENT_BOUNDARY_EVENT);
+    return is(flowNodeId, BpmnNodeType.BOUNDARY_EVENT);
   }
 
   public boolean isCallActivity(String flowNodeId) {
-    return is(flowNodeId, BPMN_ELEMENT_CALL_ACTIVITY);
+    return is(flowNodeId, BpmnNodeType.CALL_ACTIVITY);
   }
 
   public boolean isEventBasedGateway(String flowNodeId) {
-    return is(flowNodeId, BPMN_ELEMENT_EVENT_BASED_GATEWAY);
+    return is(flowNodeId, BpmnNodeType.EVENT_BASED_GATEWAY);
   }
 
   public boolean isExternalTask(String flowNodeId) {
-    if (is(flowNodeId, BPMN_ELEMENT_SERVICE_TASK)) {
-      ServiceTask serviceTask = (ServiceTask) flowNodes.get(flowNodeId);
-      return "external".equals(serviceTask.getCamundaType());
-    } else if (is(flowNodeId, BPMN_ELEMENT_INTERMEDIATE_THROW_EVENT)) {
-      IntermediateThrowEvent event = (IntermediateThrowEvent) flowNodes.get(flowNodeId);
-
-      BpmnEventSupport eventSupport = new BpmnEventSupport(event);
-      MessageEventDefinition messageEventDefinition = eventSupport.isMessage() ? eventSupport.getMessageDefinition() : null;
-
-      return "external".equals(messageEventDefinition != null ? messageEventDefinition.getCamundaType() : null);
-    } else {
-      return false;
-    }
+    BpmnNode flowNode = flowNodes.get(flowNodeId);
+    return flowNode != null && flowNode.isExternal();
   }
 
   public boolean isIntermediateCatchEvent(String flowNodeId) {
-    return is(flowNodeId, BPMN_ELEMENT_INTERMEDIATE_CATCH_EVENT);
+    return is(flowNodeId, BpmnNodeType.INTERMEDIATE_CATCH_EVENT);
+  }
+
+  /**
+   * Determines if the flow node with the given ID is a multi instance activity.
+   * 
+   * @param flowNodeId A specific flow node ID.
+   * 
+   * @return {@code true}, if the flow node exists and has multi instance loop characteristics.
+   *         Otherwise {@code false}.
+   */
+  public boolean isMultiInstance(String flowNodeId) {
+    BpmnNode flowNode = flowNodes.get(flowNodeId);
+    return flowNode != null && flowNode.isMultiInstance();
   }
 
   /**
@@ -260,23 +254,29 @@ public class BpmnSupport {
    * @return {@code true}, if the flow node ends the process. Otherwise {@code false}.
    */
   public boolean isProcessEnd(String flowNodeId) {
-    if (!is(flowNodeId, BPMN_ELEMENT_END_EVENT)) {
+    if (!is(flowNodeId, BpmnNodeType.END_EVENT)) {
       return false;
     }
 
-    ModelElementInstance parent = flowNodes.get(flowNodeId).getParentElement();
-    if (parent == null) {
-      return false;
-    }
+    return flowNodes.get(flowNodeId).isProcessScope();
+  }
 
-    return parent.getElementType().getTypeName().equals(BPMN_ELEMENT_PROCESS);
+  /**
+   * Determines if the process opts in to the automatic path enumeration. If so, test cases are
+   * generated for the paths from each start event to each end event of the process.
+   * 
+   * @return {@code true}, if the Camunda property {@value Constants#PROPERTY_ENUMERATE_PATHS} is set
+   *         to {@code true}. Otherwise {@code false}.
+   */
+  public boolean isPathEnumerationEnabled() {
+    return pathEnumerationEnabled;
   }
 
   public boolean isReceiveTask(String flowNodeId) {
-    return is(flowNodeId, BPMN_ELEMENT_RECEIVE_TASK);
+    return is(flowNodeId, BpmnNodeType.RECEIVE_TASK);
   }
 
   public boolean isUserTask(String flowNodeId) {
-    return is(flowNodeId, BPMN_ELEMENT_USER_TASK);
+    return is(flowNodeId, BpmnNodeType.USER_TASK);
   }
 }
@@ -0,0 +1,61 @@
+package org.camunda.community.bpmndt;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.camunda.community.bpmndt.model.TestCase;
+
+/**
+ * Immutable test case, extracted from a {@code bpmndt:testCase} extension element or enumerated by
+ * the {@link PathEnumerator}.
+ */
+public class BpmnTestCase {
+
+  private final String description;
+  private final String name;
+  private final List<String> flowNodeIds;
+
+  BpmnTestCase(TestCase testCase) {
+    description = testCase.getDescription();
+    name = testCase.getName();
+
+    if (testCase.getPath() != null) {
+      flowNodeIds = Collections.unmodifiableList(testCase.getPath().getFlowNodeIds());
+    } else {
+      flowNodeIds = Collections.emptyList();
+    }
+  }
+
+  BpmnTestCase(String name, String description, List<String> flowNodeIds) {
+    this.description = description;
+    this.name = name;
+    this.flowNodeIds = Collections.unmodifiableList(flowNodeIds);
+  }
+
+  /**
+   * Returns the test case's description.
+   * 
+   * @return The description or {@code null}, if not specified.
+   */
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Returns the IDs of the flow nodes of the path that should be tested.
+   * 
+   * @return An unmodifiable list of flow node IDs.
+   */
+  public List<String> getFlowNodeIds() {
+    return flowNodeIds;
+  }
+
+  /**
+   * Returns the test case's name.
+   * 
+   * @return The name or {@code null}, if not specified.
+   */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,112 @@
+package org.camunda.community.bpmndt;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * Log, which buffers all messages until they are flushed to the underlying log. Used to keep the
+ * log output deterministic, when BPMN files are processed in parallel.
+ */
+public class BufferedLog implements Log {
+
+  private final Log log;
+
+  private final List<Consumer<Log>> messages;
+
+  public BufferedLog(Log log) {
+    this.log = log;
+
+    messages = new LinkedList<>();
+  }
+
+  @Override
+  public void debug(CharSequence content) {
+    messages.add(target -> target.debug(content));
+  }
+
+  @Override
+  public void debug(CharSequence content, Throwable error) {
+    messages.add(target -> target.debug(content, error));
+  }
+
+  @Override
+  public void debug(Throwable error) {
+    messages.add(target -> target.debug(error));
+  }
+
+  @Override
+  public void error(CharSequence content) {
+    messages.add(target -> target.error(content));
+  }
+
+  @Override
+  public void error(CharSequence content, Throwable error) {
+    messages.add(target -> target.error(content, error));
+  }
+
+  @Override
+  public void error(Throwable error) {
+    messages.add(target -> target.error(error));
+  }
+
+  /**
+   * Writes all buffered messages to the underlying log and clears the buffer.
+   */
+  public void flush() {
+    messages.forEach(message -> message.accept(log));
+    messages.clear();
+  }
+
+  @Override
+  public void info(CharSequence content) {
+    messages.add(target -> target.info(content));
+  }
+
+  @Override
+  public void info(CharSequence content, Throwable error) {
+    messages.add(target -> target.info(content, error));
+  }
+
+  @Override
+  public void info(Throwable error) {
+    messages.add(target -> target.info(error));
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return log.isDebugEnabled();
+  }
+
+  @Override
+  public boolean isErrorEnabled() {
+    return log.isErrorEnabled();
+  }
+
+  @Override
+  public boolean isInfoEnabled() {
+    return log.isInfoEnabled();
+  }
+
+  @Override
+  public boolean isWarnEnabled() {
+    return log.isWarnEnabled();
+  }
+
+  @Override
+  public void warn(CharSequence content) {
+    messages.add(target -> target.warn(content));
+  }
+
+  @Override
+  public void warn(CharSequence content, Throwable error) {
+    messages.add(target -> target.warn(content, error));
+  }
+
+  @Override
+  public void warn(Throwable error) {
+    messages.add(target -> target.warn(error));
+  }
+}
@@ -9,6 +9,15 @@ public final class Constants {
   public static final String BPMN_EXTENSION = ".bpmn";
   public static final String JAVA_EXTENSION = ".java";
 
+  /** Name of the include file, which lists the affected test cases - written to the build directory. */
+  public static final String AFFECTED_TESTS_FILE_NAME = "bpmndt-affected-tests.txt";
+  /** Name of the file, which stores the path fingerprints of the test cases - written to the build directory. */
+  public static final String FINGERPRINTS_FILE_NAME = "bpmndt-fingerprints";
+  /** Name of the file, which stores the state of the last incremental generation. */
+  public static final String MANIFEST_FILE_NAME = "bpmndt.manifest";
+  /** Name of the file, which contains the metrics of the last generation - written to the build directory. */
+  public static final String METRICS_FILE_NAME = "bpmndt-metrics.json";
+
   public static final String NS = "http://camunda.org/schema/extension/bpmn-driven-testing";
 
   public static final String ELEMENT_DESCRIPTION = "description";
@@ -18,6 +27,9 @@ public final class Constants {
   public static final String ELEMENT_TEST_CASE = "testCase";
   public static final String ELEMENT_TEST_CASES = "testCases";
 
+  /** Name of the Camunda property, which enables the automatic path enumeration for a process. */
+  public static final String PROPERTY_ENUMERATE_PATHS = "bpmndt.enumeratePaths";
+
   private Constants() {
   }
 }
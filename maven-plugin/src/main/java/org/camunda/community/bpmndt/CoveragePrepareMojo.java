@@ -0,0 +1,35 @@
+package org.camunda.community.bpmndt;
+
+import java.nio.file.Paths;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Maven plugin goal, which prepares the collection of coverage data. The goal deletes the coverage
+ * data files of a previous test run, so that the {@link CoverageReportMojo} only merges the data of
+ * the current run.
+ */
+@Mojo(name = "coverage-prepare", defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES, requiresProject = true)
+public class CoveragePrepareMojo extends AbstractMojo {
+
+  /**
+   * Directory, containing the coverage data files. The directory must match the directory of the
+   * test execution, specified via the system property {@code bpmndt.coverageDirectory}.
+   */
+  @Parameter(defaultValue = "${project.build.directory}/bpmndt-coverage", required = true)
+  protected String coverageDirectory;
+
+  @Override
+  public void execute() throws MojoExecutionException, MojoFailureException {
+    try {
+      new CoverageReporter(getLog()).prepare(Paths.get(coverageDirectory));
+    } catch (RuntimeException e) {
+      throw new MojoFailureException("Unexpected error occurred", e);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package org.camunda.community.bpmndt;
+
+import java.nio.file.Paths;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Maven plugin goal, which runs a {@link CoverageReporter}. The goal merges the coverage data, which
+ * has been collected while the tests were executed, and writes a JSON and HTML report per BPMN file.
+ */
+@Mojo(name = "coverage-report", defaultPhase = LifecyclePhase.VERIFY, requiresProject = true)
+public class CoverageReportMojo extends AbstractMojo {
+
+  @Parameter(defaultValue = "${project}", required = true, readonly = true)
+  protected MavenProject project;
+
+  /**
+   * Directory, containing the coverage data files. The directory must match the directory of the
+   * test execution, specified via the system property {@code bpmndt.coverageDirectory}.
+   */
+  @Parameter(defaultValue = "${project.build.directory}/bpmndt-coverage", required = true)
+  protected String coverageDirectory;
+
+  /** Directory, the coverage reports are written to. */
+  @Parameter(defaultValue = "${project.build.directory}/bpmndt-coverage-report", required = true)
+  protected String coverageReportDirectory;
+
+  @Override
+  public void execute() throws MojoExecutionException, MojoFailureException {
+    try {
+      new CoverageReporter(getLog()).report(Paths.get(project.getBuild().getResources().get(0).getDirectory()), Paths.get(coverageDirectory),
+          Paths.get(coverageReportDirectory));
+    } catch (RuntimeException e) {
+      throw new MojoFailureException("Unexpected error occurred", e);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.camunda.community.bpmndt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.plugin.logging.Log;
+import org.camunda.community.bpmndt.api.cfg.CoverageCollector;
+import org.camunda.community.bpmndt.cmd.CollectBpmnFiles;
+import org.camunda.community.bpmndt.cmd.DeleteCoverage;
+import org.camunda.community.bpmndt.cmd.ReadCoverage;
+import org.camunda.community.bpmndt.cmd.WriteCoverageReport;
+
+/**
+ * Creates the coverage reports of all BPMN files of the main resource directory. The coverage data
+ * files, written by the {@link CoverageCollector} of each JVM that executed tests, are merged by
+ * process definition key and matched with the process of each BPMN file. A BPMN file, whose process
+ * has not been executed, is reported as not covered.<br>
+ * Since the data files of all JVMs are merged, the data files of a previous test run must be deleted
+ * before the tests are executed - see {@link #prepare(Path)}.
+ */
+public class CoverageReporter {
+
+  private final Log log;
+
+  public CoverageReporter(Log log) {
+    this.log = log;
+  }
+
+  private String getRelativePath(Path mainResourcePath, Path bpmnFile) {
+    return mainResourcePath.relativize(bpmnFile).toString().replace('\\', '/');
+  }
+
+  /**
+   * Prepares the collection of coverage data by deleting the data files of a previous test run.
+   *
+   * @param coverageDirectory The directory, containing the coverage data files.
+   */
+  public void prepare(Path coverageDirectory) {
+    List<Path> deleted = new DeleteCoverage().apply(coverageDirectory);
+    if (!deleted.isEmpty()) {
+      log.info(String.format("Deleted %d coverage data files: %s", deleted.size(), coverageDirectory));
+    }
+  }
+
+  /**
+   * Creates the coverage reports.
+   *
+   * @param mainResourcePath The main resource directory, containing the BPMN files.
+   *
+   * @param coverageDirectory The directory, containing the coverage data files.
+   *
+   * @param reportDirectory The directory, the reports are written to.
+   *
+   * @return The coverage of all BPMN files, which could be read.
+   */
+  public List<BpmnCoverage> report(Path mainResourcePath, Path coverageDirectory, Path reportDirectory) {
+    List<BpmnCoverage> coverages = new LinkedList<>();
+
+    if (!Files.isDirectory(mainResourcePath)) {
+      log.info("Skipping coverage report: No main resource directory");
+      return coverages;
+    }
+
+    Map<String, Set<String>> coverage = new ReadCoverage().apply(coverageDirectory);
+    if (coverage.isEmpty()) {
+      log.warn(String.format("No coverage data found: %s", coverageDirectory));
+    }
+
+    WriteCoverageReport writeCoverageReport = new WriteCoverageReport();
+
+    for (Path bpmnFile : new CollectBpmnFiles().apply(mainResourcePath)) {
+      String path = getRelativePath(mainResourcePath, bpmnFile);
+
+      BpmnSupport bpmnSupport;
+      try {
+        bpmnSupport = BpmnSupport.of(bpmnFile);
+      } catch (RuntimeException e) {
+        log.warn(String.format("Skipping BPMN file %s: %s", path, e.getMessage()));
+        continue;
+      }
+
+      Set<String> covered = coverage.getOrDefault(bpmnSupport.getProcessId(), Collections.emptySet());
+
+      BpmnCoverage bpmnCoverage = new BpmnCoverage(path, bpmnSupport, covered);
+      writeCoverageReport.accept(reportDirectory, bpmnCoverage);
+
+      log.info(String.format("Coverage of %s: %d of %d flow nodes, %d of %d sequence flows", path, bpmnCoverage.getCoveredFlowNodeCount(),
+          bpmnCoverage.getFlowNodeCount(), bpmnCoverage.getCoveredSequenceFlowCount(), bpmnCoverage.getSequenceFlowCount()));
+
+      coverages.add(bpmnCoverage);
+    }
+
+    log.info(String.format("Coverage reports written: %s", reportDirectory));
+
+    return coverages;
+  }
+}
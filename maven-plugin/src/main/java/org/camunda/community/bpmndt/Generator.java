@@ -1,17 +1,30 @@
 package org.camunda.community.bpmndt;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.maven.plugin.logging.Log;
+import org.camunda.community.bpmndt.GeneratorMetrics.BpmnFileMetrics;
+import org.camunda.community.bpmndt.GeneratorMetrics.Phase;
+import org.camunda.community.bpmndt.GeneratorMetrics.TestCaseMetrics;
 import org.camunda.community.bpmndt.api.AbstractJUnit4TestCase;
 import org.camunda.community.bpmndt.api.AbstractJUnit5TestCase;
 import org.camunda.community.bpmndt.api.AbstractTestCase;
+import org.camunda.community.bpmndt.api.ActivityTrace;
 import org.camunda.community.bpmndt.api.CallActivityDefinition;
 import org.camunda.community.bpmndt.api.CallActivityHandler;
 import org.camunda.community.bpmndt.api.EventHandler;
@@ -20,19 +33,36 @@ import org.camunda.community.bpmndt.api.JobHandler;
 import org.camunda.community.bpmndt.api.MultiInstanceHandler;
 import org.camunda.community.bpmndt.api.TestCaseExecutor;
 import org.camunda.community.bpmndt.api.TestCaseInstance;
+import org.camunda.community.bpmndt.api.TestCaseLoadResult;
+import org.camunda.community.bpmndt.api.TestCasePlan;
+import org.camunda.community.bpmndt.api.TestCaseStep;
 import org.camunda.community.bpmndt.api.UserTaskHandler;
 import org.camunda.community.bpmndt.api.cfg.BpmndtParseListener;
 import org.camunda.community.bpmndt.api.cfg.BpmndtProcessEnginePlugin;
+import org.camunda.community.bpmndt.api.cfg.CoverageCollector;
+import org.camunda.community.bpmndt.api.cfg.H2SchemaTemplate;
+import org.camunda.community.bpmndt.api.cfg.ProcessEngineRegistry;
+import org.camunda.community.bpmndt.api.cfg.WaitStateIndex;
 import org.camunda.community.bpmndt.api.cfg.SpringConfiguration;
 import org.camunda.community.bpmndt.cmd.BuildTestCaseContext;
 import org.camunda.community.bpmndt.cmd.CollectBpmnFiles;
-import org.camunda.community.bpmndt.cmd.DeleteTestSources;
+import org.camunda.community.bpmndt.cmd.DeleteStaleTestSources;
 import org.camunda.community.bpmndt.cmd.GenerateTestCase;
 import org.camunda.community.bpmndt.cmd.GenerateMultiInstanceHandler;
 import org.camunda.community.bpmndt.cmd.GenerateSpringConfiguration;
+import org.camunda.community.bpmndt.cmd.HashFile;
+import org.camunda.community.bpmndt.cmd.HashTestCase;
+import org.camunda.community.bpmndt.cmd.ReadFingerprints;
+import org.camunda.community.bpmndt.cmd.ReadManifest;
+import org.camunda.community.bpmndt.cmd.ScanBpmnFile;
+import org.camunda.community.bpmndt.cmd.WriteAffectedTests;
+import org.camunda.community.bpmndt.cmd.WriteFingerprints;
 import org.camunda.community.bpmndt.cmd.WriteJavaFile;
 import org.camunda.community.bpmndt.cmd.WriteJavaType;
-import org.camunda.community.bpmndt.model.TestCase;
+import org.camunda.community.bpmndt.cmd.WriteManifest;
+import org.camunda.community.bpmndt.cmd.WriteMetrics;
+
+import com.squareup.javapoet.JavaFile;
 
 /**
  * Class that is responsible for generating test code and writing the generated files to the test
@@ -44,42 +74,59 @@ public class Generator {
 
   private final GeneratorResult result;
 
+  private final GeneratorMetrics metrics;
+
   public Generator(Log log) {
     this.log = log;
 
     result = new GeneratorResult();
+    metrics = new GeneratorMetrics();
   }
 
   public void generate(GeneratorContext ctx) {
+    long generationStart = System.nanoTime();
+
     result.clear();
+    metrics.clear();
 
-    // delete previously generated source files
-    new DeleteTestSources().apply(ctx);
+    GeneratorManifest previousManifest = readManifest(ctx);
 
     // collect BPMN files
+    long start = System.nanoTime();
     Collection<Path> bpmnFiles = new CollectBpmnFiles().apply(ctx.getMainResourcePath());
+    metrics.add(Phase.COLLECT, System.nanoTime() - start);
+
     for (Path bpmnFile : bpmnFiles) {
-      String relativePath = ctx.getMainResourcePath().relativize(bpmnFile).toString().replace('\\', '/');
-      log.info(String.format("Found BPMN file: %s", relativePath));
+      log.info(String.format("Found BPMN file: %s", getRelativePath(ctx, bpmnFile)));
     }
 
+    GeneratorManifest manifest = new GeneratorManifest(GeneratorManifest.settingsOf(ctx));
+
     // generate test cases for each BPMN file
-    for (Path bpmnFile : bpmnFiles) {
-      log.info("");
+    if (ctx.getGeneratorThreads() > 1 && bpmnFiles.size() > 1) {
+      generateTestCasesParallel(ctx, bpmnFiles, previousManifest, manifest);
+    } else {
+      for (Path bpmnFile : bpmnFiles) {
+        log.info("");
 
-      generateTestCases(ctx, bpmnFile);
+        generateTestCases(ctx, bpmnFile, previousManifest, manifest);
+      }
     }
 
     // generate Spring configuration
     if (ctx.isSpringEnabled()) {
       log.info("");
 
+      start = System.nanoTime();
       generateSpringConfiguration(ctx);
+      metrics.add(Phase.GENERATE, System.nanoTime() - start);
     }
 
     log.info("");
 
-    WriteJavaFile write = new WriteJavaFile(log, ctx);
+    GeneratorOutput output = new GeneratorOutput();
+
+    WriteJavaFile write = new WriteJavaFile(log, ctx, output, metrics);
 
     // write test cases
     log.info("Writing test cases");
@@ -93,39 +140,83 @@ public class Generator {
       result.getAdditionalFiles().forEach(write);
     }
 
+    if (ctx.isIncrementalEnabled()) {
+      // files of skipped BPMN files
+      manifest.getFiles().stream()
+          .map(ctx.getTestSourcePath()::resolve)
+          .filter(file -> !output.contains(file))
+          .forEach(output::unchanged);
+    }
+
     log.info("");
 
-    Set<Class<?>> apiClasses = new TreeSet<>(Comparator.comparing(Class::getName));
+    start = System.nanoTime();
 
-    apiClasses.add(AbstractTestCase.class);
-    apiClasses.add(CallActivityDefinition.class);
-    apiClasses.add(CallActivityHandler.class);
-    apiClasses.add(ExternalTaskHandler.class);
-    apiClasses.add(EventHandler.class);
-    apiClasses.add(JobHandler.class);
-    apiClasses.add(MultiInstanceHandler.class);
-    apiClasses.add(TestCaseInstance.class);
-    apiClasses.add(TestCaseExecutor.class);
-    apiClasses.add(UserTaskHandler.class);
+    if (ctx.isRuntimeApiEnabled()) {
+      log.info("Skipping API classes: Provided by runtime artifact");
+    } else {
+      // write API classes
+      log.info("Writing API classes");
+      getApiClasses(ctx).forEach(new WriteJavaType(log, ctx, output));
+    }
 
-    apiClasses.add(BpmndtParseListener.class);
-    apiClasses.add(BpmndtProcessEnginePlugin.class);
+    if (ctx.isIncrementalEnabled()) {
+      new WriteManifest().accept(ctx, manifest);
+      output.retain(ctx.getTestSourcePath().resolve(Constants.MANIFEST_FILE_NAME));
+    }
 
-    if (ctx.isJUnit5Enabled()) {
-      apiClasses.add(AbstractJUnit5TestCase.class);
-    } else {
-      apiClasses.add(AbstractJUnit4TestCase.class);
+    if (ctx.isTestImpactEnabled()) {
+      log.info("");
+
+      selectAffectedTests(ctx, output);
     }
 
-    if (ctx.isSpringEnabled()) {
-      apiClasses.add(SpringConfiguration.class);
+    log.info("");
+
+    // delete files, which are not part of the output anymore
+    new DeleteStaleTestSources(log, ctx).accept(output);
+
+    metrics.add(Phase.WRITE, System.nanoTime() - start);
+
+    log.info(String.format("Files written: %d, unchanged: %d, deleted: %d", output.getWritten(), output.getUnchanged(),
+        output.getDeleted()));
+
+    metrics.setDuration(System.nanoTime() - generationStart);
+
+    new WriteMetrics().accept(ctx, metrics);
+
+    if (ctx.isMetricsSummaryEnabled()) {
+      log.info(metrics.toSummary());
     }
+  }
+
+  /**
+   * Generates the test cases of a single BPMN file and writes the Java files of the test cases and
+   * their multi instance handlers. Only files, whose content changed, are written. In contrast to
+   * {@link #generate(GeneratorContext)}, API classes and the Spring configuration are not written and
+   * stale files are not deleted. This allows a fast regeneration, when a single BPMN file changed.
+   * 
+   * @param ctx The current generator context.
+   * 
+   * @param bpmnFile Path to a BPMN file.
+   * 
+   * @return The output, containing the written and unchanged Java files.
+   */
+  public GeneratorOutput generate(GeneratorContext ctx, Path bpmnFile) {
+    long generationStart = System.nanoTime();
+
+    result.clear();
+    metrics.clear();
+
+    generateTestCases(ctx, bpmnFile);
+
+    GeneratorOutput output = new GeneratorOutput();
 
-    WriteJavaType writeType = new WriteJavaType(log, ctx);
+    result.getFiles().forEach(new WriteJavaFile(log, ctx, output, metrics));
 
-    // write API classes
-    log.info("Writing API classes");
-    apiClasses.forEach(writeType);
+    metrics.setDuration(System.nanoTime() - generationStart);
+
+    return output;
   }
 
   protected void generateSpringConfiguration(GeneratorContext ctx) {
@@ -140,12 +231,36 @@ public class Generator {
   }
 
   protected void generateTestCases(GeneratorContext gCtx, Path bpmnFile) {
+    BpmnFileMetrics bpmnFileMetrics = metrics.addBpmnFile(getRelativePath(gCtx, bpmnFile));
+
+    // pre-scan BPMN file to skip the full parse, if no test cases are defined
+    long start = System.nanoTime();
+    ScanBpmnFile.Result scanResult = new ScanBpmnFile().apply(bpmnFile);
+    metrics.add(Phase.SCAN, System.nanoTime() - start);
+
+    if (!scanResult.hasTestCases()) {
+      bpmnFileMetrics.setProcessId(scanResult.getProcessId());
+
+      log.info(String.format("Process: %s", scanResult.getProcessId()));
+      log.info("No test cases defined");
+      return;
+    }
+
+    start = System.nanoTime();
     BpmnSupport bpmnSupport = BpmnSupport.of(bpmnFile);
+    long parseDuration = System.nanoTime() - start;
+
+    metrics.add(Phase.PARSE, parseDuration);
+
+    bpmnFileMetrics.setFlowNodes(bpmnSupport.getFlowNodeCount());
+    bpmnFileMetrics.setParseDuration(parseDuration);
+    bpmnFileMetrics.setProcessId(bpmnSupport.getProcessId());
+
     log.info(String.format("Process: %s", bpmnSupport.getProcessId()));
 
     // get test cases from BPMN model
-    List<TestCase> testCases = bpmnSupport.getTestCases();
-    if (testCases.isEmpty()) {
+    List<BpmnTestCase> testCases = bpmnSupport.getTestCases();
+    if (testCases.isEmpty() && !bpmnSupport.isPathEnumerationEnabled()) {
       log.info("No test cases defined");
       return;
     }
@@ -153,23 +268,324 @@ public class Generator {
     Consumer<TestCaseContext> generate = new GenerateTestCase(gCtx, result);
 
     BuildTestCaseContext ctxBuilder = new BuildTestCaseContext(gCtx, bpmnSupport);
-    for (TestCase testCase : bpmnSupport.getTestCases()) {
-      TestCaseContext ctx = ctxBuilder.apply(testCase);
+    for (BpmnTestCase testCase : testCases) {
+      generateTestCase(gCtx, bpmnFileMetrics, ctxBuilder, generate, testCase, System.nanoTime());
+    }
+
+    if (!bpmnSupport.isPathEnumerationEnabled()) {
+      return;
+    }
 
-      String testCaseName = ctx.getName();
+    // enumerate paths, skipping the paths of the defined test cases
+    Set<List<String>> paths = testCases.stream().map(BpmnTestCase::getFlowNodeIds).collect(Collectors.toSet());
 
-      // check for duplicate test case names
-      if (ctx.hasDuplicateName()) {
-        log.warn(String.format("Skipping test case '%s': Name must be unique", testCaseName));
-        continue;
+    PathEnumerator pathEnumerator = new PathEnumerator(bpmnSupport, gCtx.getPathEnumerationMaxPaths(), gCtx.getPathEnumerationMaxLength());
+    while (true) {
+      start = System.nanoTime();
+      if (!pathEnumerator.hasNext()) {
+        break;
       }
 
-      log.info(String.format("Generating test case '%s'", testCaseName));
-      generate.accept(ctx);
-      generateMultiInstanceHandlers(gCtx, ctx);
+      BpmnTestCase testCase = pathEnumerator.next();
+      if (!paths.contains(testCase.getFlowNodeIds())) {
+        generateTestCase(gCtx, bpmnFileMetrics, ctxBuilder, generate, testCase, start);
+      }
+    }
+
+    if (pathEnumerator.isLimitReached()) {
+      log.warn(String.format("Path enumeration incomplete: Limit of %d paths or %d flow nodes per path reached",
+          gCtx.getPathEnumerationMaxPaths(), gCtx.getPathEnumerationMaxLength()));
     }
   }
 
+  /**
+   * Builds the context of the given test case and generates the test case as well as its multi
+   * instance handlers.
+   * 
+   * @param gCtx The current generator context.
+   * 
+   * @param bpmnFileMetrics The metrics of the BPMN file, which defines the test case.
+   * 
+   * @param ctxBuilder The test case context builder of the BPMN file.
+   * 
+   * @param generate The test case generation.
+   * 
+   * @param testCase A defined or enumerated test case.
+   * 
+   * @param start Start of the context building in nanoseconds.
+   */
+  private void generateTestCase(GeneratorContext gCtx, BpmnFileMetrics bpmnFileMetrics, BuildTestCaseContext ctxBuilder,
+      Consumer<TestCaseContext> generate, BpmnTestCase testCase, long start) {
+    TestCaseContext ctx = ctxBuilder.apply(testCase);
+    long buildContextDuration = System.nanoTime() - start;
+
+    metrics.add(Phase.BUILD_CONTEXT, buildContextDuration);
+
+    String testCaseName = ctx.getName();
+
+    // check for duplicate test case names
+    if (ctx.hasDuplicateName()) {
+      log.warn(String.format("Skipping test case '%s': Name must be unique", testCaseName));
+      return;
+    }
+
+    int fromIndex = result.getFiles().size();
+
+    log.info(String.format("Generating test case '%s'", testCaseName));
+
+    start = System.nanoTime();
+    generate.accept(ctx);
+    generateMultiInstanceHandlers(gCtx, ctx);
+    long generateDuration = System.nanoTime() - start;
+
+    metrics.add(Phase.GENERATE, generateDuration);
+
+    TestCaseMetrics testCaseMetrics = bpmnFileMetrics.addTestCase(testCaseName);
+    testCaseMetrics.setActivities(ctx.getActivities().size());
+    testCaseMetrics.setBuildContextDuration(buildContextDuration);
+    testCaseMetrics.setGenerateDuration(generateDuration);
+
+    result.getFiles().subList(fromIndex, result.getFiles().size()).stream()
+        .map(this::getRelativePath)
+        .forEach(testCaseMetrics::addFile);
+
+    if (gCtx.isTestImpactEnabled()) {
+      // the test case is the first file, followed by its multi instance handlers
+      result.addFingerprint(getRelativePath(result.getFiles().get(fromIndex)), new HashTestCase(gCtx).apply(ctx));
+    }
+  }
+
+  private void generateTestCases(GeneratorContext gCtx, Path bpmnFile, GeneratorManifest previousManifest, GeneratorManifest manifest) {
+    if (gCtx.isIncrementalEnabled()) {
+      generateTestCasesIncremental(gCtx, bpmnFile, previousManifest, manifest);
+    } else {
+      generateTestCases(gCtx, bpmnFile);
+    }
+  }
+
+  /**
+   * Parses the given BPMN files and generates their test cases on a worker pool. Each BPMN file is
+   * processed by a separate generator, which buffers its log output. Afterwards the log output and
+   * the generated files are collected in the order of the BPMN files, so that the result does not
+   * differ from a sequential generation.
+   * 
+   * @param gCtx The current generator context.
+   * 
+   * @param bpmnFiles The BPMN files to process.
+   * 
+   * @param previousManifest The manifest of the last generation or {@code null}.
+   * 
+   * @param manifest The manifest of the current generation.
+   */
+  protected void generateTestCasesParallel(GeneratorContext gCtx, Collection<Path> bpmnFiles, GeneratorManifest previousManifest,
+      GeneratorManifest manifest) {
+    ExecutorService executorService = Executors.newFixedThreadPool(Math.min(gCtx.getGeneratorThreads(), bpmnFiles.size()));
+
+    List<Future<Generator>> futures = new ArrayList<>(bpmnFiles.size());
+    for (Path bpmnFile : bpmnFiles) {
+      futures.add(executorService.submit(() -> {
+        Generator generator = new Generator(new BufferedLog(log));
+        generator.generateTestCases(gCtx, bpmnFile, previousManifest, manifest);
+        return generator;
+      }));
+    }
+
+    try {
+      for (Future<Generator> future : futures) {
+        Generator generator = getGenerator(future);
+
+        log.info("");
+        ((BufferedLog) generator.log).flush();
+
+        result.addAll(generator.getResult());
+        metrics.addAll(generator.getMetrics());
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private Generator getGenerator(Future<Generator> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else {
+        throw new RuntimeException("Test case generation failed", e.getCause());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Test case generation has been interrupted", e);
+    }
+  }
+
+  /**
+   * Generates the test cases of the given BPMN file, if the file has been changed since the last
+   * generation. Otherwise the BPMN file is skipped and the entry of the previous manifest is taken
+   * over.
+   * 
+   * @param gCtx The current generator context.
+   * 
+   * @param bpmnFile Path to a BPMN file.
+   * 
+   * @param previousManifest The manifest of the last generation or {@code null}, if a full generation
+   *        is required.
+   * 
+   * @param manifest The manifest of the current generation.
+   */
+  protected void generateTestCasesIncremental(GeneratorContext gCtx, Path bpmnFile, GeneratorManifest previousManifest,
+      GeneratorManifest manifest) {
+    String relativePath = getRelativePath(gCtx, bpmnFile);
+    String hash = new HashFile().apply(bpmnFile);
+
+    GeneratorManifest.Entry entry = previousManifest != null ? previousManifest.get(relativePath) : null;
+    if (entry != null && entry.getHash().equals(hash) && isGenerated(gCtx, entry)) {
+      log.info(String.format("Skipping unchanged BPMN file: %s", relativePath));
+      metrics.addBpmnFile(relativePath).setSkipped(true);
+      manifest.add(relativePath, entry);
+      return;
+    }
+
+    int fromIndex = result.getFiles().size();
+
+    generateTestCases(gCtx, bpmnFile);
+
+    List<String> files = result.getFiles().subList(fromIndex, result.getFiles().size()).stream()
+        .map(this::getRelativePath)
+        .collect(Collectors.toList());
+
+    manifest.add(relativePath, hash, files);
+  }
+
+  /**
+   * Returns the path of the given BPMN file, relative to the main resource directory.
+   */
+  private String getRelativePath(GeneratorContext ctx, Path bpmnFile) {
+    return ctx.getMainResourcePath().relativize(bpmnFile).toString().replace('\\', '/');
+  }
+
+  /**
+   * Returns the path of the given Java file, relative to the test source directory.
+   */
+  private String getRelativePath(JavaFile javaFile) {
+    return String.format("%s/%s%s", javaFile.packageName.replace('.', '/'), javaFile.typeSpec.name, Constants.JAVA_EXTENSION);
+  }
+
+  /**
+   * Determines if all Java files of the given manifest entry still exist.
+   */
+  private boolean isGenerated(GeneratorContext ctx, GeneratorManifest.Entry entry) {
+    return entry.getFiles().stream().allMatch(file -> Files.isRegularFile(ctx.getTestSourcePath().resolve(file)));
+  }
+
+  /**
+   * Reads the manifest of the last incremental generation, if the incremental generation is enabled.
+   * 
+   * @param ctx The current generator context.
+   * 
+   * @return The previous manifest or {@code null}, if a full generation is required.
+   */
+  protected GeneratorManifest readManifest(GeneratorContext ctx) {
+    if (!ctx.isIncrementalEnabled()) {
+      return null;
+    }
+
+    GeneratorManifest previousManifest = new ReadManifest().apply(ctx);
+    if (previousManifest == null) {
+      return null;
+    }
+
+    if (!previousManifest.getSettings().equals(GeneratorManifest.settingsOf(ctx))) {
+      log.info("Generator settings changed: Generating all test cases");
+      log.info("");
+      return null;
+    }
+
+    return previousManifest;
+  }
+
+  /**
+   * Compares the path fingerprints of the generated test cases with the fingerprints of the last
+   * build and writes the include file, listing the test cases, whose fingerprint changed or which are
+   * new. Fingerprints of test cases, which have not been generated (e.g. because their BPMN file is
+   * unchanged and has been skipped), are taken over, as long as the test case's Java file is still
+   * part of the output.
+   * 
+   * @param ctx The current generator context.
+   * 
+   * @param output The output, containing the written and unchanged Java files.
+   */
+  protected void selectAffectedTests(GeneratorContext ctx, GeneratorOutput output) {
+    Map<String, String> previousFingerprints = new ReadFingerprints().apply(ctx);
+
+    Map<String, String> fingerprints = new TreeMap<>(result.getFingerprints());
+    previousFingerprints.forEach((file, fingerprint) -> {
+      if (output.contains(ctx.getTestSourcePath().resolve(file))) {
+        fingerprints.putIfAbsent(file, fingerprint);
+      }
+    });
+
+    List<String> affectedTests = fingerprints.entrySet().stream()
+        .filter(entry -> !entry.getValue().equals(previousFingerprints.get(entry.getKey())))
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+
+    new WriteFingerprints().accept(ctx, fingerprints);
+    new WriteAffectedTests().accept(ctx, affectedTests);
+
+    log.info(String.format("Affected test cases: %d of %d", affectedTests.size(), fingerprints.size()));
+  }
+
+  /**
+   * Returns the API classes, which are required to run the generated test code.
+   * 
+   * @param ctx The current generator context.
+   * 
+   * @return A set of API classes, sorted by name.
+   */
+  protected Set<Class<?>> getApiClasses(GeneratorContext ctx) {
+    Set<Class<?>> apiClasses = new TreeSet<>(Comparator.comparing(Class::getName));
+
+    apiClasses.add(AbstractTestCase.class);
+    apiClasses.add(ActivityTrace.class);
+    apiClasses.add(CallActivityDefinition.class);
+    apiClasses.add(CallActivityHandler.class);
+    apiClasses.add(ExternalTaskHandler.class);
+    apiClasses.add(EventHandler.class);
+    apiClasses.add(JobHandler.class);
+    apiClasses.add(MultiInstanceHandler.class);
+    apiClasses.add(TestCaseInstance.class);
+    apiClasses.add(TestCaseExecutor.class);
+    apiClasses.add(TestCaseLoadResult.class);
+    apiClasses.add(TestCasePlan.class);
+    apiClasses.add(TestCaseStep.class);
+    apiClasses.add(UserTaskHandler.class);
+
+    apiClasses.add(BpmndtParseListener.class);
+    apiClasses.add(BpmndtProcessEnginePlugin.class);
+    apiClasses.add(CoverageCollector.class);
+    apiClasses.add(H2SchemaTemplate.class);
+    apiClasses.add(ProcessEngineRegistry.class);
+    apiClasses.add(WaitStateIndex.class);
+
+    if (ctx.isJUnit5Enabled()) {
+      apiClasses.add(AbstractJUnit5TestCase.class);
+    } else {
+      apiClasses.add(AbstractJUnit4TestCase.class);
+    }
+
+    if (ctx.isSpringEnabled()) {
+      apiClasses.add(SpringConfiguration.class);
+    }
+
+    return apiClasses;
+  }
+
+  public GeneratorMetrics getMetrics() {
+    return metrics;
+  }
+
   public GeneratorResult getResult() {
     return result;
   }
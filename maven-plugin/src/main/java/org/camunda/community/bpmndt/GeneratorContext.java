@@ -7,17 +7,34 @@ import java.util.List;
 public class GeneratorContext {
 
   private Path basePath;
+  private int generatorThreads = 1;
+  private boolean incrementalEnabled;
   private boolean jUnit5Enabled;
   private Path mainResourcePath;
+  private boolean metricsSummaryEnabled;
   private String packageName;
+  private int pathEnumerationMaxLength = 100;
+  private int pathEnumerationMaxPaths = 100;
   private List<String> processEnginePluginNames;
+  private boolean runtimeApiEnabled;
   private boolean springEnabled;
+  private boolean stepPlanEnabled;
+  private boolean testImpactEnabled;
   private Path testSourcePath;
 
   public Path getBasePath() {
     return basePath;
   }
 
+  /**
+   * Returns the number of threads, used to parse BPMN files and to generate test cases in parallel.
+   * 
+   * @return The number of generator threads - {@code 1} means sequential generation.
+   */
+  public int getGeneratorThreads() {
+    return generatorThreads;
+  }
+
   public Path getMainResourcePath() {
     return mainResourcePath;
   }
@@ -31,6 +48,24 @@ public class GeneratorContext {
     return packageName;
   }
 
+  /**
+   * Returns the maximum number of flow nodes of an enumerated path. Longer paths are not enumerated.
+   * 
+   * @return The maximum path length.
+   */
+  public int getPathEnumerationMaxLength() {
+    return pathEnumerationMaxLength;
+  }
+
+  /**
+   * Returns the maximum number of paths, which are enumerated per BPMN process.
+   * 
+   * @return The maximum number of paths.
+   */
+  public int getPathEnumerationMaxPaths() {
+    return pathEnumerationMaxPaths;
+  }
+
   /**
    * Returns the class names of process engine plugins, which should be registered at the process
    * engine that executes the generated test cases.
@@ -45,18 +80,71 @@ public class GeneratorContext {
     return testSourcePath;
   }
 
+  /**
+   * Determines if the incremental generation is enabled. If enabled, only BPMN files, which changed
+   * since the last generation, are processed.
+   * 
+   * @return {@code true}, if the incremental generation is enabled. Otherwise {@code false}.
+   */
+  public boolean isIncrementalEnabled() {
+    return incrementalEnabled;
+  }
+
   public boolean isJUnit5Enabled() {
     return jUnit5Enabled;
   }
 
+  /**
+   * Determines if the API classes are provided by the precompiled runtime artifact. If enabled, the
+   * sources of the API classes are not written to the test source directory.
+   * 
+   * @return {@code true}, if the runtime artifact is used. Otherwise {@code false}.
+   */
+  public boolean isMetricsSummaryEnabled() {
+    return metricsSummaryEnabled;
+  }
+
+  public boolean isRuntimeApiEnabled() {
+    return runtimeApiEnabled;
+  }
+
   public boolean isSpringEnabled() {
     return springEnabled;
   }
 
+  /**
+   * Determines if test cases are generated with a static step plan, which is interpreted at runtime,
+   * instead of an {@code execute} method with several statements per activity.
+   * 
+   * @return {@code true}, if the step plan generation is enabled. Otherwise {@code false}.
+   */
+  public boolean isStepPlanEnabled() {
+    return stepPlanEnabled;
+  }
+
+  /**
+   * Determines if the test impact selection is enabled. If enabled, a fingerprint is computed for the
+   * path of each test case and the test cases, whose fingerprint changed or which are new, are
+   * written to an include file.
+   * 
+   * @return {@code true}, if the test impact selection is enabled. Otherwise {@code false}.
+   */
+  public boolean isTestImpactEnabled() {
+    return testImpactEnabled;
+  }
+
   public void setBasePath(Path basePath) {
     this.basePath = basePath;
   }
 
+  public void setGeneratorThreads(int generatorThreads) {
+    this.generatorThreads = generatorThreads;
+  }
+
+  public void setIncrementalEnabled(boolean incrementalEnabled) {
+    this.incrementalEnabled = incrementalEnabled;
+  }
+
   public void setJUnit5Enabled(boolean jUnit5Enabled) {
     this.jUnit5Enabled = jUnit5Enabled;
   }
@@ -65,18 +153,42 @@ public class GeneratorContext {
     this.mainResourcePath = mainResourcePath;
   }
 
+  public void setMetricsSummaryEnabled(boolean metricsSummaryEnabled) {
+    this.metricsSummaryEnabled = metricsSummaryEnabled;
+  }
+
   public void setPackageName(String packageName) {
     this.packageName = packageName;
   }
 
+  public void setPathEnumerationMaxLength(int pathEnumerationMaxLength) {
+    this.pathEnumerationMaxLength = pathEnumerationMaxLength;
+  }
+
+  public void setPathEnumerationMaxPaths(int pathEnumerationMaxPaths) {
+    this.pathEnumerationMaxPaths = pathEnumerationMaxPaths;
+  }
+
   public void setProcessEnginePluginNames(List<String> processEnginePluginNames) {
     this.processEnginePluginNames = processEnginePluginNames;
   }
 
+  public void setRuntimeApiEnabled(boolean runtimeApiEnabled) {
+    this.runtimeApiEnabled = runtimeApiEnabled;
+  }
+
   public void setSpringEnabled(boolean springEnabled) {
     this.springEnabled = springEnabled;
   }
 
+  public void setStepPlanEnabled(boolean stepPlanEnabled) {
+    this.stepPlanEnabled = stepPlanEnabled;
+  }
+
+  public void setTestImpactEnabled(boolean testImpactEnabled) {
+    this.testImpactEnabled = testImpactEnabled;
+  }
+
   public void setTestSourcePath(Path testSourcePath) {
     this.testSourcePath = testSourcePath;
   }
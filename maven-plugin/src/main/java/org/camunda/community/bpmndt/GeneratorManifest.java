@@ -0,0 +1,194 @@
+package org.camunda.community.bpmndt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.camunda.community.bpmndt.cmd.HashFile;
+
+/**
+ * Manifest of an incremental generation, which maps each processed BPMN file to its content hash
+ * and to the Java files, which have been generated for it. Additionally the generator settings,
+ * which were used, are recorded. If the settings change, all BPMN files must be processed again.
+ */
+public class GeneratorManifest {
+
+  /** Resource, written by Maven, which provides the version of the plugin artifact. */
+  private static final String POM_PROPERTIES = "/META-INF/maven/org.camunda.community/bpmn-driven-testing-maven-plugin/pom.properties";
+
+  private static String generator;
+
+  private final Map<String, Entry> entries;
+  private final String settings;
+
+  public GeneratorManifest(String settings) {
+    this.settings = settings;
+
+    entries = new TreeMap<>();
+  }
+
+  /**
+   * Returns the fingerprint of the generator - the plugin version and a hash of the plugin's code
+   * (the content of the plugin JAR or of all files within the class directory). Since a rebuilt
+   * SNAPSHOT version has the same version and location, but a different content, the hash ensures
+   * that code, generated by another generator, is not reused. The fingerprint is computed only once
+   * per class loader.
+   *
+   * @return The generator fingerprint.
+   */
+  public static synchronized String getGenerator() {
+    if (generator == null) {
+      generator = String.format("%s@%s", getVersion(), hashCodeSource(GeneratorManifest.class.getProtectionDomain().getCodeSource()));
+    }
+    return generator;
+  }
+
+  private static String getVersion() {
+    try (InputStream in = GeneratorManifest.class.getResourceAsStream(POM_PROPERTIES)) {
+      if (in == null) {
+        return null;
+      }
+
+      Properties properties = new Properties();
+      properties.load(in);
+      return properties.getProperty("version");
+    } catch (IOException e) {
+      throw new RuntimeException("Plugin version could not be read", e);
+    }
+  }
+
+  private static String hashCodeSource(CodeSource codeSource) {
+    if (codeSource == null || codeSource.getLocation() == null) {
+      return null;
+    }
+
+    Path location;
+    try {
+      location = Paths.get(codeSource.getLocation().toURI());
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
+
+    HashFile hashFile = new HashFile();
+    if (Files.isRegularFile(location)) {
+      return hashFile.apply(location);
+    }
+    if (!Files.isDirectory(location)) {
+      return null;
+    }
+
+    // hash relative path and content hash of each file, ordered by path
+    try (Stream<Path> paths = Files.walk(location)) {
+      String files = paths.filter(Files::isRegularFile)
+          .sorted()
+          .map(file -> location.relativize(file).toString().replace('\\', '/') + ":" + hashFile.apply(file))
+          .collect(Collectors.joining("\n"));
+
+      return hashFile.hash(files.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Generator classes under '%s' could not be hashed", location), e);
+    }
+  }
+
+  /**
+   * Builds a string representation of all generator settings, which have an impact on the generated
+   * code.
+   *
+   * @param ctx The current generator context.
+   *
+   * @return The generator settings.
+   */
+  public static String settingsOf(GeneratorContext ctx) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("packageName=").append(ctx.getPackageName());
+    sb.append(";jUnit5Enabled=").append(ctx.isJUnit5Enabled());
+    sb.append(";springEnabled=").append(ctx.isSpringEnabled());
+    sb.append(";runtimeApiEnabled=").append(ctx.isRuntimeApiEnabled());
+    sb.append(";stepPlanEnabled=").append(ctx.isStepPlanEnabled());
+    sb.append(";pathEnumerationMaxLength=").append(ctx.getPathEnumerationMaxLength());
+    sb.append(";pathEnumerationMaxPaths=").append(ctx.getPathEnumerationMaxPaths());
+    sb.append(";processEnginePlugins=").append(String.join(",", ctx.getProcessEnginePluginNames()));
+    sb.append(";generator=").append(getGenerator());
+    return sb.toString();
+  }
+
+  /**
+   * Adds an entry for a processed BPMN file.
+   *
+   * @param bpmnFile The relative path of the BPMN file.
+   *
+   * @param hash The hash of the BPMN file's content.
+   *
+   * @param files The relative paths of the generated Java files.
+   */
+  public synchronized void add(String bpmnFile, String hash, List<String> files) {
+    entries.put(bpmnFile, new Entry(hash, files));
+  }
+
+  /**
+   * Adds an entry of a previous generation, since the related BPMN file has not been changed.
+   *
+   * @param bpmnFile The relative path of the BPMN file.
+   *
+   * @param entry An existing entry.
+   */
+  public synchronized void add(String bpmnFile, Entry entry) {
+    entries.put(bpmnFile, entry);
+  }
+
+  public synchronized Entry get(String bpmnFile) {
+    return entries.get(bpmnFile);
+  }
+
+  public synchronized Map<String, Entry> getEntries() {
+    return Collections.unmodifiableMap(entries);
+  }
+
+  /**
+   * Returns the relative paths of all Java files, which are known by the manifest.
+   *
+   * @return A sorted set of relative Java file paths.
+   */
+  public synchronized Set<String> getFiles() {
+    Set<String> files = new TreeSet<>();
+    entries.values().forEach(entry -> files.addAll(entry.getFiles()));
+    return files;
+  }
+
+  public String getSettings() {
+    return settings;
+  }
+
+  public static class Entry {
+
+    private final List<String> files;
+    private final String hash;
+
+    public Entry(String hash, List<String> files) {
+      this.hash = hash;
+      this.files = Collections.unmodifiableList(files);
+    }
+
+    public List<String> getFiles() {
+      return files;
+    }
+
+    public String getHash() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,340 @@
+package org.camunda.community.bpmndt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Metrics of a generation: the duration of each phase as well as timings and counts per BPMN file
+ * and per test case. If BPMN files are processed in parallel, the durations of the phases are summed
+ * up over all threads.
+ */
+public class GeneratorMetrics {
+
+  private final Map<Phase, Long> phases = new EnumMap<>(Phase.class);
+
+  private final List<BpmnFileMetrics> bpmnFiles = new LinkedList<>();
+
+  /** Size of the rendered Java files in bytes - mapped by path, relative to the test source directory. */
+  private final Map<String, Integer> files = new TreeMap<>();
+
+  private long duration;
+
+  /**
+   * Adds the given duration to a phase.
+   *
+   * @param phase A specific phase.
+   *
+   * @param duration The duration in nanoseconds.
+   */
+  public synchronized void add(Phase phase, long duration) {
+    phases.merge(phase, duration, Long::sum);
+  }
+
+  /**
+   * Adds the metrics of another generator, which processed a subset of the BPMN files.
+   *
+   * @param metrics Metrics of another generator.
+   */
+  public synchronized void addAll(GeneratorMetrics metrics) {
+    synchronized (metrics) {
+      metrics.phases.forEach(this::add);
+
+      bpmnFiles.addAll(metrics.bpmnFiles);
+      files.putAll(metrics.files);
+    }
+  }
+
+  /**
+   * Adds a BPMN file, which is processed.
+   *
+   * @param path The path of the BPMN file, relative to the main resource directory.
+   *
+   * @return The metrics of the BPMN file.
+   */
+  public synchronized BpmnFileMetrics addBpmnFile(String path) {
+    BpmnFileMetrics bpmnFile = new BpmnFileMetrics(path);
+    bpmnFiles.add(bpmnFile);
+    return bpmnFile;
+  }
+
+  /**
+   * Adds a rendered Java file.
+   *
+   * @param path The path of the Java file, relative to the test source directory.
+   *
+   * @param size The size in bytes.
+   */
+  public synchronized void addFile(String path, int size) {
+    files.put(path, size);
+  }
+
+  public synchronized void clear() {
+    phases.clear();
+    bpmnFiles.clear();
+    files.clear();
+
+    duration = 0;
+  }
+
+  public synchronized List<BpmnFileMetrics> getBpmnFiles() {
+    return new ArrayList<>(bpmnFiles);
+  }
+
+  /**
+   * Returns the overall duration of the generation.
+   *
+   * @return The duration in nanoseconds.
+   */
+  public synchronized long getDuration() {
+    return duration;
+  }
+
+  /**
+   * Returns the duration of the given phase.
+   *
+   * @param phase A specific phase.
+   *
+   * @return The duration in nanoseconds.
+   */
+  public synchronized long getDuration(Phase phase) {
+    return phases.getOrDefault(phase, 0L);
+  }
+
+  /**
+   * Returns the rendered Java files.
+   *
+   * @return The size of the files in bytes, mapped and sorted by path.
+   */
+  public synchronized Map<String, Integer> getFiles() {
+    return Collections.unmodifiableMap(new TreeMap<>(files));
+  }
+
+  public synchronized int getFlowNodeCount() {
+    return bpmnFiles.stream().mapToInt(BpmnFileMetrics::getFlowNodes).sum();
+  }
+
+  public synchronized long getGeneratedBytes() {
+    return files.values().stream().mapToLong(Integer::longValue).sum();
+  }
+
+  public synchronized int getTestCaseCount() {
+    return bpmnFiles.stream().mapToInt(bpmnFile -> bpmnFile.getTestCases().size()).sum();
+  }
+
+  public synchronized void setDuration(long duration) {
+    this.duration = duration;
+  }
+
+  /**
+   * Returns a single line summary of the metrics.
+   *
+   * @return The summary.
+   */
+  public synchronized String toSummary() {
+    String phaseDurations = phases.entrySet().stream()
+        .map(entry -> String.format("%s: %d ms", entry.getKey().getName(), toMillis(entry.getValue())))
+        .collect(Collectors.joining(", "));
+
+    return String.format("Generation took %d ms (%s) - BPMN files: %d, flow nodes: %d, test cases: %d, generated bytes: %d", toMillis(duration),
+        phaseDurations, bpmnFiles.size(), getFlowNodeCount(), getTestCaseCount(), getGeneratedBytes());
+  }
+
+  /**
+   * Converts the given duration into milliseconds.
+   *
+   * @param duration A duration in nanoseconds.
+   *
+   * @return The duration in milliseconds.
+   */
+  public static long toMillis(long duration) {
+    return TimeUnit.NANOSECONDS.toMillis(duration);
+  }
+
+  /**
+   * Metrics of a single BPMN file.
+   */
+  public static class BpmnFileMetrics {
+
+    private final String path;
+
+    private final List<TestCaseMetrics> testCases = new LinkedList<>();
+
+    private int flowNodes;
+    private long parseDuration;
+    private String processId;
+    private boolean skipped;
+
+    private BpmnFileMetrics(String path) {
+      this.path = path;
+    }
+
+    public TestCaseMetrics addTestCase(String name) {
+      TestCaseMetrics testCase = new TestCaseMetrics(name);
+      testCases.add(testCase);
+      return testCase;
+    }
+
+    public int getFlowNodes() {
+      return flowNodes;
+    }
+
+    /**
+     * Returns the duration, needed to parse the BPMN file.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getParseDuration() {
+      return parseDuration;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public String getProcessId() {
+      return processId;
+    }
+
+    public List<TestCaseMetrics> getTestCases() {
+      return testCases;
+    }
+
+    /**
+     * Determines if the BPMN file has been skipped, because it is unchanged since the last incremental
+     * generation.
+     *
+     * @return {@code true}, if the file has been skipped. Otherwise {@code false}.
+     */
+    public boolean isSkipped() {
+      return skipped;
+    }
+
+    public void setFlowNodes(int flowNodes) {
+      this.flowNodes = flowNodes;
+    }
+
+    public void setParseDuration(long parseDuration) {
+      this.parseDuration = parseDuration;
+    }
+
+    public void setProcessId(String processId) {
+      this.processId = processId;
+    }
+
+    public void setSkipped(boolean skipped) {
+      this.skipped = skipped;
+    }
+  }
+
+  /**
+   * Metrics of a single test case.
+   */
+  public static class TestCaseMetrics {
+
+    private final String name;
+
+    private final List<String> files = new LinkedList<>();
+
+    private int activities;
+    private long buildContextDuration;
+    private long generateDuration;
+
+    private TestCaseMetrics(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Adds a Java file, generated for the test case.
+     *
+     * @param path The path of the Java file, relative to the test source directory.
+     */
+    public void addFile(String path) {
+      files.add(path);
+    }
+
+    /**
+     * Returns the number of activities of the test case's path.
+     *
+     * @return The number of activities.
+     */
+    public int getActivities() {
+      return activities;
+    }
+
+    /**
+     * Returns the duration, needed to build the test case context.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getBuildContextDuration() {
+      return buildContextDuration;
+    }
+
+    public List<String> getFiles() {
+      return files;
+    }
+
+    /**
+     * Returns the duration, needed to generate the test case and its multi instance handlers.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getGenerateDuration() {
+      return generateDuration;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setActivities(int activities) {
+      this.activities = activities;
+    }
+
+    public void setBuildContextDuration(long buildContextDuration) {
+      this.buildContextDuration = buildContextDuration;
+    }
+
+    public void setGenerateDuration(long generateDuration) {
+      this.generateDuration = generateDuration;
+    }
+  }
+
+  /**
+   * Phases of a generation.
+   */
+  public enum Phase {
+
+    /** Collection of BPMN files. */
+    COLLECT("collect"),
+    /** Pre-scanning of BPMN files for test cases. */
+    SCAN("scan"),
+    /** Parsing of BPMN files. */
+    PARSE("parse"),
+    /** Building of test case contexts. */
+    BUILD_CONTEXT("buildContext"),
+    /** Generation of test cases, multi instance handlers and the Spring configuration. */
+    GENERATE("generate"),
+    /** Rendering of Java files. */
+    RENDER("render"),
+    /** Writing of Java files, API classes and the manifest as well as the deletion of stale files. */
+    WRITE("write");
+
+    private final String name;
+
+    private Phase(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+  }
+}
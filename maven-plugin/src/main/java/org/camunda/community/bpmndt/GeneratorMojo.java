@@ -21,31 +21,106 @@ public class GeneratorMojo extends AbstractMojo {
   protected static final String H2_GROUP_ID = "com.h2database";
   protected static final String H2_ARTIFACT_ID = "h2";
 
+  protected static final String RUNTIME_GROUP_ID = "org.camunda.community";
+  protected static final String RUNTIME_ARTIFACT_ID = "bpmn-driven-testing-maven-plugin";
+  protected static final String RUNTIME_CLASSIFIER = "runtime";
+
   @Parameter(defaultValue = "${project}", required = true, readonly = true)
   protected MavenProject project;
 
+  /**
+   * Number of threads, used to parse BPMN files and to generate test cases in parallel. The default
+   * value {@code 1} means sequential generation.
+   */
+  @Parameter(defaultValue = "1", required = true)
+  protected int generatorThreads;
+
+  /**
+   * Determines if the incremental generation is enabled or not. If enabled, only BPMN files, which
+   * changed since the last generation, are processed.
+   */
+  @Parameter(defaultValue = "false", required = true)
+  protected boolean incrementalEnabled;
+
   /** Determines if JUnit 5 based test case generation is enabled or not. */
   @Parameter(defaultValue = "false", required = true)
   protected boolean jUnit5Enabled;
 
+  /**
+   * Determines if a summary of the generation metrics (durations per phase and counts) is logged.
+   * The metrics are always written as JSON report to the build directory.
+   */
+  @Parameter(defaultValue = "false", required = true)
+  protected boolean metricsSummaryEnabled;
+
   /** Package name of the generated Java test case files. */
   @Parameter(defaultValue = "generated", required = true)
   protected String packageName;
 
+  /**
+   * Maximum number of flow nodes of a path, enumerated for a process, which opts in to the automatic
+   * path enumeration. Longer paths are not enumerated.
+   */
+  @Parameter(defaultValue = "100", required = true)
+  protected int pathEnumerationMaxLength;
+
+  /** Maximum number of paths, enumerated for a process, which opts in to the automatic path enumeration. */
+  @Parameter(defaultValue = "100", required = true)
+  protected int pathEnumerationMaxPaths;
+
   /** List of process engine plugins to register at the process engine. */
   @Parameter
   protected List<String> processEnginePlugins;
 
+  /**
+   * Determines if the precompiled API classes of the runtime artifact are used. If enabled, only the
+   * test cases are generated, but not the sources of the API classes.
+   */
+  @Parameter(defaultValue = "false", required = true)
+  protected boolean runtimeApiEnabled;
+
   /** Determines if Spring based testing is enabled or not. */
   @Parameter(defaultValue = "false", required = true)
   protected boolean springEnabled;
 
+  /**
+   * Determines if test cases are generated with a static step plan instead of an {@code execute}
+   * method with several statements per activity. This keeps the generated classes small, regardless
+   * of the path length.
+   */
+  @Parameter(defaultValue = "false", required = true)
+  protected boolean stepPlanEnabled;
+
+  /**
+   * Determines if the test impact selection is enabled. If enabled, an include file, listing only the
+   * test cases whose path changed or which are new, is written to the build directory.
+   */
+  @Parameter(defaultValue = "false", required = true)
+  protected boolean testImpactEnabled;
+
   /** Name of the test source directory, with the build directory (target). */
   @Parameter(defaultValue = "bpmndt", required = true)
   protected String testSourceDirectory;
 
   @Override
   public void execute() throws MojoExecutionException, MojoFailureException {
+    GeneratorContext ctx = createContext();
+
+    // generate test code
+    try {
+      new Generator(getLog()).generate(ctx);
+    } catch (RuntimeException e) {
+      throw new MojoFailureException("Unexpected error occurred", e);
+    }
+  }
+
+  /**
+   * Adds the test source directory to the project and creates a generator context, based on the
+   * plugin configuration.
+   * 
+   * @return The generator context.
+   */
+  protected GeneratorContext createContext() {
     Path testSourcePath = Paths.get(project.getBuild().getDirectory()).resolve(testSourceDirectory);
 
     // add test source directory
@@ -54,20 +129,43 @@ public class GeneratorMojo extends AbstractMojo {
 
     getLog().info("");
 
+    if (runtimeApiEnabled && !hasRuntimeDependency()) {
+      getLog().warn(String.format("Runtime API is enabled, but dependency %s:%s (classifier '%s') is missing", RUNTIME_GROUP_ID,
+          RUNTIME_ARTIFACT_ID, RUNTIME_CLASSIFIER));
+      getLog().info("");
+    }
+
     GeneratorContext ctx = new GeneratorContext();
     ctx.setBasePath(project.getBasedir().toPath());
+    ctx.setGeneratorThreads(generatorThreads);
+    ctx.setIncrementalEnabled(incrementalEnabled);
     ctx.setJUnit5Enabled(jUnit5Enabled);
     ctx.setMainResourcePath(Paths.get(project.getBuild().getResources().get(0).getDirectory()));
+    ctx.setMetricsSummaryEnabled(metricsSummaryEnabled);
     ctx.setPackageName(packageName);
+    ctx.setPathEnumerationMaxLength(pathEnumerationMaxLength);
+    ctx.setPathEnumerationMaxPaths(pathEnumerationMaxPaths);
     ctx.setProcessEnginePluginNames(processEnginePlugins);
+    ctx.setRuntimeApiEnabled(runtimeApiEnabled);
     ctx.setSpringEnabled(springEnabled);
+    ctx.setStepPlanEnabled(stepPlanEnabled);
+    ctx.setTestImpactEnabled(testImpactEnabled);
     ctx.setTestSourcePath(testSourcePath);
 
-    // generate test code
-    try {
-      new Generator(getLog()).generate(ctx);
-    } catch (RuntimeException e) {
-      throw new MojoFailureException("Unexpected error occurred", e);
-    }
+    return ctx;
+  }
+
+  /**
+   * Determines if the project declares a dependency to the runtime artifact, which provides the
+   * precompiled API classes.
+   * 
+   * @return {@code true}, if the dependency is declared. Otherwise {@code false}.
+   */
+  protected boolean hasRuntimeDependency() {
+    return project.getDependencies().stream().anyMatch(dependency -> {
+      return RUNTIME_GROUP_ID.equals(dependency.getGroupId())
+          && RUNTIME_ARTIFACT_ID.equals(dependency.getArtifactId())
+          && RUNTIME_CLASSIFIER.equals(dependency.getClassifier());
+    });
   }
 }
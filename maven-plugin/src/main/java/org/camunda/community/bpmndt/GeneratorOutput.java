@@ -0,0 +1,85 @@
+package org.camunda.community.bpmndt;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Class, used to track the files of the generator's output stage - files, which have been written,
+ * files, which are unchanged, and stale files, which have been deleted.
+ */
+public class GeneratorOutput {
+
+  private final Set<Path> files;
+
+  private int deleted;
+  private int unchanged;
+  private int written;
+
+  public GeneratorOutput() {
+    files = new HashSet<>();
+  }
+
+  /**
+   * Determines if the given file is part of the output.
+   * 
+   * @param file A file within the test source directory.
+   * 
+   * @return {@code true}, if the file has been written, is unchanged or should be retained.
+   *         Otherwise {@code false}.
+   */
+  public boolean contains(Path file) {
+    return files.contains(normalize(file));
+  }
+
+  public void deleted(Path file) {
+    deleted++;
+  }
+
+  public int getDeleted() {
+    return deleted;
+  }
+
+  /**
+   * Returns the files of the output.
+   * 
+   * @return An unmodifiable set of absolute and normalized paths.
+   */
+  public Set<Path> getFiles() {
+    return Collections.unmodifiableSet(new HashSet<>(files));
+  }
+
+  public int getUnchanged() {
+    return unchanged;
+  }
+
+  public int getWritten() {
+    return written;
+  }
+
+  /**
+   * Retains a file, which is no Java file, but part of the output.
+   * 
+   * @param file A file within the test source directory.
+   */
+  public void retain(Path file) {
+    files.add(normalize(file));
+  }
+
+  public void unchanged(Path file) {
+    if (files.add(normalize(file))) {
+      unchanged++;
+    }
+  }
+
+  public void written(Path file) {
+    if (files.add(normalize(file))) {
+      written++;
+    }
+  }
+
+  private Path normalize(Path file) {
+    return file.toAbsolutePath().normalize();
+  }
+}
@@ -1,34 +1,65 @@
 package org.camunda.community.bpmndt;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import com.squareup.javapoet.JavaFile;
 
 /**
- * Class, used to collect the test code generation results.
+ * Class, used to collect the test code generation results. Since BPMN files can be processed in
+ * parallel, all modifications are synchronized.
  */
 public class GeneratorResult {
 
   private final List<JavaFile> additionalFiles;
   private final List<JavaFile> files;
 
+  /** Path fingerprints of the generated test cases - mapped by Java file. */
+  private final Map<String, String> fingerprints;
+
   public GeneratorResult() {
     files = new LinkedList<>();
     additionalFiles = new LinkedList<>();
+    fingerprints = new TreeMap<>();
   }
 
-  public void addAdditionalFile(JavaFile javaFile) {
+  public synchronized void addAdditionalFile(JavaFile javaFile) {
     additionalFiles.add(javaFile);
   }
 
-  public void addFile(JavaFile javaFile) {
+  /**
+   * Adds all files of the given result to this result, keeping their order.
+   * 
+   * @param other Another result.
+   */
+  public synchronized void addAll(GeneratorResult other) {
+    additionalFiles.addAll(other.getAdditionalFiles());
+    files.addAll(other.getFiles());
+    fingerprints.putAll(other.getFingerprints());
+  }
+
+  public synchronized void addFile(JavaFile javaFile) {
     files.add(javaFile);
   }
 
-  public void clear() {
+  /**
+   * Adds the path fingerprint of a generated test case.
+   * 
+   * @param file The path of the test case's Java file, relative to the test source directory.
+   * 
+   * @param fingerprint The fingerprint.
+   */
+  public synchronized void addFingerprint(String file, String fingerprint) {
+    fingerprints.put(file, fingerprint);
+  }
+
+  public synchronized void clear() {
     additionalFiles.clear();
     files.clear();
+    fingerprints.clear();
   }
 
   public List<JavaFile> getAdditionalFiles() {
@@ -38,4 +69,13 @@ public class GeneratorResult {
   public List<JavaFile> getFiles() {
     return files;
   }
+
+  /**
+   * Returns the path fingerprints of the generated test cases.
+   * 
+   * @return An unmodifiable map of fingerprints, mapped and sorted by the path of the Java file.
+   */
+  public synchronized Map<String, String> getFingerprints() {
+    return Collections.unmodifiableMap(new TreeMap<>(fingerprints));
+  }
 }
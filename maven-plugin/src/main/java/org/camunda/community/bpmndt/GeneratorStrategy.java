@@ -1,5 +1,9 @@
 package org.camunda.community.bpmndt;
 
+import java.util.List;
+
+import org.camunda.community.bpmndt.api.TestCaseStep;
+
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
@@ -28,8 +32,42 @@ public interface GeneratorStrategy {
 
   void applyHandlerBefore(MethodSpec.Builder methodBuilder);
 
+  /**
+   * Adds the steps, which apply the activity's handler, to the given list. The steps are either
+   * rendered as statements of the {@code execute} method or used as part of a step plan.
+   * 
+   * @param steps A list of test case steps.
+   * 
+   * @see #applyHandler(MethodSpec.Builder)
+   */
+  void applyHandlerSteps(List<TestCaseStep> steps);
+
+  /**
+   * Adds the steps, which apply the asynchronous continuation after the activity, to the given list.
+   * 
+   * @param steps A list of test case steps.
+   * 
+   * @see #applyHandlerAfter(MethodSpec.Builder)
+   */
+  void applyHandlerStepsAfter(List<TestCaseStep> steps);
+
+  /**
+   * Adds the steps, which apply the asynchronous continuation before the activity, to the given list.
+   * 
+   * @param steps A list of test case steps.
+   * 
+   * @see #applyHandlerBefore(MethodSpec.Builder)
+   */
+  void applyHandlerStepsBefore(List<TestCaseStep> steps);
+
   TypeName getHandlerType();
 
+  /**
+   * Adds the statements, which initialize the activity's handler, to the given method. Since
+   * handlers are created on first access, the method is the handler's accessor.
+   * 
+   * @param methodBuilder The builder of the handler method.
+   */
   void initHandler(MethodSpec.Builder methodBuilder);
 
   void initHandlerAfter(MethodSpec.Builder methodBuilder);
@@ -38,6 +76,17 @@ public interface GeneratorStrategy {
 
   CodeBlock initHandlerStatement();
 
+  /**
+   * Adds the statements, which reset the activity's handler before each test, to the given method.
+   * 
+   * @param methodBuilder The builder of the {@code beforeEach} method.
+   */
+  void resetHandler(MethodSpec.Builder methodBuilder);
+
+  void resetHandlerAfter(MethodSpec.Builder methodBuilder);
+
+  void resetHandlerBefore(MethodSpec.Builder methodBuilder);
+
   /**
    * Determines if an asynchronous continuation after the activity should be handled or not.
    * 
@@ -0,0 +1,34 @@
+package org.camunda.community.bpmndt;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Maven plugin goal, which runs a {@link GeneratorWatcher}. After an initial generation, the BPMN
+ * files are watched and the test cases of a changed BPMN file are regenerated, until the goal is
+ * terminated.
+ */
+@Mojo(name = "watch", requiresProject = true)
+public class GeneratorWatchMojo extends GeneratorMojo {
+
+  /**
+   * Quiet period in milliseconds, after the last file system event of a BPMN file, before its test
+   * cases are regenerated.
+   */
+  @Parameter(defaultValue = "200", required = true)
+  protected long watchDebounce;
+
+  @Override
+  public void execute() throws MojoExecutionException, MojoFailureException {
+    GeneratorContext ctx = createContext();
+
+    // generate test code and watch BPMN files
+    try (GeneratorWatcher watcher = new GeneratorWatcher(getLog(), ctx, watchDebounce)) {
+      watcher.watch();
+    } catch (RuntimeException e) {
+      throw new MojoFailureException("Unexpected error occurred", e);
+    }
+  }
+}
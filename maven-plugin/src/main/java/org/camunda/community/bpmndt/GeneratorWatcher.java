@@ -0,0 +1,270 @@
+package org.camunda.community.bpmndt;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.plugin.logging.Log;
+import org.camunda.community.bpmndt.GeneratorMetrics.BpmnFileMetrics;
+import org.camunda.community.bpmndt.cmd.CollectBpmnFiles;
+import org.camunda.community.bpmndt.cmd.ReadManifest;
+
+/**
+ * Watches the BPMN files of the main resource directory and regenerates the test cases of a BPMN
+ * file, when it is created or modified. Since saving a file results in a burst of file system
+ * events, a BPMN file is regenerated after a quiet period, in which no further events occurred. Only
+ * Java files, whose content changed, are written. Java files, which are not generated anymore (e.g.
+ * because a test case has been renamed or the BPMN file has been deleted), are deleted.
+ */
+public class GeneratorWatcher implements Closeable {
+
+  private final Log log;
+
+  private final GeneratorContext ctx;
+
+  /** Quiet period in milliseconds. */
+  private final long debounce;
+
+  /** Generated Java files - mapped by BPMN file. */
+  private final Map<Path, Set<Path>> files;
+
+  private volatile WatchService watchService;
+
+  public GeneratorWatcher(Log log, GeneratorContext ctx, long debounce) {
+    this.log = log;
+    this.ctx = ctx;
+    this.debounce = debounce;
+
+    files = new HashMap<>();
+  }
+
+  /**
+   * Stops watching, if {@link #watch()} has been called.
+   */
+  @Override
+  public void close() {
+    WatchService watchService = this.watchService;
+    if (watchService == null) {
+      return;
+    }
+
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      throw new RuntimeException("Watch service could not be closed", e);
+    }
+  }
+
+  /**
+   * Generates all test cases and watches the main resource directory for changes afterwards. This
+   * method blocks until the watcher is closed or the current thread is interrupted.
+   */
+  public void watch() {
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    collectFiles(generator.getMetrics());
+
+    try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+      register(watchService, ctx.getMainResourcePath());
+
+      this.watchService = watchService;
+
+      log.info("");
+      log.info(String.format("Watching BPMN files: %s", ctx.getMainResourcePath()));
+
+      watch(watchService);
+    } catch (ClosedWatchServiceException e) {
+      // watcher closed
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      throw new RuntimeException("BPMN files could not be watched", e);
+    } finally {
+      this.watchService = null;
+    }
+  }
+
+  /**
+   * Collects the Java files, which have been generated per BPMN file. If the incremental generation
+   * is enabled, the files of skipped BPMN files are read from the manifest.
+   */
+  private void collectFiles(GeneratorMetrics metrics) {
+    GeneratorManifest manifest = ctx.isIncrementalEnabled() ? new ReadManifest().apply(ctx) : null;
+
+    for (BpmnFileMetrics bpmnFile : metrics.getBpmnFiles()) {
+      List<String> javaFiles;
+      if (bpmnFile.isSkipped()) {
+        GeneratorManifest.Entry entry = manifest != null ? manifest.get(bpmnFile.getPath()) : null;
+        javaFiles = entry != null ? entry.getFiles() : Collections.emptyList();
+      } else {
+        javaFiles = bpmnFile.getTestCases().stream()
+            .flatMap(testCase -> testCase.getFiles().stream())
+            .collect(Collectors.toList());
+      }
+
+      Set<Path> paths = javaFiles.stream()
+          .map(ctx.getTestSourcePath()::resolve)
+          .map(this::normalize)
+          .collect(Collectors.toSet());
+
+      files.put(normalize(ctx.getMainResourcePath().resolve(bpmnFile.getPath())), paths);
+    }
+  }
+
+  private void delete(Path javaFile) {
+    try {
+      if (Files.deleteIfExists(javaFile)) {
+        log.info(String.format("Deleting file: %s", getRelativePath(javaFile)));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Stale test source could not be deleted", e);
+    }
+  }
+
+  private String getRelativePath(Path file) {
+    return normalize(ctx.getBasePath()).relativize(file).toString().replace('\\', '/');
+  }
+
+  /**
+   * Determines if the watcher is watching the BPMN files - the initial generation is finished.
+   *
+   * @return {@code true}, if the watcher is watching. Otherwise {@code false}.
+   */
+  public boolean isWatching() {
+    return watchService != null;
+  }
+
+  private boolean isBpmnFile(Path path) {
+    return path.getFileName().toString().endsWith(Constants.BPMN_EXTENSION);
+  }
+
+  private Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+
+  /**
+   * Regenerates the test cases of the given BPMN file or deletes the generated Java files, if the BPMN
+   * file has been deleted.
+   *
+   * @param bpmnFile A created, modified or deleted BPMN file.
+   */
+  protected void regenerate(Path bpmnFile) {
+    long start = System.nanoTime();
+
+    Set<Path> previousFiles = files.getOrDefault(bpmnFile, Collections.emptySet());
+
+    log.info("");
+
+    if (!Files.isRegularFile(bpmnFile)) {
+      log.info(String.format("Deleted BPMN file: %s", getRelativePath(bpmnFile)));
+
+      previousFiles.forEach(this::delete);
+      files.remove(bpmnFile);
+      return;
+    }
+
+    log.info(String.format("Changed BPMN file: %s", getRelativePath(bpmnFile)));
+
+    // resolve BPMN file against the main resource path, which may be relative
+    Path mainResourcePath = ctx.getMainResourcePath();
+    Path resolvedBpmnFile = mainResourcePath.resolve(normalize(mainResourcePath).relativize(bpmnFile));
+
+    GeneratorOutput output;
+    try {
+      output = new Generator(log).generate(ctx, resolvedBpmnFile);
+    } catch (RuntimeException e) {
+      // e.g. BPMN file, which is invalid while being edited
+      log.error(String.format("Test cases could not be generated: %s", e.getMessage()));
+      return;
+    }
+
+    Set<Path> staleFiles = previousFiles.stream().filter(file -> !output.contains(file)).collect(Collectors.toSet());
+    staleFiles.forEach(this::delete);
+
+    files.put(bpmnFile, output.getFiles());
+
+    log.info(String.format("Files written: %d, unchanged: %d, deleted: %d (%d ms)", output.getWritten(), output.getUnchanged(),
+        staleFiles.size(), GeneratorMetrics.toMillis(System.nanoTime() - start)));
+  }
+
+  /**
+   * Registers the given directory and all sub directories at the watch service.
+   *
+   * @param watchService The watch service to use.
+   *
+   * @param directory A directory within the main resource directory.
+   */
+  private void register(WatchService watchService, Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.filter(Files::isDirectory).collect(Collectors.toList())) {
+        path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+      }
+    }
+  }
+
+  private void watch(WatchService watchService) throws InterruptedException, IOException {
+    Set<Path> changedFiles = new TreeSet<>();
+
+    while (true) {
+      WatchKey key;
+      if (changedFiles.isEmpty()) {
+        key = watchService.take();
+      } else {
+        key = watchService.poll(debounce, TimeUnit.MILLISECONDS);
+      }
+
+      if (key == null) {
+        // quiet period elapsed
+        changedFiles.forEach(this::regenerate);
+        changedFiles.clear();
+        continue;
+      }
+
+      Path directory = (Path) key.watchable();
+
+      for (WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == OVERFLOW) {
+          // events lost: regenerate all known and existing BPMN files
+          changedFiles.addAll(files.keySet());
+          new CollectBpmnFiles().apply(ctx.getMainResourcePath()).stream().map(this::normalize).forEach(changedFiles::add);
+          continue;
+        }
+
+        Path path = normalize(directory.resolve((Path) event.context()));
+
+        if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+          register(watchService, path);
+          new CollectBpmnFiles().apply(path).stream().map(this::normalize).forEach(changedFiles::add);
+        } else if (isBpmnFile(path)) {
+          changedFiles.add(path);
+        } else if (event.kind() == ENTRY_DELETE) {
+          // deleted directory
+          files.keySet().stream().filter(bpmnFile -> bpmnFile.startsWith(path)).forEach(changedFiles::add);
+        }
+      }
+
+      key.reset();
+    }
+  }
+}
@@ -0,0 +1,298 @@
+package org.camunda.community.bpmndt;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Enumerates the paths from each start event to each end event of a process - the server side
+ * counterpart of the modeler plugin's {@code PathFinder}. Like the {@code PathFinder}, the enumerator
+ * follows the outgoing sequence flows and the attached boundary events of a flow node, enters
+ * embedded sub processes via their start event and leaves them via the outgoing sequence flows or,
+ * in case of an error or escalation end event, via the matching boundary event. A branch, which
+ * would visit a flow node twice, is not followed (loop detection).
+ * <p>
+ * The enumeration is a depth-first search, using an explicit stack instead of recursion. Only the
+ * current path and the pending successors of its flow nodes are held in memory - paths are created
+ * lazily, one at a time, when {@link #next()} is called. The enumeration is bounded by a maximum
+ * number of paths, a maximum path length and a budget of visited flow nodes, derived from both, so
+ * that combinatorial models neither exhaust memory nor build time.
+ */
+public class PathEnumerator implements Iterator<BpmnTestCase> {
+
+  /** Number of visited flow nodes per flow node of an enumerated path, including dead ends. */
+  private static final long VISIT_FACTOR = 10;
+
+  private final BpmnSupport bpmnSupport;
+
+  private final int maxLength;
+  private final int maxPaths;
+  private final long maxVisits;
+
+  /** IDs of the boundary events - mapped by the ID of the activity, they are attached to. */
+  private final Map<String, List<String>> boundaryEvents;
+  /** IDs of the start events of the process, sorted by ID. */
+  private final List<String> startEvents;
+  /** IDs of the start events of embedded sub processes - mapped by the ID of the sub process. */
+  private final Map<String, String> subProcessStartEvents;
+
+  private final Deque<Frame> stack;
+  private final List<String> path;
+  private final Set<String> pathFlowNodeIds;
+
+  /** Number of enumerated paths - mapped by start and end flow node. */
+  private final Map<String, Integer> pathCounts;
+
+  private int startEventIndex;
+
+  private int paths;
+  private long visits;
+
+  private boolean limitReached;
+
+  private BpmnTestCase next;
+
+  public PathEnumerator(BpmnSupport bpmnSupport, int maxPaths, int maxLength) {
+    if (maxPaths < 1) {
+      throw new IllegalArgumentException("max paths must be greater than 0");
+    }
+    if (maxLength < 2) {
+      throw new IllegalArgumentException("max length must be greater than 1");
+    }
+
+    this.bpmnSupport = bpmnSupport;
+    this.maxLength = maxLength;
+    this.maxPaths = maxPaths;
+
+    maxVisits = (long) maxPaths * maxLength * VISIT_FACTOR;
+
+    List<BpmnNode> flowNodes = bpmnSupport.getFlowNodes().stream()
+        .sorted(Comparator.comparing(BpmnNode::getId))
+        .collect(Collectors.toList());
+
+    boundaryEvents = new HashMap<>();
+    startEvents = new ArrayList<>();
+    subProcessStartEvents = new HashMap<>();
+
+    for (BpmnNode flowNode : flowNodes) {
+      if (flowNode.is(BpmnNodeType.BOUNDARY_EVENT) && flowNode.getAttachedTo() != null) {
+        boundaryEvents.computeIfAbsent(flowNode.getAttachedTo(), k -> new ArrayList<>()).add(flowNode.getId());
+      } else if (flowNode.is(BpmnNodeType.START_EVENT) && flowNode.isProcessScope()) {
+        startEvents.add(flowNode.getId());
+      } else if (flowNode.is(BpmnNodeType.START_EVENT)) {
+        subProcessStartEvents.putIfAbsent(flowNode.getScope(), flowNode.getId());
+      }
+    }
+
+    stack = new ArrayDeque<>();
+    path = new ArrayList<>();
+    pathFlowNodeIds = new HashSet<>();
+
+    pathCounts = new HashMap<>();
+  }
+
+  /**
+   * Advances the depth-first search until the next path is found.
+   * 
+   * @return The next path or {@code null}, if all paths have been enumerated or a limit is reached.
+   */
+  protected List<String> advance() {
+    while (true) {
+      if (paths >= maxPaths || visits >= maxVisits) {
+        limitReached = !stack.isEmpty() || startEventIndex < startEvents.size();
+        return null;
+      }
+
+      if (stack.isEmpty()) {
+        if (startEventIndex >= startEvents.size()) {
+          return null;
+        }
+
+        push(bpmnSupport.get(startEvents.get(startEventIndex++)));
+        continue;
+      }
+
+      Frame frame = stack.peek();
+      if (!frame.successors.hasNext()) {
+        pop();
+        continue;
+      }
+
+      BpmnNode flowNode = bpmnSupport.get(frame.successors.next());
+      if (flowNode == null || pathFlowNodeIds.contains(flowNode.getId())) {
+        // stop branch, if flow node does not exist or if loop is detected
+        continue;
+      }
+
+      if (path.size() >= maxLength) {
+        // stop branch, if path would exceed the max length
+        limitReached = true;
+        continue;
+      }
+
+      visits++;
+
+      if (flowNode.is(BpmnNodeType.END_EVENT) && flowNode.isProcessScope()) {
+        // stop branch, if process end is reached
+        paths++;
+
+        List<String> flowNodeIds = new ArrayList<>(path.size() + 1);
+        flowNodeIds.addAll(path);
+        flowNodeIds.add(flowNode.getId());
+        return flowNodeIds;
+      }
+
+      push(flowNode);
+    }
+  }
+
+  private void addBoundaryEvents(Set<String> successors, String activityId, BpmnEventType eventType, String eventCode) {
+    for (String boundaryEventId : boundaryEvents.getOrDefault(activityId, Collections.emptyList())) {
+      BpmnNode boundaryEvent = bpmnSupport.get(boundaryEventId);
+
+      if (eventType == null) {
+        successors.add(boundaryEventId);
+      } else if (boundaryEvent.getEventType() == eventType && eventCode != null && eventCode.equals(boundaryEvent.getEventCode())) {
+        successors.add(boundaryEventId);
+      }
+    }
+  }
+
+  private void addTarget(Set<String> successors, String flowNodeId) {
+    BpmnNode target = bpmnSupport.get(flowNodeId);
+    if (target != null && target.is(BpmnNodeType.SUB_PROCESS)) {
+      // enter embedded sub process via its start event
+      String startEventId = subProcessStartEvents.get(flowNodeId);
+      if (startEventId != null) {
+        successors.add(startEventId);
+      }
+    } else {
+      successors.add(flowNodeId);
+    }
+  }
+
+  /**
+   * Returns the IDs of the flow nodes, which can follow the given flow node on a path.
+   */
+  private Set<String> getSuccessors(BpmnNode flowNode) {
+    Set<String> successors = new LinkedHashSet<>();
+
+    if (flowNode.is(BpmnNodeType.END_EVENT) && !flowNode.isProcessScope()) {
+      BpmnNode subProcess = bpmnSupport.get(flowNode.getScope());
+      if (subProcess == null) {
+        return successors;
+      }
+
+      BpmnEventType eventType = flowNode.getEventType();
+      if (eventType == BpmnEventType.ERROR || eventType == BpmnEventType.ESCALATION) {
+        // leave sub process via matching error or escalation boundary event
+        addBoundaryEvents(successors, subProcess.getId(), eventType, flowNode.getEventCode());
+      } else {
+        // leave sub process via its outgoing sequence flows
+        subProcess.getOutgoing().forEach(flowNodeId -> addTarget(successors, flowNodeId));
+      }
+
+      return successors;
+    }
+
+    flowNode.getOutgoing().forEach(flowNodeId -> addTarget(successors, flowNodeId));
+    addBoundaryEvents(successors, flowNode.getId(), null, null);
+
+    return successors;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next != null) {
+      return true;
+    }
+
+    List<String> flowNodeIds = advance();
+    if (flowNodeIds == null) {
+      return false;
+    }
+
+    next = toTestCase(flowNodeIds);
+    return true;
+  }
+
+  /**
+   * Determines if the enumeration has been stopped, because a limit has been reached - the number of
+   * paths, the path length or the number of visited flow nodes. In this case, not all paths of the
+   * process may have been enumerated.
+   * 
+   * @return {@code true}, if a limit has been reached. Otherwise {@code false}.
+   */
+  public boolean isLimitReached() {
+    return limitReached;
+  }
+
+  @Override
+  public BpmnTestCase next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    BpmnTestCase testCase = next;
+    next = null;
+    return testCase;
+  }
+
+  private void pop() {
+    stack.pop();
+
+    String flowNodeId = path.remove(path.size() - 1);
+    pathFlowNodeIds.remove(flowNodeId);
+  }
+
+  private void push(BpmnNode flowNode) {
+    path.add(flowNode.getId());
+    pathFlowNodeIds.add(flowNode.getId());
+
+    stack.push(new Frame(getSuccessors(flowNode).iterator()));
+  }
+
+  /**
+   * Creates a test case for the given path. The name consists of the start and end flow node ID - if
+   * there are several paths between both, a sequence number is appended.
+   */
+  private BpmnTestCase toTestCase(List<String> flowNodeIds) {
+    String start = flowNodeIds.get(0);
+    String end = flowNodeIds.get(flowNodeIds.size() - 1);
+
+    String name = String.format("%s__%s", start, end);
+
+    int count = pathCounts.merge(name, 1, Integer::sum);
+    if (count > 1) {
+      name = String.format("%s__%d", name, count);
+    }
+
+    String description = String.format("Enumerated path from %s to %s", start, end);
+
+    return new BpmnTestCase(name, description, flowNodeIds);
+  }
+
+  /**
+   * Stack frame of the depth-first search - the pending successors of a flow node of the current
+   * path.
+   */
+  private static class Frame {
+
+    private final Iterator<String> successors;
+
+    private Frame(Iterator<String> successors) {
+      this.successors = successors;
+    }
+  }
+}
@@ -1,13 +1,9 @@
 package org.camunda.community.bpmndt;
 
-import org.camunda.bpm.model.bpmn.instance.FlowNode;
-import org.camunda.bpm.model.bpmn.instance.MultiInstanceLoopCharacteristics;
-
 public class TestCaseActivity {
 
-  private final FlowNode flowNode;
+  private final BpmnNode flowNode;
   private final String literal;
-  private final MultiInstanceLoopCharacteristics multiInstance;
 
   private TestCaseActivityType type;
   private TestCaseActivity prev;
@@ -22,9 +18,8 @@ public class TestCaseActivity {
   private String eventName;
   private String topicName;
 
-  public TestCaseActivity(FlowNode flowNode, MultiInstanceLoopCharacteristics multiInstance) {
+  public TestCaseActivity(BpmnNode flowNode) {
     this.flowNode = flowNode;
-    this.multiInstance = multiInstance;
 
     literal = BpmnSupport.toLiteral(flowNode.getId());
 
@@ -32,10 +27,6 @@ public class TestCaseActivity {
     type = TestCaseActivityType.OTHER;
   }
 
-  public <T extends FlowNode> T as(Class<T> type) {
-    return type.cast(flowNode);
-  }
-
   /**
    * Returns the code of the related error or escalation event.
    * 
@@ -56,6 +47,15 @@ public class TestCaseActivity {
     return eventName;
   }
 
+  /**
+   * Returns the flow node of the BPMN process graph.
+   * 
+   * @return The flow node.
+   */
+  public BpmnNode getFlowNode() {
+    return flowNode;
+  }
+
   /**
    * Returns the ID of the flow node.
    * 
@@ -76,10 +76,6 @@ public class TestCaseActivity {
     return literal;
   }
 
-  public MultiInstanceLoopCharacteristics getMultiInstance() {
-    return multiInstance;
-  }
-
   /**
    * Returns the next test activity.
    * 
@@ -111,7 +107,7 @@ public class TestCaseActivity {
   }
 
   public String getTypeName() {
-    return flowNode.getElementType().getTypeName();
+    return flowNode.getTypeName();
   }
 
   public boolean hasNext() {
@@ -123,11 +119,11 @@ public class TestCaseActivity {
   }
 
   public boolean isAsyncAfter() {
-    return type != TestCaseActivityType.EVENT_BASED_GATEWAY && flowNode.isCamundaAsyncAfter();
+    return type != TestCaseActivityType.EVENT_BASED_GATEWAY && flowNode.isAsyncAfter();
   }
 
   public boolean isAsyncBefore() {
-    return flowNode.isCamundaAsyncBefore();
+    return flowNode.isAsyncBefore();
   }
 
   public boolean isAttachedTo(TestCaseActivity activity) {
@@ -135,7 +131,11 @@ public class TestCaseActivity {
   }
 
   public boolean isMultiInstance() {
-    return multiInstance != null;
+    return flowNode.isMultiInstance();
+  }
+
+  public boolean isMultiInstanceSequential() {
+    return flowNode.isSequential();
   }
 
   public Boolean isProcessEnd() {
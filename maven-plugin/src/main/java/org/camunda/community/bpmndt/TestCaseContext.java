@@ -6,38 +6,36 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 
-import org.camunda.community.bpmndt.model.TestCase;
-
 public class TestCaseContext {
 
   private final BpmnSupport bpmnSupport;
 
   private final List<TestCaseActivity> activities;
   private final List<String> invalidFlowNodeIds;
-  private final TestCase testCase;
+  private final BpmnTestCase testCase;
   private final String testCaseName;
 
   private boolean duplicateName;
 
-  public TestCaseContext(BpmnSupport bpmnSupport, TestCase testCase) {
+  public TestCaseContext(BpmnSupport bpmnSupport, BpmnTestCase testCase) {
     this.bpmnSupport = bpmnSupport;
     this.testCase = testCase;
 
-    activities = new ArrayList<>(testCase.getPath().length());
+    List<String> flowNodeIds = testCase.getFlowNodeIds();
+
+    activities = new ArrayList<>(flowNodeIds.size());
     invalidFlowNodeIds = new LinkedList<>();
 
     // build test case name
     if (testCase.getName() != null) {
       testCaseName = BpmnSupport.toLiteral(testCase.getName());
-    } else if (testCase.getPath().length() >= 2) {
-      List<String> flowNodeIds = testCase.getPath().getFlowNodeIds();
-
+    } else if (flowNodeIds.size() >= 2) {
       String a = BpmnSupport.toLiteral(flowNodeIds.get(0));
       String b = BpmnSupport.toLiteral(flowNodeIds.get(flowNodeIds.size() - 1));
 
       testCaseName = String.format("%s__%s", a, b);
     } else {
-      testCaseName = testCase.getPath().length() == 0 ? "empty" : "incomplete";
+      testCaseName = flowNodeIds.isEmpty() ? "empty" : "incomplete";
     }
   }
 
@@ -124,11 +122,11 @@ public class TestCaseContext {
   }
 
   public boolean isPathEmpty() {
-    return testCase.getPath().length() == 0;
+    return testCase.getFlowNodeIds().isEmpty();
   }
 
   public boolean isPathIncomplete() {
-    return testCase.getPath().length() == 1;
+    return testCase.getFlowNodeIds().size() == 1;
   }
 
   public boolean isPathInvalid() {
@@ -14,11 +14,13 @@ import org.camunda.bpm.engine.ProcessEngines;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
 import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.repository.Deployment;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
 import org.camunda.bpm.engine.test.mock.Mocks;
 import org.camunda.community.bpmndt.api.cfg.BpmndtProcessEnginePlugin;
+import org.camunda.community.bpmndt.api.cfg.ProcessEngineRegistry;
 
 /**
  * Abstract superclass for test cases.
@@ -58,13 +60,23 @@ public abstract class AbstractTestCase<T extends AbstractTestCase<?>> {
       String message = String.format("Spring application context must provide a process engine with name '%s'", PROCESS_ENGINE_NAME);
       throw new IllegalStateException(message);
     }
-    if (processEngine == null) {
-      processEngine = buildProcessEngine();
+    if (processEngine == null || ProcessEngineRegistry.contains(processEngine)) {
+      // build process engine only once and reuse it for all test cases with the same plugins and history level
+      String key = ProcessEngineRegistry.keyOf(getProcessEnginePlugins(), getHistoryLevel());
+
+      Class<?> builderClass = getProcessEngineBuilderClass();
+      if (builderClass != AbstractTestCase.class) {
+        // process engine is built differently (e.g. with a differently configured BpmndtProcessEnginePlugin)
+        key = String.format("%s#%s", key, builderClass.getName());
+      }
+      processEngine = ProcessEngineRegistry.get(key, this::buildProcessEngine);
     }
 
     ProcessEngineTests.init(processEngine);
 
     instance = new TestCaseInstance();
+    instance.setActivityTraceEnabled(isActivityTraceEnabled());
+    instance.setDeploymentCacheEnabled(isDeploymentCacheEnabled());
     instance.setEnd(getEnd());
     instance.setProcessDefinitionKey(getProcessDefinitionKey());
     instance.setProcessEnd(isProcessEnd());
@@ -98,6 +110,9 @@ public abstract class AbstractTestCase<T extends AbstractTestCase<?>> {
 
   /**
    * Performs the teardown for an test case execution. This method must be invoked after each test!
+   * The process engine is not closed, but the BPMN resource is undeployed, which also deletes the
+   * runtime and history data of the test case. If the deployment is cached, only the process
+   * instances and their history are deleted.
    */
   protected void afterEach() {
     Mocks.reset();
@@ -122,15 +137,21 @@ public abstract class AbstractTestCase<T extends AbstractTestCase<?>> {
   /**
    * Builds the process engine, used to execute the test case. The method registers custom
    * {@link ProcessEnginePlugin}s as well as the {@link BpmndtProcessEnginePlugin}, which is required
-   * to configure a conform process engine.
+   * to configure a conform process engine. The method is called only once per JVM for each
+   * combination of custom process engine plugins, their configuration and history level, since built
+   * process engines are held by the {@link ProcessEngineRegistry}. A test case class, which overrides
+   * this method, does not share its process engine with other test case classes.
    * 
    * @return The built process engine.
    */
   protected ProcessEngine buildProcessEngine() {
     // must be added to a new list, since the provided list may not allow modifications
     List<ProcessEnginePlugin> processEnginePlugins = new LinkedList<>(getProcessEnginePlugins());
+    BpmndtProcessEnginePlugin bpmndtProcessEnginePlugin = new BpmndtProcessEnginePlugin();
+    bpmndtProcessEnginePlugin.setHistoryLevel(getHistoryLevel());
+
     // BPMN Driven Testing plugin must be added at last
-    processEnginePlugins.add(new BpmndtProcessEnginePlugin());
+    processEnginePlugins.add(bpmndtProcessEnginePlugin);
 
     ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
     processEngineConfiguration.setProcessEnginePlugins(processEnginePlugins);
@@ -192,6 +213,20 @@ public abstract class AbstractTestCase<T extends AbstractTestCase<?>> {
    */
   public abstract String getEnd();
 
+  /**
+   * Returns the history level of the process engine, used to execute the test case. A lower level
+   * reduces the history data, written during a test. If the level is
+   * {@link HistoryLevel#HISTORY_LEVEL_NONE}, assertions are done via the activity trace and runtime
+   * queries. This method returns {@link HistoryLevel#HISTORY_LEVEL_FULL}, if not overridden. Please
+   * note: If Spring based testing is enabled, the history level is determined by the
+   * {@code SpringConfiguration}.
+   * 
+   * @return The history level.
+   */
+  protected HistoryLevel getHistoryLevel() {
+    return HistoryLevel.HISTORY_LEVEL_FULL;
+  }
+
   /**
    * Returns the key of the process definition that is tested.
    * 
@@ -208,6 +243,23 @@ public abstract class AbstractTestCase<T extends AbstractTestCase<?>> {
     return instance.getProcessEngine();
   }
 
+  /**
+   * Returns the class, which declares the {@link #buildProcessEngine()} method that is used.
+   * 
+   * @return {@link AbstractTestCase} or a subclass, which overrides the method.
+   */
+  private Class<?> getProcessEngineBuilderClass() {
+    for (Class<?> type = getClass(); type != AbstractTestCase.class; type = type.getSuperclass()) {
+      try {
+        type.getDeclaredMethod("buildProcessEngine");
+        return type;
+      } catch (NoSuchMethodException e) {
+        // not overridden by this class
+      }
+    }
+    return AbstractTestCase.class;
+  }
+
   /**
    * Provides custom {@link ProcessEnginePlugin}s to be registered when the process engine is built.
    * By default, this method return an empty list. It can be overridden by any extending class.
@@ -227,6 +279,30 @@ public abstract class AbstractTestCase<T extends AbstractTestCase<?>> {
    */
   public abstract String getStart();
 
+  /**
+   * Determines if the activity trace, which is recorded in memory, is used to assert that the process
+   * instance has passed or is waiting at an activity. If disabled or if an activity has not been
+   * traced as passed or waiting, the assertion is done via history and runtime queries. This method
+   * returns {@code true}, if not overridden.
+   * 
+   * @return {@code true}, if the activity trace is used. Otherwise {@code false}.
+   */
+  protected boolean isActivityTraceEnabled() {
+    return true;
+  }
+
+  /**
+   * Determines if the deployment of the BPMN resource can be reused by subsequent test cases with the
+   * same BPMN resource, tenant ID and end activity. If enabled, only the process instances are deleted
+   * after each test, so that the BPMN model is parsed, instrumented and persisted only once. This
+   * method returns {@code true}, if not overridden.
+   * 
+   * @return {@code true}, if the deployment can be reused. Otherwise {@code false}.
+   */
+  protected boolean isDeploymentCacheEnabled() {
+    return true;
+  }
+
   /**
    * Determines if Spring based testing is enabled or not. This method returns {@code false}, if not
    * overridden.
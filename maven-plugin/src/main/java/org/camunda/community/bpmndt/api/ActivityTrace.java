@@ -0,0 +1,83 @@
+package org.camunda.community.bpmndt.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.camunda.community.bpmndt.api.cfg.BpmndtParseListener;
+
+/**
+ * In-memory trace of a process instance, which counts how often the activities have been started
+ * and ended. The trace is recorded by execution listeners, which are added by the
+ * {@link BpmndtParseListener}, and updated when a transaction is committed. It allows handlers to
+ * determine the state of an activity without querying the history.
+ */
+public class ActivityTrace {
+
+  /** ID of the deployment, the process instance belongs to. */
+  private final String deploymentId;
+
+  private final Map<String, Integer> startCounts;
+  private final Map<String, Integer> endCounts;
+
+  public ActivityTrace(String deploymentId) {
+    this.deploymentId = deploymentId;
+
+    startCounts = new HashMap<>();
+    endCounts = new HashMap<>();
+  }
+
+  /**
+   * Records the end of an activity.
+   *
+   * @param activityId The ID of the activity (e.g. {@code userTask#multiInstanceBody}).
+   */
+  public synchronized void end(String activityId) {
+    endCounts.merge(activityId, 1, Integer::sum);
+  }
+
+  public String getDeploymentId() {
+    return deploymentId;
+  }
+
+  /**
+   * Returns how often the given activity has been ended.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return The end count.
+   */
+  public synchronized int getEndCount(String activityId) {
+    return endCounts.getOrDefault(activityId, 0);
+  }
+
+  /**
+   * Returns how often the given activity has been started.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return The start count.
+   */
+  public synchronized int getStartCount(String activityId) {
+    return startCounts.getOrDefault(activityId, 0);
+  }
+
+  /**
+   * Determines if the given activity is active - has been started more often than it has been ended.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return {@code true}, if the activity is active. Otherwise {@code false}.
+   */
+  public synchronized boolean isActive(String activityId) {
+    return getStartCount(activityId) > getEndCount(activityId);
+  }
+
+  /**
+   * Records the start of an activity.
+   *
+   * @param activityId The ID of the activity (e.g. {@code userTask#multiInstanceBody}).
+   */
+  public synchronized void start(String activityId) {
+    startCounts.merge(activityId, 1, Integer::sum);
+  }
+}
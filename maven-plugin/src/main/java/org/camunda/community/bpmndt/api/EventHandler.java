@@ -1,5 +1,6 @@
 package org.camunda.community.bpmndt.api;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -14,6 +15,7 @@ import org.camunda.bpm.engine.test.assertions.bpmn.ProcessInstanceAssert;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.community.bpmndt.api.cfg.WaitStateIndex;
 
 /**
  * Fluent API to handle conditional, message and signal intermediate catch or boundary events.<br>
@@ -44,15 +46,7 @@ public class EventHandler {
   }
 
   protected void apply(ProcessInstance pi) {
-    RuntimeService runtimeService = processEngine.getRuntimeService();
-
-    EventSubscriptionQuery eventSubscriptionQuery = runtimeService.createEventSubscriptionQuery().activityId(activityId);
-
-    if (eventName != null) {
-      eventSubscriptionQuery.eventName(eventName);
-    }
-
-    EventSubscription eventSubscription = eventSubscriptionQuery.singleResult();
+    EventSubscription eventSubscription = findEventSubscription(pi);
     if (eventSubscription == null) {
       throw new AssertionError(String.format("No event subscription found for activity '%s'", activityId));
     }
@@ -119,6 +113,40 @@ public class EventHandler {
     }
   }
 
+  /**
+   * Finds the event subscription of the activity, using the {@link WaitStateIndex}. If the index is
+   * disabled or does not provide exactly one event subscription, the event subscription is queried.
+   * 
+   * @param pi The related process instance.
+   * 
+   * @return The event subscription or {@code null}, if no event subscription exists.
+   */
+  private EventSubscription findEventSubscription(ProcessInstance pi) {
+    WaitStateIndex waitStateIndex = WaitStateIndex.find(processEngine);
+    if (waitStateIndex != null) {
+      List<EventSubscription> eventSubscriptions = waitStateIndex.getEventSubscriptions(processEngine, pi.getId(), activityId);
+      if (eventName != null) {
+        eventSubscriptions.removeIf((eventSubscription) -> !eventName.equals(eventSubscription.getEventName()));
+      }
+
+      if (eventSubscriptions.size() == 1) {
+        return eventSubscriptions.get(0);
+      }
+    }
+
+    RuntimeService runtimeService = processEngine.getRuntimeService();
+
+    EventSubscriptionQuery eventSubscriptionQuery = runtimeService.createEventSubscriptionQuery()
+        .processInstanceId(pi.getId())
+        .activityId(activityId);
+
+    if (eventName != null) {
+      eventSubscriptionQuery.eventName(eventName);
+    }
+
+    return eventSubscriptionQuery.singleResult();
+  }
+
   /**
    * Verifies the events's waiting state.
    * 
@@ -7,7 +7,7 @@ import java.util.function.Consumer;
 
 import org.camunda.bpm.engine.ExternalTaskService;
 import org.camunda.bpm.engine.ProcessEngine;
-import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.externaltask.ExternalTask;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
 import org.camunda.bpm.engine.test.assertions.bpmn.ProcessInstanceAssert;
@@ -34,7 +34,11 @@ public class ExternalTaskHandler {
 
   private BiConsumer<ProcessInstanceAssert, String> verifier;
 
-  private Consumer<String> action;
+  /**
+   * Action, which handles the external task of the given process instance. The process instance is
+   * passed per call, since the handler is shared by all threads of a repeated execution.
+   */
+  private BiConsumer<ProcessInstance, String> action;
 
   public ExternalTaskHandler(ProcessEngine processEngine, String activityId, String topicName) {
     this.processEngine = processEngine;
@@ -53,13 +57,13 @@ public class ExternalTaskHandler {
     }
 
     if (action != null) {
-      action.accept(topicName);
+      action.accept(pi, topicName);
     }
   }
 
   /**
-   * Completes the external task with an action that fetches/locks the task and calls
-   * {@code complete}.
+   * Completes the external task with an action that locks the task of the process instance and
+   * calls {@code complete}.
    *
    * @see ExternalTaskService#complete(String, String, java.util.Map, java.util.Map)
    */
@@ -67,8 +71,8 @@ public class ExternalTaskHandler {
     action = this::complete;
   }
 
-  protected void complete(String topicName) {
-    LockedExternalTask externalTask = fetchAndLock();
+  protected void complete(ProcessInstance pi, String topicName) {
+    ExternalTask externalTask = lock(pi);
     processEngine.getExternalTaskService().complete(externalTask.getId(), WORKER_ID, variables, localVariables);
   }
 
@@ -97,25 +101,37 @@ public class ExternalTaskHandler {
    * @param action A specific action that accepts the related topic name (String).
    */
   public void execute(Consumer<String> action) {
-    this.action = action;
+    this.action = action != null ? (pi, topicName) -> action.accept(topicName) : null;
   }
-  
-  private LockedExternalTask fetchAndLock() {
+
+  /**
+   * Locks the external task of the given process instance. Since fetch and lock cannot be restricted
+   * to a process instance, the task is queried by process instance ID and locked afterwards, so that
+   * concurrent executions of a test case do not lock each other's external tasks.
+   * 
+   * @param pi The process instance, the external task belongs to.
+   * 
+   * @return The locked external task.
+   */
+  private ExternalTask lock(ProcessInstance pi) {
     ExternalTaskService externalTaskService = processEngine.getExternalTaskService();
 
-    List<LockedExternalTask> externalTasks = externalTaskService.fetchAndLock(1, WORKER_ID)
-        .topic(topicName, TimeUnit.SECONDS.toMillis(60L))
-        .execute();
+    List<ExternalTask> externalTasks = externalTaskService.createExternalTaskQuery()
+        .processInstanceId(pi.getId())
+        .topicName(topicName)
+        .list();
 
     if (externalTasks.isEmpty()) {
       throw new AssertionError(String.format("Expected to fetch at least one external task for topic '%s'", topicName));
     }
 
-    LockedExternalTask externalTask = externalTasks.get(0);
+    ExternalTask externalTask = externalTasks.get(0);
     if (!externalTask.getActivityId().equals(activityId)) {
       throw new AssertionError(String.format("Expected to fetch at least one external task for activity '%s'", activityId));
     }
 
+    externalTaskService.lock(externalTask.getId(), WORKER_ID, TimeUnit.SECONDS.toMillis(60L));
+
     return externalTask;
   }
 
@@ -136,8 +152,8 @@ public class ExternalTaskHandler {
     action = this::handleBpmnError;
   }
 
-  protected void handleBpmnError(String topicName) {
-    LockedExternalTask externalTask = fetchAndLock();
+  protected void handleBpmnError(ProcessInstance pi, String topicName) {
+    ExternalTask externalTask = lock(pi);
     processEngine.getExternalTaskService().handleBpmnError(externalTask.getId(), WORKER_ID, errorCode, errorMessage, variables);
   }
 
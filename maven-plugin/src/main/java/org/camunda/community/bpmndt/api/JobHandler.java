@@ -11,6 +11,7 @@ import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
 import org.camunda.bpm.engine.test.assertions.bpmn.JobAssert;
 import org.camunda.bpm.engine.test.assertions.bpmn.ProcessInstanceAssert;
+import org.camunda.community.bpmndt.api.cfg.WaitStateIndex;
 
 /**
  * Fluent API to handle jobs (asynchronous continuation and timer catch events).
@@ -48,7 +49,7 @@ public class JobHandler {
   }
 
   protected void apply(ProcessInstance pi) {
-    List<Job> jobs = ProcessEngineTests.jobQuery().processInstanceId(pi.getId()).activityId(activityId).list();
+    List<Job> jobs = findJobs(pi);
 
     if (cardinality == Cardinality.ONE && jobs.size() != 1) {
       throw new AssertionError(String.format("Expected exactly one job for activity '%s'", activityId));
@@ -59,9 +60,19 @@ public class JobHandler {
     } else if ((cardinality == Cardinality.ZERO_TO_ONE || cardinality == Cardinality.ZERO_TO_N) && jobs.isEmpty()) {
       return;
     }
-    
-    Job job = jobs.get(0);
 
+    apply(pi, jobs.get(0));
+  }
+
+  /**
+   * Verifies and handles the given job, which has already been queried - e.g. in the context of a
+   * batched parallel multi instance execution.
+   * 
+   * @param pi The related process instance.
+   * 
+   * @param job The job to handle.
+   */
+  protected void apply(ProcessInstance pi, Job job) {
     if (verifier != null) {
       verifier.accept(ProcessEngineTests.assertThat(pi), ProcessEngineTests.assertThat(job));
     }
@@ -110,6 +121,26 @@ public class JobHandler {
     processEngine.getManagementService().executeJob(job.getId());
   }
 
+  /**
+   * Finds the jobs of the activity, using the {@link WaitStateIndex}. If the index is disabled or
+   * does not provide any job, the jobs are queried.
+   * 
+   * @param pi The related process instance.
+   * 
+   * @return A list of jobs.
+   */
+  private List<Job> findJobs(ProcessInstance pi) {
+    WaitStateIndex waitStateIndex = WaitStateIndex.find(processEngine);
+    if (waitStateIndex != null) {
+      List<Job> jobs = waitStateIndex.getJobs(processEngine, pi.getId(), activityId);
+      if (!jobs.isEmpty()) {
+        return jobs;
+      }
+    }
+
+    return ProcessEngineTests.jobQuery().processInstanceId(pi.getId()).activityId(activityId).list();
+  }
+
   /**
    * Verifies the job's waiting state.
    * 
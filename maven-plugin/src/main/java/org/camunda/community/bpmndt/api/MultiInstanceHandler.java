@@ -9,8 +9,13 @@ import org.camunda.bpm.engine.ActivityTypes;
 import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.impl.bpmn.behavior.MultiInstanceActivityBehavior;
+import org.camunda.bpm.engine.runtime.ActivityInstance;
+import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.runtime.VariableInstance;
 import org.camunda.community.bpmndt.api.JobHandler.Cardinality;
+import org.camunda.community.bpmndt.api.cfg.WaitStateIndex;
 
 /**
  * Fluent API for multi instance activites (call activities or tasks). This class does not support
@@ -39,6 +44,9 @@ public class MultiInstanceHandler<T extends MultiInstanceHandler<?, ?>, U> {
   private Integer loopCount;
   private Boolean sequential;
 
+  /** Determines if the loops of a parallel multi instance are executed as batch. */
+  private boolean batch;
+
   public MultiInstanceHandler(TestCaseInstance instance, String activityId) {
     this.instance = instance;
     this.activityId = activityId;
@@ -56,13 +64,17 @@ public class MultiInstanceHandler<T extends MultiInstanceHandler<?, ?>, U> {
     }
 
     int loopIndex = 0;
-    while (!isEnded(pi)) {
-      boolean shouldContinue = apply(pi, loopIndex);
+    if (batch && !isSequential() && isBatchSupported()) {
+      loopIndex = applyBatch(pi);
+    } else {
+      while (!isEnded(pi)) {
+        boolean shouldContinue = apply(pi, loopIndex);
 
-      loopIndex++;
+        loopIndex++;
 
-      if (!shouldContinue) {
-        break;
+        if (!shouldContinue) {
+          break;
+        }
       }
     }
 
@@ -90,6 +102,42 @@ public class MultiInstanceHandler<T extends MultiInstanceHandler<?, ?>, U> {
     return true;
   }
 
+  /**
+   * Applies all loops of a parallel multi instance as batch. The asynchronous continuation jobs
+   * before and after the activity are fetched with one query each, instead of one query per loop.
+   * The handlers and verifiers of the individual loop indices are applied on the jobs, whose execution
+   * provides the related loop counter - regardless of the order, the jobs have been fetched.
+   * 
+   * @param pi The process instance, used to execute the test case.
+   * 
+   * @return The number of executed loops.
+   */
+  protected int applyBatch(ProcessInstance pi) {
+    List<Job> jobsBefore = findJobs(pi);
+    if (jobsBefore.isEmpty()) {
+      throw new AssertionError(String.format("Expected at least one job for activity '%s'", activityId));
+    }
+
+    Map<String, Integer> loopCounters = findLoopCounters(pi);
+    for (Job job : jobsBefore) {
+      getHandlerBefore(getLoopIndex(loopCounters, job)).apply(pi, job);
+    }
+
+    List<Job> jobsAfter = findJobs(pi);
+
+    loopCounters = findLoopCounters(pi);
+    for (Job job : jobsAfter) {
+      if (isEnded(pi)) {
+        // a completion condition may end the scope, before all loops are completed
+        break;
+      }
+
+      getHandlerAfter(getLoopIndex(loopCounters, job)).apply(pi, job);
+    }
+
+    return jobsBefore.size();
+  }
+
   /**
    * Creates a new activity handler. Please note: This method will be overridden by generated multi
    * instance handler classes.
@@ -144,6 +192,56 @@ public class MultiInstanceHandler<T extends MultiInstanceHandler<?, ?>, U> {
     return (T) this;
   }
 
+  /**
+   * Executes the loops of a parallel multi instance as batch, which requires only one job query for
+   * all asynchronous continuations before and one for all asynchronous continuations after the
+   * activity. Please note: Batch execution is only supported for activities, which are not wait
+   * states (e.g. service tasks). Otherwise or in case of sequential multi instances, the loops are
+   * executed one by one.
+   * 
+   * @return The handler.
+   */
+  @SuppressWarnings("unchecked")
+  public T executeBatch() {
+    this.batch = true;
+    return (T) this;
+  }
+
+  private List<Job> findJobs(ProcessInstance pi) {
+    WaitStateIndex waitStateIndex = WaitStateIndex.find(getProcessEngine());
+    if (waitStateIndex != null) {
+      List<Job> jobs = waitStateIndex.getJobs(getProcessEngine(), pi.getId(), activityId);
+      if (!jobs.isEmpty()) {
+        return jobs;
+      }
+    }
+
+    return getProcessEngine().getManagementService().createJobQuery()
+        .processInstanceId(pi.getId())
+        .activityId(activityId)
+        .list();
+  }
+
+  /**
+   * Finds the loop counters of all executions of the given process instance with one query.
+   * 
+   * @param pi The process instance, used to execute the test case.
+   * 
+   * @return The loop counters, mapped by execution ID.
+   */
+  private Map<String, Integer> findLoopCounters(ProcessInstance pi) {
+    Map<String, Integer> loopCounters = new HashMap<>();
+    for (VariableInstance variable : getProcessEngine().getRuntimeService().createVariableInstanceQuery()
+        .processInstanceIdIn(pi.getId())
+        .variableName(MultiInstanceActivityBehavior.LOOP_COUNTER)
+        .list()) {
+      if (variable.getValue() instanceof Integer) {
+        loopCounters.put(variable.getExecutionId(), (Integer) variable.getValue());
+      }
+    }
+    return loopCounters;
+  }
+
   protected U getHandler(int loopIndex) {
     return handlers.getOrDefault(loopIndex, handleDefault());
   }
@@ -156,6 +254,30 @@ public class MultiInstanceHandler<T extends MultiInstanceHandler<?, ?>, U> {
     return handlersBefore.getOrDefault(loopIndex, handleBeforeDefault());
   }
 
+  /**
+   * Returns the loop index of the given job, which is the loop counter of the job's execution. If the
+   * execution does not provide the loop counter itself (e.g. in case of a scope activity), it is
+   * resolved via the execution hierarchy.
+   * 
+   * @param loopCounters The loop counters, mapped by execution ID.
+   * 
+   * @param job An asynchronous continuation job of the activity.
+   * 
+   * @return The loop index.
+   */
+  private int getLoopIndex(Map<String, Integer> loopCounters, Job job) {
+    Integer loopCounter = loopCounters.get(job.getExecutionId());
+    if (loopCounter != null) {
+      return loopCounter;
+    }
+
+    Object value = getProcessEngine().getRuntimeService().getVariable(job.getExecutionId(), MultiInstanceActivityBehavior.LOOP_COUNTER);
+    if (!(value instanceof Integer)) {
+      throw new AssertionError(String.format("Expected job of activity '%s' to provide a loop counter", activityId));
+    }
+    return (Integer) value;
+  }
+
   protected ProcessEngine getProcessEngine() {
     return instance.getProcessEngine();
   }
@@ -229,13 +351,26 @@ public class MultiInstanceHandler<T extends MultiInstanceHandler<?, ?>, U> {
   }
 
   /**
-   * Checks if the multi instance scope is ended or not.
+   * Checks if the multi instance scope is ended or not. The state is determined using the activity
+   * trace of the process instance, which avoids a history query per loop. If the scope has not been
+   * traced, the history is queried or - if the history is disabled - the activity instance tree of
+   * the process instance.
    * 
    * @param pi The related process instance.
    * 
    * @return {@code true}, if the multi instance scope is ended. Otherwise {@code false}.
    */
   protected boolean isEnded(ProcessInstance pi) {
+    ActivityTrace trace = instance.getActivityTrace(pi);
+    if (trace != null && trace.getStartCount(scopeId) != 0) {
+      return !trace.isActive(scopeId);
+    }
+
+    if (!instance.isHistoryEnabled()) {
+      return isEndedAtRuntime(pi);
+    }
+
+    // fall back to history, if the scope has not been traced
     HistoryService historyService = getProcessEngine().getHistoryService();
 
     List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery()
@@ -256,6 +391,27 @@ public class MultiInstanceHandler<T extends MultiInstanceHandler<?, ?>, U> {
     return historicActivityInstances.get(0).getEndTime() != null;
   }
 
+  private boolean isEndedAtRuntime(ProcessInstance pi) {
+    ActivityInstance activityInstance = getProcessEngine().getRuntimeService().getActivityInstance(pi.getId());
+    if (activityInstance == null) {
+      // process instance is ended
+      return true;
+    }
+
+    return activityInstance.getActivityInstances(scopeId).length == 0 && activityInstance.getTransitionInstances(scopeId).length == 0;
+  }
+
+  /**
+   * Determines if the loops can be executed as batch. Please note: If the activity requires a
+   * handler (e.g. user task or call activity), this method will be overridden by generated multi
+   * instance handler classes.
+   * 
+   * @return {@code true}, if a batch execution is supported. Otherwise {@code false}.
+   */
+  protected boolean isBatchSupported() {
+    return true;
+  }
+
   /**
    * Determines if the multi instance loop is sequentially executed or not. Please note: If the multi
    * instance loop is defined as parallel, this method will be overridden by generated multi instance
@@ -1,5 +1,14 @@
 package org.camunda.community.bpmndt.api;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.camunda.bpm.engine.ProcessEngineException;
@@ -12,6 +21,7 @@ import org.camunda.bpm.engine.test.mock.Mocks;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.community.bpmndt.api.cfg.WaitStateIndex;
 
 /**
  * Fluent API to prepare and start the actual test case execution.
@@ -59,18 +69,7 @@ public class TestCaseExecutor {
    * @return The newly created process instance.
    */
   public ProcessInstance execute() {
-    // find process definition of related deployment
-    ProcessDefinition pd = instance.getProcessEngine().getRepositoryService()
-        .createProcessDefinitionQuery()
-        .deploymentId(instance.getDeploymentId())
-        .processDefinitionKey(instance.getProcessDefinitionKey())
-        .singleResult();
-
-    ProcessInstance pi = instance.getProcessEngine().getRuntimeService().createProcessInstanceById(pd.getId())
-        .businessKey(businessKey)
-        .setVariables(variables)
-        .startBeforeActivity(instance.getStart())
-        .execute();
+    ProcessInstance pi = start(findProcessDefinition());
 
     execute(pi);
 
@@ -91,6 +90,10 @@ public class TestCaseExecutor {
     // announce process instance
     instance.setProcessInstance(pi);
 
+    executeAndVerify(pi);
+  }
+
+  private void executeAndVerify(ProcessInstance pi) {
     try {
       executor.accept(pi);
     } catch (ProcessEngineException e) {
@@ -127,6 +130,142 @@ public class TestCaseExecutor {
     return pi;
   }
 
+  /**
+   * Executes the test case repeatedly, using the given number of threads. Each execution creates a
+   * new process instance, which is driven by the same test case logic - so that generated test cases
+   * can be used as load scenarios for delegates and listeners. Failed executions do not abort the
+   * run, but are reported per activity.<br>
+   * Please note: All executions share the handlers of the test case, which should therefore be
+   * customized before.
+   * 
+   * <pre>
+   * TestCaseLoadResult result = tc.createExecutor().executeRepeated(1000, 8);
+   * assertThat(result.getFailures()).isEmpty();
+   * </pre>
+   * 
+   * @param instances The number of process instances to execute.
+   * 
+   * @param concurrency The number of threads, executing process instances at the same time.
+   * 
+   * @return The result, providing throughput, latency percentiles and failures per activity.
+   */
+  public TestCaseLoadResult executeRepeated(int instances, int concurrency) {
+    if (instances < 1) {
+      throw new IllegalArgumentException("Number of instances must be greater than 0");
+    }
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be greater than 0");
+    }
+
+    ProcessDefinition pd = findProcessDefinition();
+
+    // beans are registered per thread and must be available for all threads
+    Map<String, Object> beans = new HashMap<>(Mocks.getMocks());
+
+    TestCaseLoadResult result = new TestCaseLoadResult(instances, concurrency);
+
+    AtomicInteger threadCount = new AtomicInteger();
+    ExecutorService executorService = Executors.newFixedThreadPool(Math.min(instances, concurrency), (runnable) -> {
+      Thread thread = new Thread(runnable, String.format("bpmndt-load-%d", threadCount.incrementAndGet()));
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    long start = System.nanoTime();
+
+    try {
+      List<Future<?>> futures = new ArrayList<>(instances);
+      for (int i = 0; i < instances; i++) {
+        int index = i;
+        futures.add(executorService.submit(() -> executeRepeated(pd, beans, result, index)));
+      }
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Repeated execution has been interrupted", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Repeated execution failed", e.getCause());
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    result.finish(System.nanoTime() - start);
+
+    return result;
+  }
+
+  private void executeRepeated(ProcessDefinition pd, Map<String, Object> beans, TestCaseLoadResult result, int index) {
+    ProcessEngineTests.init(instance.getProcessEngine());
+    beans.forEach(Mocks::register);
+
+    long start = System.nanoTime();
+
+    ProcessInstance pi = null;
+    try {
+      pi = start(pd);
+
+      instance.setThreadProcessInstance(pi);
+
+      executeAndVerify(pi);
+
+      result.success(index, System.nanoTime() - start);
+    } catch (Exception | AssertionError e) {
+      result.failure(index, System.nanoTime() - start, findFailedActivity(pi), e);
+    } finally {
+      instance.setThreadProcessInstance(null);
+
+      WaitStateIndex waitStateIndex = WaitStateIndex.find(instance.getProcessEngine());
+      if (waitStateIndex != null && pi != null) {
+        waitStateIndex.remove(pi.getId());
+      }
+
+      Mocks.reset();
+      ProcessEngineTests.reset();
+    }
+  }
+
+  /**
+   * Determines the activity, a failed process instance is waiting at.
+   * 
+   * @param pi The process instance or {@code null}, if it could not be created.
+   * 
+   * @return The ID of the activity or activities (comma separated), the start activity or
+   *         {@link TestCaseLoadResult#PROCESS_ENDED}.
+   */
+  private String findFailedActivity(ProcessInstance pi) {
+    if (pi == null) {
+      return instance.getStart();
+    }
+
+    RuntimeService runtimeService = instance.getProcessEngine().getRuntimeService();
+    if (runtimeService.createProcessInstanceQuery().processInstanceId(pi.getId()).count() == 0) {
+      return TestCaseLoadResult.PROCESS_ENDED;
+    }
+
+    List<String> activityIds = runtimeService.getActiveActivityIds(pi.getId());
+    return activityIds.isEmpty() ? instance.getStart() : String.join(",", activityIds);
+  }
+
+  private ProcessDefinition findProcessDefinition() {
+    // find process definition of related deployment
+    return instance.getProcessEngine().getRepositoryService()
+        .createProcessDefinitionQuery()
+        .deploymentId(instance.getDeploymentId())
+        .processDefinitionKey(instance.getProcessDefinitionKey())
+        .singleResult();
+  }
+
+  private ProcessInstance start(ProcessDefinition pd) {
+    return instance.getProcessEngine().getRuntimeService().createProcessInstanceById(pd.getId())
+        .businessKey(businessKey)
+        .setVariables(variables)
+        .startBeforeActivity(instance.getStart())
+        .execute();
+  }
+
   /**
    * Unwraps and throws a possible {@link AssertionError} in case of a failed assertion within a
    * {@link CallActivityHandler}'s verifier. If not unwrapped, a test will be marked as an error,
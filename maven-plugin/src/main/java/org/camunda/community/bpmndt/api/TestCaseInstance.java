@@ -1,18 +1,45 @@
 package org.camunda.community.bpmndt.api;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.camunda.bpm.engine.HistoryService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.exception.DeploymentResourceNotFoundException;
+import org.camunda.bpm.engine.impl.RepositoryServiceImpl;
 import org.camunda.bpm.engine.impl.bpmn.behavior.CallActivityBehavior;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParse;
+import org.camunda.bpm.engine.impl.bpmn.parser.EventSubscriptionDeclaration;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.pvm.ReadOnlyProcessDefinition;
 import org.camunda.bpm.engine.impl.pvm.delegate.ActivityExecution;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.camunda.bpm.engine.impl.util.ReflectUtil;
 import org.camunda.bpm.engine.repository.Deployment;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.repository.ProcessDefinitionQuery;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
 import org.camunda.community.bpmndt.api.cfg.BpmndtParseListener;
+import org.camunda.community.bpmndt.api.cfg.WaitStateIndex;
 
 /**
  * Link between test case and it's execution, utilizing a process instance that was instantiated by
@@ -24,6 +51,9 @@ public class TestCaseInstance {
   /** Name of the process engine to use. */
   public static final String PROCESS_ENGINE_NAME = "bpmndt";
 
+  /** Deployments, which can be reused by test cases - per process engine. */
+  private static final Map<ProcessEngine, DeploymentCache> DEPLOYMENT_CACHES = new WeakHashMap<>();
+
   private final Map<String, CallActivityHandler> callActivityHandlerMap;
 
   private ProcessEngine processEngine;
@@ -36,65 +66,154 @@ public class TestCaseInstance {
 
   private boolean processEnd;
 
+  /** Determines if assertions can be done against the activity trace. */
+  private boolean activityTraceEnabled = true;
+
   /** ID of BPMN resource deployment. */
   private String deploymentId;
+  /** Determines if a deployment of a previous test case can be reused. */
+  private boolean deploymentCacheEnabled = true;
+  /** Key of a cached deployment, which must not be deleted, when the test case is finished. */
+  private String deploymentKey;
 
   private String tenantId;
 
   private ProcessInstance pi;
+  /** Process instance of the current thread, if the test case is executed repeatedly. */
+  private final ThreadLocal<ProcessInstance> threadPi = new ThreadLocal<>();
+  /** IDs of all process instances, the test case has been executed with. */
+  private final Set<String> processInstanceIds = ConcurrentHashMap.newKeySet();
 
   public TestCaseInstance() {
     callActivityHandlerMap = new HashMap<>(4);
   }
 
   public void apply(EventHandler handler) {
-    handler.apply(pi);
+    handler.apply(getProcessInstance());
   }
 
   public void apply(ExternalTaskHandler handler) {
-    handler.apply(pi);
+    handler.apply(getProcessInstance());
   }
 
   public void apply(JobHandler handler) {
-    handler.apply(pi);
+    handler.apply(getProcessInstance());
   }
 
   public void apply(MultiInstanceHandler<?, ?> handler) {
-    handler.apply(pi);
+    handler.apply(getProcessInstance());
   }
 
   public void apply(UserTaskHandler handler) {
-    handler.apply(pi);
+    handler.apply(getProcessInstance());
   }
 
   protected void deploy(String deploymentName, InputStream bpmnResource) {
-    this.register();
+    String resourceName = String.format("%s.bpmn", getProcessDefinitionKey());
+    deploy(deploymentName, resourceName, readBpmnResource(resourceName, bpmnResource));
+  }
 
+  protected void deploy(String deploymentName, String bpmnResourceName) {
+    InputStream bpmnResource = ReflectUtil.getResourceAsStream(bpmnResourceName);
+    deploy(deploymentName, bpmnResourceName, readBpmnResource(bpmnResourceName, bpmnResource));
+  }
+
+  /**
+   * Deploys the given BPMN resource or reuses an existing deployment, if a test case with the same
+   * BPMN resource and the same instrumentation inputs (tenant ID, end activity and process end) has
+   * already been deployed - regardless of the deployment name, so that test case classes share the
+   * deployment. Reusing a deployment avoids that the BPMN model is parsed, instrumented and persisted
+   * again for each test. A cached deployment is only reused, if it is still the latest version of its
+   * process definition. Since a deployment is used by one test case at a time, a new deployment is
+   * created, if all cached deployments are in use - duplicate filtering must not be enabled, since it
+   * would return a deployment, which is in use.
+   * 
+   * @param deploymentName The name of the deployment.
+   * 
+   * @param resourceName The name of the BPMN resource.
+   * 
+   * @param bpmnResource The content of the BPMN resource.
+   */
+  private void deploy(String deploymentName, String resourceName, byte[] bpmnResource) {
     RepositoryService repositoryService = processEngine.getRepositoryService();
 
-    Deployment deployment = repositoryService.createDeployment()
-        .name(deploymentName)
-        .addInputStream(String.format("%s.bpmn", getProcessDefinitionKey()), bpmnResource)
-        .enableDuplicateFiltering(false)
-        .tenantId(tenantId)
-        .deploy();
+    deploymentKey = deploymentCacheEnabled ? keyOf(resourceName, bpmnResource) : null;
 
-    deploymentId = deployment.getId();
-  }
+    DeploymentCache deploymentCache = getDeploymentCache();
 
-  protected void deploy(String deploymentName, String bpmnResourceName) {
-    this.register();
+    deploymentId = deploymentKey != null ? deploymentCache.acquire(deploymentKey, this::isReusable, this::deleteDeployment) : null;
+    if (deploymentId == null) {
+      this.register();
+
+      Deployment deployment;
+      try {
+        deployment = deploymentCache.deploy(() -> repositoryService.createDeployment()
+            .name(deploymentName)
+            .addInputStream(resourceName, new ByteArrayInputStream(bpmnResource))
+            .tenantId(tenantId)
+            .deploy());
+      } finally {
+        findParseListener().ifPresent((parseListener) -> parseListener.setDeployingInstance(null));
+      }
+
+      deploymentId = deployment.getId();
+
+      if (deploymentKey != null && hasStartEvents(deploymentId)) {
+        // processes, which could be started by other callers, are never cached
+        deploymentKey = null;
+      }
+      if (deploymentKey != null) {
+        deploymentCache.add(deploymentId);
+      }
+    }
 
+    findParseListener().ifPresent((parseListener) -> parseListener.registerInstance(deploymentId, this));
+  }
+
+  /**
+   * Deletes the given deployment, including all process instances and their history, if it still
+   * exists.
+   * 
+   * @param deploymentId The ID of the deployment.
+   */
+  private void deleteDeployment(String deploymentId) {
     RepositoryService repositoryService = processEngine.getRepositoryService();
+    if (repositoryService.createDeploymentQuery().deploymentId(deploymentId).count() != 0) {
+      repositoryService.deleteDeployment(deploymentId, true, true, true);
+    }
 
-    Deployment deployment = repositoryService.createDeployment()
-        .name(deploymentName)
-        .addClasspathResource(bpmnResourceName)
-        .enableDuplicateFiltering(false)
-        .tenantId(tenantId)
-        .deploy();
+    findParseListener().ifPresent((parseListener) -> parseListener.deregisterDeployment(deploymentId));
+  }
 
-    deploymentId = deployment.getId();
+  /**
+   * Deletes the process instances, the test case has been executed with, including their history, so
+   * that the cached deployment can be reused by the next test case. Process instances, which have been
+   * started otherwise, are not deleted - they prevent the reuse of the deployment.
+   * 
+   * @see #hasProcessInstances(String)
+   */
+  private void deleteProcessInstances() {
+    if (processInstanceIds.isEmpty()) {
+      return;
+    }
+
+    // copy, since the query parameter must be accessible by MyBatis
+    Set<String> ids = new HashSet<>(processInstanceIds);
+
+    List<String> runningIds = new LinkedList<>();
+    for (ProcessInstance processInstance : processEngine.getRuntimeService().createProcessInstanceQuery().processInstanceIds(ids).list()) {
+      runningIds.add(processInstance.getId());
+    }
+
+    if (!runningIds.isEmpty()) {
+      processEngine.getRuntimeService().deleteProcessInstances(runningIds, null, true, true);
+    }
+
+    if (isHistoryEnabled()) {
+      processEngine.getHistoryService().deleteHistoricProcessInstancesIfExists(new LinkedList<>(ids));
+    }
+
+    processInstanceIds.clear();
   }
 
   /**
@@ -120,7 +239,7 @@ public class TestCaseInstance {
     if (handler == null) {
       return true;
     } else {
-      return handler.execute(pi, execution, behavior);
+      return handler.execute(getProcessInstance(), execution, behavior);
     }
   }
 
@@ -134,6 +253,24 @@ public class TestCaseInstance {
         .findFirst();
   }
 
+  private DeploymentCache getDeploymentCache() {
+    synchronized (DEPLOYMENT_CACHES) {
+      return DEPLOYMENT_CACHES.computeIfAbsent(processEngine, (key) -> new DeploymentCache());
+    }
+  }
+
+  /**
+   * Returns the activity trace of the given process instance, which is recorded by the
+   * {@link BpmndtParseListener}.
+   * 
+   * @param pi A process instance.
+   * 
+   * @return The trace or {@code null}, if no trace is available.
+   */
+  public ActivityTrace getActivityTrace(ProcessInstance pi) {
+    return findParseListener().map((parseListener) -> parseListener.getActivityTrace(pi.getId())).orElse(null);
+  }
+
   public String getDeploymentId() {
     return deploymentId;
   }
@@ -146,6 +283,17 @@ public class TestCaseInstance {
     return processDefinitionKey;
   }
 
+  /**
+   * Returns the process instance, the test case is executed with. If the test case is executed
+   * repeatedly, the process instance of the current thread is returned.
+   * 
+   * @return The process instance or {@code null}, if the execution has not been started yet.
+   */
+  private ProcessInstance getProcessInstance() {
+    ProcessInstance threadPi = this.threadPi.get();
+    return threadPi != null ? threadPi : pi;
+  }
+
   public ProcessEngine getProcessEngine() {
     return processEngine;
   }
@@ -154,22 +302,240 @@ public class TestCaseInstance {
     return start;
   }
 
+  /**
+   * Asserts that the process instance has passed the given activity. If the activity trace records
+   * the activity as ended, no query is needed. Otherwise the assertion is done via
+   * {@code assertThat(pi).hasPassed(activityId)}, which queries the history. If the history is
+   * disabled, the activity trace is the only source and is used, even if not enabled.
+   * 
+   * @param pi The related process instance.
+   * 
+   * @param activityId The ID of the activity.
+   */
+  public void hasPassed(ProcessInstance pi, String activityId) {
+    boolean historyEnabled = isHistoryEnabled();
+
+    ActivityTrace trace = activityTraceEnabled || !historyEnabled ? getActivityTrace(pi) : null;
+    if (trace != null && trace.getEndCount(activityId) != 0) {
+      return;
+    }
+
+    if (!historyEnabled) {
+      String message = "Expecting process instance %s to have passed activity '%s', but it has not been traced as passed";
+      throw new AssertionError(String.format(message, pi.getId(), activityId));
+    }
+
+    ProcessEngineTests.assertThat(pi).hasPassed(activityId);
+  }
+
+  /**
+   * Determines if the process engine records the history of activity instances, which is the case for
+   * all history levels, except {@link HistoryLevel#HISTORY_LEVEL_NONE}.
+   * 
+   * @return {@code true}, if the history is enabled. Otherwise {@code false}.
+   */
+  public boolean isHistoryEnabled() {
+    ProcessEngineConfigurationImpl processEngineConfiguration =
+        (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+
+    HistoryLevel historyLevel = processEngineConfiguration.getHistoryLevel();
+    return historyLevel != null && historyLevel.getId() != HistoryLevel.HISTORY_LEVEL_NONE.getId();
+  }
+
+  /**
+   * Asserts that the process instance is waiting at the given activity. If the activity trace records
+   * the activity as active, no query is needed. Otherwise the assertion is done via
+   * {@code assertThat(pi).isWaitingAt(activityId)}, which queries the runtime. Since asynchronous
+   * continuations wait outside of the activity, pending jobs are looked up in the
+   * {@link WaitStateIndex}, before the runtime is queried.
+   * 
+   * @param pi The related process instance.
+   * 
+   * @param activityId The ID of the activity.
+   */
+  public void isWaitingAt(ProcessInstance pi, String activityId) {
+    ActivityTrace trace = activityTraceEnabled ? getActivityTrace(pi) : null;
+    if (trace != null && trace.isActive(activityId)) {
+      return;
+    }
+
+    WaitStateIndex waitStateIndex = activityTraceEnabled ? WaitStateIndex.find(processEngine) : null;
+    if (waitStateIndex != null && !waitStateIndex.getJobs(processEngine, pi.getId(), activityId).isEmpty()) {
+      // asynchronous continuation or timer
+      return;
+    }
+
+    ProcessEngineTests.assertThat(pi).isWaitingAt(activityId);
+  }
+
   public boolean isProcessEnd() {
     return processEnd;
   }
 
+  /**
+   * Determines if the given deployment still has process instances or historic process instances -
+   * e.g. because a test started further process instances, which are not known to the test case.
+   * 
+   * @param deploymentId The ID of a cached deployment.
+   * 
+   * @return {@code true}, if process instances exist. Otherwise {@code false}.
+   */
+  private boolean hasProcessInstances(String deploymentId) {
+    if (processEngine.getRuntimeService().createProcessInstanceQuery().deploymentId(deploymentId).count() != 0) {
+      return true;
+    }
+    if (!isHistoryEnabled()) {
+      return false;
+    }
+
+    HistoryService historyService = processEngine.getHistoryService();
+    for (ProcessDefinition processDefinition : processEngine.getRepositoryService().createProcessDefinitionQuery().deploymentId(deploymentId).list()) {
+      if (historyService.createHistoricProcessInstanceQuery().processDefinitionId(processDefinition.getId()).count() != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Determines if the given cached deployment can be kept and reused by the next test case. This is
+   * only the case, if the deployment still exists and no other deployment (e.g. an annotation based
+   * deployment or a deployment of a hand-written test) provides a version of the same key, since it
+   * would be shadowed by the instrumented process definition. Other cached deployments of the same key
+   * (e.g. created by test cases, which are executed in parallel) are allowed, since a test case starts
+   * the process definition of its own deployment.
+   * 
+   * @param deploymentId The ID of a cached deployment.
+   * 
+   * @return {@code true}, if the deployment can be reused. Otherwise {@code false}.
+   */
+  private boolean isReusable(String deploymentId) {
+    RepositoryService repositoryService = processEngine.getRepositoryService();
+
+    List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).list();
+    if (processDefinitions.isEmpty()) {
+      // deleted in the meantime
+      return false;
+    }
+
+    DeploymentCache deploymentCache = getDeploymentCache();
+    for (ProcessDefinition processDefinition : processDefinitions) {
+      ProcessDefinitionQuery query = repositoryService.createProcessDefinitionQuery().processDefinitionKey(processDefinition.getKey());
+      if (processDefinition.getTenantId() != null) {
+        query.tenantIdIn(processDefinition.getTenantId());
+      } else {
+        query.withoutTenantId();
+      }
+
+      List<ProcessDefinition> versions;
+      try {
+        versions = query.list();
+      } catch (DeploymentResourceNotFoundException e) {
+        // version is deleted by another test case in the meantime
+        return false;
+      }
+
+      for (ProcessDefinition version : versions) {
+        if (!deploymentCache.contains(version.getDeploymentId())) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Determines if a process definition of the given deployment can be started by other callers - via
+   * a message, signal or conditional start event or a timer start event. Such deployments are never
+   * cached. Since this is determined once per new deployment, the parsed process definitions are
+   * inspected instead of querying event subscriptions and jobs.
+   * 
+   * @param deploymentId The ID of a new deployment.
+   * 
+   * @return {@code true}, if a process definition has such a start event. Otherwise {@code false}.
+   */
+  private boolean hasStartEvents(String deploymentId) {
+    RepositoryServiceImpl repositoryService = (RepositoryServiceImpl) processEngine.getRepositoryService();
+
+    for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).list()) {
+      ReadOnlyProcessDefinition deployedProcessDefinition = repositoryService.getDeployedProcessDefinition(processDefinition.getId());
+
+      boolean hasEventSubscriptions = EventSubscriptionDeclaration.getDeclarationsForScope(deployedProcessDefinition).values().stream()
+          .anyMatch(EventSubscriptionDeclaration::isStartEvent);
+
+      List<?> startTimers = (List<?>) deployedProcessDefinition.getProperty(BpmnParse.PROPERTYNAME_START_TIMER);
+
+      if (hasEventSubscriptions || (startTimers != null && !startTimers.isEmpty())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Builds the deployment cache key from the BPMN resource and all inputs, which have an impact on the
+   * BPMN model instrumentation. The deployment name is not part of the key, so that test case classes
+   * with the same BPMN resource and instrumentation share a deployment.
+   * 
+   * @param resourceName The name of the BPMN resource.
+   * 
+   * @param bpmnResource The content of the BPMN resource.
+   * 
+   * @return The cache key.
+   */
+  private String keyOf(String resourceName, byte[] bpmnResource) {
+    MessageDigest messageDigest;
+    try {
+      messageDigest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("SHA-256 algorithm is not available", e);
+    }
+
+    messageDigest.update(bpmnResource);
+
+    StringBuilder sb = new StringBuilder();
+    for (byte b : messageDigest.digest()) {
+      sb.append(String.format("%02x", b));
+    }
+
+    sb.append(';').append(resourceName);
+    sb.append(';').append(tenantId);
+    sb.append(';').append(processDefinitionKey);
+    sb.append(';').append(end);
+    sb.append(';').append(processEnd);
+    return sb.toString();
+  }
+
+  private byte[] readBpmnResource(String resourceName, InputStream bpmnResource) {
+    if (bpmnResource == null) {
+      throw new IllegalArgumentException(String.format("BPMN resource '%s' could not be found", resourceName));
+    }
+    return IoUtil.readInputStream(bpmnResource, resourceName);
+  }
+
   /**
    * Registers the test case instance by providing a reference to the {@link BpmndtParseListener} that
-   * is used during BPMN model parsing.
+   * is used during BPMN model parsing. The parse listener keeps the instance for the new deployment,
+   * so that the BPMN model is instrumented in the same way, when it is parsed again by another thread.
    */
   protected void register() {
-    findParseListener().ifPresent((parseListener) -> parseListener.setInstance(this));
+    findParseListener().ifPresent((parseListener) -> parseListener.setDeployingInstance(this));
   }
 
   protected void registerCallActivityHandler(String activityId, CallActivityHandler handler) {
     callActivityHandlerMap.put(activityId, handler);
   }
 
+  protected void setActivityTraceEnabled(boolean activityTraceEnabled) {
+    this.activityTraceEnabled = activityTraceEnabled;
+  }
+
+  protected void setDeploymentCacheEnabled(boolean deploymentCacheEnabled) {
+    this.deploymentCacheEnabled = deploymentCacheEnabled;
+  }
+
   protected void setEnd(String end) {
     this.end = end;
   }
@@ -188,6 +554,10 @@ public class TestCaseInstance {
 
   protected void setProcessInstance(ProcessInstance pi) {
     this.pi = pi;
+
+    if (pi != null) {
+      processInstanceIds.add(pi.getId());
+    }
   }
 
   protected void setStart(String start) {
@@ -198,9 +568,27 @@ public class TestCaseInstance {
     this.tenantId = tenantId;
   }
 
+  /**
+   * Binds the given process instance to the current thread or removes the binding, if {@code null}
+   * is provided. This allows several threads to execute the test case with their own process
+   * instance at the same time.
+   * 
+   * @param pi The process instance of the current thread.
+   */
+  protected void setThreadProcessInstance(ProcessInstance pi) {
+    if (pi != null) {
+      threadPi.set(pi);
+      processInstanceIds.add(pi.getId());
+    } else {
+      threadPi.remove();
+    }
+  }
+
   protected void undeploy() {
     // deregister instance
-    findParseListener().ifPresent((parseListener) -> parseListener.setInstance(null));
+    if (deploymentId != null) {
+      findParseListener().ifPresent((parseListener) -> parseListener.deregisterInstance(deploymentId));
+    }
 
     callActivityHandlerMap.clear();
 
@@ -208,6 +596,127 @@ public class TestCaseInstance {
       return;
     }
 
-    processEngine.getRepositoryService().deleteDeployment(deploymentId, true, true, true);
+    if (deploymentKey != null) {
+      // the deployment is not used by other test cases - see DeploymentCache
+      deleteProcessInstances();
+    }
+
+    if (deploymentKey != null && isReusable(deploymentId) && !hasProcessInstances(deploymentId)) {
+      // keep deployment for the next test case
+      getDeploymentCache().release(deploymentKey, deploymentId);
+    } else {
+      if (deploymentKey != null) {
+        getDeploymentCache().remove(deploymentId);
+      }
+
+      deleteDeployment(deploymentId);
+    }
+
+    // remove traces, after the process instances have been deleted
+    findParseListener().ifPresent((parseListener) -> parseListener.removeActivityTraces(deploymentId));
+
+    WaitStateIndex waitStateIndex = WaitStateIndex.find(processEngine);
+    if (waitStateIndex != null && pi != null) {
+      waitStateIndex.remove(pi.getId());
+    }
+  }
+
+  /**
+   * Cache, which maps keys, built from a BPMN resource and its instrumentation inputs, to the IDs of
+   * reusable deployments. A deployment can only be used by one test case at a time - when tests are
+   * executed in parallel, each thread will end up with its own deployment.
+   */
+  private static class DeploymentCache {
+
+    /** IDs of deployments, which are currently not used by a test case - mapped by key. */
+    private final Map<String, Deque<String>> available = new HashMap<>();
+
+    /** IDs of all deployments, which are managed by the cache - used or not. */
+    private final Set<String> deploymentIds = new HashSet<>();
+
+    /**
+     * Acquires a cached deployment, which is not used by another test case and is still reusable.
+     * Deployments, which are not reusable anymore, are removed from the cache and deleted.
+     * 
+     * @param key The cache key.
+     * 
+     * @param reusable Determines if a deployment can be reused.
+     * 
+     * @param delete Deletes a deployment, which is not reusable anymore.
+     * 
+     * @return The ID of the deployment or {@code null}, if no deployment can be reused.
+     */
+    synchronized String acquire(String key, Predicate<String> reusable, Consumer<String> delete) {
+      Deque<String> availableIds = available.getOrDefault(key, new ArrayDeque<>(0));
+
+      while (!availableIds.isEmpty()) {
+        String deploymentId = availableIds.pop();
+
+        if (reusable.test(deploymentId)) {
+          return deploymentId;
+        }
+
+        // e.g. deleted in the meantime or not the latest version anymore
+        deploymentIds.remove(deploymentId);
+        delete.accept(deploymentId);
+      }
+
+      return null;
+    }
+
+    /**
+     * Adds a new deployment, which is used by a test case, to the cache.
+     * 
+     * @param deploymentId The ID of the deployment.
+     */
+    synchronized void add(String deploymentId) {
+      if (!deploymentIds.add(deploymentId)) {
+        throw new IllegalStateException(String.format("Deployment %s is already cached", deploymentId));
+      }
+    }
+
+    /**
+     * Performs a new deployment. Since the process engine does not lock deployments, when H2 is used,
+     * the deployments of a process engine are serialized - otherwise test cases, which are executed in
+     * parallel, could deploy the same process definition key with the same version.
+     * 
+     * @param deployer Performs the deployment.
+     * 
+     * @return The new deployment.
+     */
+    synchronized Deployment deploy(Supplier<Deployment> deployer) {
+      return deployer.get();
+    }
+
+    /**
+     * Determines if the given deployment is managed by the cache.
+     * 
+     * @param deploymentId The ID of a deployment.
+     * 
+     * @return {@code true}, if the deployment is cached. Otherwise {@code false}.
+     */
+    synchronized boolean contains(String deploymentId) {
+      return deploymentIds.contains(deploymentId);
+    }
+
+    /**
+     * Releases a deployment, so that it can be reused by the next test case.
+     * 
+     * @param key The cache key.
+     * 
+     * @param deploymentId The ID of the deployment.
+     */
+    synchronized void release(String key, String deploymentId) {
+      available.computeIfAbsent(key, (k) -> new ArrayDeque<>()).push(deploymentId);
+    }
+
+    /**
+     * Removes a deployment, which is deleted, from the cache.
+     * 
+     * @param deploymentId The ID of the deployment.
+     */
+    synchronized void remove(String deploymentId) {
+      deploymentIds.remove(deploymentId);
+    }
   }
 }
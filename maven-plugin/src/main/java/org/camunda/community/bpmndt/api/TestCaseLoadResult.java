@@ -0,0 +1,173 @@
+package org.camunda.community.bpmndt.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of a repeated test case execution, providing the throughput, the latency percentiles and
+ * the failures per activity.
+ *
+ * @see TestCaseExecutor#executeRepeated(int, int)
+ */
+public class TestCaseLoadResult {
+
+  /** Activity ID, under which failures are reported, if the process instance has already been ended. */
+  public static final String PROCESS_ENDED = "<processEnded>";
+
+  private final int instances;
+  private final int concurrency;
+
+  /** Latency of each execution in nanoseconds - indexed by execution. */
+  private final long[] latencies;
+
+  /** Number of failures - mapped by activity ID. */
+  private final Map<String, Integer> failures = new TreeMap<>();
+  /** First failure - mapped by activity ID. */
+  private final Map<String, Throwable> firstFailures = new HashMap<>();
+
+  private long duration;
+
+  private long[] sortedLatencies;
+
+  protected TestCaseLoadResult(int instances, int concurrency) {
+    this.instances = instances;
+    this.concurrency = concurrency;
+
+    latencies = new long[instances];
+  }
+
+  /**
+   * Records a failed execution.
+   *
+   * @param index The index of the execution.
+   *
+   * @param latency The latency in nanoseconds.
+   *
+   * @param activityId The ID of the activity, where the failure occurred.
+   *
+   * @param failure The failure.
+   */
+  protected synchronized void failure(int index, long latency, String activityId, Throwable failure) {
+    latencies[index] = latency;
+
+    failures.merge(activityId, 1, Integer::sum);
+    firstFailures.putIfAbsent(activityId, failure);
+  }
+
+  /**
+   * Records the overall duration, after all executions have been finished.
+   *
+   * @param duration The duration in nanoseconds.
+   */
+  protected synchronized void finish(long duration) {
+    this.duration = duration;
+
+    sortedLatencies = latencies.clone();
+    Arrays.sort(sortedLatencies);
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Returns the overall duration of the repeated execution.
+   *
+   * @return The duration in milliseconds.
+   */
+  public synchronized long getDuration() {
+    return TimeUnit.NANOSECONDS.toMillis(duration);
+  }
+
+  /**
+   * Returns the first failure, which occurred at the given activity.
+   *
+   * @param activityId The ID of an activity.
+   *
+   * @return The failure or {@code null}, if no failure occurred at the activity.
+   */
+  public synchronized Throwable getFailure(String activityId) {
+    return firstFailures.get(activityId);
+  }
+
+  /**
+   * Returns the total number of failed executions.
+   *
+   * @return The number of failures.
+   */
+  public synchronized int getFailureCount() {
+    return failures.values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  /**
+   * Returns the number of failures per activity. The activity is the activity, the process instance
+   * was waiting at, when the failure occurred - the start activity, if the process instance could
+   * not be created or {@link #PROCESS_ENDED}, if the process instance has already been ended.
+   *
+   * @return An unmodifiable map of failure counts, sorted by activity ID.
+   */
+  public synchronized Map<String, Integer> getFailures() {
+    return Collections.unmodifiableMap(new TreeMap<>(failures));
+  }
+
+  public int getInstances() {
+    return instances;
+  }
+
+  /**
+   * Returns the latency percentile of the executions, including the failed ones.
+   *
+   * @param percentile A percentile between 0 and 100 - e.g. {@code 99}.
+   *
+   * @return The latency in milliseconds.
+   */
+  public synchronized double getLatency(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    if (sortedLatencies == null || sortedLatencies.length == 0) {
+      return 0;
+    }
+
+    int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+    return sortedLatencies[Math.max(index, 0)] / 1_000_000d;
+  }
+
+  /**
+   * Returns the number of executions per second.
+   *
+   * @return The throughput.
+   */
+  public synchronized double getThroughput() {
+    return duration > 0 ? instances / (duration / 1_000_000_000d) : 0;
+  }
+
+  /**
+   * Records a successful execution.
+   *
+   * @param index The index of the execution.
+   *
+   * @param latency The latency in nanoseconds.
+   */
+  protected synchronized void success(int index, long latency) {
+    latencies[index] = latency;
+  }
+
+  @Override
+  public synchronized String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("instances: %d, concurrency: %d, duration: %d ms, throughput: %.1f/s%n", instances, concurrency, getDuration(),
+        getThroughput()));
+    sb.append(String.format("latency: p50=%.2f ms, p90=%.2f ms, p99=%.2f ms, max=%.2f ms%n", getLatency(50), getLatency(90), getLatency(99),
+        getLatency(100)));
+    sb.append(String.format("failures: %d", getFailureCount()));
+
+    failures.forEach((activityId, count) -> sb.append(String.format("%n  %s: %d", activityId, count)));
+
+    return sb.toString();
+  }
+}
@@ -0,0 +1,135 @@
+package org.camunda.community.bpmndt.api;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+
+/**
+ * Plan of a test case, consisting of {@link TestCaseStep}s, which are executed one after another.
+ * If the step plan generation is enabled, a test case provides its path as a static plan, instead of
+ * a generated {@code execute} method with several statements per activity. This keeps the generated
+ * classes small - regardless of the path length.<br>
+ * Handlers are resolved via the handler methods of the test case (e.g. {@code handleUserTask()}),
+ * using the method names of the apply steps - so that lazily created handlers are initialized.
+ */
+public class TestCasePlan {
+
+  private final TestCaseStep[] steps;
+
+  /** Handler methods of the apply steps - per test case class. */
+  private final Map<Class<?>, Method[]> methods = new ConcurrentHashMap<>(2);
+
+  /**
+   * Creates a new plan.
+   *
+   * @param steps The steps as strings (see {@link TestCaseStep#parse(String)}).
+   */
+  public TestCasePlan(String... steps) {
+    this.steps = new TestCaseStep[steps.length];
+
+    for (int i = 0; i < steps.length; i++) {
+      this.steps[i] = TestCaseStep.parse(steps[i]);
+    }
+  }
+
+  private void apply(TestCaseInstance instance, Object handler, TestCaseStep step) {
+    if (handler instanceof UserTaskHandler) {
+      instance.apply((UserTaskHandler) handler);
+    } else if (handler instanceof JobHandler) {
+      instance.apply((JobHandler) handler);
+    } else if (handler instanceof EventHandler) {
+      instance.apply((EventHandler) handler);
+    } else if (handler instanceof ExternalTaskHandler) {
+      instance.apply((ExternalTaskHandler) handler);
+    } else if (handler instanceof MultiInstanceHandler) {
+      instance.apply((MultiInstanceHandler<?, ?>) handler);
+    } else {
+      throw new IllegalStateException(String.format("Step '%s' refers to an unsupported handler: %s", step, handler));
+    }
+  }
+
+  /**
+   * Executes the plan.
+   *
+   * @param instance The test case instance.
+   *
+   * @param testCase The test case, providing the handlers.
+   *
+   * @param pi The process instance, created for the test case.
+   */
+  public void execute(TestCaseInstance instance, Object testCase, ProcessInstance pi) {
+    Method[] handlerMethods = methods.computeIfAbsent(testCase.getClass(), this::findMethods);
+
+    for (int i = 0; i < steps.length; i++) {
+      TestCaseStep step = steps[i];
+
+      switch (step.getType()) {
+        case APPLY:
+          apply(instance, getHandler(handlerMethods[i], testCase), step);
+          break;
+        case HAS_PASSED:
+          instance.hasPassed(pi, step.getValue());
+          break;
+        case IS_WAITING_AT:
+          instance.isWaitingAt(pi, step.getValue());
+          break;
+        default:
+          throw new IllegalStateException(String.format("Unsupported step '%s'", step));
+      }
+    }
+  }
+
+  private Method findMethod(Class<?> testCaseClass, String name) {
+    // search hierarchy, since a generated test case can be extended
+    for (Class<?> type = testCaseClass; type != null; type = type.getSuperclass()) {
+      try {
+        Method method = type.getDeclaredMethod(name);
+        method.setAccessible(true);
+        return method;
+      } catch (NoSuchMethodException e) {
+        // continue with superclass
+      }
+    }
+
+    throw new IllegalStateException(String.format("Test case %s has no handler method '%s'", testCaseClass.getName(), name));
+  }
+
+  private Method[] findMethods(Class<?> testCaseClass) {
+    Method[] handlerMethods = new Method[steps.length];
+    for (int i = 0; i < steps.length; i++) {
+      if (steps[i].getType() == TestCaseStep.Type.APPLY) {
+        handlerMethods[i] = findMethod(testCaseClass, steps[i].getValue());
+      }
+    }
+    return handlerMethods;
+  }
+
+  private Object getHandler(Method method, Object testCase) {
+    try {
+      return method.invoke(testCase);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(String.format("Handler method '%s' could not be accessed", method.getName()), e);
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new RuntimeException(String.format("Handler method '%s' failed", method.getName()), cause);
+    }
+  }
+
+  /**
+   * Returns the steps of the plan.
+   *
+   * @return An array of steps.
+   */
+  public TestCaseStep[] getSteps() {
+    return steps.clone();
+  }
+}
@@ -0,0 +1,114 @@
+package org.camunda.community.bpmndt.api;
+
+/**
+ * Single step of a {@link TestCasePlan}: either an assertion, that the process instance has passed
+ * or is waiting at an activity, or the application of an activity handler. A step is written as
+ * type and value, separated by a space - e.g. {@code isWaitingAt userTask} or
+ * {@code apply handleUserTask}.
+ */
+public class TestCaseStep {
+
+  /**
+   * Creates a step, which applies the handler that is returned by the test case method with the given
+   * name.
+   *
+   * @param handler The name of the handler method.
+   *
+   * @return The step.
+   */
+  public static TestCaseStep apply(String handler) {
+    return new TestCaseStep(Type.APPLY, handler);
+  }
+
+  /**
+   * Creates a step, which asserts that the process instance has passed the given activity.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return The step.
+   */
+  public static TestCaseStep hasPassed(String activityId) {
+    return new TestCaseStep(Type.HAS_PASSED, activityId);
+  }
+
+  /**
+   * Creates a step, which asserts that the process instance is waiting at the given activity.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return The step.
+   */
+  public static TestCaseStep isWaitingAt(String activityId) {
+    return new TestCaseStep(Type.IS_WAITING_AT, activityId);
+  }
+
+  /**
+   * Parses a step from its string representation.
+   *
+   * @param step The step as string - e.g. {@code hasPassed startEvent}.
+   *
+   * @return The parsed step.
+   *
+   * @throws IllegalArgumentException If the step is invalid.
+   */
+  public static TestCaseStep parse(String step) {
+    int index = step != null ? step.indexOf(' ') : -1;
+    if (index == -1) {
+      throw new IllegalArgumentException(String.format("Invalid step '%s'", step));
+    }
+
+    String name = step.substring(0, index);
+    String value = step.substring(index + 1);
+
+    for (Type type : Type.values()) {
+      if (type.name.equals(name)) {
+        return new TestCaseStep(type, value);
+      }
+    }
+
+    throw new IllegalArgumentException(String.format("Invalid step '%s': unsupported type '%s'", step, name));
+  }
+
+  private final Type type;
+  private final String value;
+
+  private TestCaseStep(Type type, String value) {
+    this.type = type;
+    this.value = value;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Returns the value of the step, which is the name of a handler method or an activity ID -
+   * depending on the type.
+   *
+   * @return The value.
+   */
+  public String getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s %s", type.name, value);
+  }
+
+  public enum Type {
+
+    /** Applies a handler. */
+    APPLY("apply"),
+    /** Asserts that an activity has been passed. */
+    HAS_PASSED("hasPassed"),
+    /** Asserts that the process instance is waiting at an activity. */
+    IS_WAITING_AT("isWaitingAt");
+
+    private final String name;
+
+    private Type(String name) {
+      this.name = name;
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package org.camunda.community.bpmndt.api;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -13,6 +15,7 @@ import org.camunda.bpm.engine.test.assertions.bpmn.TaskAssert;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.community.bpmndt.api.cfg.WaitStateIndex;
 
 /**
  * Fluent API to handle user tasks.
@@ -42,7 +45,7 @@ public class UserTaskHandler {
   }
 
   protected void apply(ProcessInstance pi) {
-    Task task = ProcessEngineTests.task(activityId, pi);
+    Task task = findTask(pi);
 
     if (verifier != null) {
       verifier.accept(ProcessEngineTests.assertThat(pi), ProcessEngineTests.assertThat(task));
@@ -94,6 +97,25 @@ public class UserTaskHandler {
     this.action = action;
   }
 
+  /**
+   * Finds the pending user task, using the {@link WaitStateIndex}. If the index is disabled or does
+   * not provide exactly one task, the task is queried.
+   * 
+   * @param pi The related process instance.
+   * 
+   * @return The user task.
+   */
+  private Task findTask(ProcessInstance pi) {
+    WaitStateIndex waitStateIndex = WaitStateIndex.find(processEngine);
+
+    List<Task> tasks = waitStateIndex != null ? waitStateIndex.getTasks(processEngine, pi.getId(), activityId) : Collections.emptyList();
+    if (tasks.size() == 1) {
+      return tasks.get(0);
+    }
+
+    return ProcessEngineTests.task(activityId, pi);
+  }
+
   /**
    * Continues the execution with an action that calls {@code handleBpmnError} using the given error
    * code and message.
@@ -1,15 +1,23 @@
 package org.camunda.community.bpmndt.api.cfg;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.camunda.bpm.engine.ActivityTypes;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
 import org.camunda.bpm.engine.impl.bpmn.behavior.CallActivityBehavior;
 import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.camunda.bpm.engine.impl.pvm.delegate.ActivityExecution;
 import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
 import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
 import org.camunda.bpm.engine.impl.util.xml.Element;
+import org.camunda.community.bpmndt.api.ActivityTrace;
 import org.camunda.community.bpmndt.api.TestCaseInstance;
 
 /**
@@ -18,14 +26,53 @@ import org.camunda.community.bpmndt.api.TestCaseInstance;
  * 1. Overrides {@link CallActivityBehavior}s to make test cases independent of sub processes.
  * 
  * 2. Enables asynchronous continuation for multi instance activities.
+ * 
+ * 3. Traces the start and end of all activities, so that handlers can determine the state of an
+ * activity without querying the history.
  */
 public class BpmndtParseListener extends AbstractBpmnParseListener {
 
   /** Activity ID suffix of multi instance scopes. */
   private static final String MULTI_INSTANCE_SCOPE_SUFFIX = "#" + ActivityTypes.MULTI_INSTANCE_BODY;
 
-  /** The current test case instance. */
-  private TestCaseInstance instance;
+  /**
+   * Test case instance, which is currently deploying its BPMN resource. Since the ID of a new
+   * deployment is not known before the BPMN model is parsed, the instance is bound to the deploying
+   * thread, until the deployment is registered.
+   */
+  private final ThreadLocal<TestCaseInstance> deployingInstance = new ThreadLocal<>();
+
+  /**
+   * Test case instances, which provide the instrumentation inputs (e.g. the end activity) of a
+   * deployment - mapped by deployment ID. The mapping is kept as long as the deployment exists, so that
+   * a BPMN model, which is parsed again (e.g. after an eviction from the process engine's deployment
+   * cache), is instrumented in the same way - regardless of the parsing thread.
+   */
+  private final Map<String, TestCaseInstance> deployments = new ConcurrentHashMap<>();
+
+  /** Test case instances, which use a deployment - mapped by deployment ID. */
+  private final Map<String, TestCaseInstance> instances = new ConcurrentHashMap<>();
+
+  /** Activity traces of process instances - mapped by process instance ID. */
+  private final Map<String, ActivityTrace> traces = new ConcurrentHashMap<>();
+
+  /**
+   * Deregisters a deployment, which has been deleted.
+   * 
+   * @param deploymentId The ID of the deployment.
+   */
+  public void deregisterDeployment(String deploymentId) {
+    deployments.remove(deploymentId);
+  }
+
+  /**
+   * Deregisters the test case instance, which uses the given deployment.
+   * 
+   * @param deploymentId The ID of the deployment.
+   */
+  public void deregisterInstance(String deploymentId) {
+    instances.remove(deploymentId);
+  }
 
   protected String extractActivityId(String activityId) {
     if (activityId.endsWith(MULTI_INSTANCE_SCOPE_SUFFIX)) {
@@ -53,19 +100,73 @@ public class BpmndtParseListener extends AbstractBpmnParseListener {
     return null;
   }
 
+  /**
+   * Resolves the test case instance, which provides the instrumentation inputs of the given deployment.
+   * If the deployment is not registered yet, it is performed by the test case instance of the current
+   * thread - in this case the deployment is registered.
+   * 
+   * @param deploymentId The ID of the deployment, which is parsed.
+   * 
+   * @return The test case instance or {@code null}, if the deployment is not related to a test case.
+   */
+  protected TestCaseInstance findInstance(String deploymentId) {
+    TestCaseInstance instance = deploymentId != null ? deployments.get(deploymentId) : null;
+    if (instance != null) {
+      return instance;
+    }
+
+    instance = deployingInstance.get();
+    if (instance != null && deploymentId != null) {
+      deployments.put(deploymentId, instance);
+    }
+
+    return instance;
+  }
+
+  private TestCaseInstance findInstance(ScopeImpl scope) {
+    return findInstance(((ProcessDefinitionEntity) scope.getProcessDefinition()).getDeploymentId());
+  }
+
+  /**
+   * Returns the activity trace of the given process instance.
+   * 
+   * @param processInstanceId The ID of the process instance.
+   * 
+   * @return The trace or {@code null}, if no activity of the process instance has been traced.
+   */
+  public ActivityTrace getActivityTrace(String processInstanceId) {
+    return traces.get(processInstanceId);
+  }
+
+  /**
+   * Instruments the given activities and all nested activities (e.g. within sub processes or multi
+   * instance bodies) by adding built-in execution listeners, which record the activity's start and
+   * end.
+   * 
+   * @param activities A list of activities.
+   */
+  protected void instrumentActivityTrace(List<ActivityImpl> activities) {
+    for (ActivityImpl activity : activities) {
+      activity.addBuiltInListener(ExecutionListener.EVENTNAME_START, new ActivityTraceListener(this, activity.getId(), true));
+      activity.addBuiltInListener(ExecutionListener.EVENTNAME_END, new ActivityTraceListener(this, activity.getId(), false));
+
+      instrumentActivityTrace(activity.getActivities());
+    }
+  }
+
   /**
    * Instruments the call activity by overriding it's behavior to allow isolated testing.
    * 
    * @param activity The current activity.
    */
   protected void instrumentCallActivity(ActivityImpl activity) {
-    if (instance == null) {
+    if (findInstance(activity) == null) {
       return;
     }
 
     CallActivityBehavior behavior = (CallActivityBehavior) activity.getActivityBehavior();
 
-    activity.setActivityBehavior(new CustomCallActivityBehavior(instance, behavior));
+    activity.setActivityBehavior(new CustomCallActivityBehavior(this, behavior));
 
     // needed to verify the state before the call activity is executed
     // otherwise the process instance may not be available yet
@@ -75,10 +176,12 @@ public class BpmndtParseListener extends AbstractBpmnParseListener {
   /**
    * Instruments the end activity, if it does not end the process.
    * 
+   * @param instance The test case instance, which provides the end activity.
+   * 
    * @param activities A list of activities, which should also contain the end activity.
    */
-  protected void instrumentEndActivity(List<ActivityImpl> activities) {
-    if (instance == null || instance.isProcessEnd()) {
+  protected void instrumentEndActivity(TestCaseInstance instance, List<ActivityImpl> activities) {
+    if (instance.isProcessEnd()) {
       return;
     }
 
@@ -96,7 +199,7 @@ public class BpmndtParseListener extends AbstractBpmnParseListener {
    * @param activity The current activity.
    */
   protected void instrumentMultiInstanceActivity(ScopeImpl scope, ActivityImpl activity) {
-    if (instance == null) {
+    if (findInstance(scope) == null) {
       return;
     }
 
@@ -124,9 +227,15 @@ public class BpmndtParseListener extends AbstractBpmnParseListener {
 
   @Override
   public void parseProcess(Element processElement, ProcessDefinitionEntity processDefinition) {
-    instrumentEndActivity(processDefinition.getActivities());
+    TestCaseInstance instance = findInstance(processDefinition.getDeploymentId());
+    if (instance == null) {
+      return;
+    }
+
+    instrumentEndActivity(instance, processDefinition.getActivities());
+    instrumentActivityTrace(processDefinition.getActivities());
   }
-  
+
   @Override
   public void parseScriptTask(Element scriptTaskElement, ScopeImpl scope, ActivityImpl activity) {
     instrumentMultiInstanceActivity(scope, activity);
@@ -153,12 +262,74 @@ public class BpmndtParseListener extends AbstractBpmnParseListener {
   }
 
   /**
-   * Sets a reference to the related test case instance.
+   * Registers the test case instance, which uses the given deployment. Since deployments can be
+   * reused by multiple test cases, stubbed call activities must resolve the test case instance at
+   * execution time.
+   * 
+   * @param deploymentId The ID of the deployment.
    * 
    * @param instance The related instance.
    */
-  public void setInstance(TestCaseInstance instance) {
-    this.instance = instance;
+  public void registerInstance(String deploymentId, TestCaseInstance instance) {
+    instances.put(deploymentId, instance);
+  }
+
+  /**
+   * Removes the activity traces of all process instances, which belong to the given deployment.
+   * 
+   * @param deploymentId The ID of the deployment.
+   */
+  public void removeActivityTraces(String deploymentId) {
+    traces.values().removeIf((trace) -> deploymentId.equals(trace.getDeploymentId()));
+  }
+
+  /**
+   * Sets a reference to the test case instance, which deploys its BPMN resource within the current
+   * thread, or removes it, if {@code null} is provided. The reference must only be set during the
+   * deployment, since other deployments of the thread must not be instrumented.
+   * 
+   * @param instance The deploying instance.
+   */
+  public void setDeployingInstance(TestCaseInstance instance) {
+    if (instance != null) {
+      deployingInstance.set(instance);
+    } else {
+      deployingInstance.remove();
+    }
+  }
+
+  /**
+   * Execution listener, which records the start or end of an activity, when the current transaction
+   * is committed. Changes of transactions, which are rolled back, are not traced.
+   */
+  private static class ActivityTraceListener implements ExecutionListener {
+
+    private final BpmndtParseListener parseListener;
+
+    private final String activityId;
+    private final boolean start;
+
+    private ActivityTraceListener(BpmndtParseListener parseListener, String activityId, boolean start) {
+      this.parseListener = parseListener;
+      this.activityId = activityId;
+      this.start = start;
+    }
+
+    @Override
+    public void notify(DelegateExecution execution) throws Exception {
+      String processInstanceId = execution.getProcessInstanceId();
+      String deploymentId = ((ExecutionEntity) execution).getProcessDefinition().getDeploymentId();
+
+      Context.getCommandContext().getTransactionContext().addTransactionListener(TransactionState.COMMITTED, (commandContext) -> {
+        ActivityTrace trace = parseListener.traces.computeIfAbsent(processInstanceId, (key) -> new ActivityTrace(deploymentId));
+
+        if (start) {
+          trace.start(activityId);
+        } else {
+          trace.end(activityId);
+        }
+      });
+    }
   }
 
   /**
@@ -166,20 +337,24 @@ public class BpmndtParseListener extends AbstractBpmnParseListener {
    */
   private static class CustomCallActivityBehavior extends CallActivityBehavior {
 
-    /** Related test case instance. */
-    private final TestCaseInstance instance;
+    /** Parse listener, which provides the test case instance that uses the deployment. */
+    private final BpmndtParseListener parseListener;
 
     /** The activity's original behavior. */
     private final CallActivityBehavior behavior;
 
-    private CustomCallActivityBehavior(TestCaseInstance instance, CallActivityBehavior behavior) {
-      this.instance = instance;
+    private CustomCallActivityBehavior(BpmndtParseListener parseListener, CallActivityBehavior behavior) {
+      this.parseListener = parseListener;
       this.behavior = behavior;
     }
 
     @Override
     public void execute(ActivityExecution execution) throws Exception {
-      boolean shouldLeave = instance.execute(execution, behavior);
+      String deploymentId = ((ExecutionEntity) execution).getProcessDefinition().getDeploymentId();
+
+      TestCaseInstance instance = parseListener.instances.get(deploymentId);
+
+      boolean shouldLeave = instance == null || instance.execute(execution, behavior);
 
       if (shouldLeave) {
         leave(execution);
@@ -2,15 +2,20 @@ package org.camunda.community.bpmndt.api.cfg;
 
 import static org.camunda.community.bpmndt.api.TestCaseInstance.PROCESS_ENGINE_NAME;
 
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 
+import javax.sql.DataSource;
+
+import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
 import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.interceptor.CommandInterceptor;
 import org.h2.engine.Constants;
 
 /**
@@ -19,6 +24,48 @@ import org.h2.engine.Constants;
  */
 public class BpmndtProcessEnginePlugin extends AbstractProcessEnginePlugin {
 
+  /**
+   * Determines if the {@link CoverageCollector} is registered, regardless of the system property
+   * {@value CoverageCollector#DIRECTORY_PROPERTY}.
+   */
+  private boolean coverageEnabled;
+
+  /** Determines if the {@link WaitStateIndex} is registered. */
+  private boolean waitStateIndexEnabled = true;
+
+  /** Determines if in-memory databases are created from the {@link H2SchemaTemplate}. */
+  private boolean schemaTemplateEnabled = true;
+
+  private String databaseSchemaUpdate = ProcessEngineConfigurationImpl.DB_SCHEMA_UPDATE_CREATE_DROP;
+
+  private HistoryLevel historyLevel = HistoryLevel.HISTORY_LEVEL_FULL;
+
+  /** Indicates that the database has been created from the schema template. */
+  private boolean createdFromSchemaTemplate;
+  /** Indicates that the schema template must be written, after the schema has been created. */
+  private boolean writeSchemaTemplate;
+
+  /** Collector, which is registered, if the coverage is enabled and a coverage directory is available. */
+  private CoverageCollector coverageCollector;
+
+  @Override
+  public void postProcessEngineBuild(ProcessEngine processEngine) {
+    if (coverageCollector != null) {
+      // write coverage data, when all tests of the JVM have been executed
+      Runtime.getRuntime().addShutdownHook(new Thread(coverageCollector::write, "bpmndt-coverage"));
+    }
+
+    DataSource dataSource = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getDataSource();
+
+    if (createdFromSchemaTemplate) {
+      // close database together with the connection pool
+      H2SchemaTemplate.resetCloseDelay(dataSource);
+    }
+    if (writeSchemaTemplate) {
+      H2SchemaTemplate.write(dataSource);
+    }
+  }
+
   @Override
   public void preInit(ProcessEngineConfigurationImpl processEngineConfiguration) {
     List<BpmnParseListener> postParseListeners = processEngineConfiguration.getCustomPostBPMNParseListeners();
@@ -31,22 +78,61 @@ public class BpmndtProcessEnginePlugin extends AbstractProcessEnginePlugin {
 
     postParseListeners.add(new BpmndtParseListener());
 
+    // coverage is collected, if enabled or if a coverage directory is specified
+    boolean collectCoverage = coverageEnabled || CoverageCollector.getDirectoryProperty() != null;
+
+    Path coverageDirectory = collectCoverage ? CoverageCollector.getDefaultDirectory() : null;
+    if (coverageDirectory != null) {
+      coverageCollector = new CoverageCollector(coverageDirectory);
+      postParseListeners.add(coverageCollector);
+    }
+
+    if (waitStateIndexEnabled) {
+      List<CommandInterceptor> commandInterceptors = processEngineConfiguration.getCustomPostCommandInterceptorsTxRequired();
+      if (commandInterceptors == null) {
+        commandInterceptors = new LinkedList<>();
+      } else {
+        commandInterceptors = new LinkedList<>(commandInterceptors);
+      }
+
+      commandInterceptors.add(new WaitStateIndex());
+
+      processEngineConfiguration.setCustomPostCommandInterceptorsTxRequired(commandInterceptors);
+    }
+
     processEngineConfiguration.setCmmnEnabled(false);
     processEngineConfiguration.setCustomPostBPMNParseListeners(postParseListeners);
-    processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfigurationImpl.DB_SCHEMA_UPDATE_CREATE_DROP);
-    processEngineConfiguration.setHistoryLevel(HistoryLevel.HISTORY_LEVEL_FULL);
+    // process definition queries must not load the BPMN models of deployments, which are deleted in parallel
+    processEngineConfiguration.setEnableFetchProcessDefinitionDescription(false);
+    processEngineConfiguration.setHistoryLevel(historyLevel);
     processEngineConfiguration.setInitializeTelemetry(false);
     processEngineConfiguration.setJobExecutorActivate(false);
     processEngineConfiguration.setMetricsEnabled(false);
     processEngineConfiguration.setProcessEngineName(PROCESS_ENGINE_NAME);
 
+    String databaseSchemaUpdate = this.databaseSchemaUpdate;
+
     if (processEngineConfiguration.getDataSource() == null) {
-      // use random database name to avoid SQL errors during schema create/drop
-      String url = String.format("jdbc:h2:mem:bpmndt-%s", UUID.randomUUID().toString());
+      String username = processEngineConfiguration.getJdbcUsername();
+      String password = processEngineConfiguration.getJdbcPassword();
+
+      String url = schemaTemplateEnabled ? H2SchemaTemplate.createDatabase(username, password) : null;
+      if (url != null) {
+        // schema already exists
+        databaseSchemaUpdate = ProcessEngineConfigurationImpl.DB_SCHEMA_UPDATE_FALSE;
+        createdFromSchemaTemplate = true;
+      } else {
+        // use random database name to avoid SQL errors during schema create/drop
+        // the database is closed by the process engine registry, when the JVM shuts down
+        url = String.format("jdbc:h2:mem:bpmndt-%s;DB_CLOSE_ON_EXIT=FALSE", UUID.randomUUID().toString());
+        writeSchemaTemplate = schemaTemplateEnabled;
+      }
 
       processEngineConfiguration.setJdbcUrl(url);
     }
 
+    processEngineConfiguration.setDatabaseSchemaUpdate(databaseSchemaUpdate);
+
     if (getH2MajorVersion() > 1) {
       // ensure H2 version 2 compatibility
       DbSqlSessionFactory.databaseSpecificTrueConstant.put("h2", "true");
@@ -59,4 +145,67 @@ public class BpmndtProcessEnginePlugin extends AbstractProcessEnginePlugin {
   private int getH2MajorVersion() {
     return Constants.VERSION_MAJOR;
   }
+
+  /**
+   * Enables or disables the {@link CoverageCollector}, which records the flow nodes and sequence flows
+   * passed by the tests and writes them as data file to the coverage directory, when the JVM shuts
+   * down. The collector is disabled by default, but enabled implicitly, if the system property
+   * {@value CoverageCollector#DIRECTORY_PROPERTY} is set (e.g. via the system property variables of
+   * the Maven Surefire plugin). It is only registered, if a coverage directory is available.
+   * 
+   * @param coverageEnabled {@code true}, if the coverage should be collected. Otherwise
+   *        {@code false}.
+   * 
+   * @see CoverageCollector#getDefaultDirectory()
+   */
+  public void setCoverageEnabled(boolean coverageEnabled) {
+    this.coverageEnabled = coverageEnabled;
+  }
+
+  /**
+   * Sets the database schema update strategy, which is
+   * {@link ProcessEngineConfigurationImpl#DB_SCHEMA_UPDATE_CREATE_DROP} by default. If the in-memory
+   * database is created from the {@link H2SchemaTemplate}, the strategy is
+   * {@link ProcessEngineConfigurationImpl#DB_SCHEMA_UPDATE_FALSE}, since the schema already exists.
+   * 
+   * @param databaseSchemaUpdate The strategy to use.
+   */
+  public void setDatabaseSchemaUpdate(String databaseSchemaUpdate) {
+    this.databaseSchemaUpdate = databaseSchemaUpdate;
+  }
+
+  /**
+   * Sets the history level of the process engine, which is {@link HistoryLevel#HISTORY_LEVEL_FULL} by
+   * default. A lower level reduces the number of history events, written per test case. If the level
+   * is {@link HistoryLevel#HISTORY_LEVEL_NONE}, test cases assert passed activities and the state of
+   * multi instance activities via the activity trace and the runtime only.
+   * 
+   * @param historyLevel The history level to use.
+   */
+  public void setHistoryLevel(HistoryLevel historyLevel) {
+    this.historyLevel = historyLevel;
+  }
+
+  /**
+   * Enables or disables the creation of in-memory databases from the {@link H2SchemaTemplate}. If
+   * enabled, the Camunda schema is only created once and cloned into each new database. The template
+   * is enabled by default.
+   * 
+   * @param schemaTemplateEnabled {@code true}, if the template should be used. Otherwise
+   *        {@code false}.
+   */
+  public void setSchemaTemplateEnabled(boolean schemaTemplateEnabled) {
+    this.schemaTemplateEnabled = schemaTemplateEnabled;
+  }
+
+  /**
+   * Enables or disables the {@link WaitStateIndex}, which allows handlers to resolve user tasks, jobs
+   * and event subscriptions without a query. The index is enabled by default.
+   * 
+   * @param waitStateIndexEnabled {@code true}, if the index should be registered. Otherwise
+   *        {@code false}.
+   */
+  public void setWaitStateIndexEnabled(boolean waitStateIndexEnabled) {
+    this.waitStateIndexEnabled = waitStateIndexEnabled;
+  }
 }
@@ -0,0 +1,331 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.camunda.bpm.engine.ActivityTypes;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.bpmn.parser.BpmnParseListener;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.core.model.CoreModelElement;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.pvm.PvmTransition;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.TransitionImpl;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+
+/**
+ * BPMN parse listener, which collects the flow nodes and sequence flows that are passed by the
+ * process instances of all tests. Since the history of the in-memory database is deleted after each
+ * test and not available after the test run, hits are recorded in memory: When a process is parsed,
+ * the IDs of its activities and transitions are indexed and built-in execution listeners are added,
+ * which set the bit of their element in a bitset per process definition. Once a bit is set,
+ * recording a hit is a single read. If a process definition is parsed again (e.g. after it has been
+ * evicted from the process engine's deployment cache or deployed as new version), the bitset of a
+ * previously parsed process definition with the same key and elements is reused.<br>
+ * When the JVM shuts down, the collected coverage of all process definitions is merged by process
+ * definition key and written as data file to the coverage directory. Each JVM (e.g. a forked test
+ * execution) writes its own file, which is merged with the files of all other JVMs, when the coverage
+ * report is created.
+ */
+public class CoverageCollector extends AbstractBpmnParseListener {
+
+  /** Name of the system property, which overrides the default coverage directory. */
+  public static final String DIRECTORY_PROPERTY = "bpmndt.coverageDirectory";
+
+  /** File extension of coverage data files. */
+  public static final String FILE_EXTENSION = ".coverage";
+
+  /** Activity ID suffix of multi instance scopes. */
+  private static final String MULTI_INSTANCE_SCOPE_SUFFIX = "#" + ActivityTypes.MULTI_INSTANCE_BODY;
+
+  /**
+   * Finds the coverage collector of the given process engine.
+   *
+   * @param processEngine A process engine.
+   *
+   * @return The collector or {@code null}, if the coverage is disabled or the process engine has not
+   *         been configured by the {@link BpmndtProcessEnginePlugin}.
+   */
+  public static CoverageCollector find(ProcessEngine processEngine) {
+    ProcessEngineConfigurationImpl processEngineConfiguration =
+        (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+
+    List<BpmnParseListener> postParseListeners = processEngineConfiguration.getCustomPostBPMNParseListeners();
+    if (postParseListeners == null) {
+      return null;
+    }
+
+    return postParseListeners.stream()
+        .filter((postParseListener) -> (postParseListener instanceof CoverageCollector))
+        .map(CoverageCollector.class::cast)
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Returns the directory, coverage data files are written to. The directory can be specified via the
+   * system property {@value #DIRECTORY_PROPERTY}. Otherwise it is {@code bpmndt-coverage} within the
+   * build directory ({@code target} or {@code build}), the API classes have been compiled to.
+   *
+   * @return The coverage directory or {@code null}, if no directory is specified and no build
+   *         directory exists.
+   */
+  public static Path getDefaultDirectory() {
+    String directory = getDirectoryProperty();
+    if (directory != null) {
+      return Paths.get(directory);
+    }
+
+    Path buildDirectory = H2SchemaTemplate.getBuildDirectory();
+    return buildDirectory != null ? buildDirectory.resolve("bpmndt-coverage") : null;
+  }
+
+  /**
+   * Returns the value of the system property {@value #DIRECTORY_PROPERTY}.
+   *
+   * @return The trimmed value or {@code null}, if the property is not set or blank.
+   */
+  static String getDirectoryProperty() {
+    String directory = System.getProperty(DIRECTORY_PROPERTY);
+    return directory != null && !directory.trim().isEmpty() ? directory.trim() : null;
+  }
+
+  private final Path directory;
+
+  /**
+   * Coverage of all parsed process definitions - mapped by process definition key. A key has more than
+   * one coverage only, if process definitions with different elements have been parsed.
+   */
+  private final Map<String, List<ProcessCoverage>> coverages = new ConcurrentHashMap<>();
+
+  public CoverageCollector(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Collects the given activities, their outgoing transitions and all nested activities. Multi
+   * instance bodies are not collected, since they are no BPMN elements, but their outgoing transitions
+   * are.
+   *
+   * @param activities A list of activities.
+   *
+   * @param elements A list, which is filled with the collected elements.
+   */
+  protected void collect(List<ActivityImpl> activities, List<CoreModelElement> elements) {
+    for (ActivityImpl activity : activities) {
+      if (!activity.getId().endsWith(MULTI_INSTANCE_SCOPE_SUFFIX)) {
+        elements.add(activity);
+      }
+
+      for (PvmTransition transition : activity.getOutgoingTransitions()) {
+        if (transition.getId() != null) {
+          elements.add((TransitionImpl) transition);
+        }
+      }
+
+      collect(activity.getActivities(), elements);
+    }
+  }
+
+  /**
+   * Returns the IDs of the flow nodes and sequence flows of the given process definition, which have
+   * been passed. The coverage of all parsed versions of the process definition is merged.
+   *
+   * @param processDefinitionKey The key of a process definition.
+   *
+   * @return A sorted set of element IDs, which is empty, if the process definition has not been parsed
+   *         or no element has been passed.
+   */
+  public Set<String> getCoverage(String processDefinitionKey) {
+    Set<String> elementIds = merge().get(processDefinitionKey);
+    return elementIds != null ? elementIds : new TreeSet<>();
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Merges the coverage of all parsed process definitions by process definition key.
+   *
+   * @return The IDs of the passed elements - mapped by process definition key.
+   */
+  protected Map<String, Set<String>> merge() {
+    Map<String, Set<String>> merged = new TreeMap<>();
+    for (Map.Entry<String, List<ProcessCoverage>> entry : coverages.entrySet()) {
+      Set<String> elementIds = merged.computeIfAbsent(entry.getKey(), (key) -> new TreeSet<>());
+      for (ProcessCoverage coverage : entry.getValue()) {
+        coverage.collect(elementIds);
+      }
+    }
+    return merged;
+  }
+
+  /**
+   * Instruments the activities and transitions of the given process definition by adding built-in
+   * execution listeners, which record the start of an activity or the taking of a transition. The
+   * coverage of a previously parsed process definition with the same key and elements is reused.
+   */
+  @Override
+  public void parseProcess(Element processElement, ProcessDefinitionEntity processDefinition) {
+    List<CoreModelElement> elements = new ArrayList<>();
+    collect(processDefinition.getActivities(), elements);
+
+    String[] elementIds = elements.stream().map(CoreModelElement::getId).toArray(String[]::new);
+
+    ProcessCoverage coverage = getProcessCoverage(processDefinition.getKey(), elementIds);
+
+    for (int i = 0; i < elements.size(); i++) {
+      CoreModelElement element = elements.get(i);
+
+      String eventName = element instanceof TransitionImpl ? ExecutionListener.EVENTNAME_TAKE : ExecutionListener.EVENTNAME_START;
+      element.addBuiltInListener(eventName, new HitListener(coverage, i));
+    }
+  }
+
+  /**
+   * Returns the coverage of the process definition with the given key and elements or creates it, if
+   * no such process definition has been parsed before.
+   *
+   * @param processDefinitionKey The key of the parsed process definition.
+   *
+   * @param elementIds The IDs of the collected elements in the order of their bits.
+   *
+   * @return The existing or a new coverage.
+   */
+  private synchronized ProcessCoverage getProcessCoverage(String processDefinitionKey, String[] elementIds) {
+    List<ProcessCoverage> processCoverages = coverages.computeIfAbsent(processDefinitionKey, (key) -> new CopyOnWriteArrayList<>());
+
+    for (ProcessCoverage processCoverage : processCoverages) {
+      if (Arrays.equals(processCoverage.elementIds, elementIds)) {
+        return processCoverage;
+      }
+    }
+
+    ProcessCoverage processCoverage = new ProcessCoverage(elementIds);
+    processCoverages.add(processCoverage);
+    return processCoverage;
+  }
+
+  /**
+   * Returns the number of process coverages, held by the collector.
+   *
+   * @return The number of parsed process definitions with distinct keys or elements.
+   */
+  int size() {
+    return coverages.values().stream().mapToInt(List::size).sum();
+  }
+
+  /**
+   * Writes the coverage, collected by this JVM, as data file to the coverage directory. The file
+   * contains a line for each passed element, consisting of the process definition key and the
+   * element ID, separated by a tab. It is written to a temporary file, which is moved afterwards, so
+   * that no incomplete file is read, when the report is created. Nothing is written, if no process
+   * has been parsed.
+   */
+  public void write() {
+    Map<String, Set<String>> merged = merge();
+    if (merged.isEmpty()) {
+      return;
+    }
+
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Coverage directory '%s' could not be created", directory), e);
+    }
+
+    String fileName = UUID.randomUUID().toString();
+
+    Path file = directory.resolve(fileName + FILE_EXTENSION);
+    Path tmp = directory.resolve(fileName + ".tmp");
+
+    try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, Set<String>> entry : merged.entrySet()) {
+        for (String elementId : entry.getValue()) {
+          w.write(String.format("%s\t%s\n", entry.getKey(), elementId));
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Coverage data file '%s' could not be written", file), e);
+    }
+
+    try {
+      Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Coverage data file '%s' could not be written", file), e);
+    }
+  }
+
+  /**
+   * Execution listener, which records the hit of an activity or a transition.
+   */
+  private static class HitListener implements ExecutionListener {
+
+    private final ProcessCoverage coverage;
+    private final int index;
+
+    private HitListener(ProcessCoverage coverage, int index) {
+      this.coverage = coverage;
+      this.index = index;
+    }
+
+    @Override
+    public void notify(DelegateExecution execution) throws Exception {
+      coverage.hit(index);
+    }
+  }
+
+  /**
+   * Coverage of a parsed process definition - the indexed element IDs and a bitset, which stores a
+   * bit per element.
+   */
+  private static class ProcessCoverage {
+
+    private final String[] elementIds;
+    private final AtomicLongArray bits;
+
+    private ProcessCoverage(String[] elementIds) {
+      this.elementIds = elementIds;
+
+      bits = new AtomicLongArray((elementIds.length + 63) >>> 6);
+    }
+
+    private void collect(Set<String> hitElementIds) {
+      for (int i = 0; i < elementIds.length; i++) {
+        if ((bits.get(i >>> 6) & (1L << i)) != 0) {
+          hitElementIds.add(elementIds[i]);
+        }
+      }
+    }
+
+    private void hit(int index) {
+      int word = index >>> 6;
+      long mask = 1L << index;
+
+      if ((bits.get(word) & mask) == 0) {
+        bits.accumulateAndGet(word, mask, (a, b) -> a | b);
+      }
+    }
+  }
+}
@@ -0,0 +1,291 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.util.IoUtil;
+import org.h2.engine.Constants;
+
+/**
+ * Template of the Camunda database schema, which is used to create in-memory H2 databases without
+ * executing the complete DDL for each process engine. The template is a SQL script, written by H2's
+ * {@code SCRIPT NODATA} command after a process engine has created the schema for the first time. It
+ * is cached on disk - in the build directory ({@code target} or {@code build}), the API classes have
+ * been compiled to, or in the temporary directory - and replayed via {@code RUNSCRIPT} for each new
+ * database. Since the template contains no data, the initial rows of the Camunda DDL (e.g. the
+ * {@code ACT_GE_PROPERTY} rows) are inserted afterwards and the process engine inserts all other
+ * properties (e.g. the history level) like for a newly created schema.<br>
+ * The template file name contains a hash of the Camunda version, the H2 version and the Camunda DDL
+ * resources, so that a version change results in a new template.
+ */
+public class H2SchemaTemplate {
+
+  /** Camunda DDL resources, which are executed to create the schema of an H2 database. */
+  private static final String[] CREATE_RESOURCES = {
+      "engine", "history", "identity", "case.engine", "case.history", "decision.engine", "decision.history"};
+
+  private static Path file;
+
+  /** Content of the Camunda DDL resources, which are available. */
+  private static List<String> createScripts;
+
+  /**
+   * Creates a new in-memory database from the schema template. Since the process engine's connection
+   * pool is not yet available, the database is created with {@code DB_CLOSE_DELAY=-1}. It is not
+   * closed on exit, since the process engines are closed by the {@link ProcessEngineRegistry}.
+   *
+   * @param username The name of the database user.
+   *
+   * @param password The password of the database user.
+   *
+   * @return The JDBC URL of the database or {@code null}, if no template is available.
+   *
+   * @see #resetCloseDelay(DataSource)
+   */
+  public static synchronized String createDatabase(String username, String password) {
+    Path template = getFile();
+    if (!Files.isRegularFile(template)) {
+      return null;
+    }
+
+    String url = String.format("jdbc:h2:mem:bpmndt-%s;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE", UUID.randomUUID().toString());
+
+    try (Connection connection = DriverManager.getConnection(url, username, password); Statement statement = connection.createStatement()) {
+      try {
+        statement.execute(String.format("RUNSCRIPT FROM '%s'", toSqlPath(template)));
+
+        for (String insert : getInserts()) {
+          statement.execute(insert);
+        }
+      } catch (SQLException e) {
+        // drop database, which is kept in memory otherwise
+        statement.execute("SHUTDOWN");
+        throw e;
+      }
+    } catch (SQLException e) {
+      // template is not usable and must be written again
+      delete(template);
+      return null;
+    }
+
+    return url;
+  }
+
+  private static void delete(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Schema template '%s' could not be deleted", path), e);
+    }
+  }
+
+  /**
+   * Determines the build directory ({@code target} or {@code build}), the API classes have been
+   * compiled to. The directory is resolved via the code source of the class and is therefore
+   * independent of the working directory (e.g. when tests are executed by Gradle or an IDE).
+   *
+   * @return The absolute path of the build directory or {@code null}, if the API classes have not
+   *         been loaded from a build directory.
+   */
+  static Path getBuildDirectory() {
+    CodeSource codeSource = H2SchemaTemplate.class.getProtectionDomain().getCodeSource();
+    if (codeSource == null || codeSource.getLocation() == null) {
+      return null;
+    }
+
+    Path path;
+    try {
+      path = Paths.get(codeSource.getLocation().toURI()).toAbsolutePath();
+    } catch (URISyntaxException | RuntimeException e) {
+      return null;
+    }
+
+    for (; path != null; path = path.getParent()) {
+      Path fileName = path.getFileName();
+      if (fileName != null && (fileName.toString().equals("target") || fileName.toString().equals("build")) && Files.isDirectory(path)) {
+        return path;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Returns the content of the Camunda DDL resources, which are available on the class path.
+   *
+   * @return A list of SQL scripts.
+   */
+  private static synchronized List<String> getCreateScripts() {
+    if (createScripts != null) {
+      return createScripts;
+    }
+
+    List<String> scripts = new LinkedList<>();
+    for (String component : CREATE_RESOURCES) {
+      String resourceName = String.format("org/camunda/bpm/engine/db/create/activiti.h2.create.%s.sql", component);
+
+      InputStream resource = ProcessEngine.class.getClassLoader().getResourceAsStream(resourceName);
+      if (resource == null) {
+        continue;
+      }
+
+      try {
+        scripts.add(new String(IoUtil.readInputStream(resource, resourceName), StandardCharsets.UTF_8));
+      } finally {
+        IoUtil.closeSilently(resource);
+      }
+    }
+
+    createScripts = scripts;
+    return createScripts;
+  }
+
+  /**
+   * Returns the path of the template file.
+   *
+   * @return The template file path, which may not exist.
+   */
+  public static synchronized Path getFile() {
+    if (file != null) {
+      return file;
+    }
+
+    Path directory = getBuildDirectory();
+    if (directory == null) {
+      directory = Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath();
+    }
+
+    file = directory.resolve(String.format("bpmndt-h2-schema-%s.sql", hash()));
+    return file;
+  }
+
+  /**
+   * Returns the {@code INSERT} statements of the Camunda DDL resources, which provide the initial data
+   * of a new schema.
+   *
+   * @return A list of SQL statements.
+   */
+  private static List<String> getInserts() {
+    List<String> inserts = new LinkedList<>();
+    for (String script : getCreateScripts()) {
+      for (String statement : script.split(";")) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : statement.split("\\r?\\n")) {
+          if (!line.trim().startsWith("--")) {
+            sb.append(line).append('\n');
+          }
+        }
+
+        String sql = sb.toString().trim();
+        if (sql.toLowerCase(Locale.ENGLISH).startsWith("insert ")) {
+          inserts.add(sql);
+        }
+      }
+    }
+    return inserts;
+  }
+
+  private static String hash() {
+    MessageDigest messageDigest;
+    try {
+      messageDigest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("SHA-256 algorithm is not available", e);
+    }
+
+    messageDigest.update(String.valueOf(ProcessEngine.VERSION).getBytes(StandardCharsets.UTF_8));
+    messageDigest.update(String.valueOf(ProcessEngine.class.getPackage().getImplementationVersion()).getBytes(StandardCharsets.UTF_8));
+
+    String h2Version = String.format("%d.%d.%d", Constants.VERSION_MAJOR, Constants.VERSION_MINOR, Constants.BUILD_ID);
+    messageDigest.update(h2Version.getBytes(StandardCharsets.UTF_8));
+
+    for (String script : getCreateScripts()) {
+      messageDigest.update(script.getBytes(StandardCharsets.UTF_8));
+    }
+
+    StringBuilder sb = new StringBuilder();
+    for (byte b : messageDigest.digest()) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.substring(0, 16);
+  }
+
+  /**
+   * Resets the close delay of a database, created from the template, so that the database is closed
+   * together with the last connection of the process engine's connection pool.
+   *
+   * @param dataSource The data source of the process engine.
+   */
+  public static void resetCloseDelay(DataSource dataSource) {
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("SET DB_CLOSE_DELAY 0");
+    } catch (SQLException e) {
+      throw new RuntimeException("Close delay of in-memory database could not be reset", e);
+    }
+  }
+
+  private static String toSqlPath(Path path) {
+    return path.toAbsolutePath().toString().replace('\\', '/').replace("'", "''");
+  }
+
+  /**
+   * Writes the schema of the given H2 database as template, if no template exists. The template is
+   * written to a temporary file, which is moved afterwards, so that concurrently running JVMs (e.g.
+   * forked test executions) do not read an incomplete template.
+   *
+   * @param dataSource The data source of a process engine, which has just created the schema.
+   */
+  public static synchronized void write(DataSource dataSource) {
+    Path template = getFile();
+    if (Files.exists(template)) {
+      return;
+    }
+
+    Path tmp = template.resolveSibling(String.format("%s.%s.tmp", template.getFileName(), UUID.randomUUID().toString()));
+
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+        return;
+      }
+
+      // schema only, since the data is inserted for each new database
+      statement.execute(String.format("SCRIPT NODATA TO '%s'", toSqlPath(tmp)));
+    } catch (SQLException e) {
+      throw new RuntimeException("Schema template could not be written", e);
+    }
+
+    try {
+      Files.move(tmp, template, StandardCopyOption.ATOMIC_MOVE);
+    } catch (FileAlreadyExistsException e) {
+      // written by another JVM in the meantime
+      delete(tmp);
+    } catch (IOException e) {
+      delete(tmp);
+      throw new RuntimeException(String.format("Schema template '%s' could not be written", template), e);
+    }
+  }
+
+  private H2SchemaTemplate() {
+  }
+}
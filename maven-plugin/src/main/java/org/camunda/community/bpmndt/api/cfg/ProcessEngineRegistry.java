@@ -0,0 +1,197 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+
+/**
+ * Registry, which holds the process engines that are built to execute test cases. A process engine
+ * is built only once per JVM (or Surefire fork) for each combination of process engine plugins, their
+ * configuration and history level and is reused by all subsequent test cases. Test cases are
+ * isolated by undeploying their deployment, which deletes the related runtime and history data,
+ * instead of building a new process engine with a fresh database schema. The registered process
+ * engines are closed, when the JVM shuts down.
+ */
+public final class ProcessEngineRegistry {
+
+  /** Maximum depth of nested objects, whose fields are considered as plugin configuration. */
+  private static final int MAX_DEPTH = 3;
+
+  private static final Map<String, ProcessEngine> PROCESS_ENGINES = new HashMap<>();
+
+  /** Configuration values, which implement {@code equals} - the index is part of their configuration. */
+  private static final List<Object> EQUAL_VALUES = new ArrayList<>();
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(ProcessEngineRegistry::close, "bpmndt-process-engines"));
+  }
+
+  /**
+   * Closes all registered process engines.
+   */
+  static synchronized void close() {
+    for (ProcessEngine processEngine : PROCESS_ENGINES.values()) {
+      try {
+        processEngine.close();
+      } catch (RuntimeException e) {
+        // close remaining process engines
+      }
+    }
+    PROCESS_ENGINES.clear();
+  }
+
+  /**
+   * Builds a string representation of the configuration of a process engine plugin - the values of
+   * all instance fields, including the fields of nested objects up to a maximum depth. Values, which
+   * implement {@code equals}, are represented by their type and the index of the first equal value.
+   * Values, whose fields cannot be read (e.g. JDK classes on Java 9+), are represented by their type.
+   *
+   * @param value A plugin or a field value.
+   *
+   * @param depth The current depth.
+   *
+   * @return The configuration.
+   */
+  static String configurationOf(Object value, int depth) {
+    if (value == null) {
+      return "null";
+    }
+    if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Character
+        || value instanceof Enum || value instanceof Class) {
+      return String.valueOf(value);
+    }
+    if (value instanceof Collection) {
+      return ((Collection<?>) value).stream().map(element -> configurationOf(element, depth + 1)).collect(Collectors.joining(",", "[", "]"));
+    }
+    if (value instanceof Map) {
+      return ((Map<?, ?>) value).entrySet().stream()
+          .map(entry -> configurationOf(entry.getKey(), depth + 1) + "=" + configurationOf(entry.getValue(), depth + 1))
+          .sorted()
+          .collect(Collectors.joining(",", "{", "}"));
+    }
+    if (value.getClass().isArray()) {
+      return value.getClass().getName();
+    }
+
+    Class<?> type = value.getClass();
+    if (isEqualsImplemented(type)) {
+      return String.format("%s#%d", type.getName(), indexOf(value));
+    }
+    if (depth >= MAX_DEPTH) {
+      return type.getName();
+    }
+
+    StringBuilder sb = new StringBuilder(type.getName()).append('(');
+    for (Class<?> t = type; t != null && t != Object.class; t = t.getSuperclass()) {
+      Field[] fields = t.getDeclaredFields();
+      Arrays.sort(fields, Comparator.comparing(Field::getName));
+
+      for (Field field : fields) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+          continue;
+        }
+
+        Object fieldValue;
+        try {
+          field.setAccessible(true);
+          fieldValue = field.get(value);
+        } catch (IllegalAccessException | RuntimeException e) {
+          // e.g. field of a JDK class, which is not accessible
+          return type.getName();
+        }
+
+        sb.append(field.getName()).append('=').append(configurationOf(fieldValue, depth + 1)).append(';');
+      }
+    }
+    return sb.append(')').toString();
+  }
+
+  /**
+   * Returns the index of the first registered value, which is equal to the given value. If there is
+   * no such value, the given value is registered.
+   *
+   * @param value A configuration value, which implements {@code equals}.
+   *
+   * @return The index of the equal value.
+   */
+  private static synchronized int indexOf(Object value) {
+    int index = EQUAL_VALUES.indexOf(value);
+    if (index == -1) {
+      EQUAL_VALUES.add(value);
+      index = EQUAL_VALUES.size() - 1;
+    }
+    return index;
+  }
+
+  private static boolean isEqualsImplemented(Class<?> type) {
+    try {
+      return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Determines if the given process engine has been built by the registry.
+   * 
+   * @param processEngine A process engine.
+   * 
+   * @return {@code true}, if the process engine is registered. Otherwise {@code false}.
+   */
+  public static synchronized boolean contains(ProcessEngine processEngine) {
+    return PROCESS_ENGINES.containsValue(processEngine);
+  }
+
+  /**
+   * Returns the process engine, which is registered under the given key. If no process engine is
+   * registered, the builder is called to build one.
+   * 
+   * @param key The registry key.
+   * 
+   * @param builder A builder, which provides a new process engine.
+   * 
+   * @return The registered or newly built process engine.
+   * 
+   * @see #keyOf(List, HistoryLevel)
+   */
+  public static synchronized ProcessEngine get(String key, Supplier<ProcessEngine> builder) {
+    ProcessEngine processEngine = PROCESS_ENGINES.get(key);
+    if (processEngine == null) {
+      processEngine = builder.get();
+      PROCESS_ENGINES.put(key, processEngine);
+    }
+    return processEngine;
+  }
+
+  /**
+   * Builds a registry key, based on the types and the configuration of the given process engine
+   * plugins and the history level. Test cases, which configure the same plugin type differently, do
+   * not share a process engine.
+   * 
+   * @param processEnginePlugins The custom process engine plugins of a test case.
+   * 
+   * @param historyLevel The history level of a test case.
+   * 
+   * @return The registry key.
+   */
+  public static String keyOf(List<ProcessEnginePlugin> processEnginePlugins, HistoryLevel historyLevel) {
+    String plugins = processEnginePlugins.stream().map(plugin -> configurationOf(plugin, 0)).collect(Collectors.joining(","));
+    return String.format("%s@%s", plugins, historyLevel.getName());
+  }
+
+  private ProcessEngineRegistry() {
+  }
+}
@@ -8,7 +8,9 @@ import java.util.UUID;
 import javax.sql.DataSource;
 
 import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.spring.SpringExpressionManager;
 import org.camunda.bpm.engine.spring.SpringProcessEngineConfiguration;
 import org.springframework.beans.factory.InitializingBean;
@@ -31,6 +33,9 @@ import org.springframework.transaction.PlatformTransactionManager;
 @Configuration
 public class SpringConfiguration implements InitializingBean {
 
+  /** Name of the database user, if the data source is initialized by this configuration. */
+  private static final String USERNAME = "sa";
+
   @Autowired
   private ApplicationContext applicationContext;
 
@@ -44,13 +49,25 @@ public class SpringConfiguration implements InitializingBean {
 
   private ProcessEngine processEngine;
 
+  /** Indicates that the data source has been created from the {@link H2SchemaTemplate}. */
+  private boolean createdFromSchemaTemplate;
+  /** Indicates that the schema template must be written, after the schema has been created. */
+  private boolean writeSchemaTemplate;
+
   @Override
   public void afterPropertiesSet() throws Exception {
     DataSource dataSource = initDataSource();
 
+    BpmndtProcessEnginePlugin bpmndtProcessEnginePlugin = new BpmndtProcessEnginePlugin();
+    bpmndtProcessEnginePlugin.setHistoryLevel(getHistoryLevel());
+    if (createdFromSchemaTemplate) {
+      // schema already exists
+      bpmndtProcessEnginePlugin.setDatabaseSchemaUpdate(ProcessEngineConfigurationImpl.DB_SCHEMA_UPDATE_FALSE);
+    }
+
     List<ProcessEnginePlugin> processEnginePlugins = initProcessEnginePlugins();
     // BPMN Driven Testing plugin must be added at last
-    processEnginePlugins.add(new BpmndtProcessEnginePlugin());
+    processEnginePlugins.add(bpmndtProcessEnginePlugin);
 
     SpringProcessEngineConfiguration processEngineConfiguration = new SpringProcessEngineConfiguration();
     processEngineConfiguration.setApplicationContext(applicationContext);
@@ -60,6 +77,10 @@ public class SpringConfiguration implements InitializingBean {
     processEngineConfiguration.setTransactionManager(initTransactionManager(dataSource));
 
     processEngine = processEngineConfiguration.buildProcessEngine();
+
+    if (writeSchemaTemplate) {
+      H2SchemaTemplate.write(dataSource);
+    }
   }
 
   @Bean
@@ -67,6 +88,16 @@ public class SpringConfiguration implements InitializingBean {
     return processEngine;
   }
 
+  /**
+   * Returns the history level of the process engine. This method returns
+   * {@link HistoryLevel#HISTORY_LEVEL_FULL}, if not overridden.
+   * 
+   * @return The history level.
+   */
+  protected HistoryLevel getHistoryLevel() {
+    return HistoryLevel.HISTORY_LEVEL_FULL;
+  }
+
   /**
    * Returns a list of process engine plugins that are registered at the process engine. The list may
    * be empty, if there are no plugins to register. This method should be overridden by subclasses.
@@ -82,12 +113,19 @@ public class SpringConfiguration implements InitializingBean {
       return this.dataSource;
     }
 
-    // use random database name to avoid SQL errors during schema create/drop
-    String url = String.format("jdbc:h2:mem:bpmndt-%s;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE", UUID.randomUUID().toString());
+    String url = H2SchemaTemplate.createDatabase(USERNAME, "");
+    if (url != null) {
+      createdFromSchemaTemplate = true;
+    } else {
+      // use random database name to avoid SQL errors during schema create/drop
+      url = String.format("jdbc:h2:mem:bpmndt-%s;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE", UUID.randomUUID().toString());
+      writeSchemaTemplate = true;
+    }
 
     DriverManagerDataSource dataSource = new DriverManagerDataSource();
     dataSource.setDriverClassName("org.h2.Driver");
     dataSource.setUrl(url);
+    dataSource.setUsername(USERNAME);
 
     return dataSource;
   }
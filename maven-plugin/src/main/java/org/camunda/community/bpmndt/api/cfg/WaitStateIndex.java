@@ -0,0 +1,266 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandInterceptor;
+import org.camunda.bpm.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.runtime.EventSubscription;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.task.Task;
+
+/**
+ * In-memory index of the wait states (user tasks, jobs and event subscriptions) of process
+ * instances, which allows handlers to resolve the pending task, job or event subscription of an
+ * activity by ID instead of querying by process instance and activity.<br>
+ * The index is a command interceptor, registered by the {@link BpmndtProcessEnginePlugin}. After a
+ * command has been executed, the entities, which have been inserted or deleted, are taken from the
+ * command's entity cache. The index is updated, when the transaction is committed. Since entities
+ * change after they have been indexed (e.g. the retries of a failed job, a suspension or the assignee
+ * of a task), only the ID and the activity ID are indexed - the entity is always loaded.
+ */
+public class WaitStateIndex extends CommandInterceptor {
+
+  /** Wait states - mapped by process instance ID and entity ID. */
+  private final Map<String, Map<String, WaitState>> waitStates = new ConcurrentHashMap<>();
+
+  /**
+   * Finds the wait state index of the given process engine.
+   *
+   * @param processEngine A process engine.
+   *
+   * @return The index or {@code null}, if the index is disabled or the process engine has not been
+   *         configured by the {@link BpmndtProcessEnginePlugin}.
+   */
+  public static WaitStateIndex find(ProcessEngine processEngine) {
+    ProcessEngineConfigurationImpl processEngineConfiguration =
+        (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+
+    List<CommandInterceptor> commandInterceptors = processEngineConfiguration.getCustomPostCommandInterceptorsTxRequired();
+    if (commandInterceptors == null) {
+      return null;
+    }
+
+    return commandInterceptors.stream()
+        .filter((commandInterceptor) -> (commandInterceptor instanceof WaitStateIndex))
+        .map(WaitStateIndex.class::cast)
+        .findFirst()
+        .orElse(null);
+  }
+
+  @Override
+  public <T> T execute(Command<T> command) {
+    T result = next.execute(command);
+
+    CommandContext commandContext = Context.getCommandContext();
+
+    // collect changes, before the entity cache is flushed
+    Map<DbEntity, DbEntityState> changes = new LinkedHashMap<>();
+    for (CachedDbEntity cachedEntity : commandContext.getDbEntityManager().getDbEntityCache().getCachedEntities()) {
+      if (getProcessInstanceId(cachedEntity.getEntity()) != null) {
+        changes.put(cachedEntity.getEntity(), cachedEntity.getEntityState());
+      }
+    }
+
+    if (changes.isEmpty()) {
+      return result;
+    }
+
+    commandContext.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, (cc) -> update(changes));
+
+    return result;
+  }
+
+  private List<String> findIds(String processInstanceId, Class<?> type, String activityId) {
+    Map<String, WaitState> processInstanceWaitStates = waitStates.get(processInstanceId);
+    if (processInstanceWaitStates == null) {
+      return Collections.emptyList();
+    }
+
+    List<String> ids = new LinkedList<>();
+    synchronized (processInstanceWaitStates) {
+      processInstanceWaitStates.forEach((id, waitState) -> {
+        if (waitState.type == type && activityId.equals(waitState.activityId)) {
+          ids.add(id);
+        }
+      });
+    }
+    return ids;
+  }
+
+  /**
+   * Returns the pending event subscriptions of the given activity.
+   *
+   * @param processEngine The process engine, used to load the event subscriptions.
+   *
+   * @param processInstanceId The ID of the related process instance.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return A list of event subscriptions, which is empty, if no event subscription is indexed.
+   */
+  public List<EventSubscription> getEventSubscriptions(ProcessEngine processEngine, String processInstanceId, String activityId) {
+    return load(processInstanceId, EventSubscription.class, activityId, (id) -> processEngine.getRuntimeService()
+        .createEventSubscriptionQuery()
+        .eventSubscriptionId(id)
+        .singleResult());
+  }
+
+  /**
+   * Returns the pending jobs of the given activity.
+   *
+   * @param processEngine The process engine, used to load the jobs.
+   *
+   * @param processInstanceId The ID of the related process instance.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return A list of jobs, which is empty, if no job is indexed.
+   */
+  public List<Job> getJobs(ProcessEngine processEngine, String processInstanceId, String activityId) {
+    return load(processInstanceId, Job.class, activityId, (id) -> processEngine.getManagementService()
+        .createJobQuery()
+        .jobId(id)
+        .singleResult());
+  }
+
+  private String getProcessInstanceId(DbEntity entity) {
+    if (entity instanceof TaskEntity) {
+      return ((TaskEntity) entity).getProcessInstanceId();
+    } else if (entity instanceof JobEntity) {
+      return ((JobEntity) entity).getProcessInstanceId();
+    } else if (entity instanceof EventSubscriptionEntity) {
+      return ((EventSubscriptionEntity) entity).getProcessInstanceId();
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the pending user tasks of the given activity.
+   *
+   * @param processEngine The process engine, used to load the tasks.
+   *
+   * @param processInstanceId The ID of the related process instance.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @return A list of tasks, which is empty, if no task is indexed.
+   */
+  public List<Task> getTasks(ProcessEngine processEngine, String processInstanceId, String activityId) {
+    return load(processInstanceId, Task.class, activityId, (id) -> processEngine.getTaskService()
+        .createTaskQuery()
+        .taskId(id)
+        .singleResult());
+  }
+
+  /**
+   * Loads the indexed entities of the given type and activity by ID. Entities, which do not exist
+   * anymore, are removed from the index.
+   *
+   * @param processInstanceId The ID of the related process instance.
+   *
+   * @param type The entity type.
+   *
+   * @param activityId The ID of the activity.
+   *
+   * @param loader A function, which loads an entity by ID.
+   *
+   * @return A list of entities, which is empty, if no entity is indexed.
+   */
+  private <T> List<T> load(String processInstanceId, Class<T> type, String activityId, Function<String, T> loader) {
+    List<T> entities = new LinkedList<>();
+    for (String id : findIds(processInstanceId, type, activityId)) {
+      T entity = loader.apply(id);
+      if (entity != null) {
+        entities.add(entity);
+      } else {
+        remove(processInstanceId, id);
+      }
+    }
+    return entities;
+  }
+
+  /**
+   * Removes all wait states of the given process instance from the index.
+   *
+   * @param processInstanceId The ID of the process instance.
+   */
+  public void remove(String processInstanceId) {
+    waitStates.remove(processInstanceId);
+  }
+
+  private void remove(String processInstanceId, String id) {
+    waitStates.computeIfPresent(processInstanceId, (key, value) -> {
+      synchronized (value) {
+        value.remove(id);
+        return value.isEmpty() ? null : value;
+      }
+    });
+  }
+
+  private void update(Map<DbEntity, DbEntityState> changes) {
+    changes.forEach((entity, entityState) -> {
+      String processInstanceId = getProcessInstanceId(entity);
+
+      switch (entityState) {
+        case TRANSIENT:
+        case MERGED:
+          Map<String, WaitState> processInstanceWaitStates = waitStates.computeIfAbsent(processInstanceId, (key) -> new LinkedHashMap<>());
+          synchronized (processInstanceWaitStates) {
+            processInstanceWaitStates.put(entity.getId(), WaitState.of(entity));
+          }
+          break;
+        case DELETED_MERGED:
+        case DELETED_PERSISTENT:
+        case DELETED_TRANSIENT:
+          remove(processInstanceId, entity.getId());
+          break;
+        default:
+          // persistent entities, which have only been read, are not indexed
+          break;
+      }
+    });
+  }
+
+  /**
+   * Indexed wait state, consisting of the entity type and the ID of the related activity, which do not
+   * change during the lifetime of the entity.
+   */
+  private static class WaitState {
+
+    private final Class<?> type;
+    private final String activityId;
+
+    private WaitState(Class<?> type, String activityId) {
+      this.type = type;
+      this.activityId = activityId;
+    }
+
+    private static WaitState of(DbEntity entity) {
+      if (entity instanceof TaskEntity) {
+        return new WaitState(Task.class, ((TaskEntity) entity).getTaskDefinitionKey());
+      } else if (entity instanceof JobEntity) {
+        return new WaitState(Job.class, ((JobEntity) entity).getActivityId());
+      } else {
+        return new WaitState(EventSubscription.class, ((EventSubscriptionEntity) entity).getActivityId());
+      }
+    }
+  }
+}
@@ -6,20 +6,14 @@ import java.util.Set;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
-import org.camunda.bpm.model.bpmn.instance.BoundaryEvent;
-import org.camunda.bpm.model.bpmn.instance.Error;
-import org.camunda.bpm.model.bpmn.instance.Escalation;
-import org.camunda.bpm.model.bpmn.instance.IntermediateCatchEvent;
-import org.camunda.bpm.model.bpmn.instance.Message;
-import org.camunda.bpm.model.bpmn.instance.ReceiveTask;
-import org.camunda.bpm.model.bpmn.instance.Signal;
-import org.camunda.community.bpmndt.BpmnEventSupport;
+import org.camunda.community.bpmndt.BpmnEventType;
+import org.camunda.community.bpmndt.BpmnNode;
 import org.camunda.community.bpmndt.BpmnSupport;
+import org.camunda.community.bpmndt.BpmnTestCase;
 import org.camunda.community.bpmndt.GeneratorContext;
 import org.camunda.community.bpmndt.TestCaseActivity;
 import org.camunda.community.bpmndt.TestCaseActivityType;
 import org.camunda.community.bpmndt.TestCaseContext;
-import org.camunda.community.bpmndt.model.TestCase;
 import org.camunda.community.bpmndt.strategy.BoundaryEventStrategy;
 import org.camunda.community.bpmndt.strategy.BoundaryJobStrategy;
 import org.camunda.community.bpmndt.strategy.CallActivityStrategy;
@@ -35,7 +29,7 @@ import com.squareup.javapoet.ClassName;
 /**
  * Builds a new test case context, used for code generation.
  */
-public class BuildTestCaseContext implements Function<TestCase, TestCaseContext> {
+public class BuildTestCaseContext implements Function<BpmnTestCase, TestCaseContext> {
 
   private final GeneratorContext gCtx;
   private final BpmnSupport bpmnSupport;
@@ -50,7 +44,7 @@ public class BuildTestCaseContext implements Function<TestCase, TestCaseContext>
   }
 
   @Override
-  public TestCaseContext apply(TestCase testCase) {
+  public TestCaseContext apply(BpmnTestCase testCase) {
     TestCaseContext ctx = new TestCaseContext(bpmnSupport, testCase);
 
     if (testCaseNames.contains(ctx.getName())) {
@@ -60,7 +54,7 @@ public class BuildTestCaseContext implements Function<TestCase, TestCaseContext>
       testCaseNames.add(ctx.getName());
     }
 
-    List<String> flowNodeIds = testCase.getPath().getFlowNodeIds();
+    List<String> flowNodeIds = testCase.getFlowNodeIds();
 
     for (int i = 0; i < flowNodeIds.size(); i++) {
       String flowNodeId = flowNodeIds.get(i);
@@ -70,7 +64,9 @@ public class BuildTestCaseContext implements Function<TestCase, TestCaseContext>
         continue;
       }
 
-      TestCaseActivity activity = new TestCaseActivity(bpmnSupport.get(flowNodeId), bpmnSupport.getMultiInstance(flowNodeId));
+      BpmnNode flowNode = bpmnSupport.get(flowNodeId);
+
+      TestCaseActivity activity = new TestCaseActivity(flowNode);
 
       if (bpmnSupport.isCallActivity(flowNodeId)) {
         activity.setType(TestCaseActivityType.CALL_ACTIVITY);
@@ -78,19 +74,17 @@ public class BuildTestCaseContext implements Function<TestCase, TestCaseContext>
         activity.setType(TestCaseActivityType.EVENT_BASED_GATEWAY);
       } else if (bpmnSupport.isExternalTask(flowNodeId)) {
         activity.setType(TestCaseActivityType.EXTERNAL_TASK);
-        activity.setTopicName(bpmnSupport.getTopicName(flowNodeId));
+        activity.setTopicName(flowNode.getTopicName());
       } else if (bpmnSupport.isUserTask(flowNodeId)) {
         activity.setType(TestCaseActivityType.USER_TASK);
       } else if (bpmnSupport.isIntermediateCatchEvent(flowNodeId)) {
-        handleIntermediateCatchEvent(activity, flowNodeId);
+        handleIntermediateCatchEvent(activity, flowNode);
       } else if (bpmnSupport.isBoundaryEvent(flowNodeId)) {
-        handleBoundaryEvent(activity, flowNodeId);
+        handleBoundaryEvent(activity, flowNode);
       } else if (bpmnSupport.isReceiveTask(flowNodeId)) {
         // handled like a message catch event
-        Message message = activity.as(ReceiveTask.class).getMessage();
-
         activity.setType(TestCaseActivityType.MESSAGE_CATCH);
-        activity.setEventName(message != null ? message.getName() : null);
+        activity.setEventName(flowNode.getEventName());
       }
 
       DefaultStrategy strategy = getStrategy(activity);
@@ -141,59 +135,65 @@ public class BuildTestCaseContext implements Function<TestCase, TestCaseContext>
     }
   }
 
-  protected void handleBoundaryEvent(TestCaseActivity activity, String flowNodeId) {
-    BoundaryEvent event = activity.as(BoundaryEvent.class);
-
-    activity.setAttachedTo(event.getAttachedTo().getId());
-
-    BpmnEventSupport eventSupport = new BpmnEventSupport(event);
+  protected void handleBoundaryEvent(TestCaseActivity activity, BpmnNode flowNode) {
+    activity.setAttachedTo(flowNode.getAttachedTo());
 
-    if (eventSupport.isConditional()) {
-      activity.setType(TestCaseActivityType.CONDITIONAL_BOUNDARY);
-    } else if (eventSupport.isError()) {
-      Error error = eventSupport.getError();
-
-      activity.setType(TestCaseActivityType.ERROR_BOUNDARY);
-      activity.setEventCode(error != null ? error.getErrorCode() : null);
-    } else if (eventSupport.isEscalation()) {
-      Escalation escalation = eventSupport.getEscalation();
-
-      activity.setType(TestCaseActivityType.ESCALATION_BOUNDARY);
-      activity.setEventCode(escalation != null ? escalation.getEscalationCode() : null);
-    } else if (eventSupport.isMessage()) {
-      Message message = eventSupport.getMessage();
-
-      activity.setType(TestCaseActivityType.MESSAGE_BOUNDARY);
-      activity.setEventName(message != null ? message.getName() : null);
-    } else if (eventSupport.isSignal()) {
-      Signal signal = eventSupport.getSignal();
+    BpmnEventType eventType = flowNode.getEventType();
+    if (eventType == null) {
+      return;
+    }
 
-      activity.setType(TestCaseActivityType.SIGNAL_BOUNDARY);
-      activity.setEventName(signal != null ? signal.getName() : null);
-    } else if (eventSupport.isTimer()) {
-      activity.setType(TestCaseActivityType.TIMER_BOUNDARY);
+    switch (eventType) {
+      case CONDITIONAL:
+        activity.setType(TestCaseActivityType.CONDITIONAL_BOUNDARY);
+        break;
+      case ERROR:
+        activity.setType(TestCaseActivityType.ERROR_BOUNDARY);
+        activity.setEventCode(flowNode.getEventCode());
+        break;
+      case ESCALATION:
+        activity.setType(TestCaseActivityType.ESCALATION_BOUNDARY);
+        activity.setEventCode(flowNode.getEventCode());
+        break;
+      case MESSAGE:
+        activity.setType(TestCaseActivityType.MESSAGE_BOUNDARY);
+        activity.setEventName(flowNode.getEventName());
+        break;
+      case SIGNAL:
+        activity.setType(TestCaseActivityType.SIGNAL_BOUNDARY);
+        activity.setEventName(flowNode.getEventName());
+        break;
+      case TIMER:
+        activity.setType(TestCaseActivityType.TIMER_BOUNDARY);
+        break;
+      default:
+        break;
     }
   }
 
-  protected void handleIntermediateCatchEvent(TestCaseActivity activity, String flowNodeId) {
-    IntermediateCatchEvent event = activity.as(IntermediateCatchEvent.class);
-
-    BpmnEventSupport eventSupport = new BpmnEventSupport(event);
-
-    if (eventSupport.isConditional()) {
-      activity.setType(TestCaseActivityType.CONDITIONAL_CATCH);
-    } else if (eventSupport.isMessage()) {
-      Message message = eventSupport.getMessage();
-
-      activity.setType(TestCaseActivityType.MESSAGE_CATCH);
-      activity.setEventName(message != null ? message.getName() : null);
-    } else if (eventSupport.isSignal()) {
-      Signal signal = eventSupport.getSignal();
+  protected void handleIntermediateCatchEvent(TestCaseActivity activity, BpmnNode flowNode) {
+    BpmnEventType eventType = flowNode.getEventType();
+    if (eventType == null) {
+      return;
+    }
 
-      activity.setType(TestCaseActivityType.SIGNAL_CATCH);
-      activity.setEventName(signal != null ? signal.getName() : null);
-    } else if (eventSupport.isTimer()) {
-      activity.setType(TestCaseActivityType.TIMER_CATCH);
+    switch (eventType) {
+      case CONDITIONAL:
+        activity.setType(TestCaseActivityType.CONDITIONAL_CATCH);
+        break;
+      case MESSAGE:
+        activity.setType(TestCaseActivityType.MESSAGE_CATCH);
+        activity.setEventName(flowNode.getEventName());
+        break;
+      case SIGNAL:
+        activity.setType(TestCaseActivityType.SIGNAL_CATCH);
+        activity.setEventName(flowNode.getEventName());
+        break;
+      case TIMER:
+        activity.setType(TestCaseActivityType.TIMER_CATCH);
+        break;
+      default:
+        break;
     }
   }
 
@@ -0,0 +1,56 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.camunda.community.bpmndt.api.cfg.CoverageCollector;
+
+/**
+ * Deletes the coverage data files of a previous test run from the coverage directory, so that they
+ * are not merged with the data files of the current run. Incomplete data files, which have not been
+ * moved, are deleted as well.
+ */
+public class DeleteCoverage implements Function<Path, List<Path>> {
+
+  /**
+   * Deletes the coverage data files.
+   *
+   * @param coverageDirectory The directory, containing the data files.
+   *
+   * @return The deleted files or an empty list, if the directory does not exist.
+   */
+  @Override
+  public List<Path> apply(Path coverageDirectory) {
+    if (!Files.isDirectory(coverageDirectory)) {
+      return Collections.emptyList();
+    }
+
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(coverageDirectory)) {
+      files = paths.filter(this::isDataFile).sorted().collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Coverage data files under '%s' could not be listed", coverageDirectory), e);
+    }
+
+    for (Path file : files) {
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Coverage data file '%s' could not be deleted", file), e);
+      }
+    }
+
+    return files;
+  }
+
+  private boolean isDataFile(Path path) {
+    String fileName = path.getFileName().toString();
+    return Files.isRegularFile(path) && (fileName.endsWith(CoverageCollector.FILE_EXTENSION) || fileName.endsWith(".tmp"));
+  }
+}
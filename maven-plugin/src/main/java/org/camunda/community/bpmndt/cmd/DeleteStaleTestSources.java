@@ -0,0 +1,82 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.apache.maven.plugin.logging.Log;
+import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorOutput;
+
+/**
+ * Deletes all files within the test source directory, which are not part of the generator's output
+ * - e.g. because a test case has been renamed or a BPMN file has been removed. Directories, which
+ * become empty, are deleted as well.
+ */
+public class DeleteStaleTestSources extends SimpleFileVisitor<Path> implements Consumer<GeneratorOutput> {
+
+  private final Log log;
+
+  private final GeneratorContext ctx;
+
+  private GeneratorOutput output;
+
+  public DeleteStaleTestSources(Log log, GeneratorContext ctx) {
+    this.log = log;
+    this.ctx = ctx;
+  }
+
+  @Override
+  public void accept(GeneratorOutput output) {
+    if (!Files.isDirectory(ctx.getTestSourcePath())) {
+      return;
+    }
+
+    this.output = output;
+
+    try {
+      Files.walkFileTree(ctx.getTestSourcePath(), this);
+    } catch (IOException e) {
+      throw new RuntimeException("Stale test sources could not be deleted", e);
+    }
+  }
+
+  @Override
+  public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+    if (e != null) {
+      throw e;
+    }
+
+    if (Files.isSameFile(dir, ctx.getTestSourcePath())) {
+      return FileVisitResult.CONTINUE;
+    }
+
+    try (Stream<Path> children = Files.list(dir)) {
+      if (!children.findAny().isPresent()) {
+        Files.delete(dir);
+      }
+    }
+
+    return FileVisitResult.CONTINUE;
+  }
+
+  @Override
+  public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+    if (output.contains(file)) {
+      return FileVisitResult.CONTINUE;
+    }
+
+    String relativePath = ctx.getBasePath().relativize(file).toString().replace('\\', '/');
+    log.info(String.format("Deleting file: %s", relativePath));
+
+    Files.delete(file);
+    output.deleted(file);
+
+    return FileVisitResult.CONTINUE;
+  }
+}
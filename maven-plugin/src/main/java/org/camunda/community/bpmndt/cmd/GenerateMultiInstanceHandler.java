@@ -65,11 +65,16 @@ public class GenerateMultiInstanceHandler implements Consumer<TestCaseActivity>
       classBuilder.addMethod(buildHandleBoundaryEvent(activity));
     }
 
-    if (!activity.getMultiInstance().isSequential()) {
+    if (!activity.isMultiInstanceSequential()) {
       // override to return false, because it is parallel
       classBuilder.addMethod(buildIsSequential());
     }
 
+    if (!activity.isMultiInstanceSequential() && activity.getType() != TestCaseActivityType.OTHER) {
+      // override to return false, because the activity must be handled per loop
+      classBuilder.addMethod(buildIsBatchSupported());
+    }
+
     String packageName = String.format("%s.%s", gCtx.getPackageName(), ctx.getPackageName());
 
     JavaFile javaFile = JavaFile.builder(packageName, classBuilder.build())
@@ -102,7 +107,7 @@ public class GenerateMultiInstanceHandler implements Consumer<TestCaseActivity>
       builder.addCode("\n");
       builder.beginControlFlow("if (handler.isWaitingForBoundaryEvent())");
       builder.addCode("// $L: $L\n", next.getTypeName(), next.getId());
-      builder.addStatement("instance.apply(boundaryEventHandler)");
+      builder.addStatement("instance.apply(handleBoundaryEvent())");
 
       builder.addCode("\n");
       builder.addStatement("return false");
@@ -128,13 +133,6 @@ public class GenerateMultiInstanceHandler implements Consumer<TestCaseActivity>
         .addParameter(String.class, "activityId")
         .addStatement("super(instance, activityId)");
 
-    if (hasSupportedBoundaryEventAttached(activity)) {
-      TestCaseActivity next = activity.getNext();
-
-      builder.addCode("\n// $L: $L\n", next.getTypeName(), next.getId());
-      builder.addStatement("boundaryEventHandler = $L", next.getStrategy().initHandlerStatement());
-    }
-
     return builder.build();
   }
 
@@ -157,10 +155,22 @@ public class GenerateMultiInstanceHandler implements Consumer<TestCaseActivity>
         .addJavadoc("Returns the handler for $L: $L", next.getTypeName(), next.getId())
         .addModifiers(Modifier.PUBLIC)
         .returns(next.getStrategy().getHandlerType())
+        .beginControlFlow("if (boundaryEventHandler == null)")
+        .addStatement("boundaryEventHandler = $L", next.getStrategy().initHandlerStatement())
+        .endControlFlow()
         .addStatement("return boundaryEventHandler")
         .build();
   }
 
+  protected MethodSpec buildIsBatchSupported() {
+    return MethodSpec.methodBuilder("isBatchSupported")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PROTECTED)
+        .returns(TypeName.BOOLEAN)
+        .addStatement("return false")
+        .build();
+  }
+
   protected MethodSpec buildIsSequential() {
     return MethodSpec.methodBuilder("isSequential")
         .addAnnotation(Override.class)
@@ -6,7 +6,6 @@ import java.util.function.Consumer;
 
 import javax.lang.model.element.Modifier;
 
-import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
 import org.camunda.community.bpmndt.GeneratorContext;
 import org.camunda.community.bpmndt.GeneratorResult;
 import org.camunda.community.bpmndt.GeneratorStrategy;
@@ -15,6 +14,7 @@ import org.camunda.community.bpmndt.TestCaseContext;
 import org.camunda.community.bpmndt.api.AbstractJUnit4TestCase;
 import org.camunda.community.bpmndt.api.AbstractJUnit5TestCase;
 import org.camunda.community.bpmndt.cmd.generation.Execute;
+import org.camunda.community.bpmndt.cmd.generation.ExecutePlan;
 import org.camunda.community.bpmndt.cmd.generation.GetProcessEnginePlugins;
 import org.camunda.community.bpmndt.cmd.generation.BeforeEach;
 
@@ -49,10 +49,19 @@ public class GenerateTestCase implements Consumer<TestCaseContext> {
         .superclass(getSuperClass(ctx))
         .addModifiers(Modifier.PUBLIC);
 
+    if (gCtx.isStepPlanEnabled() && ctx.isValid()) {
+      classBuilder.addField(new ExecutePlan().buildPlanField(ctx));
+    }
+
     addHandlerFields(ctx, classBuilder);
 
     classBuilder.addMethod(new BeforeEach().apply(ctx));
-    classBuilder.addMethod(new Execute().apply(ctx));
+
+    if (gCtx.isStepPlanEnabled()) {
+      classBuilder.addMethod(new ExecutePlan().apply(ctx));
+    } else {
+      classBuilder.addMethod(new Execute().apply(ctx));
+    }
 
     classBuilder.addMethod(buildGetBpmnResourceName(gCtx, ctx));
     classBuilder.addMethod(buildGetEnd(ctx));
@@ -77,7 +86,6 @@ public class GenerateTestCase implements Consumer<TestCaseContext> {
     String packageName = String.format("%s.%s", gCtx.getPackageName(), ctx.getPackageName());
 
     JavaFile javaFile = JavaFile.builder(packageName, classBuilder.build())
-        .addStaticImport(ProcessEngineTests.class, "assertThat")
         .skipJavaLangImports(true)
         .build();
 
@@ -112,7 +120,7 @@ public class GenerateTestCase implements Consumer<TestCaseContext> {
     for (TestCaseActivity activity : ctx.getActivities()) {
       GeneratorStrategy strategy = activity.getStrategy();
 
-      if (activity.isAsyncBefore()) {
+      if (strategy.shouldHandleBefore()) {
         strategy.addHandlerMethodBefore(classBuilder);
       }
 
@@ -0,0 +1,54 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Function;
+
+/**
+ * Computes the SHA-256 hash of a file's content, encoded as hex string.
+ */
+public class HashFile implements Function<Path, String> {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  @Override
+  public String apply(Path file) {
+    byte[] content;
+    try {
+      content = Files.readAllBytes(file);
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("File '%s' could not be read", file), e);
+    }
+
+    return hash(content);
+  }
+
+  /**
+   * Computes the SHA-256 hash of the given content.
+   * 
+   * @param content Arbitrary content.
+   * 
+   * @return The hash, encoded as hex string.
+   */
+  public String hash(byte[] content) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("SHA-256 message digest is not available", e);
+    }
+
+    byte[] hash = digest.digest(content);
+
+    char[] hex = new char[hash.length * 2];
+    for (int i = 0; i < hash.length; i++) {
+      hex[i * 2] = HEX[(hash[i] >> 4) & 0x0f];
+      hex[i * 2 + 1] = HEX[hash[i] & 0x0f];
+    }
+
+    return new String(hex);
+  }
+}
@@ -0,0 +1,57 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import org.camunda.community.bpmndt.BpmnNode;
+import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorManifest;
+import org.camunda.community.bpmndt.TestCaseActivity;
+import org.camunda.community.bpmndt.TestCaseContext;
+
+/**
+ * Computes the path fingerprint of a test case - the SHA-256 hash of the generator settings, the
+ * process ID and the relevant attributes of the flow nodes on the test case's path (type, async
+ * flags, event definition, multi instance settings and external task topic). If the fingerprint of
+ * a test case changes, the test case is affected by a BPMN or settings change.
+ */
+public class HashTestCase implements Function<TestCaseContext, String> {
+
+  private final String settings;
+
+  public HashTestCase(GeneratorContext gCtx) {
+    settings = GeneratorManifest.settingsOf(gCtx);
+  }
+
+  @Override
+  public String apply(TestCaseContext ctx) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("settings=").append(settings).append('\n');
+    sb.append("processId=").append(ctx.getProcessId()).append('\n');
+
+    for (TestCaseActivity activity : ctx.getActivities()) {
+      BpmnNode flowNode = activity.getFlowNode();
+
+      sb.append("node=").append(flowNode.getId());
+      sb.append(";type=").append(flowNode.getTypeName());
+      sb.append(";activityType=").append(activity.getType());
+      sb.append(";asyncBefore=").append(flowNode.isAsyncBefore());
+      sb.append(";asyncAfter=").append(flowNode.isAsyncAfter());
+      sb.append(";attachedTo=").append(flowNode.getAttachedTo());
+      sb.append(";eventType=").append(flowNode.getEventType());
+      sb.append(";eventCode=").append(flowNode.getEventCode());
+      sb.append(";eventName=").append(flowNode.getEventName());
+      sb.append(";multiInstance=").append(flowNode.isMultiInstance());
+      sb.append(";sequential=").append(flowNode.isSequential());
+      sb.append(";topicName=").append(flowNode.getTopicName());
+      sb.append(";processEnd=").append(activity.isProcessEnd());
+      sb.append('\n');
+    }
+
+    for (String flowNodeId : ctx.getInvalidFlowNodeIds()) {
+      sb.append("invalid=").append(flowNodeId).append('\n');
+    }
+
+    return new HashFile().hash(sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+}
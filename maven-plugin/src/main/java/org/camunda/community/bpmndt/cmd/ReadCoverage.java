@@ -0,0 +1,74 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.camunda.community.bpmndt.api.cfg.CoverageCollector;
+
+/**
+ * Reads the coverage data files, written by the {@link CoverageCollector} of each JVM that executed
+ * tests, from the coverage directory and merges them.
+ */
+public class ReadCoverage implements Function<Path, Map<String, Set<String>>> {
+
+  /**
+   * Reads and merges the coverage data files.
+   *
+   * @param coverageDirectory The directory, containing the data files.
+   *
+   * @return The IDs of the passed flow nodes and sequence flows, mapped by process definition key, or
+   *         an empty map, if the directory does not exist.
+   */
+  @Override
+  public Map<String, Set<String>> apply(Path coverageDirectory) {
+    if (!Files.isDirectory(coverageDirectory)) {
+      return Collections.emptyMap();
+    }
+
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(coverageDirectory)) {
+      files = paths.filter(this::isDataFile).sorted().collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("Coverage data files under '%s' could not be listed", coverageDirectory), e);
+    }
+
+    Map<String, Set<String>> coverage = new TreeMap<>();
+    for (Path file : files) {
+      try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        read(r, coverage);
+      } catch (IOException e) {
+        throw new RuntimeException(String.format("Coverage data file '%s' could not be read", file), e);
+      }
+    }
+
+    return coverage;
+  }
+
+  private boolean isDataFile(Path path) {
+    return Files.isRegularFile(path) && path.getFileName().toString().endsWith(CoverageCollector.FILE_EXTENSION);
+  }
+
+  protected void read(BufferedReader r, Map<String, Set<String>> coverage) throws IOException {
+    String line;
+    while ((line = r.readLine()) != null) {
+      String[] parts = line.split("\t");
+
+      // ignore malformed lines - the element is considered not covered
+      if (parts.length == 2) {
+        coverage.computeIfAbsent(parts[0], (key) -> new TreeSet<>()).add(parts[1]);
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.camunda.community.bpmndt.Constants;
+import org.camunda.community.bpmndt.GeneratorContext;
+
+/**
+ * Reads the path fingerprints of the test cases, generated by the last build, from the build
+ * directory.
+ * 
+ * @see WriteFingerprints
+ */
+public class ReadFingerprints implements Function<GeneratorContext, Map<String, String>> {
+
+  /**
+   * Reads the fingerprints.
+   * 
+   * @param ctx The current generator context.
+   * 
+   * @return The fingerprints, mapped by the path of the Java file, or an empty map, if no fingerprints
+   *         exist.
+   */
+  @Override
+  public Map<String, String> apply(GeneratorContext ctx) {
+    Path fingerprintsPath = ctx.getTestSourcePath().resolveSibling(Constants.FINGERPRINTS_FILE_NAME);
+    if (!Files.isRegularFile(fingerprintsPath)) {
+      return Collections.emptyMap();
+    }
+
+    try (BufferedReader r = Files.newBufferedReader(fingerprintsPath, StandardCharsets.UTF_8)) {
+      return read(r);
+    } catch (IOException e) {
+      throw new RuntimeException("Fingerprints could not be read", e);
+    }
+  }
+
+  protected Map<String, String> read(BufferedReader r) throws IOException {
+    Map<String, String> fingerprints = new TreeMap<>();
+
+    String line;
+    while ((line = r.readLine()) != null) {
+      String[] parts = line.split("\t");
+
+      // ignore malformed lines - the test case is considered affected
+      if (parts.length == 2) {
+        fingerprints.put(parts[1], parts[0]);
+      }
+    }
+
+    return fingerprints;
+  }
+}
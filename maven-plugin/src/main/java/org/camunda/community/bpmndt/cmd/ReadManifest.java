@@ -0,0 +1,81 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.camunda.community.bpmndt.Constants;
+import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorManifest;
+
+/**
+ * Reads the manifest of the last incremental generation from the test source directory.
+ * 
+ * @see WriteManifest
+ */
+public class ReadManifest implements Function<GeneratorContext, GeneratorManifest> {
+
+  /**
+   * Reads the manifest.
+   * 
+   * @param ctx The current generator context.
+   * 
+   * @return The manifest or {@code null}, if no manifest exists or if the existing manifest is
+   *         malformed.
+   */
+  @Override
+  public GeneratorManifest apply(GeneratorContext ctx) {
+    Path manifestPath = ctx.getTestSourcePath().resolve(Constants.MANIFEST_FILE_NAME);
+    if (!Files.isRegularFile(manifestPath)) {
+      return null;
+    }
+
+    try (BufferedReader r = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+      return read(r);
+    } catch (IOException e) {
+      throw new RuntimeException("Manifest could not be read", e);
+    }
+  }
+
+  protected GeneratorManifest read(BufferedReader r) throws IOException {
+    GeneratorManifest manifest = null;
+
+    String bpmnFile = null;
+    String hash = null;
+    List<String> files = null;
+
+    String line;
+    while ((line = r.readLine()) != null) {
+      String[] parts = line.split("\t");
+
+      if (parts[0].equals(WriteManifest.SETTINGS) && parts.length == 2) {
+        manifest = new GeneratorManifest(parts[1]);
+      } else if (manifest == null) {
+        return null;
+      } else if (parts[0].equals(WriteManifest.BPMN) && parts.length == 3) {
+        if (bpmnFile != null) {
+          manifest.add(bpmnFile, hash, files);
+        }
+
+        hash = parts[1];
+        bpmnFile = parts[2];
+        files = new LinkedList<>();
+      } else if (parts[0].equals(WriteManifest.JAVA) && parts.length == 2 && bpmnFile != null) {
+        files.add(parts[1]);
+      } else {
+        return null;
+      }
+    }
+
+    if (manifest != null && bpmnFile != null) {
+      manifest.add(bpmnFile, hash, files);
+    }
+
+    return manifest;
+  }
+}
@@ -0,0 +1,172 @@
+package org.camunda.community.bpmndt.cmd;
+
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN20_NS;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ATTRIBUTE_ID;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_DOCUMENTATION;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_EXTENSION_ELEMENTS;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.BPMN_ELEMENT_PROCESS;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ATTRIBUTE_NAME;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ELEMENT_PROPERTIES;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_ELEMENT_PROPERTY;
+import static org.camunda.bpm.model.bpmn.impl.BpmnModelConstants.CAMUNDA_NS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.camunda.community.bpmndt.Constants;
+
+/**
+ * Pre-scans a BPMN file, using a streaming parser, to determine if the process defines test cases or
+ * opts in to the automatic path enumeration - without building and validating the complete model. Since the BPMN schema requires the extension
+ * elements to precede the flow elements, the scan stops at the first flow element of the process.
+ * The first process is considered only, like {@code BpmnSupport} does.
+ */
+public class ScanBpmnFile implements Function<Path, ScanBpmnFile.Result> {
+
+  private final XMLInputFactory factory;
+
+  public ScanBpmnFile() {
+    factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+  }
+
+  @Override
+  public Result apply(Path bpmnFile) {
+    try (InputStream in = Files.newInputStream(bpmnFile)) {
+      XMLStreamReader reader = factory.createXMLStreamReader(in);
+      try {
+        return scan(reader);
+      } finally {
+        reader.close();
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("BPMN file could not be read", e);
+    } catch (XMLStreamException e) {
+      // let the full parse report the error
+      return new Result(null, true);
+    }
+  }
+
+  private Result scan(XMLStreamReader reader) throws XMLStreamException {
+    String processId = null;
+
+    // true, if the scan is within the first process
+    boolean process = false;
+    // depth, relative to the process element
+    int depth = 0;
+    // true, if the scan is within the extension elements of the process
+    boolean extensionElements = false;
+    // true, if the scan is within the Camunda properties of the process
+    boolean properties = false;
+
+    while (reader.hasNext()) {
+      int event = reader.next();
+
+      if (event == XMLStreamConstants.END_ELEMENT && process) {
+        if (depth == 0) {
+          // end of process reached
+          return new Result(processId, false);
+        }
+        if (depth == 1) {
+          extensionElements = false;
+        } else if (depth == 2) {
+          properties = false;
+        }
+
+        depth--;
+        continue;
+      }
+
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+
+      String namespaceUri = reader.getNamespaceURI();
+      String localName = reader.getLocalName();
+
+      if (!process) {
+        if (BPMN20_NS.equals(namespaceUri) && BPMN_ELEMENT_PROCESS.equals(localName)) {
+          process = true;
+          processId = reader.getAttributeValue(null, BPMN_ATTRIBUTE_ID);
+        }
+        continue;
+      }
+
+      depth++;
+
+      if (depth == 1) {
+        if (!BPMN20_NS.equals(namespaceUri)) {
+          return new Result(processId, false);
+        }
+        if (BPMN_ELEMENT_EXTENSION_ELEMENTS.equals(localName)) {
+          extensionElements = true;
+        } else if (!BPMN_ELEMENT_DOCUMENTATION.equals(localName)) {
+          // first flow element reached
+          return new Result(processId, false);
+        }
+      } else if (depth == 2 && extensionElements) {
+        if (Constants.NS.equals(namespaceUri) && Constants.ELEMENT_TEST_CASES.equals(localName)) {
+          return new Result(processId, true);
+        }
+        if (CAMUNDA_NS.equals(namespaceUri) && CAMUNDA_ELEMENT_PROPERTIES.equals(localName)) {
+          properties = true;
+        }
+      } else if (depth == 3 && properties) {
+        if (CAMUNDA_NS.equals(namespaceUri) && CAMUNDA_ELEMENT_PROPERTY.equals(localName)
+            && Constants.PROPERTY_ENUMERATE_PATHS.equals(reader.getAttributeValue(null, CAMUNDA_ATTRIBUTE_NAME))) {
+          // the full parse determines, if the path enumeration is enabled
+          return new Result(processId, true);
+        }
+      }
+    }
+
+    // no process found - let the full parse report the error
+    return new Result(null, true);
+  }
+
+  /**
+   * Result of a BPMN file pre-scan.
+   */
+  public static class Result {
+
+    private final String processId;
+    private final boolean testCases;
+
+    private Result(String processId, boolean testCases) {
+      this.processId = processId;
+      this.testCases = testCases;
+    }
+
+    /**
+     * Returns the ID of the first process.
+     *
+     * @return The process ID or {@code null}, if the BPMN file has no process or could not be
+     *         scanned.
+     */
+    public String getProcessId() {
+      return processId;
+    }
+
+    /**
+     * Determines if the process may define test cases or may opt in to the automatic path enumeration
+     * and therefore must be fully parsed. This is also the case, if the BPMN file could not be
+     * scanned, so that the full parse can report the error.
+     *
+     * @return {@code true}, if the process has a test cases extension element or a path enumeration
+     *         property. Otherwise {@code false}.
+     */
+    public boolean hasTestCases() {
+      return testCases;
+    }
+  }
+}
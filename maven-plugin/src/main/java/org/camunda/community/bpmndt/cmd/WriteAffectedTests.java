@@ -0,0 +1,42 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+import org.camunda.community.bpmndt.Constants;
+import org.camunda.community.bpmndt.GeneratorContext;
+
+/**
+ * Writes the include file, which lists the affected test cases, to the build directory - the parent
+ * directory of the test source directory. Each line is the path of a test case's Java file, relative
+ * to the test source directory (e.g. {@code org/example/TC_Happy_Path.java}). The file can be used
+ * as {@code includesFile} of the Surefire or Failsafe plugin.
+ */
+public class WriteAffectedTests implements BiConsumer<GeneratorContext, Collection<String>> {
+
+  @Override
+  public void accept(GeneratorContext ctx, Collection<String> files) {
+    Path affectedTestsPath = ctx.getTestSourcePath().resolveSibling(Constants.AFFECTED_TESTS_FILE_NAME);
+
+    // create parent directories
+    try {
+      Files.createDirectories(affectedTestsPath.getParent());
+    } catch (IOException e) {
+      throw new RuntimeException("Parent directories could not be created", e);
+    }
+
+    try (Writer w = Files.newBufferedWriter(affectedTestsPath, StandardCharsets.UTF_8)) {
+      for (String file : files) {
+        w.write(file);
+        w.write('\n');
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Affected test cases could not be written", e);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+import org.camunda.community.bpmndt.BpmnCoverage;
+import org.camunda.community.bpmndt.BpmnCoverage.Element;
+import org.camunda.community.bpmndt.Constants;
+
+/**
+ * Writes the coverage of a BPMN file as JSON and HTML report to the report directory. The reports
+ * retain the path of the BPMN file, relative to the main resource directory - e.g. the reports of
+ * {@code org/example/order.bpmn} are {@code org/example/order.json} and
+ * {@code org/example/order.html}.
+ */
+public class WriteCoverageReport implements BiConsumer<Path, BpmnCoverage> {
+
+  /** Used to quote JSON strings, like the metrics report does. */
+  private final WriteMetrics writeMetrics = new WriteMetrics();
+
+  @Override
+  public void accept(Path reportDirectory, BpmnCoverage coverage) {
+    String path = coverage.getPath();
+    if (path.endsWith(Constants.BPMN_EXTENSION)) {
+      path = path.substring(0, path.length() - Constants.BPMN_EXTENSION.length());
+    }
+
+    Path jsonPath = reportDirectory.resolve(path + ".json");
+    Path htmlPath = reportDirectory.resolve(path + ".html");
+
+    // create parent directories
+    try {
+      Files.createDirectories(jsonPath.getParent());
+    } catch (IOException e) {
+      throw new RuntimeException("Parent directories could not be created", e);
+    }
+
+    try (Writer w = Files.newBufferedWriter(jsonPath, StandardCharsets.UTF_8)) {
+      writeJson(w, coverage);
+    } catch (IOException e) {
+      throw new RuntimeException("JSON coverage report could not be written", e);
+    }
+
+    try (Writer w = Files.newBufferedWriter(htmlPath, StandardCharsets.UTF_8)) {
+      writeHtml(w, coverage);
+    } catch (IOException e) {
+      throw new RuntimeException("HTML coverage report could not be written", e);
+    }
+  }
+
+  /**
+   * Escapes the given value for the use within HTML text or attribute values.
+   *
+   * @param value A value.
+   *
+   * @return The escaped value.
+   */
+  protected String escape(String value) {
+    StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '&':
+          sb.append("&amp;");
+          break;
+        case '<':
+          sb.append("&lt;");
+          break;
+        case '>':
+          sb.append("&gt;");
+          break;
+        case '"':
+          sb.append("&quot;");
+          break;
+        case '\'':
+          sb.append("&#39;");
+          break;
+        default:
+          sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private String percentage(int covered, int total) {
+    return total != 0 ? String.format(Locale.ENGLISH, "%.1f%%", covered * 100.0 / total) : "-";
+  }
+
+  protected void writeHtml(Writer w, BpmnCoverage coverage) throws IOException {
+    String title = escape(String.format("Coverage of %s", coverage.getPath()));
+
+    w.write("<!DOCTYPE html>\n");
+    w.write("<html>\n");
+    w.write("<head>\n");
+    w.write("<meta charset=\"utf-8\">\n");
+    w.write(String.format("<title>%s</title>\n", title));
+    w.write("<style>\n");
+    w.write("body { font-family: sans-serif; }\n");
+    w.write("table { border-collapse: collapse; }\n");
+    w.write("th, td { border: 1px solid #ccc; padding: 4px 8px; text-align: left; }\n");
+    w.write(".covered { background-color: #dfd; }\n");
+    w.write(".uncovered { background-color: #fdd; }\n");
+    w.write("</style>\n");
+    w.write("</head>\n");
+    w.write("<body>\n");
+    w.write(String.format("<h1>%s</h1>\n", title));
+    w.write(String.format("<p>Process: %s</p>\n", escape(String.valueOf(coverage.getProcessId()))));
+
+    w.write("<table>\n");
+    w.write("<tr><th>Element</th><th>Covered</th><th>Total</th><th>Coverage</th></tr>\n");
+    writeHtmlSummary(w, "Flow nodes", coverage.getCoveredFlowNodeCount(), coverage.getFlowNodeCount());
+    writeHtmlSummary(w, "Sequence flows", coverage.getCoveredSequenceFlowCount(), coverage.getSequenceFlowCount());
+    w.write("</table>\n");
+
+    w.write("<h2>Elements</h2>\n");
+    w.write("<table>\n");
+    w.write("<tr><th>ID</th><th>Type</th><th>Covered</th></tr>\n");
+    for (Element element : coverage.getElements()) {
+      w.write(String.format("<tr class=\"%s\"><td>%s</td><td>%s</td><td>%s</td></tr>\n", element.isCovered() ? "covered" : "uncovered",
+          escape(element.getId()), escape(element.getTypeName()), element.isCovered() ? "yes" : "no"));
+    }
+    w.write("</table>\n");
+
+    w.write("</body>\n");
+    w.write("</html>\n");
+  }
+
+  private void writeHtmlSummary(Writer w, String name, int covered, int total) throws IOException {
+    w.write(String.format("<tr><td>%s</td><td>%d</td><td>%d</td><td>%s</td></tr>\n", name, covered, total, percentage(covered, total)));
+  }
+
+  protected void writeJson(Writer w, BpmnCoverage coverage) throws IOException {
+    w.write("{\n");
+    w.write(String.format("  \"path\": %s,\n", writeMetrics.quote(coverage.getPath())));
+    w.write(String.format("  \"processId\": %s,\n", writeMetrics.quote(coverage.getProcessId())));
+    w.write(String.format("  \"flowNodes\": { \"covered\": %d, \"total\": %d },\n", coverage.getCoveredFlowNodeCount(),
+        coverage.getFlowNodeCount()));
+    w.write(String.format("  \"sequenceFlows\": { \"covered\": %d, \"total\": %d },\n", coverage.getCoveredSequenceFlowCount(),
+        coverage.getSequenceFlowCount()));
+    w.write("  \"elements\": [");
+
+    List<Element> elements = coverage.getElements();
+    for (int i = 0; i < elements.size(); i++) {
+      Element element = elements.get(i);
+
+      w.write(i == 0 ? "\n" : ",\n");
+      w.write(String.format("    { \"id\": %s, \"type\": %s, \"covered\": %s }", writeMetrics.quote(element.getId()),
+          writeMetrics.quote(element.getTypeName()), element.isCovered()));
+    }
+
+    w.write(elements.isEmpty() ? "]\n" : "\n  ]\n");
+    w.write("}\n");
+  }
+}
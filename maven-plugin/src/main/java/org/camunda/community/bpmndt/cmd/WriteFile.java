@@ -0,0 +1,62 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BiFunction;
+
+/**
+ * Writes content to a file, if the file does not exist or if its content differs. An existing file
+ * is compared by size first and by hash afterwards. Unchanged files are not touched, so that their
+ * last modified time is kept and the compiler does not need to recompile them.
+ */
+public class WriteFile implements BiFunction<Path, byte[], Boolean> {
+
+  /**
+   * Writes the content, if required.
+   * 
+   * @param file The file to write.
+   * 
+   * @param content The file's content.
+   * 
+   * @return {@code true}, if the file has been written. {@code false}, if the file is unchanged.
+   */
+  @Override
+  public Boolean apply(Path file, byte[] content) {
+    if (isUnchanged(file, content)) {
+      return Boolean.FALSE;
+    }
+
+    // create parent directories
+    try {
+      Files.createDirectories(file.getParent());
+    } catch (IOException e) {
+      throw new RuntimeException("Parent directories could not be created", e);
+    }
+
+    try {
+      Files.write(file, content);
+    } catch (IOException e) {
+      throw new RuntimeException(String.format("File '%s' could not be written", file), e);
+    }
+
+    return Boolean.TRUE;
+  }
+
+  protected boolean isUnchanged(Path file, byte[] content) {
+    if (!Files.isRegularFile(file)) {
+      return false;
+    }
+
+    try {
+      if (Files.size(file) != content.length) {
+        return false;
+      }
+    } catch (IOException e) {
+      return false;
+    }
+
+    HashFile hashFile = new HashFile();
+    return hashFile.apply(file).equals(hashFile.hash(content));
+  }
+}
@@ -0,0 +1,46 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.camunda.community.bpmndt.Constants;
+import org.camunda.community.bpmndt.GeneratorContext;
+
+/**
+ * Writes the path fingerprints of the generated test cases to the build directory - the parent
+ * directory of the test source directory. The file is a tab separated text file, which consists of
+ * a line per test case (fingerprint and relative path of the Java file).
+ * 
+ * @see ReadFingerprints
+ */
+public class WriteFingerprints implements BiConsumer<GeneratorContext, Map<String, String>> {
+
+  @Override
+  public void accept(GeneratorContext ctx, Map<String, String> fingerprints) {
+    Path fingerprintsPath = ctx.getTestSourcePath().resolveSibling(Constants.FINGERPRINTS_FILE_NAME);
+
+    // create parent directories
+    try {
+      Files.createDirectories(fingerprintsPath.getParent());
+    } catch (IOException e) {
+      throw new RuntimeException("Parent directories could not be created", e);
+    }
+
+    try (Writer w = Files.newBufferedWriter(fingerprintsPath, StandardCharsets.UTF_8)) {
+      write(w, fingerprints);
+    } catch (IOException e) {
+      throw new RuntimeException("Fingerprints could not be written", e);
+    }
+  }
+
+  protected void write(Writer w, Map<String, String> fingerprints) throws IOException {
+    for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+      w.write(String.format("%s\t%s\n", entry.getValue(), entry.getKey()));
+    }
+  }
+}
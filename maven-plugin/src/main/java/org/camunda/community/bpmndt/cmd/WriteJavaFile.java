@@ -1,15 +1,14 @@
 package org.camunda.community.bpmndt.cmd;
 
-import java.io.IOException;
-import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Consumer;
 
 import org.apache.maven.plugin.logging.Log;
 import org.camunda.community.bpmndt.Constants;
 import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorMetrics;
+import org.camunda.community.bpmndt.GeneratorOutput;
 
 import com.squareup.javapoet.JavaFile;
 
@@ -18,10 +17,14 @@ public class WriteJavaFile implements Consumer<JavaFile> {
   private final Log log;
 
   private final GeneratorContext ctx;
+  private final GeneratorOutput output;
+  private final GeneratorMetrics metrics;
 
-  public WriteJavaFile(Log log, GeneratorContext ctx) {
+  public WriteJavaFile(Log log, GeneratorContext ctx, GeneratorOutput output, GeneratorMetrics metrics) {
     this.log = log;
     this.ctx = ctx;
+    this.output = output;
+    this.metrics = metrics;
   }
 
   @Override
@@ -30,20 +33,25 @@ public class WriteJavaFile implements Consumer<JavaFile> {
     Path javaFilePath = ctx.getTestSourcePath().resolve(javaFile.packageName.replace('.', '/')).resolve(javaFileName);
 
     String relativePath = ctx.getBasePath().relativize(javaFilePath).toString().replace('\\', '/');
-    log.info(String.format("Writing file: %s", relativePath));
 
-    // create parent directories
-    try {
-      Files.createDirectories(javaFilePath.getParent());
-    } catch (IOException e) {
-      throw new RuntimeException("Parent directories could not be created", e);
-    }
+    // render Java file
+    long start = System.nanoTime();
+    byte[] content = javaFile.toString().getBytes(StandardCharsets.UTF_8);
+    metrics.add(GeneratorMetrics.Phase.RENDER, System.nanoTime() - start);
+
+    metrics.addFile(ctx.getTestSourcePath().relativize(javaFilePath).toString().replace('\\', '/'), content.length);
+
+    // write Java file, if changed
+    start = System.nanoTime();
+    boolean written = new WriteFile().apply(javaFilePath, content);
+    metrics.add(GeneratorMetrics.Phase.WRITE, System.nanoTime() - start);
 
-    // write Java file
-    try (Writer w = Files.newBufferedWriter(javaFilePath, StandardCharsets.UTF_8)) {
-      javaFile.writeTo(w);
-    } catch (IOException e) {
-      throw new RuntimeException("Java file could not be written", e);
+    if (written) {
+      log.info(String.format("Writing file: %s", relativePath));
+      output.written(javaFilePath);
+    } else {
+      log.debug(String.format("Unchanged file: %s", relativePath));
+      output.unchanged(javaFilePath);
     }
   }
 }
@@ -2,23 +2,25 @@ package org.camunda.community.bpmndt.cmd;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Consumer;
 
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.maven.plugin.logging.Log;
 import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorOutput;
 
 public class WriteJavaType implements Consumer<Class<?>> {
 
   private final Log log;
 
   private final GeneratorContext ctx;
+  private final GeneratorOutput output;
 
-  public WriteJavaType(Log log, GeneratorContext ctx) {
+  public WriteJavaType(Log log, GeneratorContext ctx, GeneratorOutput output) {
     this.log = log;
     this.ctx = ctx;
+    this.output = output;
   }
 
   @Override
@@ -27,24 +29,26 @@ public class WriteJavaType implements Consumer<Class<?>> {
     Path javaTypePath = ctx.getTestSourcePath().resolve(resourceName);
 
     String relativePath = ctx.getBasePath().relativize(javaTypePath).toString().replace('\\', '/');
-    log.info(String.format("Writing file: %s", relativePath));
 
-    // create parent directories
-    try {
-      Files.createDirectories(javaTypePath.getParent());
+    // read Java type
+    byte[] content;
+    try (InputStream resource = this.getClass().getClassLoader().getResourceAsStream(resourceName)) {
+      if (resource == null) {
+        throw new RuntimeException(String.format("Java type resource '%s' could not be found", resourceName));
+      }
+
+      content = IOUtils.toByteArray(resource);
     } catch (IOException e) {
-      throw new RuntimeException("Parent directories could not be created", e);
+      throw new RuntimeException(String.format("Java type '%s' could not be read", type.getName()), e);
     }
 
-    InputStream resource = this.getClass().getClassLoader().getResourceAsStream(resourceName);
-
-    // write Java type
-    try {
-      FileUtils.copyInputStreamToFile(resource, javaTypePath.toFile());
-    } catch (NullPointerException e) {
-      throw new RuntimeException(String.format("Java type resource '%s' could not be found", resourceName), e);
-    } catch (IOException e) {
-      throw new RuntimeException(String.format("Java type '%s' could not be written", type.getName()), e);
+    // write Java type, if changed
+    if (new WriteFile().apply(javaTypePath, content)) {
+      log.info(String.format("Writing file: %s", relativePath));
+      output.written(javaTypePath);
+    } else {
+      log.debug(String.format("Unchanged file: %s", relativePath));
+      output.unchanged(javaTypePath);
     }
   }
 }
@@ -0,0 +1,57 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.camunda.community.bpmndt.Constants;
+import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorManifest;
+
+/**
+ * Writes the manifest of an incremental generation to the test source directory. The manifest is a
+ * tab separated text file, which consists of a settings line, followed by a line per BPMN file
+ * (hash and relative path) and a line per Java file, generated for the preceding BPMN file.
+ * 
+ * @see ReadManifest
+ */
+public class WriteManifest implements BiConsumer<GeneratorContext, GeneratorManifest> {
+
+  static final String BPMN = "bpmn";
+  static final String JAVA = "java";
+  static final String SETTINGS = "settings";
+
+  @Override
+  public void accept(GeneratorContext ctx, GeneratorManifest manifest) {
+    Path manifestPath = ctx.getTestSourcePath().resolve(Constants.MANIFEST_FILE_NAME);
+
+    // create parent directories
+    try {
+      Files.createDirectories(manifestPath.getParent());
+    } catch (IOException e) {
+      throw new RuntimeException("Parent directories could not be created", e);
+    }
+
+    try (Writer w = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+      write(w, manifest);
+    } catch (IOException e) {
+      throw new RuntimeException("Manifest could not be written", e);
+    }
+  }
+
+  protected void write(Writer w, GeneratorManifest manifest) throws IOException {
+    w.write(String.format("%s\t%s\n", SETTINGS, manifest.getSettings()));
+
+    for (Map.Entry<String, GeneratorManifest.Entry> entry : manifest.getEntries().entrySet()) {
+      w.write(String.format("%s\t%s\t%s\n", BPMN, entry.getValue().getHash(), entry.getKey()));
+
+      for (String file : entry.getValue().getFiles()) {
+        w.write(String.format("%s\t%s\n", JAVA, file));
+      }
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package org.camunda.community.bpmndt.cmd;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.camunda.community.bpmndt.Constants;
+import org.camunda.community.bpmndt.GeneratorContext;
+import org.camunda.community.bpmndt.GeneratorMetrics;
+import org.camunda.community.bpmndt.GeneratorMetrics.BpmnFileMetrics;
+import org.camunda.community.bpmndt.GeneratorMetrics.Phase;
+import org.camunda.community.bpmndt.GeneratorMetrics.TestCaseMetrics;
+
+/**
+ * Writes the metrics of a generation as JSON report to the build directory - the parent directory of
+ * the test source directory. Durations are written in milliseconds.
+ */
+public class WriteMetrics implements BiConsumer<GeneratorContext, GeneratorMetrics> {
+
+  @Override
+  public void accept(GeneratorContext ctx, GeneratorMetrics metrics) {
+    Path metricsPath = ctx.getTestSourcePath().resolveSibling(Constants.METRICS_FILE_NAME);
+
+    // create parent directories
+    try {
+      Files.createDirectories(metricsPath.getParent());
+    } catch (IOException e) {
+      throw new RuntimeException("Parent directories could not be created", e);
+    }
+
+    try (Writer w = Files.newBufferedWriter(metricsPath, StandardCharsets.UTF_8)) {
+      write(w, metrics);
+    } catch (IOException e) {
+      throw new RuntimeException("Metrics could not be written", e);
+    }
+  }
+
+  protected void write(Writer w, GeneratorMetrics metrics) throws IOException {
+    Map<String, Integer> files = metrics.getFiles();
+
+    w.write("{\n");
+    w.write(String.format("  \"duration\": %d,\n", GeneratorMetrics.toMillis(metrics.getDuration())));
+
+    w.write("  \"phases\": {\n");
+    Phase[] phases = Phase.values();
+    for (int i = 0; i < phases.length; i++) {
+      w.write(String.format("    %s: %d%s\n", quote(phases[i].getName()), GeneratorMetrics.toMillis(metrics.getDuration(phases[i])),
+          separator(i, phases.length)));
+    }
+    w.write("  },\n");
+
+    w.write(String.format("  \"flowNodes\": %d,\n", metrics.getFlowNodeCount()));
+    w.write(String.format("  \"testCases\": %d,\n", metrics.getTestCaseCount()));
+    w.write(String.format("  \"generatedBytes\": %d,\n", metrics.getGeneratedBytes()));
+
+    w.write("  \"bpmnFiles\": [");
+    List<BpmnFileMetrics> bpmnFiles = metrics.getBpmnFiles();
+    for (int i = 0; i < bpmnFiles.size(); i++) {
+      w.write(i == 0 ? "\n" : ",\n");
+      writeBpmnFile(w, bpmnFiles.get(i), files);
+    }
+    w.write(bpmnFiles.isEmpty() ? "],\n" : "\n  ],\n");
+
+    w.write("  \"files\": {");
+    Iterator<Map.Entry<String, Integer>> it = files.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, Integer> entry = it.next();
+      w.write(String.format("\n    %s: %d%s", quote(entry.getKey()), entry.getValue(), it.hasNext() ? "," : ""));
+    }
+    w.write(files.isEmpty() ? "}\n" : "\n  }\n");
+
+    w.write("}\n");
+  }
+
+  private void writeBpmnFile(Writer w, BpmnFileMetrics bpmnFile, Map<String, Integer> files) throws IOException {
+    w.write("    {\n");
+    w.write(String.format("      \"path\": %s,\n", quote(bpmnFile.getPath())));
+    w.write(String.format("      \"processId\": %s,\n", quote(bpmnFile.getProcessId())));
+    w.write(String.format("      \"skipped\": %s,\n", bpmnFile.isSkipped()));
+    w.write(String.format("      \"flowNodes\": %d,\n", bpmnFile.getFlowNodes()));
+    w.write(String.format("      \"parse\": %d,\n", GeneratorMetrics.toMillis(bpmnFile.getParseDuration())));
+    w.write("      \"testCases\": [");
+
+    List<TestCaseMetrics> testCases = bpmnFile.getTestCases();
+    for (int i = 0; i < testCases.size(); i++) {
+      TestCaseMetrics testCase = testCases.get(i);
+
+      int bytes = testCase.getFiles().stream().mapToInt(file -> files.getOrDefault(file, 0)).sum();
+
+      w.write(i == 0 ? "\n" : ",\n");
+      w.write("        {\n");
+      w.write(String.format("          \"name\": %s,\n", quote(testCase.getName())));
+      w.write(String.format("          \"activities\": %d,\n", testCase.getActivities()));
+      w.write(String.format("          \"buildContext\": %d,\n", GeneratorMetrics.toMillis(testCase.getBuildContextDuration())));
+      w.write(String.format("          \"generate\": %d,\n", GeneratorMetrics.toMillis(testCase.getGenerateDuration())));
+      w.write(String.format("          \"generatedBytes\": %d\n", bytes));
+      w.write("        }");
+    }
+
+    w.write(testCases.isEmpty() ? "]\n" : "\n      ]\n");
+    w.write("    }");
+  }
+
+  /**
+   * Quotes the given value as JSON string.
+   *
+   * @param value A value or {@code null}.
+   *
+   * @return The quoted and escaped value or {@code null}.
+   */
+  protected String quote(String value) {
+    if (value == null) {
+      return "null";
+    }
+
+    StringBuilder sb = new StringBuilder(value.length() + 2);
+    sb.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+      }
+    }
+    sb.append('"');
+    return sb.toString();
+  }
+
+  private String separator(int index, int length) {
+    return index < length - 1 ? "," : "";
+  }
+}
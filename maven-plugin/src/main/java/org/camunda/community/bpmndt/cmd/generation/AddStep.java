@@ -0,0 +1,30 @@
+package org.camunda.community.bpmndt.cmd.generation;
+
+import java.util.function.BiConsumer;
+
+import org.camunda.community.bpmndt.api.TestCaseStep;
+
+import com.squareup.javapoet.MethodSpec;
+
+/**
+ * Adds a {@link TestCaseStep} as statement to the {@code execute} method of a test case.
+ */
+public class AddStep implements BiConsumer<MethodSpec.Builder, TestCaseStep> {
+
+  @Override
+  public void accept(MethodSpec.Builder builder, TestCaseStep step) {
+    switch (step.getType()) {
+      case APPLY:
+        builder.addStatement("instance.apply($L())", step.getValue());
+        break;
+      case HAS_PASSED:
+        builder.addStatement("instance.hasPassed(pi, $S)", step.getValue());
+        break;
+      case IS_WAITING_AT:
+        builder.addStatement("instance.isWaitingAt(pi, $S)", step.getValue());
+        break;
+      default:
+        throw new IllegalArgumentException(String.format("Unsupported step '%s'", step));
+    }
+  }
+}
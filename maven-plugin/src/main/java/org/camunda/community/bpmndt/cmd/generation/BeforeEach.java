@@ -12,8 +12,9 @@ import org.camunda.community.bpmndt.api.AbstractTestCase;
 import com.squareup.javapoet.MethodSpec;
 
 /**
- * Overrides the {@code beforeEach} method of the {@link AbstractTestCase} to initialize the
- * activity handlers (e.g. {@code UserTaskHandler}) that are required for a given test case.
+ * Overrides the {@code beforeEach} method of the {@link AbstractTestCase} to reset the activity
+ * handlers (e.g. {@code UserTaskHandler}) that are required for a given test case. Handlers are
+ * created lazily, when their handler method is called for the first time.
  */
 public class BeforeEach implements Function<TestCaseContext, MethodSpec> {
 
@@ -36,13 +37,13 @@ public class BeforeEach implements Function<TestCaseContext, MethodSpec> {
       GeneratorStrategy strategy = activity.getStrategy();
 
       if (strategy.shouldHandleBefore()) {
-        strategy.initHandlerBefore(builder);
+        strategy.resetHandlerBefore(builder);
       }
 
-      strategy.initHandler(builder);
+      strategy.resetHandler(builder);
 
       if (strategy.shouldHandleAfter()) {
-        strategy.initHandlerAfter(builder);
+        strategy.resetHandlerAfter(builder);
       }
     }
 
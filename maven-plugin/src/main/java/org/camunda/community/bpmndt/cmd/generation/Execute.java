@@ -4,12 +4,10 @@ import java.util.function.Function;
 
 import javax.lang.model.element.Modifier;
 
-import org.camunda.bpm.engine.ActivityTypes;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
-import org.camunda.community.bpmndt.GeneratorStrategy;
 import org.camunda.community.bpmndt.TestCaseActivity;
-import org.camunda.community.bpmndt.TestCaseActivityType;
 import org.camunda.community.bpmndt.TestCaseContext;
+import org.camunda.community.bpmndt.api.TestCaseStep;
 
 import com.squareup.javapoet.MethodSpec;
 
@@ -40,40 +38,11 @@ public class Execute implements Function<TestCaseContext, MethodSpec> {
 
       builder.addCode("// $L: $L\n", activity.getTypeName(), activity.getId());
 
-      GeneratorStrategy strategy = activity.getStrategy();
-
-      if (strategy.shouldHandleBefore()) {
-        strategy.applyHandlerBefore(builder);
-      }
-
-      strategy.applyHandler(builder);
-
-      if (strategy.shouldHandleAfter()) {
-        strategy.applyHandlerAfter(builder);
-      }
-
-      if (activity.hasPrev() && activity.getPrev().getType() == TestCaseActivityType.EVENT_BASED_GATEWAY) {
-        // ensure that event based gateway has been passed
-        builder.addStatement("assertThat(pi).hasPassed($S)", activity.getPrev().getId());
-      }
-
-      if (activity.getType() == TestCaseActivityType.EVENT_BASED_GATEWAY) {
-        builder.addStatement("assertThat(pi).isWaitingAt($S)", activity.getId());
-      } else if (activity.hasNext() || activity.isProcessEnd()) {
-        builder.addStatement("assertThat(pi).hasPassed($S)", getActivityId(activity));
-      } else {
-        builder.addStatement("assertThat(pi).isWaitingAt($S)", getActivityId(activity));
+      for (TestCaseStep step : new GetSteps().apply(activity)) {
+        new AddStep().accept(builder, step);
       }
     }
 
     return builder.build();
   }
-
-  protected String getActivityId(TestCaseActivity activity) {
-    if (activity.isMultiInstance()) {
-      return String.format("%s#%s", activity.getId(), ActivityTypes.MULTI_INSTANCE_BODY);
-    } else {
-      return activity.getId();
-    }
-  }
 }
@@ -0,0 +1,79 @@
+package org.camunda.community.bpmndt.cmd.generation;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.lang.model.element.Modifier;
+
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.community.bpmndt.TestCaseActivity;
+import org.camunda.community.bpmndt.TestCaseContext;
+import org.camunda.community.bpmndt.api.TestCasePlan;
+import org.camunda.community.bpmndt.api.TestCaseStep;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+
+/**
+ * Function that builds the method, which executes the actual test case, using a static
+ * {@link TestCasePlan} instead of several statements per activity. The plan field is provided via
+ * {@link #buildPlanField(TestCaseContext)}.
+ */
+public class ExecutePlan implements Function<TestCaseContext, MethodSpec> {
+
+  /** Name of the static field, which holds the plan. */
+  public static final String PLAN = "PLAN";
+
+  @Override
+  public MethodSpec apply(TestCaseContext ctx) {
+    MethodSpec.Builder builder = MethodSpec.methodBuilder("execute")
+        .addAnnotation(Override.class)
+        .addModifiers(Modifier.PROTECTED)
+        .addParameter(ProcessInstance.class, "pi");
+
+    // handle possible test case errors
+    if (!ctx.isValid()) {
+      new HandleTestCaseErrors().accept(ctx, builder);
+      return builder.build();
+    }
+
+    builder.addStatement("$L.execute(instance, this, pi)", PLAN);
+
+    return builder.build();
+  }
+
+  /**
+   * Builds the static field, which holds the plan of a valid test case. Each step is added as string
+   * literal, preceded by a comment for each activity.
+   * 
+   * @param ctx The test case context.
+   * 
+   * @return The plan field.
+   */
+  public FieldSpec buildPlanField(TestCaseContext ctx) {
+    CodeBlock.Builder code = CodeBlock.builder();
+    code.add("new $T(\n", TestCasePlan.class);
+    code.indent().indent();
+
+    List<TestCaseActivity> activities = ctx.getActivities();
+    for (int i = 0; i < activities.size(); i++) {
+      TestCaseActivity activity = activities.get(i);
+
+      code.add("// $L: $L\n", activity.getTypeName(), activity.getId());
+
+      List<TestCaseStep> steps = new GetSteps().apply(activity);
+      for (int j = 0; j < steps.size(); j++) {
+        boolean last = i == activities.size() - 1 && j == steps.size() - 1;
+        code.add(last ? "$S\n" : "$S,\n", steps.get(j).toString());
+      }
+    }
+
+    code.unindent().unindent();
+    code.add(")");
+
+    return FieldSpec.builder(TestCasePlan.class, PLAN, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+        .initializer(code.build())
+        .build();
+  }
+}
@@ -0,0 +1,58 @@
+package org.camunda.community.bpmndt.cmd.generation;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.camunda.bpm.engine.ActivityTypes;
+import org.camunda.community.bpmndt.GeneratorStrategy;
+import org.camunda.community.bpmndt.TestCaseActivity;
+import org.camunda.community.bpmndt.TestCaseActivityType;
+import org.camunda.community.bpmndt.api.TestCaseStep;
+
+/**
+ * Function that provides the steps of a test case activity: the application of the activity's
+ * handlers and the assertion, that the activity has been passed or is waiting.
+ */
+public class GetSteps implements Function<TestCaseActivity, List<TestCaseStep>> {
+
+  @Override
+  public List<TestCaseStep> apply(TestCaseActivity activity) {
+    List<TestCaseStep> steps = new LinkedList<>();
+
+    GeneratorStrategy strategy = activity.getStrategy();
+
+    if (strategy.shouldHandleBefore()) {
+      strategy.applyHandlerStepsBefore(steps);
+    }
+
+    strategy.applyHandlerSteps(steps);
+
+    if (strategy.shouldHandleAfter()) {
+      strategy.applyHandlerStepsAfter(steps);
+    }
+
+    if (activity.hasPrev() && activity.getPrev().getType() == TestCaseActivityType.EVENT_BASED_GATEWAY) {
+      // ensure that event based gateway has been passed
+      steps.add(TestCaseStep.hasPassed(activity.getPrev().getId()));
+    }
+
+    if (activity.getType() == TestCaseActivityType.EVENT_BASED_GATEWAY) {
+      steps.add(TestCaseStep.isWaitingAt(activity.getId()));
+    } else if (activity.hasNext() || activity.isProcessEnd()) {
+      steps.add(TestCaseStep.hasPassed(getActivityId(activity)));
+    } else {
+      steps.add(TestCaseStep.isWaitingAt(getActivityId(activity)));
+    }
+
+    return steps;
+  }
+
+  protected String getActivityId(TestCaseActivity activity) {
+    if (activity.isMultiInstance()) {
+      return String.format("%s#%s", activity.getId(), ActivityTypes.MULTI_INSTANCE_BODY);
+    } else {
+      return activity.getId();
+    }
+  }
+}
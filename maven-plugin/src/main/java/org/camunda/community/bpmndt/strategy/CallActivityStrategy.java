@@ -2,12 +2,27 @@ package org.camunda.community.bpmndt.strategy;
 
 import org.camunda.community.bpmndt.TestCaseActivity;
 
+import javax.lang.model.element.Modifier;
+
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
 
 public class CallActivityStrategy extends DefaultHandlerStrategy {
 
+  @Override
+  public void addHandlerMethod(TypeSpec.Builder classBuilder) {
+    MethodSpec method = MethodSpec.methodBuilder(buildHandlerMethodName(activity.getLiteral()))
+        .addJavadoc(buildHandlerMethodJavadoc())
+        .addModifiers(Modifier.PUBLIC)
+        .returns(getHandlerType())
+        .addStatement("return $L", activity.getLiteral())
+        .build();
+
+    classBuilder.addMethod(method);
+  }
+
   @Override
   public TypeName getHandlerType() {
     return CALL_ACTIVITY;
@@ -15,7 +30,6 @@ public class CallActivityStrategy extends DefaultHandlerStrategy {
 
   @Override
   public void initHandler(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addCode("$L = ", activity.getLiteral());
     methodBuilder.addStatement(initHandlerStatement());
 
@@ -46,4 +60,14 @@ public class CallActivityStrategy extends DefaultHandlerStrategy {
   public CodeBlock initHandlerStatement() {
     return CodeBlock.of("new $T(instance, $S)", getHandlerType(), activity.getId());
   }
+
+  /**
+   * Initializes the handler eagerly, since a call activity handler registers itself at the test case
+   * instance, when it is created.
+   */
+  @Override
+  public void resetHandler(MethodSpec.Builder methodBuilder) {
+    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
+    initHandler(methodBuilder);
+  }
 }
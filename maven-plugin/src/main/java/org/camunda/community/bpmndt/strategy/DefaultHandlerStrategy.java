@@ -1,9 +1,12 @@
 package org.camunda.community.bpmndt.strategy;
 
+import java.util.List;
+
 import javax.lang.model.element.Modifier;
 
 import org.camunda.community.bpmndt.TestCaseActivity;
 import org.camunda.community.bpmndt.TestCaseActivityType;
+import org.camunda.community.bpmndt.api.TestCaseStep;
 
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
@@ -21,14 +24,14 @@ public class DefaultHandlerStrategy extends DefaultStrategy {
 
   @Override
   public void addHandlerMethod(TypeSpec.Builder classBuilder) {
-    MethodSpec method = MethodSpec.methodBuilder(buildHandlerMethodName(activity.getLiteral()))
+    MethodSpec.Builder builder = MethodSpec.methodBuilder(buildHandlerMethodName(activity.getLiteral()))
         .addJavadoc(buildHandlerMethodJavadoc())
         .addModifiers(Modifier.PUBLIC)
-        .returns(getHandlerType())
-        .addStatement("return $L", activity.getLiteral())
-        .build();
+        .returns(getHandlerType());
+
+    addLazyInitialization(builder, activity.getLiteral(), this::initHandler);
 
-    classBuilder.addMethod(method);
+    classBuilder.addMethod(builder.build());
   }
 
   protected CodeBlock buildHandlerMethodJavadoc() {
@@ -36,14 +39,14 @@ public class DefaultHandlerStrategy extends DefaultStrategy {
   }
 
   @Override
-  public void applyHandler(MethodSpec.Builder methodBuilder) {
+  public void applyHandlerSteps(List<TestCaseStep> steps) {
     if (activity.hasPrev() && activity.getPrev().getType() == TestCaseActivityType.EVENT_BASED_GATEWAY) {
       // if an event or job is part of an event based gateway
       // the process instance is waiting at the gateway and not at the event or job itself
-      methodBuilder.addStatement("instance.apply($L)", activity.getLiteral());
+      steps.add(TestCaseStep.apply(buildHandlerMethodName(activity.getLiteral())));
     } else if (activity.getType().isWaitState()) {
-      methodBuilder.addStatement("assertThat(pi).isWaitingAt($S)", activity.getId());
-      methodBuilder.addStatement("instance.apply($L)", activity.getLiteral());
+      steps.add(TestCaseStep.isWaitingAt(activity.getId()));
+      steps.add(TestCaseStep.apply(buildHandlerMethodName(activity.getLiteral())));
     }
 
     if (!activity.hasNext()) {
@@ -61,7 +64,7 @@ public class DefaultHandlerStrategy extends DefaultStrategy {
       case MESSAGE_BOUNDARY:
       case SIGNAL_BOUNDARY:
       case TIMER_BOUNDARY:
-        methodBuilder.addStatement("instance.apply($L)", next.getLiteral());
+        steps.add(TestCaseStep.apply(buildHandlerMethodName(next.getLiteral())));
         break;
       default:
         break;
@@ -70,7 +73,6 @@ public class DefaultHandlerStrategy extends DefaultStrategy {
 
   @Override
   public void initHandler(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addCode("$L = ", activity.getLiteral());
     methodBuilder.addStatement(initHandlerStatement());
   }
@@ -79,4 +81,9 @@ public class DefaultHandlerStrategy extends DefaultStrategy {
   public CodeBlock initHandlerStatement() {
     return CodeBlock.of("new $T(getProcessEngine(), $S)", getHandlerType(), activity.getId());
   }
+
+  @Override
+  public void resetHandler(MethodSpec.Builder methodBuilder) {
+    methodBuilder.addStatement("$L = null", activity.getLiteral());
+  }
 }
@@ -1,5 +1,9 @@
 package org.camunda.community.bpmndt.strategy;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
 import javax.lang.model.element.Modifier;
 
 import org.apache.commons.lang3.StringUtils;
@@ -10,8 +14,10 @@ import org.camunda.community.bpmndt.api.CallActivityHandler;
 import org.camunda.community.bpmndt.api.EventHandler;
 import org.camunda.community.bpmndt.api.ExternalTaskHandler;
 import org.camunda.community.bpmndt.api.JobHandler;
+import org.camunda.community.bpmndt.api.TestCaseStep;
 import org.camunda.community.bpmndt.api.UserTaskHandler;
 import org.camunda.community.bpmndt.api.cfg.BpmndtParseListener;
+import org.camunda.community.bpmndt.cmd.generation.AddStep;
 
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
@@ -55,43 +61,87 @@ public class DefaultStrategy implements GeneratorStrategy {
 
   @Override
   public void addHandlerMethodAfter(TypeSpec.Builder classBuilder) {
-    MethodSpec method = MethodSpec.methodBuilder(buildHandlerMethodName(getLiteralAfter()))
+    MethodSpec.Builder builder = MethodSpec.methodBuilder(buildHandlerMethodName(getLiteralAfter()))
         .addJavadoc(buildHandlerMethodJavadocAfter())
         .addModifiers(Modifier.PUBLIC)
-        .returns(JobHandler.class)
-        .addStatement("return $L", getLiteralAfter())
-        .build();
+        .returns(JobHandler.class);
+
+    addLazyInitialization(builder, getLiteralAfter(), this::initHandlerAfter);
 
-    classBuilder.addMethod(method);
+    classBuilder.addMethod(builder.build());
   }
 
+  /**
+   * Adds the handler method for the asynchronous continuation before the activity. If the activity
+   * is not marked as {@code asyncBefore} (e.g. a call activity), the handler is an implementation
+   * detail and the method is private.
+   */
   @Override
   public void addHandlerMethodBefore(TypeSpec.Builder classBuilder) {
-    MethodSpec method = MethodSpec.methodBuilder(buildHandlerMethodName(getLiteralBefore()))
+    MethodSpec.Builder builder = MethodSpec.methodBuilder(buildHandlerMethodName(getLiteralBefore()))
         .addJavadoc(buildHandlerMethodJavadocBefore())
-        .addModifiers(Modifier.PUBLIC)
-        .returns(JobHandler.class)
-        .addStatement("return $L", getLiteralBefore())
-        .build();
+        .addModifiers(activity.isAsyncBefore() ? Modifier.PUBLIC : Modifier.PRIVATE)
+        .returns(JobHandler.class);
 
-    classBuilder.addMethod(method);
+    addLazyInitialization(builder, getLiteralBefore(), this::initHandlerBefore);
+
+    classBuilder.addMethod(builder.build());
+  }
+
+  /**
+   * Adds the lazy initialization of a handler field to a handler method, so that the handler is only
+   * created, when it is accessed for the first time.
+   * 
+   * @param methodBuilder The builder of the handler method.
+   * 
+   * @param literal The name of the handler field.
+   * 
+   * @param initHandler A function, which adds the statements that initialize the handler.
+   */
+  protected void addLazyInitialization(MethodSpec.Builder methodBuilder, String literal, Consumer<MethodSpec.Builder> initHandler) {
+    methodBuilder.beginControlFlow("if ($L == null)", literal);
+    initHandler.accept(methodBuilder);
+    methodBuilder.endControlFlow();
+
+    methodBuilder.addStatement("return $L", literal);
   }
 
   @Override
   public void applyHandler(MethodSpec.Builder methodBuilder) {
-    // nothing to apply
+    List<TestCaseStep> steps = new LinkedList<>();
+    applyHandlerSteps(steps);
+    steps.forEach(step -> new AddStep().accept(methodBuilder, step));
   }
 
   @Override
   public void applyHandlerAfter(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addStatement("assertThat(pi).isWaitingAt($S)", activity.getId());
-    methodBuilder.addStatement("instance.apply($L)", getLiteralAfter());
+    List<TestCaseStep> steps = new LinkedList<>();
+    applyHandlerStepsAfter(steps);
+    steps.forEach(step -> new AddStep().accept(methodBuilder, step));
   }
 
   @Override
   public void applyHandlerBefore(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addStatement("assertThat(pi).isWaitingAt($S)", activity.getId());
-    methodBuilder.addStatement("instance.apply($L)", getLiteralBefore());
+    List<TestCaseStep> steps = new LinkedList<>();
+    applyHandlerStepsBefore(steps);
+    steps.forEach(step -> new AddStep().accept(methodBuilder, step));
+  }
+
+  @Override
+  public void applyHandlerSteps(List<TestCaseStep> steps) {
+    // nothing to apply
+  }
+
+  @Override
+  public void applyHandlerStepsAfter(List<TestCaseStep> steps) {
+    steps.add(TestCaseStep.isWaitingAt(activity.getId()));
+    steps.add(TestCaseStep.apply(buildHandlerMethodName(getLiteralAfter())));
+  }
+
+  @Override
+  public void applyHandlerStepsBefore(List<TestCaseStep> steps) {
+    steps.add(TestCaseStep.isWaitingAt(activity.getId()));
+    steps.add(TestCaseStep.apply(buildHandlerMethodName(getLiteralBefore())));
   }
 
   protected String buildHandlerMethodJavadocAfter() {
@@ -126,13 +176,11 @@ public class DefaultStrategy implements GeneratorStrategy {
 
   @Override
   public void initHandlerAfter(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addStatement("$L = new $T(getProcessEngine(), $S)", getLiteralAfter(), JobHandler.class, activity.getId());
   }
 
   @Override
   public void initHandlerBefore(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addStatement("$L = new $T(getProcessEngine(), $S)", getLiteralBefore(), JobHandler.class, activity.getId());
   }
 
@@ -141,6 +189,21 @@ public class DefaultStrategy implements GeneratorStrategy {
     return null;
   }
 
+  @Override
+  public void resetHandler(MethodSpec.Builder methodBuilder) {
+    // nothing to reset
+  }
+
+  @Override
+  public void resetHandlerAfter(MethodSpec.Builder methodBuilder) {
+    methodBuilder.addStatement("$L = null", getLiteralAfter());
+  }
+
+  @Override
+  public void resetHandlerBefore(MethodSpec.Builder methodBuilder) {
+    methodBuilder.addStatement("$L = null", getLiteralBefore());
+  }
+
   public void setActivity(TestCaseActivity activity) {
     this.activity = activity;
   }
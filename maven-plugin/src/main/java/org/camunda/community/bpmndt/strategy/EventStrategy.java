@@ -13,7 +13,6 @@ public class EventStrategy extends DefaultHandlerStrategy {
 
   @Override
   public void initHandler(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addCode("$L = ", activity.getLiteral());
     methodBuilder.addStatement(initHandlerStatement());
   }
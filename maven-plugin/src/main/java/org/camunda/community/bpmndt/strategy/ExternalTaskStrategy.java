@@ -16,7 +16,6 @@ public class ExternalTaskStrategy extends DefaultHandlerStrategy {
 
   @Override
   public void initHandler(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addCode("$L = ", activity.getLiteral());
     methodBuilder.addStatement(initHandlerStatement());
 
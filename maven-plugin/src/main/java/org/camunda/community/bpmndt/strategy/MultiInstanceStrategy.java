@@ -1,15 +1,17 @@
 package org.camunda.community.bpmndt.strategy;
 
+import java.util.List;
+
 import javax.lang.model.element.Modifier;
 
 import org.camunda.bpm.engine.ActivityTypes;
 import org.camunda.community.bpmndt.GeneratorStrategy;
 import org.camunda.community.bpmndt.api.JobHandler;
+import org.camunda.community.bpmndt.api.TestCaseStep;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
-import com.squareup.javapoet.MethodSpec.Builder;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 
@@ -33,31 +35,31 @@ public class MultiInstanceStrategy extends DefaultStrategy {
 
   @Override
   public void addHandlerMethod(TypeSpec.Builder classBuilder) {
-    MethodSpec method = MethodSpec.methodBuilder(buildHandlerMethodName(activity.getLiteral()))
+    MethodSpec.Builder builder = MethodSpec.methodBuilder(buildHandlerMethodName(activity.getLiteral()))
         .addJavadoc(buildHandlerMethodJavadoc())
         .addModifiers(Modifier.PUBLIC)
-        .returns(getHandlerType())
-        .addStatement("return $L", activity.getLiteral())
-        .build();
+        .returns(getHandlerType());
+
+    addLazyInitialization(builder, activity.getLiteral(), this::initHandler);
 
-    classBuilder.addMethod(method);
+    classBuilder.addMethod(builder.build());
   }
 
   @Override
-  public void applyHandler(Builder methodBuilder) {
-    methodBuilder.addStatement("instance.apply($L)", activity.getLiteral());
+  public void applyHandlerSteps(List<TestCaseStep> steps) {
+    steps.add(TestCaseStep.apply(buildHandlerMethodName(activity.getLiteral())));
   }
-  
+
   @Override
-  public void applyHandlerAfter(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addStatement("assertThat(pi).isWaitingAt($S)", buildScopeId());
-    methodBuilder.addStatement("instance.apply($L)", getLiteralAfter());
+  public void applyHandlerStepsAfter(List<TestCaseStep> steps) {
+    steps.add(TestCaseStep.isWaitingAt(buildScopeId()));
+    steps.add(TestCaseStep.apply(buildHandlerMethodName(getLiteralAfter())));
   }
 
   @Override
-  public void applyHandlerBefore(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addStatement("assertThat(pi).isWaitingAt($S)", buildScopeId());
-    methodBuilder.addStatement("instance.apply($L)", getLiteralBefore());
+  public void applyHandlerStepsBefore(List<TestCaseStep> steps) {
+    steps.add(TestCaseStep.isWaitingAt(buildScopeId()));
+    steps.add(TestCaseStep.apply(buildHandlerMethodName(getLiteralBefore())));
   }
 
   protected CodeBlock buildHandlerMethodJavadoc() {
@@ -84,20 +86,17 @@ public class MultiInstanceStrategy extends DefaultStrategy {
 
   @Override
   public void initHandler(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addCode("$L = ", activity.getLiteral());
     methodBuilder.addStatement(initHandlerStatement());
   }
 
   @Override
   public void initHandlerAfter(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addStatement("$L = new $T(getProcessEngine(), $S)", getLiteralAfter(), JobHandler.class, buildScopeId());
   }
 
   @Override
   public void initHandlerBefore(MethodSpec.Builder methodBuilder) {
-    methodBuilder.addCode("\n// $L: $L\n", activity.getTypeName(), activity.getId());
     methodBuilder.addStatement("$L = new $T(getProcessEngine(), $S)", getLiteralBefore(), JobHandler.class, buildScopeId());
   }
 
@@ -105,4 +104,9 @@ public class MultiInstanceStrategy extends DefaultStrategy {
   public CodeBlock initHandlerStatement() {
     return CodeBlock.of("new $T(instance, $S)", getHandlerType(), activity.getId());
   }
+
+  @Override
+  public void resetHandler(MethodSpec.Builder methodBuilder) {
+    methodBuilder.addStatement("$L = null", activity.getLiteral());
+  }
 }
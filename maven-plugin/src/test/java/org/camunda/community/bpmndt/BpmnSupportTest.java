@@ -6,14 +6,13 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.List;
 
-import org.camunda.community.bpmndt.model.Path;
-import org.camunda.community.bpmndt.model.TestCase;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -74,14 +73,38 @@ public class BpmnSupportTest {
   }
 
   @Test
-  public void testGetMultiInstance() {
-    bpmnSupport = BpmnSupport.of(advancedMultiInstance.resolve("sequential.bpmn"));
-    assertThat(bpmnSupport.getMultiInstance("multiInstanceManualTask"), notNullValue());
+  public void testGet() {
+    bpmnSupport = BpmnSupport.of(simple.resolve("simpleUserTask.bpmn"));
+
+    BpmnNode flowNode = bpmnSupport.get("userTask");
+    assertThat(flowNode, notNullValue());
+    assertThat(flowNode.getId(), equalTo("userTask"));
+    assertThat(flowNode.getType(), is(BpmnNodeType.USER_TASK));
+    assertThat(flowNode.getTypeName(), equalTo("userTask"));
+    assertThat(flowNode.getScope(), equalTo("simpleUserTask"));
+    assertThat(flowNode.isProcessScope(), is(true));
+    assertThat(flowNode.getIncoming(), contains("startEvent"));
+    assertThat(flowNode.getOutgoing(), contains("endEvent"));
+    assertThat(flowNode.getEventType(), nullValue());
+    assertThat(flowNode.isMultiInstance(), is(false));
+
+    assertThat(bpmnSupport.get("not-existing"), nullValue());
+  }
+
+  @Test
+  public void testGetBoundaryEvent() {
+    bpmnSupport = BpmnSupport.of(advanced.resolve("userTaskError.bpmn"));
+
+    BpmnNode flowNode = bpmnSupport.get("errorBoundaryEvent");
+    assertThat(flowNode.getType(), is(BpmnNodeType.BOUNDARY_EVENT));
+    assertThat(flowNode.getAttachedTo(), equalTo("userTask"));
+    assertThat(flowNode.getEventType(), is(BpmnEventType.ERROR));
+    assertThat(flowNode.getEventCode(), equalTo("userTaskError"));
   }
 
   @Test
   public void testGetTestCases() {
-    List<TestCase> testCases;
+    List<BpmnTestCase> testCases;
 
     bpmnSupport = BpmnSupport.of(Paths.get("./src/test/resources/bpmn/happyPath.bpmn"));
 
@@ -91,11 +114,11 @@ public class BpmnSupportTest {
     assertThat(testCases.get(0).getName(), equalTo("Happy Path"));
     assertThat(testCases.get(0).getDescription(), equalTo("The happy path"));
 
-    Path path = testCases.get(0).getPath();
-    assertThat(path, notNullValue());
-    assertThat(path.getFlowNodeIds(), hasSize(2));
-    assertThat(path.getFlowNodeIds().get(0), equalTo("startEvent"));
-    assertThat(path.getFlowNodeIds().get(1), equalTo("endEvent"));
+    List<String> flowNodeIds = testCases.get(0).getFlowNodeIds();
+    assertThat(flowNodeIds, notNullValue());
+    assertThat(flowNodeIds, hasSize(2));
+    assertThat(flowNodeIds.get(0), equalTo("startEvent"));
+    assertThat(flowNodeIds.get(1), equalTo("endEvent"));
 
     bpmnSupport = BpmnSupport.of(simple.resolve("simple.bpmn"));
 
@@ -104,14 +127,14 @@ public class BpmnSupportTest {
 
     assertThat(testCases.get(0).getName(), nullValue());
     assertThat(testCases.get(0).getDescription(), nullValue());
-    assertThat(testCases.get(0).getPath(), notNullValue());
+    assertThat(testCases.get(0).getFlowNodeIds(), notNullValue());
   }
 
   @Test
   public void testGetTestCasesWhenNotDefined() {
     bpmnSupport = BpmnSupport.of(simple.resolve("noTestCases.bpmn"));
 
-    List<TestCase> testCases = bpmnSupport.getTestCases();
+    List<BpmnTestCase> testCases = bpmnSupport.getTestCases();
     assertThat(testCases, notNullValue());
     assertThat(testCases, hasSize(0));
   }
@@ -160,6 +183,15 @@ public class BpmnSupportTest {
     assertThat(bpmnSupport.isIntermediateCatchEvent("timerCatchEvent"), is(true));
   }
 
+  @Test
+  public void testIsMultiInstance() {
+    bpmnSupport = BpmnSupport.of(advancedMultiInstance.resolve("sequential.bpmn"));
+    assertThat(bpmnSupport.isMultiInstance("multiInstanceManualTask"), is(true));
+    assertThat(bpmnSupport.isMultiInstance("startEvent"), is(false));
+
+    assertThat(bpmnSupport.get("multiInstanceManualTask").isSequential(), is(true));
+  }
+
   @Test
   public void testIsProcessEnd() {
     bpmnSupport = BpmnSupport.of(simple.resolve("simpleSubProcess.bpmn"));
@@ -0,0 +1,152 @@
+package org.camunda.community.bpmndt;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class CoverageReporterTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder(new File("./target"));
+
+  private Log log;
+
+  private Path mainResourcePath;
+  private Path coverageDirectory;
+  private Path reportDirectory;
+
+  @Before
+  public void setUp() throws IOException {
+    Path bpmn = Paths.get("./src/test/resources/bpmn");
+
+    mainResourcePath = temporaryFolder.newFolder("resources").toPath();
+    Files.copy(bpmn.resolve("happyPath.bpmn"), mainResourcePath.resolve("happyPath.bpmn"));
+    Files.createDirectories(mainResourcePath.resolve("org/example"));
+    Files.copy(bpmn.resolve("noTestCases.bpmn"), mainResourcePath.resolve("org/example/noTestCases.bpmn"));
+
+    coverageDirectory = temporaryFolder.newFolder("bpmndt-coverage").toPath();
+    reportDirectory = temporaryFolder.getRoot().toPath().resolve("bpmndt-coverage-report");
+
+    log = Mockito.mock(Log.class);
+  }
+
+  /**
+   * Should delete the data files of a previous test run, but keep other files.
+   */
+  @Test
+  public void testPrepare() throws IOException {
+    write("a.coverage", "happy-path\tstartEvent");
+    write("b.tmp", "happy-path\tendEvent");
+    write("other.txt", "other");
+
+    new CoverageReporter(log).prepare(coverageDirectory);
+
+    assertThat(Files.exists(coverageDirectory.resolve("a.coverage")), is(false));
+    assertThat(Files.exists(coverageDirectory.resolve("b.tmp")), is(false));
+    assertThat(Files.exists(coverageDirectory.resolve("other.txt")), is(true));
+
+    verify(log).info(String.format("Deleted 2 coverage data files: %s", coverageDirectory));
+
+    // not existing directory
+    new CoverageReporter(log).prepare(temporaryFolder.getRoot().toPath().resolve("not-existing"));
+  }
+
+  @Test
+  public void testReport() throws IOException {
+    // data files of two JVMs
+    write("a.coverage", "happy-path\tstartEvent", "no-test-cases\tstartEvent", "unknown\tstartEvent");
+    write("b.coverage", "happy-path\tstartEvent", "happy-path\tFlow_0j6lglk", "malformed");
+    // incomplete data file, which is ignored
+    write("c.tmp", "happy-path\tendEvent");
+
+    List<BpmnCoverage> coverages = new CoverageReporter(log).report(mainResourcePath, coverageDirectory, reportDirectory);
+    assertThat(coverages, hasSize(2));
+
+    BpmnCoverage happyPath = find(coverages, "happyPath.bpmn");
+    assertThat(happyPath.getProcessId(), is("happy-path"));
+    assertThat(happyPath.getFlowNodeCount(), is(2));
+    assertThat(happyPath.getCoveredFlowNodeCount(), is(1));
+    assertThat(happyPath.getSequenceFlowCount(), is(1));
+    assertThat(happyPath.getCoveredSequenceFlowCount(), is(1));
+
+    List<BpmnCoverage.Element> elements = happyPath.getElements();
+    assertThat(elements, hasSize(3));
+    assertThat(elements.get(0).getId(), is("Flow_0j6lglk"));
+    assertThat(elements.get(0).getTypeName(), is(BpmnCoverage.SEQUENCE_FLOW));
+    assertThat(elements.get(0).isCovered(), is(true));
+    assertThat(elements.get(1).getId(), is("endEvent"));
+    assertThat(elements.get(1).getTypeName(), is("endEvent"));
+    assertThat(elements.get(1).isCovered(), is(false));
+    assertThat(elements.get(2).getId(), is("startEvent"));
+    assertThat(elements.get(2).isCovered(), is(true));
+
+    BpmnCoverage noTestCases = find(coverages, "org/example/noTestCases.bpmn");
+    assertThat(noTestCases.getCoveredFlowNodeCount(), is(1));
+    assertThat(noTestCases.getCoveredSequenceFlowCount(), is(0));
+
+    String json = read("happyPath.json");
+    assertThat(json, containsString("\"processId\": \"happy-path\""));
+    assertThat(json, containsString("\"flowNodes\": { \"covered\": 1, \"total\": 2 }"));
+    assertThat(json, containsString("\"sequenceFlows\": { \"covered\": 1, \"total\": 1 }"));
+    assertThat(json, containsString("{ \"id\": \"endEvent\", \"type\": \"endEvent\", \"covered\": false }"));
+
+    String html = read("happyPath.html");
+    assertThat(html, containsString("<tr><td>Flow nodes</td><td>1</td><td>2</td><td>50.0%</td></tr>"));
+    assertThat(html, containsString("<tr class=\"uncovered\"><td>endEvent</td><td>endEvent</td><td>no</td></tr>"));
+
+    assertThat(Files.isRegularFile(reportDirectory.resolve("org/example/noTestCases.json")), is(true));
+    assertThat(Files.isRegularFile(reportDirectory.resolve("org/example/noTestCases.html")), is(true));
+
+    verify(log).info("Coverage of happyPath.bpmn: 1 of 2 flow nodes, 1 of 1 sequence flows");
+    verify(log).info("Coverage of org/example/noTestCases.bpmn: 1 of 2 flow nodes, 0 of 1 sequence flows");
+  }
+
+  /**
+   * Should report all BPMN files as not covered, if no test has been executed.
+   */
+  @Test
+  public void testReportNoCoverage() {
+    Path notExisting = temporaryFolder.getRoot().toPath().resolve("not-existing");
+
+    List<BpmnCoverage> coverages = new CoverageReporter(log).report(mainResourcePath, notExisting, reportDirectory);
+    assertThat(coverages, hasSize(2));
+
+    BpmnCoverage happyPath = find(coverages, "happyPath.bpmn");
+    assertThat(happyPath.getCoveredFlowNodeCount(), is(0));
+    assertThat(happyPath.getCoveredSequenceFlowCount(), is(0));
+
+    assertThat(Files.isRegularFile(reportDirectory.resolve("happyPath.json")), is(true));
+
+    verify(log).warn(String.format("No coverage data found: %s", notExisting));
+  }
+
+  private BpmnCoverage find(List<BpmnCoverage> coverages, String path) {
+    return coverages.stream().filter(coverage -> coverage.getPath().equals(path)).findFirst().get();
+  }
+
+  private String read(String fileName) throws IOException {
+    return new String(Files.readAllBytes(reportDirectory.resolve(fileName)), StandardCharsets.UTF_8);
+  }
+
+  private void write(String fileName, String... lines) throws IOException {
+    Files.write(coverageDirectory.resolve(fileName), Arrays.asList(lines), StandardCharsets.UTF_8);
+  }
+}
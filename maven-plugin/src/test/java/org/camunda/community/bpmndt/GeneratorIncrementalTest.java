@@ -0,0 +1,202 @@
+package org.camunda.community.bpmndt;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Predicate;
+
+import org.apache.maven.plugin.logging.Log;
+import org.camunda.community.bpmndt.cmd.ReadManifest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class GeneratorIncrementalTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder(new File("./target"));
+
+  private GeneratorContext ctx;
+  private Log log;
+
+  private Path bpmn;
+  private Path mainResourcePath;
+
+  private Predicate<String> isFile;
+
+  @Before
+  public void setUp() throws IOException {
+    bpmn = Paths.get("./src/test/resources/bpmn");
+
+    mainResourcePath = temporaryFolder.newFolder("resources").toPath();
+    Files.copy(bpmn.resolve("happyPath.bpmn"), mainResourcePath.resolve("happyPath.bpmn"));
+    Files.copy(bpmn.resolve("empty.bpmn"), mainResourcePath.resolve("empty.bpmn"));
+
+    ctx = new GeneratorContext();
+    ctx.setBasePath(Paths.get("."));
+    ctx.setIncrementalEnabled(true);
+    ctx.setMainResourcePath(mainResourcePath);
+    ctx.setTestSourcePath(temporaryFolder.newFolder("bpmndt").toPath());
+
+    ctx.setPackageName("org.example");
+
+    isFile = (className) -> {
+      return Files.isRegularFile(ctx.getTestSourcePath().resolve(className));
+    };
+
+    // initial generation
+    new Generator(Mockito.mock(Log.class)).generate(ctx);
+
+    log = Mockito.mock(Log.class);
+  }
+
+  @Test
+  public void testGenerate() {
+    GeneratorManifest manifest = new ReadManifest().apply(ctx);
+    assertThat(manifest, notNullValue());
+    assertThat(manifest.getSettings(), is(GeneratorManifest.settingsOf(ctx)));
+    assertThat(manifest.getEntries().size(), is(2));
+    assertThat(manifest.get("empty.bpmn").getFiles(), hasSize(1));
+    assertThat(manifest.get("happyPath.bpmn").getFiles(), hasSize(1));
+    assertThat(manifest.get("happyPath.bpmn").getFiles().get(0), is("org/example/happy_path/TC_Happy_Path.java"));
+
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    // nothing to generate
+    assertThat(generator.getResult().getFiles(), hasSize(0));
+
+    verify(log).info("Skipping unchanged BPMN file: empty.bpmn");
+    verify(log).info("Skipping unchanged BPMN file: happyPath.bpmn");
+
+    assertThat(isFile.test("org/example/empty/TC_empty.java"), is(true));
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(true));
+  }
+
+  @Test
+  public void testGenerateBpmnFileAdded() throws IOException {
+    Files.copy(bpmn.resolve("incomplete.bpmn"), mainResourcePath.resolve("incomplete.bpmn"));
+
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    assertThat(generator.getResult().getFiles(), hasSize(1));
+
+    verify(log).info("Skipping unchanged BPMN file: empty.bpmn");
+    verify(log).info("Skipping unchanged BPMN file: happyPath.bpmn");
+
+    assertThat(isFile.test("org/example/empty/TC_empty.java"), is(true));
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(true));
+    assertThat(isFile.test("org/example/incomplete/TC_incomplete.java"), is(true));
+
+    GeneratorManifest manifest = new ReadManifest().apply(ctx);
+    assertThat(manifest.getEntries().size(), is(3));
+  }
+
+  @Test
+  public void testGenerateBpmnFileChanged() throws IOException {
+    // replace content, which results in another process ID and therefore another package
+    Files.copy(bpmn.resolve("incomplete.bpmn"), mainResourcePath.resolve("happyPath.bpmn"), StandardCopyOption.REPLACE_EXISTING);
+
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    assertThat(generator.getResult().getFiles(), hasSize(1));
+
+    verify(log).info("Skipping unchanged BPMN file: empty.bpmn");
+    verify(log, never()).info("Skipping unchanged BPMN file: happyPath.bpmn");
+
+    assertThat(isFile.test("org/example/empty/TC_empty.java"), is(true));
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(false));
+    assertThat(isFile.test("org/example/incomplete/TC_incomplete.java"), is(true));
+
+    // empty package directory should be deleted
+    assertThat(Files.exists(ctx.getTestSourcePath().resolve("org/example/happy_path")), is(false));
+  }
+
+  @Test
+  public void testGenerateBpmnFileRemoved() throws IOException {
+    Files.delete(mainResourcePath.resolve("happyPath.bpmn"));
+
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    assertThat(generator.getResult().getFiles(), hasSize(0));
+
+    assertThat(isFile.test("org/example/empty/TC_empty.java"), is(true));
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(false));
+
+    GeneratorManifest manifest = new ReadManifest().apply(ctx);
+    assertThat(manifest.getEntries().size(), is(1));
+    assertThat(manifest.get("happyPath.bpmn"), nullValue());
+  }
+
+  @Test
+  public void testGenerateJavaFileDeleted() throws IOException {
+    Files.delete(ctx.getTestSourcePath().resolve("org/example/happy_path/TC_Happy_Path.java"));
+
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    assertThat(generator.getResult().getFiles(), hasSize(1));
+
+    verify(log).info("Skipping unchanged BPMN file: empty.bpmn");
+    verify(log, never()).info("Skipping unchanged BPMN file: happyPath.bpmn");
+
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(true));
+  }
+
+  @Test
+  public void testGenerateSettingsChanged() {
+    ctx.setPackageName("org.example.changed");
+
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    assertThat(generator.getResult().getFiles(), hasSize(2));
+
+    verify(log).info("Generator settings changed: Generating all test cases");
+
+    assertThat(isFile.test("org/example/empty/TC_empty.java"), is(false));
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(false));
+    assertThat(isFile.test("org/example/changed/empty/TC_empty.java"), is(true));
+    assertThat(isFile.test("org/example/changed/happy_path/TC_Happy_Path.java"), is(true));
+  }
+
+  @Test
+  public void testGenerateIncrementalDisabled() {
+    ctx.setIncrementalEnabled(false);
+
+    Generator generator = new Generator(log);
+    generator.generate(ctx);
+
+    assertThat(generator.getResult().getFiles(), hasSize(2));
+
+    // manifest should be deleted
+    assertThat(isFile.test(Constants.MANIFEST_FILE_NAME), is(false));
+  }
+
+  /**
+   * Should fingerprint the generator by version and code hash, not by the location of its code.
+   */
+  @Test
+  public void testSettingsGenerator() {
+    String generator = GeneratorManifest.getGenerator();
+    assertThat(generator.matches(".+@[0-9a-f]{64}"), is(true));
+    assertThat(GeneratorManifest.settingsOf(ctx), containsString(";generator=" + generator));
+  }
+}
@@ -9,6 +9,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -152,7 +155,7 @@ public class GeneratorMultiInstanceTest {
         .contains(String.format("%s handler = getHandler(loopIndex)", TypeName.get(CallActivityHandler.class)))
         .contains("registerCallActivityHandler(handler)")
         .contains("if (handler.isWaitingForBoundaryEvent())")
-        .contains("instance.apply(boundaryEventHandler)")
+        .contains("instance.apply(handleBoundaryEvent())")
         .contains("getHandlerBefore(loopIndex)")
         .contains("getHandlerAfter(loopIndex)");
   }
@@ -269,6 +272,31 @@ public class GeneratorMultiInstanceTest {
         .contains(String.format("return new %s", TypeName.get(UserTaskHandler.class)));
   }
 
+  /**
+   * Tests the code generation for parallel multi instance with wait state - {@code isBatchSupported}
+   * method is overridden, since the loops must be handled one by one.
+   */
+  @Test
+  public void testUserTaskParallel() throws IOException {
+    String bpmnXml = new String(Files.readAllBytes(ctx.getMainResourcePath().resolve("userTask.bpmn")), StandardCharsets.UTF_8);
+
+    ctx.setMainResourcePath(temporaryFolder.newFolder("resources").toPath());
+
+    bpmnFile = ctx.getMainResourcePath().resolve("userTask.bpmn");
+    Files.write(bpmnFile, bpmnXml.replace("isSequential=\"true\"", "isSequential=\"false\"").getBytes(StandardCharsets.UTF_8));
+
+    generator.generateTestCases(ctx, bpmnFile);
+    assertThat(result.getFiles(), hasSize(2));
+
+    TypeSpec typeSpec = result.getFiles().get(1).typeSpec;
+    assertThat(typeSpec.methodSpecs, hasSize(5));
+    assertThat(typeSpec.methodSpecs.get(3).name, equalTo("isSequential"));
+    assertThat(typeSpec.methodSpecs.get(4).name, equalTo("isBatchSupported"));
+    assertThat(typeSpec.methodSpecs.get(4).returnType, equalTo(TypeName.BOOLEAN));
+
+    containsCode(typeSpec.methodSpecs.get(4)).contains("return false");
+  }
+
   @Test
   public void testUserTaskError() {
     generator.generateTestCases(ctx, bpmnFile);
@@ -309,7 +337,7 @@ public class GeneratorMultiInstanceTest {
     containsCode(typeSpec.methodSpecs.get(1))
         .contains(String.format("%s handler = getHandler(loopIndex)", TypeName.get(UserTaskHandler.class)))
         .contains("if (handler.isWaitingForBoundaryEvent())")
-        .contains("instance.apply(boundaryEventHandler)")
+        .contains("instance.apply(handleBoundaryEvent())")
         .contains("getHandlerBefore(loopIndex)")
         .contains("getHandlerAfter(loopIndex)");
   }
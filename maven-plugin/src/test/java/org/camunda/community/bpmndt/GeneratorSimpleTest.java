@@ -26,6 +26,7 @@ import org.camunda.community.bpmndt.api.CallActivityHandler;
 import org.camunda.community.bpmndt.api.EventHandler;
 import org.camunda.community.bpmndt.api.ExternalTaskHandler;
 import org.camunda.community.bpmndt.api.JobHandler;
+import org.camunda.community.bpmndt.api.TestCasePlan;
 import org.camunda.community.bpmndt.api.UserTaskHandler;
 import org.junit.Before;
 import org.junit.Rule;
@@ -181,12 +182,16 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(7).returnType, equalTo(JOB_HANDLER));
 
     containsCode(typeSpec.methodSpecs.get(0))
-        .contains(String.format("startEventAfter = new %s(getProcessEngine(), \"startEvent\");", JOB_HANDLER))
-        .contains(String.format("endEventBefore = new %s(getProcessEngine(), \"endEvent\");", JOB_HANDLER));
+        .contains("startEventAfter = null;")
+        .contains("endEventBefore = null;");
+    containsCode(typeSpec.methodSpecs.get(6))
+        .contains("if (startEventAfter == null)")
+        .contains(String.format("startEventAfter = new %s(getProcessEngine(), \"startEvent\");", JOB_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(7)).contains(String.format("endEventBefore = new %s(getProcessEngine(), \"endEvent\");", JOB_HANDLER));
 
     containsCode(typeSpec.methodSpecs.get(1))
-        .contains("instance.apply(startEventAfter);")
-        .contains("instance.apply(endEventBefore);");
+        .contains("instance.apply(handleStartEventAfter());")
+        .contains("instance.apply(handleEndEventBefore());");
   }
 
   @Test
@@ -204,9 +209,11 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.fieldSpecs.get(0).type, equalTo(JOB_HANDLER));
     assertThat(typeSpec.fieldSpecs.get(1).name, equalTo("callActivity"));
     assertThat(typeSpec.fieldSpecs.get(1).type, equalTo(CALL_ACTIVITY_HANDLER));
-    assertThat(typeSpec.methodSpecs, hasSize(7));
-    assertThat(typeSpec.methodSpecs.get(6).name, equalTo("handleCallActivity"));
-    assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(CALL_ACTIVITY_HANDLER));
+    assertThat(typeSpec.methodSpecs, hasSize(8));
+    assertThat(typeSpec.methodSpecs.get(6).name, equalTo("handleCallActivityBefore"));
+    assertThat(typeSpec.methodSpecs.get(6).modifiers, hasItem(Modifier.PRIVATE));
+    assertThat(typeSpec.methodSpecs.get(7).name, equalTo("handleCallActivity"));
+    assertThat(typeSpec.methodSpecs.get(7).returnType, equalTo(CALL_ACTIVITY_HANDLER));
 
     String expected = "callActivity = new %s(instance, \"callActivity\");";
     containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, CALL_ACTIVITY_HANDLER));
@@ -235,8 +242,9 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(EVENT_HANDLER));
 
     String expected = "conditionalCatchEvent = new %s(getProcessEngine(), \"conditionalCatchEvent\", null);";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, EVENT_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(conditionalCatchEvent);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("conditionalCatchEvent = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, EVENT_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleConditionalCatchEvent());");
   }
 
   @Test
@@ -286,8 +294,9 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(EXTERNAL_TASK_HANDLER));
 
     String expected = "externalTask = new %s(getProcessEngine(), \"externalTask\", \"test-topic\");";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, EXTERNAL_TASK_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(externalTask);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("externalTask = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, EXTERNAL_TASK_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleExternalTask());");
   }
 
   @Test
@@ -304,8 +313,9 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(EVENT_HANDLER));
 
     String expected = "messageCatchEvent = new %s(getProcessEngine(), \"messageCatchEvent\", \"simpleMessage\");";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, EVENT_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(messageCatchEvent);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("messageCatchEvent = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, EVENT_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleMessageCatchEvent());");
   }
 
   @Test
@@ -322,8 +332,9 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(EXTERNAL_TASK_HANDLER));
 
     String expected = "messageThrowEvent = new %s(getProcessEngine(), \"messageThrowEvent\", \"test-message\");";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, EXTERNAL_TASK_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(messageThrowEvent);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("messageThrowEvent = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, EXTERNAL_TASK_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleMessageThrowEvent());");
   }
 
   @Test
@@ -340,8 +351,9 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(EVENT_HANDLER));
 
     String expected = "receiveTask = new %s(getProcessEngine(), \"receiveTask\", \"simpleMessage\");";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, EVENT_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(receiveTask);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("receiveTask = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, EVENT_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleReceiveTask());");
   }
 
   @Test
@@ -358,8 +370,9 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(ClassName.get(EventHandler.class)));
 
     String expected = "signalCatchEvent = new %s(getProcessEngine(), \"signalCatchEvent\", \"simpleSignal\");";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, EVENT_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(signalCatchEvent);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("signalCatchEvent = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, EVENT_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleSignalCatchEvent());");
   }
 
   @Test
@@ -376,9 +389,9 @@ public class GeneratorSimpleTest {
 
     containsCode(typeSpec.methodSpecs.get(1))
         .contains("// startEvent: subProcessStartEvent")
-        .contains("assertThat(pi).hasPassed(\"subProcessStartEvent\");")
+        .contains("instance.hasPassed(pi, \"subProcessStartEvent\");")
         .contains("// endEvent: subProcessEndEvent")
-        .contains("assertThat(pi).hasPassed(\"subProcessEndEvent\");");
+        .contains("instance.hasPassed(pi, \"subProcessEndEvent\");");
   }
 
   @Test
@@ -395,8 +408,9 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(JOB_HANDLER));
 
     String expected = "timerCatchEvent = new %s(getProcessEngine(), \"timerCatchEvent\");";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, JOB_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(timerCatchEvent);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("timerCatchEvent = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, JOB_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleTimerCatchEvent());");
   }
 
   @Test
@@ -413,8 +427,44 @@ public class GeneratorSimpleTest {
     assertThat(typeSpec.methodSpecs.get(6).returnType, equalTo(USER_TASK_HANDLER));
 
     String expected = "userTask = new %s(getProcessEngine(), \"userTask\");";
-    containsCode(typeSpec.methodSpecs.get(0)).contains(String.format(expected, USER_TASK_HANDLER));
-    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(userTask);");
+    containsCode(typeSpec.methodSpecs.get(0)).contains("userTask = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, USER_TASK_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("instance.apply(handleUserTask());");
+  }
+
+  /**
+   * Should generate a static step plan, when enabled.
+   */
+  @Test
+  public void testSimpleUserTaskStepPlanEnabled() {
+    ctx.setStepPlanEnabled(true);
+
+    // overridde auto built BPMN file path
+    bpmnFile = ctx.getMainResourcePath().resolve("simpleUserTask.bpmn");
+
+    generator.generateTestCases(ctx, bpmnFile);
+    assertThat(result.getFiles(), hasSize(1));
+
+    TypeSpec typeSpec = result.getFiles().get(0).typeSpec;
+    assertThat(typeSpec.fieldSpecs, hasSize(2));
+    assertThat(typeSpec.fieldSpecs.get(0).name, equalTo("PLAN"));
+    assertThat(typeSpec.fieldSpecs.get(0).type, equalTo(TypeName.get(TestCasePlan.class)));
+    assertThat(typeSpec.fieldSpecs.get(0).modifiers, hasItem(Modifier.STATIC));
+    assertThat(typeSpec.fieldSpecs.get(1).name, equalTo("userTask"));
+    assertThat(typeSpec.methodSpecs, hasSize(7));
+
+    String initializer = typeSpec.fieldSpecs.get(0).initializer.toString();
+    assertThat(initializer, containsString("// startEvent: startEvent"));
+    assertThat(initializer, containsString("\"hasPassed startEvent\","));
+    assertThat(initializer, containsString("\"isWaitingAt userTask\","));
+    assertThat(initializer, containsString("\"apply handleUserTask\","));
+    assertThat(initializer, containsString("\"hasPassed userTask\","));
+    assertThat(initializer, containsString("\"hasPassed endEvent\"\n"));
+
+    String expected = "userTask = new %s(getProcessEngine(), \"userTask\");";
+    containsCode(typeSpec.methodSpecs.get(0)).contains("userTask = null;");
+    containsCode(typeSpec.methodSpecs.get(6)).contains(String.format(expected, USER_TASK_HANDLER));
+    containsCode(typeSpec.methodSpecs.get(1)).contains("PLAN.execute(instance, this, pi);").notContains("instance.apply(handleUserTask());");
   }
 
   /**
@@ -8,12 +8,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.logging.Log;
@@ -26,9 +30,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestName;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
@@ -177,6 +183,34 @@ public class GeneratorTest {
     assertThat(((ParameterizedTypeName) typeSpec.superclass).typeArguments.get(0), equalTo(typeArgument));
   }
 
+  /**
+   * Should generate the defined test case and the enumerated paths, except the path of the defined
+   * test case.
+   */
+  @Test
+  public void testEnumeratePaths() {
+    generator.generateTestCases(ctx, bpmnFile);
+    assertThat(result.getFiles(), hasSize(5));
+    assertThat(result.getFiles().get(0).typeSpec.name, equalTo("TC_Happy_Path"));
+    assertThat(result.getFiles().get(1).typeSpec.name, equalTo("TC_startEvent__endEvent__2"));
+    assertThat(result.getFiles().get(2).typeSpec.name, equalTo("TC_startEvent__subProcessEndedEvent"));
+    assertThat(result.getFiles().get(3).typeSpec.name, equalTo("TC_startEvent__errorEndEvent"));
+    assertThat(result.getFiles().get(4).typeSpec.name, equalTo("TC_startEvent__timeoutEndEvent"));
+  }
+
+  @Test
+  public void testEnumeratePathsMaxPaths() {
+    ctx.setPathEnumerationMaxPaths(2);
+
+    Log log = Mockito.mock(Log.class);
+
+    generator = new Generator(log);
+    generator.generateTestCases(ctx, ctx.getMainResourcePath().resolve("bpmn/enumeratePaths.bpmn"));
+    assertThat(generator.getResult().getFiles(), hasSize(2));
+
+    Mockito.verify(log).warn("Path enumeration incomplete: Limit of 2 paths or 100 flow nodes per path reached");
+  }
+
   @Test
   public void testNoTestCases() {
     generator.generateTestCases(ctx, bpmnFile);
@@ -207,6 +241,7 @@ public class GeneratorTest {
     // API classes
     assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractJUnit4TestCase.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractTestCase.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/ActivityTrace.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/CallActivityDefinition.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/CallActivityHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/EventHandler.java"), is(true));
@@ -215,9 +250,136 @@ public class GeneratorTest {
     assertThat(isFile.test("org/camunda/community/bpmndt/api/MultiInstanceHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseInstance.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseExecutor.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseLoadResult.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCasePlan.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseStep.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/UserTaskHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/BpmndtParseListener.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/BpmndtProcessEnginePlugin.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/CoverageCollector.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/H2SchemaTemplate.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/ProcessEngineRegistry.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/WaitStateIndex.java"), is(true));
+  }
+
+  /**
+   * Should collect the generation metrics and write them as JSON report to the parent directory of
+   * the test source directory.
+   */
+  @Test
+  public void testGenerateMetrics() throws IOException {
+    ctx.setTestSourcePath(temporaryFolder.getRoot().toPath().resolve("bpmndt"));
+
+    generator.generate(ctx);
+
+    GeneratorMetrics metrics = generator.getMetrics();
+    assertThat(metrics.getDuration() > 0, is(true));
+    assertThat(metrics.getDuration(GeneratorMetrics.Phase.PARSE) > 0, is(true));
+    assertThat(metrics.getFlowNodeCount() > 0, is(true));
+    assertThat(metrics.getGeneratedBytes() > 0, is(true));
+
+    GeneratorMetrics.BpmnFileMetrics happyPath = metrics.getBpmnFiles().stream()
+        .filter(bpmnFile -> bpmnFile.getPath().equals("bpmn/happyPath.bpmn"))
+        .findFirst()
+        .get();
+
+    assertThat(happyPath.getProcessId(), equalTo("happy-path"));
+    assertThat(happyPath.getTestCases(), hasSize(1));
+    assertThat(happyPath.getTestCases().get(0).getName(), equalTo("Happy_Path"));
+    assertThat(happyPath.getTestCases().get(0).getFiles(), hasSize(1));
+    assertThat(happyPath.getTestCases().get(0).getFiles().get(0), equalTo("org/example/happy_path/TC_Happy_Path.java"));
+
+    Path metricsFile = temporaryFolder.getRoot().toPath().resolve(Constants.METRICS_FILE_NAME);
+    assertThat(Files.isRegularFile(metricsFile), is(true));
+
+    String json = new String(Files.readAllBytes(metricsFile), StandardCharsets.UTF_8);
+    assertThat(json.contains("\"bpmnFiles\": ["), is(true));
+    assertThat(json.contains("\"path\": \"bpmn/happyPath.bpmn\""), is(true));
+    assertThat(json.contains("\"name\": \"Happy_Path\""), is(true));
+  }
+
+  /**
+   * Tests that a second generation does not write unchanged files, but deletes stale files.
+   */
+  @Test
+  public void testGenerateUnchanged() throws IOException {
+    generator.generate(ctx);
+
+    Path happyPath = ctx.getTestSourcePath().resolve("org/example/happy_path/TC_Happy_Path.java");
+    Path abstractTestCase = ctx.getTestSourcePath().resolve("org/camunda/community/bpmndt/api/AbstractTestCase.java");
+
+    FileTime happyPathLastModified = FileTime.fromMillis(0L);
+    FileTime abstractTestCaseLastModified = FileTime.fromMillis(0L);
+
+    Files.setLastModifiedTime(happyPath, happyPathLastModified);
+    Files.setLastModifiedTime(abstractTestCase, abstractTestCaseLastModified);
+
+    Path stale = ctx.getTestSourcePath().resolve("org/example/stale/TC_stale.java");
+    Files.createDirectories(stale.getParent());
+    Files.write(stale, "stale".getBytes(StandardCharsets.UTF_8));
+
+    Log log = Mockito.mock(Log.class);
+
+    generator = new Generator(log);
+    generator.generate(ctx);
+
+    assertThat(Files.getLastModifiedTime(happyPath), equalTo(happyPathLastModified));
+    assertThat(Files.getLastModifiedTime(abstractTestCase), equalTo(abstractTestCaseLastModified));
+
+    assertThat(Files.exists(stale), is(false));
+    assertThat(Files.exists(stale.getParent()), is(false));
+
+    Mockito.verify(log, Mockito.never()).info(Mockito.argThat((CharSequence message) -> message.toString().startsWith("Writing file:")));
+    Mockito.verify(log).info("Deleting file: " + ctx.getBasePath().relativize(stale).toString().replace('\\', '/'));
+    Mockito.verify(log).info(Mockito.argThat((CharSequence message) -> message.toString().startsWith("Files written: 0,")));
+    Mockito.verify(log).info(Mockito.argThat((CharSequence message) -> message.toString().endsWith("deleted: 1")));
+  }
+
+  /**
+   * Tests that a parallel generation results in the same log output and files as a sequential
+   * generation.
+   */
+  @Test
+  public void testGenerateParallel() throws IOException {
+    Path sequential = temporaryFolder.newFolder("sequential").toPath();
+    Path parallel = temporaryFolder.newFolder("parallel").toPath();
+
+    ctx.setTestSourcePath(sequential);
+
+    Log log = Mockito.mock(Log.class);
+
+    generator = new Generator(log);
+    generator.generate(ctx);
+
+    ArgumentCaptor<CharSequence> messages = ArgumentCaptor.forClass(CharSequence.class);
+    Mockito.verify(log, Mockito.atLeastOnce()).info(messages.capture());
+
+    // both runs write into an empty directory - messages differ only by the directory name
+    List<String> expectedMessages = messages.getAllValues().stream()
+        .map(CharSequence::toString)
+        .map((message) -> message.replace(sequential.getFileName().toString(), parallel.getFileName().toString()))
+        .collect(Collectors.toList());
+    List<String> expectedFiles = generator.getResult().getFiles().stream().map(JavaFile::toString).collect(Collectors.toList());
+
+    ctx.setGeneratorThreads(4);
+    ctx.setTestSourcePath(parallel);
+
+    log = Mockito.mock(Log.class);
+
+    generator = new Generator(log);
+    generator.generate(ctx);
+
+    messages = ArgumentCaptor.forClass(CharSequence.class);
+    Mockito.verify(log, Mockito.atLeastOnce()).info(messages.capture());
+
+    List<String> actualMessages = messages.getAllValues().stream().map(CharSequence::toString).collect(Collectors.toList());
+    List<String> actualFiles = generator.getResult().getFiles().stream().map(JavaFile::toString).collect(Collectors.toList());
+
+    assertThat(actualMessages, equalTo(expectedMessages));
+    assertThat(actualMessages.stream().anyMatch((message) -> message.startsWith("Writing file: ")), is(true));
+    assertThat(actualFiles, equalTo(expectedFiles));
+
+    Mockito.verify(log).warn("Skipping test case 'startEvent__endEvent': Name must be unique");
   }
 
   /**
@@ -246,6 +408,7 @@ public class GeneratorTest {
     // API classes
     assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractJUnit5TestCase.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractTestCase.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/ActivityTrace.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/CallActivityDefinition.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/CallActivityHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/EventHandler.java"), is(true));
@@ -254,9 +417,39 @@ public class GeneratorTest {
     assertThat(isFile.test("org/camunda/community/bpmndt/api/MultiInstanceHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseInstance.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseExecutor.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseLoadResult.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCasePlan.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseStep.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/UserTaskHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/BpmndtParseListener.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/BpmndtProcessEnginePlugin.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/CoverageCollector.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/H2SchemaTemplate.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/ProcessEngineRegistry.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/WaitStateIndex.java"), is(true));
+  }
+
+  /**
+   * Tests the complete generation, using the API classes of the runtime artifact.
+   */
+  @Test
+  public void testGenerateRuntimeApiEnabled() {
+    ctx.setRuntimeApiEnabled(true);
+
+    generator.generate(ctx);
+
+    Predicate<String> isFile = (className) -> {
+      return Files.isRegularFile(ctx.getTestSourcePath().resolve(className));
+    };
+
+    // test cases
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(true));
+
+    // API classes
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractJUnit4TestCase.java"), is(false));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractTestCase.java"), is(false));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/BpmndtProcessEnginePlugin.java"), is(false));
+    assertThat(Files.exists(ctx.getTestSourcePath().resolve("org/camunda")), is(false));
   }
 
   /**
@@ -288,6 +481,7 @@ public class GeneratorTest {
     // API classes
     assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractJUnit4TestCase.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/AbstractTestCase.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/ActivityTrace.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/CallActivityDefinition.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/CallActivityHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/EventHandler.java"), is(true));
@@ -296,9 +490,16 @@ public class GeneratorTest {
     assertThat(isFile.test("org/camunda/community/bpmndt/api/MultiInstanceHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseInstance.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseExecutor.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseLoadResult.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCasePlan.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/TestCaseStep.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/UserTaskHandler.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/BpmndtParseListener.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/BpmndtProcessEnginePlugin.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/CoverageCollector.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/H2SchemaTemplate.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/ProcessEngineRegistry.java"), is(true));
+    assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/WaitStateIndex.java"), is(true));
     assertThat(isFile.test("org/camunda/community/bpmndt/api/cfg/SpringConfiguration.java"), is(true));
   }
 
@@ -0,0 +1,141 @@
+package org.camunda.community.bpmndt;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.logging.Log;
+import org.camunda.community.bpmndt.cmd.ReadFingerprints;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class GeneratorTestImpactTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder(new File("./target"));
+
+  private GeneratorContext ctx;
+  private Log log;
+
+  private Path mainResourcePath;
+
+  @Before
+  public void setUp() throws IOException {
+    Path bpmn = Paths.get("./src/test/resources/bpmn");
+
+    mainResourcePath = temporaryFolder.newFolder("resources").toPath();
+    Files.copy(bpmn.resolve("happyPath.bpmn"), mainResourcePath.resolve("happyPath.bpmn"));
+    Files.copy(bpmn.resolve("empty.bpmn"), mainResourcePath.resolve("empty.bpmn"));
+
+    ctx = new GeneratorContext();
+    ctx.setBasePath(Paths.get("."));
+    ctx.setMainResourcePath(mainResourcePath);
+    ctx.setTestImpactEnabled(true);
+    ctx.setTestSourcePath(temporaryFolder.newFolder("bpmndt").toPath());
+
+    ctx.setPackageName("org.example");
+
+    // initial generation
+    new Generator(Mockito.mock(Log.class)).generate(ctx);
+
+    log = Mockito.mock(Log.class);
+  }
+
+  @Test
+  public void testGenerate() throws IOException {
+    // all test cases are new
+    assertThat(readAffectedTests(), hasSize(2));
+    assertThat(readAffectedTests().get(0), is("org/example/empty/TC_empty.java"));
+    assertThat(readAffectedTests().get(1), is("org/example/happy_path/TC_Happy_Path.java"));
+
+    Map<String, String> fingerprints = new ReadFingerprints().apply(ctx);
+    assertThat(fingerprints.size(), is(2));
+
+    new Generator(log).generate(ctx);
+
+    // nothing changed
+    assertThat(readAffectedTests(), empty());
+    assertThat(new ReadFingerprints().apply(ctx), is(fingerprints));
+
+    verify(log).info("Affected test cases: 0 of 2");
+  }
+
+  @Test
+  public void testGenerateAsyncChanged() throws IOException {
+    modifyHappyPath("<bpmn:startEvent id=\"startEvent\">", "<bpmn:startEvent id=\"startEvent\" camunda:asyncAfter=\"true\">");
+
+    new Generator(log).generate(ctx);
+
+    assertThat(readAffectedTests(), hasSize(1));
+    assertThat(readAffectedTests().get(0), is("org/example/happy_path/TC_Happy_Path.java"));
+
+    verify(log).info("Affected test cases: 1 of 2");
+  }
+
+  @Test
+  public void testGenerateDiagramChanged() throws IOException {
+    // layout changes do not affect the path
+    modifyHappyPath("<dc:Bounds x=\"179\"", "<dc:Bounds x=\"180\"");
+
+    new Generator(log).generate(ctx);
+
+    assertThat(readAffectedTests(), empty());
+  }
+
+  @Test
+  public void testGenerateIncrementalEnabled() throws IOException {
+    ctx.setIncrementalEnabled(true);
+
+    // generate manifest
+    new Generator(Mockito.mock(Log.class)).generate(ctx);
+
+    modifyHappyPath("<bpmn:startEvent id=\"startEvent\">", "<bpmn:startEvent id=\"startEvent\" camunda:asyncAfter=\"true\">");
+
+    new Generator(log).generate(ctx);
+
+    verify(log).info("Skipping unchanged BPMN file: empty.bpmn");
+
+    // fingerprint of the skipped test case is taken over
+    assertThat(readAffectedTests(), hasSize(1));
+    assertThat(readAffectedTests().get(0), is("org/example/happy_path/TC_Happy_Path.java"));
+    assertThat(new ReadFingerprints().apply(ctx).size(), is(2));
+  }
+
+  @Test
+  public void testGenerateTestCaseRemoved() throws IOException {
+    Files.delete(mainResourcePath.resolve("happyPath.bpmn"));
+
+    new Generator(log).generate(ctx);
+
+    assertThat(readAffectedTests(), empty());
+    assertThat(new ReadFingerprints().apply(ctx).size(), is(1));
+  }
+
+  private void modifyHappyPath(String target, String replacement) throws IOException {
+    Path bpmnFile = mainResourcePath.resolve("happyPath.bpmn");
+
+    String content = new String(Files.readAllBytes(bpmnFile), StandardCharsets.UTF_8);
+    content = content.replace("xmlns:bpmn=", "xmlns:camunda=\"http://camunda.org/schema/1.0/bpmn\" xmlns:bpmn=");
+    content = content.replace(target, replacement);
+
+    Files.write(bpmnFile, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private List<String> readAffectedTests() throws IOException {
+    return Files.readAllLines(ctx.getTestSourcePath().resolveSibling(Constants.AFFECTED_TESTS_FILE_NAME), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,110 @@
+package org.camunda.community.bpmndt;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Predicate;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class GeneratorWatcherTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder(new File("./target"));
+
+  private GeneratorContext ctx;
+  private GeneratorWatcher watcher;
+
+  private Path mainResourcePath;
+
+  private Thread thread;
+
+  private Predicate<String> isFile;
+
+  @Before
+  public void setUp() throws IOException, InterruptedException {
+    Path bpmn = Paths.get("./src/test/resources/bpmn");
+
+    mainResourcePath = temporaryFolder.newFolder("resources").toPath();
+    Files.copy(bpmn.resolve("happyPath.bpmn"), mainResourcePath.resolve("happyPath.bpmn"));
+
+    ctx = new GeneratorContext();
+    ctx.setBasePath(Paths.get("."));
+    ctx.setMainResourcePath(mainResourcePath);
+    ctx.setTestSourcePath(temporaryFolder.newFolder("bpmndt").toPath());
+
+    ctx.setPackageName("org.example");
+
+    isFile = (className) -> {
+      return Files.isRegularFile(ctx.getTestSourcePath().resolve(className));
+    };
+
+    watcher = new GeneratorWatcher(Mockito.mock(Log.class), ctx, 50);
+
+    thread = new Thread(watcher::watch);
+    thread.start();
+
+    // wait for initial generation
+    await(watcher::isWatching);
+
+    assertThat(isFile.test("org/example/happy_path/TC_Happy_Path.java"), is(true));
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    watcher.close();
+    thread.join(10000L);
+  }
+
+  @Test
+  public void testWatch() throws IOException, InterruptedException {
+    Path bpmnFile = mainResourcePath.resolve("happyPath.bpmn");
+
+    // rename test case
+    String content = new String(Files.readAllBytes(bpmnFile), StandardCharsets.UTF_8);
+    Files.write(bpmnFile, content.replace("<bpmndt:name>Happy Path</bpmndt:name>", "<bpmndt:name>Happy Path 2</bpmndt:name>")
+        .getBytes(StandardCharsets.UTF_8));
+
+    await(() -> isFile.test("org/example/happy_path/TC_Happy_Path_2.java"));
+    await(() -> !isFile.test("org/example/happy_path/TC_Happy_Path.java"));
+
+    // add BPMN file
+    Files.copy(Paths.get("./src/test/resources/bpmn/empty.bpmn"), mainResourcePath.resolve("empty.bpmn"));
+
+    await(() -> isFile.test("org/example/empty/TC_empty.java"));
+
+    // delete BPMN file
+    Files.delete(bpmnFile);
+
+    await(() -> !isFile.test("org/example/happy_path/TC_Happy_Path_2.java"));
+    assertThat(isFile.test("org/example/empty/TC_empty.java"), is(true));
+  }
+
+  private void await(Condition condition) throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 30000L;
+    while (!condition.isMet()) {
+      if (System.currentTimeMillis() > timeout) {
+        throw new AssertionError("condition not met within 30 seconds");
+      }
+      Thread.sleep(50L);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Condition {
+
+    boolean isMet();
+  }
+}
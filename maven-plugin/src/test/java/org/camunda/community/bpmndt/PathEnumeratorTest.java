@@ -0,0 +1,149 @@
+package org.camunda.community.bpmndt;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.Assert.fail;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.builder.AbstractFlowNodeBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PathEnumeratorTest {
+
+  private Path bpmn;
+
+  @Before
+  public void setUp() {
+    bpmn = Paths.get("./src/test/resources/bpmn");
+  }
+
+  @Test
+  public void testEnumerate() {
+    BpmnSupport bpmnSupport = BpmnSupport.of(bpmn.resolve("enumeratePaths.bpmn"));
+    assertThat(bpmnSupport.isPathEnumerationEnabled(), is(true));
+
+    PathEnumerator pathEnumerator = new PathEnumerator(bpmnSupport, 100, 100);
+
+    List<BpmnTestCase> testCases = toList(pathEnumerator);
+    assertThat(testCases, hasSize(5));
+    assertThat(pathEnumerator.isLimitReached(), is(false));
+
+    assertThat(testCases.get(0).getName(), equalTo("startEvent__endEvent"));
+    assertThat(testCases.get(0).getFlowNodeIds(), contains("startEvent", "userTask", "gateway", "endEvent"));
+
+    assertThat(testCases.get(1).getName(), equalTo("startEvent__endEvent__2"));
+    assertThat(testCases.get(1).getFlowNodeIds(), contains("startEvent", "userTask", "gateway", "manualTask", "endEvent"));
+
+    // embedded sub process
+    assertThat(testCases.get(2).getName(), equalTo("startEvent__subProcessEndedEvent"));
+    assertThat(testCases.get(2).getFlowNodeIds(), contains("startEvent", "userTask", "gateway", "subProcessStartEvent", "subProcessGateway",
+        "subProcessEndEvent", "subProcessEndedEvent"));
+
+    // error end event of embedded sub process
+    assertThat(testCases.get(3).getName(), equalTo("startEvent__errorEndEvent"));
+    assertThat(testCases.get(3).getFlowNodeIds(), contains("startEvent", "userTask", "gateway", "subProcessStartEvent", "subProcessGateway",
+        "subProcessErrorEndEvent", "errorBoundaryEvent", "errorEndEvent"));
+
+    // boundary event
+    assertThat(testCases.get(4).getName(), equalTo("startEvent__timeoutEndEvent"));
+    assertThat(testCases.get(4).getFlowNodeIds(), contains("startEvent", "userTask", "timerBoundaryEvent", "timeoutEndEvent"));
+  }
+
+  @Test
+  public void testEnumerateMaxLength() {
+    PathEnumerator pathEnumerator = new PathEnumerator(BpmnSupport.of(bpmn.resolve("enumeratePaths.bpmn")), 100, 4);
+
+    List<BpmnTestCase> testCases = toList(pathEnumerator);
+    assertThat(testCases, hasSize(2));
+    assertThat(testCases.get(0).getName(), equalTo("startEvent__endEvent"));
+    assertThat(testCases.get(1).getName(), equalTo("startEvent__timeoutEndEvent"));
+
+    assertThat(pathEnumerator.isLimitReached(), is(true));
+  }
+
+  @Test
+  public void testEnumerateMaxPaths() {
+    PathEnumerator pathEnumerator = new PathEnumerator(BpmnSupport.of(bpmn.resolve("enumeratePaths.bpmn")), 2, 100);
+
+    List<BpmnTestCase> testCases = toList(pathEnumerator);
+    assertThat(testCases, hasSize(2));
+    assertThat(testCases.get(0).getName(), equalTo("startEvent__endEvent"));
+    assertThat(testCases.get(1).getName(), equalTo("startEvent__endEvent__2"));
+
+    assertThat(pathEnumerator.isLimitReached(), is(true));
+  }
+
+  /**
+   * Should stop a combinatorial enumeration (2^40 paths) at the limits, without exhausting memory or
+   * time.
+   */
+  @Test(timeout = 10000)
+  public void testEnumerateCombinatorial() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("combinatorial").startEvent("startEvent");
+    for (int i = 0; i < 40; i++) {
+      builder = builder.exclusiveGateway("fork" + i)
+          .manualTask("a" + i)
+          .exclusiveGateway("join" + i)
+          .moveToNode("fork" + i)
+          .manualTask("b" + i)
+          .connectTo("join" + i);
+    }
+
+    BpmnModelInstance modelInstance = builder.endEvent("endEvent").done();
+
+    BpmnSupport bpmnSupport = new BpmnSupport(Paths.get("combinatorial.bpmn"), modelInstance);
+    assertThat(bpmnSupport.isPathEnumerationEnabled(), is(false));
+
+    PathEnumerator pathEnumerator = new PathEnumerator(bpmnSupport, 100, 1000);
+
+    List<BpmnTestCase> testCases = toList(pathEnumerator);
+    assertThat(testCases, hasSize(100));
+    assertThat(testCases.get(0).getFlowNodeIds(), hasSize(122));
+    assertThat(testCases.get(99).getName(), equalTo("startEvent__endEvent__100"));
+
+    assertThat(pathEnumerator.isLimitReached(), is(true));
+
+    // path length limit, which prevents all paths
+    pathEnumerator = new PathEnumerator(bpmnSupport, 100, 100);
+    assertThat(pathEnumerator.hasNext(), is(false));
+    assertThat(pathEnumerator.isLimitReached(), is(true));
+  }
+
+  @Test
+  public void testEnumerateHappyPath() {
+    BpmnSupport bpmnSupport = BpmnSupport.of(bpmn.resolve("happyPath.bpmn"));
+    assertThat(bpmnSupport.isPathEnumerationEnabled(), is(false));
+
+    PathEnumerator pathEnumerator = new PathEnumerator(bpmnSupport, 100, 100);
+
+    List<BpmnTestCase> testCases = toList(pathEnumerator);
+    assertThat(testCases, hasSize(1));
+    assertThat(testCases.get(0).getFlowNodeIds(), contains("startEvent", "endEvent"));
+
+    assertThat(pathEnumerator.isLimitReached(), is(false));
+
+    try {
+      pathEnumerator.next();
+      fail("should throw NoSuchElementException");
+    } catch (NoSuchElementException e) {
+      // expected
+    }
+  }
+
+  private List<BpmnTestCase> toList(PathEnumerator pathEnumerator) {
+    List<BpmnTestCase> testCases = new ArrayList<>();
+    pathEnumerator.forEachRemaining(testCases::add);
+    return testCases;
+  }
+}
@@ -0,0 +1,123 @@
+package org.camunda.community.bpmndt.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ActivityTraceTest {
+
+  private static final String SCOPE_ID = "multiInstanceManualTask#multiInstanceBody";
+
+  @Rule
+  public TestCase tc = new TestCase();
+
+  private ProcessInstance pi;
+
+  @Test
+  public void testTrace() {
+    ActivityTrace trace = new ActivityTrace("deploymentId");
+    assertThat(trace.getDeploymentId(), is("deploymentId"));
+    assertThat(trace.isActive("a"), is(false));
+
+    trace.start("a");
+    assertThat(trace.getStartCount("a"), is(1));
+    assertThat(trace.getEndCount("a"), is(0));
+    assertThat(trace.isActive("a"), is(true));
+
+    trace.end("a");
+    assertThat(trace.getEndCount("a"), is(1));
+    assertThat(trace.isActive("a"), is(false));
+  }
+
+  @Test
+  public void testExecute() {
+    pi = tc.createExecutor().execute();
+
+    // trace is removed, when the test case is finished
+    assertThat(tc.instance.getActivityTrace(pi), notNullValue());
+  }
+
+  private class TestCase extends AbstractJUnit4TestCase<TestCase> {
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      MultiInstanceHandler<?, ?> handler = new MultiInstanceHandler<>(instance, "multiInstanceManualTask");
+
+      ActivityTrace trace = instance.getActivityTrace(pi);
+      assertThat(trace, notNullValue());
+      assertThat(trace.getDeploymentId(), is(instance.getDeploymentId()));
+      assertThat(trace.getStartCount("startEvent"), is(1));
+      assertThat(trace.getStartCount(SCOPE_ID), is(1));
+      assertThat(trace.isActive(SCOPE_ID), is(true));
+
+      instance.hasPassed(pi, "startEvent");
+      instance.isWaitingAt(pi, SCOPE_ID);
+      // async before job, which is not traced as active
+      instance.isWaitingAt(pi, "multiInstanceManualTask");
+
+      instance.apply(handler);
+
+      assertThat(trace.getStartCount("multiInstanceManualTask"), is(3));
+      assertThat(trace.getEndCount("multiInstanceManualTask"), is(3));
+      assertThat(trace.getEndCount(SCOPE_ID), is(1));
+      assertThat(trace.isActive(SCOPE_ID), is(false));
+      assertThat(trace.getEndCount("endEvent"), is(1));
+
+      instance.hasPassed(pi, "startEvent");
+      instance.hasPassed(pi, SCOPE_ID);
+      instance.hasPassed(pi, "endEvent");
+
+      // falls back to camunda-bpm-assert, which fails, since the process instance is ended
+      AssertionError error = null;
+      try {
+        instance.isWaitingAt(pi, SCOPE_ID);
+      } catch (AssertionError e) {
+        error = e;
+      }
+      assertThat(error, notNullValue());
+    }
+
+    @Override
+    protected void afterEach() {
+      super.afterEach();
+
+      if (pi != null) {
+        assertThat(instance.getActivityTrace(pi), nullValue());
+      }
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/advanced-multi-instance/src/main/resources/sequential.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "sequential";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+}
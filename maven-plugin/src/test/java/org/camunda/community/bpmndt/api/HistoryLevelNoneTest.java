@@ -0,0 +1,109 @@
+package org.camunda.community.bpmndt.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.community.bpmndt.api.cfg.ProcessEngineRegistry;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class HistoryLevelNoneTest {
+
+  @Rule
+  public TestCase tc = new TestCase();
+
+  @Test
+  public void testExecute() {
+    ProcessInstance pi = tc.createExecutor().execute();
+
+    ProcessEngine processEngine = tc.getProcessEngine();
+    assertThat(ProcessEngineRegistry.contains(processEngine), is(true));
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+    assertThat(processEngineConfiguration.getHistoryLevel(), is(HistoryLevel.HISTORY_LEVEL_NONE));
+
+    // no history is written
+    assertThat(processEngine.getHistoryService().createHistoricActivityInstanceQuery().processInstanceId(pi.getId()).count(), is(0L));
+  }
+
+  @Test
+  public void testKeyOf() {
+    String full = ProcessEngineRegistry.keyOf(tc.getProcessEnginePlugins(), HistoryLevel.HISTORY_LEVEL_FULL);
+    String none = ProcessEngineRegistry.keyOf(tc.getProcessEnginePlugins(), HistoryLevel.HISTORY_LEVEL_NONE);
+
+    assertThat(full, not(none));
+    assertThat(ProcessEngineRegistry.get(none, () -> null), sameInstance(tc.getProcessEngine()));
+  }
+
+  @Test
+  public void testHasPassed() {
+    ProcessInstance pi = tc.createExecutor().execute();
+
+    AssertionError error = null;
+    try {
+      tc.instance.hasPassed(pi, "notPassed");
+    } catch (AssertionError e) {
+      error = e;
+    }
+    assertThat(error, notNullValue());
+  }
+
+  private class TestCase extends AbstractJUnit4TestCase<TestCase> {
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      assertThat(instance.isHistoryEnabled(), is(false));
+
+      MultiInstanceHandler<?, ?> handler = new MultiInstanceHandler<>(instance, "multiInstanceManualTask");
+      handler.verifyLoopCount(3);
+
+      instance.isWaitingAt(pi, "multiInstanceManualTask#multiInstanceBody");
+      instance.apply(handler);
+
+      instance.hasPassed(pi, "startEvent");
+      instance.hasPassed(pi, "multiInstanceManualTask#multiInstanceBody");
+      instance.hasPassed(pi, "endEvent");
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/advanced-multi-instance/src/main/resources/sequential.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    protected HistoryLevel getHistoryLevel() {
+      return HistoryLevel.HISTORY_LEVEL_NONE;
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "sequential";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+}
@@ -1,14 +1,20 @@
 package org.camunda.community.bpmndt.api;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.camunda.bpm.engine.runtime.Job;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
 import org.camunda.bpm.engine.test.assertions.bpmn.ProcessInstanceAssert;
@@ -40,6 +46,57 @@ public class MultiInstanceParallelTest {
     tc.createExecutor().execute();
   }
 
+  @Test
+  public void testExecuteBatch() {
+    AtomicInteger verifications = new AtomicInteger();
+
+    handler.executeBatch().verifyLoopCount(3);
+    handler.handleBeforeDefault().verify((piAssert, jobAssert) -> verifications.incrementAndGet());
+    handler.handleAfter(1).verify((piAssert, jobAssert) -> verifications.incrementAndGet());
+
+    tc.createExecutor().execute();
+
+    assertThat(verifications.get(), is(3 + 1));
+  }
+
+  /**
+   * Tests that the handlers of the individual loop indices are applied on the jobs, whose execution
+   * provides the related loop counter.
+   */
+  @Test
+  public void testExecuteBatchLoopIndex() {
+    List<String> verified = new ArrayList<>();
+
+    handler.executeBatch();
+    for (int i = 0; i < 3; i++) {
+      int loopIndex = i;
+
+      handler.handleBefore(i).verify((piAssert, jobAssert) -> {
+        assertThat(getLoopCounter(jobAssert.getActual()), is(loopIndex));
+        verified.add("before" + loopIndex);
+      });
+      handler.handleAfter(i).verify((piAssert, jobAssert) -> {
+        assertThat(getLoopCounter(jobAssert.getActual()), is(loopIndex));
+        verified.add("after" + loopIndex);
+      });
+    }
+
+    tc.createExecutor().execute();
+
+    assertThat(verified, containsInAnyOrder("before0", "before1", "before2", "after0", "after1", "after2"));
+  }
+
+  @Test
+  public void testExecuteBatchVerifyLoopCount() {
+    handler.executeBatch().verifyLoopCount(2);
+
+    try {
+      tc.createExecutor().execute();
+    } catch (AssertionError e) {
+      assertThat(e.getMessage(), containsString("2x, but was 3x"));
+    }
+  }
+
   @Test
   public void testVerifySequential() {
     handler.verifySequential();
@@ -51,6 +108,10 @@ public class MultiInstanceParallelTest {
     }
   }
 
+  private Integer getLoopCounter(Job job) {
+    return (Integer) tc.getProcessEngine().getRuntimeService().getVariable(job.getExecutionId(), "loopCounter");
+  }
+
   private class TestCase extends AbstractJUnit4TestCase<TestCase> {
 
     @Override
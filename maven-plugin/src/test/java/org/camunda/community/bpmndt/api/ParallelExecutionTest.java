@@ -0,0 +1,230 @@
+package org.camunda.community.bpmndt.api;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.DelegateVariableMapping;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
+import org.camunda.bpm.engine.test.assertions.bpmn.ProcessInstanceAssert;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Stress test, which executes many test cases concurrently, using the same process engine.
+ */
+public class ParallelExecutionTest {
+
+  private static final int TEST_CASES = 200;
+  private static final int THREADS = 8;
+
+  private ExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    executorService = Executors.newFixedThreadPool(THREADS);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void testExecute() throws InterruptedException, ExecutionException, TimeoutException {
+    List<Future<Integer>> futures = new LinkedList<>();
+    for (int i = 0; i < TEST_CASES; i++) {
+      int index = i;
+
+      if (i % 2 == 0) {
+        futures.add(executorService.submit(() -> executeCallActivity(index)));
+      } else {
+        futures.add(executorService.submit(() -> executeExternalTask(index)));
+      }
+    }
+
+    for (int i = 0; i < TEST_CASES; i++) {
+      assertThat(futures.get(i).get(60, TimeUnit.SECONDS), is(i));
+    }
+  }
+
+  private int executeCallActivity(int index) {
+    CallActivityTestCase tc = new CallActivityTestCase();
+    tc.start();
+
+    try {
+      CallActivityMapping callActivityMapping = new CallActivityMapping();
+
+      // verifies that the call activity dispatch is bound to the test case of the current thread
+      new CallActivityHandler(tc.instance, "callActivity").verify((pi, callActivity) -> {
+        pi.variables().containsEntry("index", index);
+      });
+
+      // verifies that beans are bound to the current thread
+      tc.createExecutor().withVariable("index", index).withBean("callActivityMapping", callActivityMapping).execute();
+
+      assertThat(callActivityMapping.index, equalTo(index));
+
+      return index;
+    } finally {
+      tc.finish();
+    }
+  }
+
+  private int executeExternalTask(int index) {
+    ExternalTaskTestCase tc = new ExternalTaskTestCase();
+    tc.start();
+
+    try {
+      // verifies that only the external task of the current test case is fetched
+      tc.handler.withVariable("result", index);
+
+      tc.createExecutor().withVariable("index", index).verify(pi -> {
+        pi.variables().containsEntry("result", index);
+      }).execute();
+
+      return index;
+    } finally {
+      tc.finish();
+    }
+  }
+
+  private static InputStream getBpmnResource(String fileName) {
+    try {
+      return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources").resolve(fileName));
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private class CallActivityTestCase extends AbstractJUnit4TestCase<CallActivityTestCase> {
+
+    private CallActivityTestCase() {
+      testClass = ParallelExecutionTest.class;
+      testMethodName = "testExecute";
+    }
+
+    void start() {
+      beforeEach();
+    }
+
+    void finish() {
+      afterEach();
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      ProcessInstanceAssert piAssert = ProcessEngineTests.assertThat(pi);
+
+      piAssert.hasPassed("startEvent").isWaitingAt("callActivity");
+
+      ProcessEngineTests.execute(ProcessEngineTests.job(pi));
+
+      piAssert.hasPassed("callActivity", "endEvent").isEnded();
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      return ParallelExecutionTest.getBpmnResource("simpleCallActivity.bpmn");
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleCallActivity";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+
+  private class ExternalTaskTestCase extends AbstractJUnit4TestCase<ExternalTaskTestCase> {
+
+    private ExternalTaskHandler handler;
+
+    private ExternalTaskTestCase() {
+      testClass = ParallelExecutionTest.class;
+      testMethodName = "testExecute";
+    }
+
+    void start() {
+      beforeEach();
+
+      handler = new ExternalTaskHandler(getProcessEngine(), "externalTask", "test-topic");
+    }
+
+    void finish() {
+      afterEach();
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      ProcessInstanceAssert piAssert = ProcessEngineTests.assertThat(pi);
+
+      piAssert.hasPassed("startEvent").isWaitingAt("externalTask");
+
+      instance.apply(handler);
+
+      piAssert.hasPassed("externalTask", "endEvent").isEnded();
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      return ParallelExecutionTest.getBpmnResource("simpleExternalTask.bpmn");
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleExternalTask";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+
+  private static class CallActivityMapping implements DelegateVariableMapping {
+
+    private Integer index;
+
+    @Override
+    public void mapInputVariables(DelegateExecution superExecution, VariableMap subVariables) {
+      index = (Integer) superExecution.getVariable("index");
+    }
+
+    @Override
+    public void mapOutputVariables(DelegateExecution superExecution, VariableScope subInstance) {
+      // nothing to do here
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package org.camunda.community.bpmndt.api;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.DelegateVariableMapping;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class TestCaseExecuteRepeatedTest {
+
+  @Rule
+  public TestCase tc = new TestCase();
+  @Rule
+  public CallActivityTestCase tcCallActivity = new CallActivityTestCase();
+  @Rule
+  public ExternalTaskTestCase tcExternalTask = new ExternalTaskTestCase();
+
+  @Test
+  public void testExecuteRepeated() {
+    TestCaseLoadResult result = tc.createExecutor().withVariable("x", "y").executeRepeated(20, 4);
+
+    assertThat(result.getInstances(), is(20));
+    assertThat(result.getConcurrency(), is(4));
+    assertThat(result.getFailureCount(), is(0));
+    assertThat(result.getFailures().isEmpty(), is(true));
+    assertThat(result.getThroughput(), greaterThan(0d));
+    assertThat(result.getLatency(50), greaterThan(0d));
+    assertThat(result.getLatency(100) >= result.getLatency(50), is(true));
+
+    ProcessDefinition processDefinition = tc.getProcessEngine().getRepositoryService().createProcessDefinitionQuery()
+        .deploymentId(tc.instance.getDeploymentId())
+        .processDefinitionKey(tc.getProcessDefinitionKey())
+        .singleResult();
+
+    long count = tc.getProcessEngine().getHistoryService().createHistoricProcessInstanceQuery()
+        .processDefinitionId(processDefinition.getId())
+        .completed()
+        .count();
+
+    assertThat(count, is(20L));
+  }
+
+  /**
+   * Tests the repeated execution of a test case with a stubbed call activity. Since the process
+   * definition is evicted from the process engine's deployment cache, it is parsed again by one of the
+   * worker threads and must be instrumented nevertheless.
+   */
+  @Test
+  public void testExecuteRepeatedCallActivity() {
+    AtomicInteger verified = new AtomicInteger();
+    tcCallActivity.callActivity.verify((pi, callActivity) -> verified.incrementAndGet());
+
+    ProcessEngineConfigurationImpl processEngineConfiguration =
+        (ProcessEngineConfigurationImpl) tcCallActivity.getProcessEngine().getProcessEngineConfiguration();
+    processEngineConfiguration.getDeploymentCache().discardProcessDefinitionCache();
+
+    TestCaseLoadResult result = tcCallActivity.createExecutor()
+        .withBean("callActivityMapping", new CallActivityMapping())
+        .executeRepeated(20, 4);
+
+    assertThat(result.getFailureCount(), is(0));
+    assertThat(verified.get(), is(20));
+  }
+
+  /**
+   * Tests the repeated execution of a test case with an external task. Since the handler is shared by
+   * all threads, each execution must only lock and complete the external task of its own process
+   * instance.
+   */
+  @Test
+  public void testExecuteRepeatedExternalTask() {
+    tcExternalTask.externalTask.withVariable("result", true);
+
+    TestCaseLoadResult result = tcExternalTask.createExecutor().executeRepeated(20, 4);
+
+    assertThat(result.getFailureCount(), is(0));
+    assertThat(result.getFailures().isEmpty(), is(true));
+  }
+
+  @Test
+  public void testExecuteRepeatedFailures() {
+    tc.userTask.verify((pi, task) -> {
+      throw new AssertionError("failed");
+    });
+
+    TestCaseLoadResult result = tc.createExecutor().executeRepeated(10, 2);
+
+    assertThat(result.getFailureCount(), is(10));
+    assertThat(result.getFailures().get("userTask"), is(10));
+    assertThat(result.getFailure("userTask"), instanceOf(AssertionError.class));
+  }
+
+  @Test
+  public void testExecuteRepeatedInvalid() {
+    IllegalArgumentException e = null;
+    try {
+      tc.createExecutor().executeRepeated(0, 1);
+    } catch (IllegalArgumentException ex) {
+      e = ex;
+    }
+    assertThat(e, notNullValue());
+
+    e = null;
+    try {
+      tc.createExecutor().executeRepeated(1, 0);
+    } catch (IllegalArgumentException ex) {
+      e = ex;
+    }
+    assertThat(e, notNullValue());
+  }
+
+  private class TestCase extends AbstractJUnit4TestCase<TestCase> {
+
+    private UserTaskHandler userTask;
+
+    @Override
+    protected void beforeEach() {
+      super.beforeEach();
+
+      userTask = new UserTaskHandler(getProcessEngine(), "userTask");
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      instance.hasPassed(pi, "startEvent");
+      instance.isWaitingAt(pi, "userTask");
+      instance.apply(userTask);
+      instance.hasPassed(pi, "userTask");
+      instance.hasPassed(pi, "endEvent");
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simpleUserTask.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleUserTask";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+
+  private class CallActivityTestCase extends AbstractJUnit4TestCase<CallActivityTestCase> {
+
+    private CallActivityHandler callActivity;
+    private JobHandler callActivityBefore;
+
+    @Override
+    protected void beforeEach() {
+      super.beforeEach();
+
+      callActivity = new CallActivityHandler(instance, "callActivity");
+      callActivityBefore = new JobHandler(getProcessEngine(), "callActivity");
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      instance.hasPassed(pi, "startEvent");
+      instance.isWaitingAt(pi, "callActivity");
+      instance.apply(callActivityBefore);
+      instance.hasPassed(pi, "callActivity");
+      instance.hasPassed(pi, "endEvent");
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simpleCallActivity.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleCallActivity";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+
+  private class ExternalTaskTestCase extends AbstractJUnit4TestCase<ExternalTaskTestCase> {
+
+    private ExternalTaskHandler externalTask;
+
+    @Override
+    protected void beforeEach() {
+      super.beforeEach();
+
+      externalTask = new ExternalTaskHandler(getProcessEngine(), "externalTask", "test-topic");
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      instance.hasPassed(pi, "startEvent");
+      instance.isWaitingAt(pi, "externalTask");
+      instance.apply(externalTask);
+      instance.hasPassed(pi, "externalTask");
+      instance.hasPassed(pi, "endEvent");
+
+      ProcessEngineTests.assertThat(pi).variables().containsEntry("result", true);
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simpleExternalTask.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleExternalTask";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+
+  private class CallActivityMapping implements DelegateVariableMapping {
+
+    @Override
+    public void mapInputVariables(DelegateExecution superExecution, VariableMap subVariables) {
+      // nothing to do here
+    }
+
+    @Override
+    public void mapOutputVariables(DelegateExecution superExecution, VariableScope subInstance) {
+      // nothing to do here
+    }
+  }
+}
@@ -0,0 +1,437 @@
+package org.camunda.community.bpmndt.api;
+
+import static org.hamcrest.CoreMatchers.either;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.DelegateVariableMapping;
+import org.camunda.bpm.engine.delegate.VariableScope;
+import org.camunda.bpm.engine.impl.RepositoryServiceImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.pvm.ReadOnlyProcessDefinition;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.assertions.ProcessEngineTests;
+import org.camunda.bpm.engine.test.assertions.bpmn.ProcessInstanceAssert;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the deployment cache of the {@link TestCaseInstance}.
+ */
+public class TestCaseInstanceTest {
+
+  private TestCase tc1;
+  private TestCase tc2;
+
+  @Before
+  public void setUp() {
+    tc1 = new TestCase("endEvent", true);
+    tc2 = new TestCase("endEvent", true);
+  }
+
+  @After
+  public void tearDown() {
+    tc1.finish();
+    tc2.finish();
+  }
+
+  @Test
+  public void testDeploy() {
+    tc1.start();
+    ProcessInstance pi = tc1.createExecutor().execute();
+    tc1.finish();
+
+    ProcessEngine processEngine = tc1.getProcessEngine();
+
+    long processInstanceCount = processEngine.getRuntimeService().createProcessInstanceQuery()
+        .processInstanceId(pi.getId())
+        .count();
+    assertThat(processInstanceCount, is(0L));
+
+    long historicProcessInstanceCount = processEngine.getHistoryService().createHistoricProcessInstanceQuery()
+        .processInstanceId(pi.getId())
+        .count();
+    assertThat(historicProcessInstanceCount, is(0L));
+
+    // deployment is kept
+    long deploymentCount = processEngine.getRepositoryService().createDeploymentQuery()
+        .deploymentId(tc1.getDeploymentId())
+        .count();
+    assertThat(deploymentCount, is(1L));
+
+    tc2.start();
+    tc2.createExecutor().execute();
+
+    assertThat(tc2.getDeploymentId(), equalTo(tc1.getDeploymentId()));
+  }
+
+  /**
+   * Tests that a deployment, which is used by another test case, is not reused, but that both
+   * deployments are cached afterwards.
+   */
+  @Test
+  public void testDeployInUse() {
+    tc1.start();
+    tc2.start();
+
+    assertThat(tc2.getDeploymentId(), not(equalTo(tc1.getDeploymentId())));
+
+    String deploymentId1 = tc1.getDeploymentId();
+    String deploymentId2 = tc2.getDeploymentId();
+
+    tc1.finish();
+    tc2.finish();
+
+    // deployments are kept
+    long deploymentCount = tc1.getProcessEngine().getRepositoryService().createDeploymentQuery()
+        .deploymentId(deploymentId2)
+        .count();
+    assertThat(deploymentCount, is(1L));
+
+    TestCase tc3 = new TestCase("endEvent", true);
+    TestCase tc4 = new TestCase("endEvent", true);
+
+    tc3.start();
+    tc4.start();
+
+    try {
+      assertThat(tc3.getDeploymentId(), either(equalTo(deploymentId1)).or(equalTo(deploymentId2)));
+      assertThat(tc4.getDeploymentId(), either(equalTo(deploymentId1)).or(equalTo(deploymentId2)));
+      assertThat(tc4.getDeploymentId(), not(equalTo(tc3.getDeploymentId())));
+    } finally {
+      tc3.finish();
+      tc4.finish();
+    }
+  }
+
+  /**
+   * Tests that a deployment, which has been deleted in the meantime, is not reused.
+   */
+  @Test
+  public void testDeployDeleted() {
+    tc1.start();
+    tc1.finish();
+
+    tc1.getProcessEngine().getRepositoryService().deleteDeployment(tc1.getDeploymentId(), true);
+
+    tc2.start();
+    tc2.createExecutor().execute();
+
+    assertThat(tc2.getDeploymentId(), not(equalTo(tc1.getDeploymentId())));
+  }
+
+  /**
+   * Tests that a cached deployment is not reused, if another version of the process definition has
+   * been deployed in the meantime, and that a deployment is not kept, if it would shadow the
+   * deployment of another caller.
+   */
+  @Test
+  public void testDeployOtherVersion() throws IOException {
+    tc1.start();
+    tc1.finish();
+
+    RepositoryService repositoryService = tc1.getProcessEngine().getRepositoryService();
+
+    String otherDeploymentId;
+    try (InputStream bpmnResource = tc1.getBpmnResource()) {
+      otherDeploymentId = repositoryService.createDeployment()
+          .addInputStream("simpleCallActivity.bpmn", bpmnResource)
+          .deploy()
+          .getId();
+    }
+
+    try {
+      tc2.start();
+
+      assertThat(tc2.getDeploymentId(), not(equalTo(tc1.getDeploymentId())));
+      // not the latest version anymore
+      assertThat(repositoryService.createDeploymentQuery().deploymentId(tc1.getDeploymentId()).count(), is(0L));
+
+      tc2.finish();
+
+      // would shadow the other deployment
+      assertThat(repositoryService.createDeploymentQuery().deploymentId(tc2.getDeploymentId()).count(), is(0L));
+
+      ProcessDefinition latest = repositoryService.createProcessDefinitionQuery()
+          .processDefinitionKey("simpleCallActivity")
+          .withoutTenantId()
+          .latestVersion()
+          .singleResult();
+
+      assertThat(latest.getDeploymentId(), equalTo(otherDeploymentId));
+    } finally {
+      repositoryService.deleteDeployment(otherDeploymentId, true);
+    }
+  }
+
+  /**
+   * Tests that only the process instances of the test case are deleted and that a deployment, which
+   * still has process instances, that have been started otherwise, is not kept.
+   */
+  @Test
+  public void testDeployProcessInstanceStartedOtherwise() {
+    tc1.start();
+
+    ProcessInstance pi = tc1.createExecutor().withBean("callActivityMapping", new CallActivityMapping()).execute();
+
+    ProcessDefinition processDefinition = tc1.getProcessEngine().getRepositoryService().createProcessDefinitionQuery()
+        .deploymentId(tc1.getDeploymentId())
+        .singleResult();
+
+    ProcessInstance other = tc1.getProcessEngine().getRuntimeService().startProcessInstanceById(processDefinition.getId());
+
+    tc1.finish();
+
+    long deploymentCount = tc1.getProcessEngine().getRepositoryService().createDeploymentQuery()
+        .deploymentId(tc1.getDeploymentId())
+        .count();
+    assertThat(deploymentCount, is(0L));
+
+    long processInstanceCount = tc1.getProcessEngine().getHistoryService().createHistoricProcessInstanceQuery()
+        .processInstanceIds(new HashSet<>(Arrays.asList(pi.getId(), other.getId())))
+        .count();
+    assertThat(processInstanceCount, is(0L));
+  }
+
+  /**
+   * Tests that a deployment with a message start event is not kept, since the process could be started
+   * by other callers.
+   */
+  @Test
+  public void testDeployMessageStartEvent() {
+    tc1 = new MessageStartEventTestCase();
+    tc1.start();
+    tc1.finish();
+
+    long deploymentCount = tc1.getProcessEngine().getRepositoryService().createDeploymentQuery()
+        .deploymentId(tc1.getDeploymentId())
+        .count();
+    assertThat(deploymentCount, is(0L));
+
+    tc2 = new MessageStartEventTestCase();
+    tc2.start();
+
+    assertThat(tc2.getDeploymentId(), not(equalTo(tc1.getDeploymentId())));
+  }
+
+  /**
+   * Tests that test cases of different test case classes share a deployment, since the deployment
+   * name is not part of the cache key.
+   */
+  @Test
+  public void testDeployOtherTestCaseClass() {
+    tc1.start();
+    tc1.finish();
+
+    tc2 = new OtherTestCase();
+    tc2.start();
+
+    assertThat(tc2.getDeploymentId(), equalTo(tc1.getDeploymentId()));
+  }
+
+  /**
+   * Tests that test cases with another end activity do not reuse the deployment, since the
+   * instrumentation of the BPMN model differs.
+   */
+  @Test
+  public void testDeployOtherEnd() {
+    tc1.start();
+    tc1.finish();
+
+    tc2 = new TestCase("callActivity", false);
+    tc2.start();
+
+    assertThat(tc2.getDeploymentId(), not(equalTo(tc1.getDeploymentId())));
+  }
+
+  /**
+   * Tests that a test case, which is executed on a reused deployment, gets its own call activity
+   * handler applied.
+   */
+  @Test
+  public void testExecuteCallActivity() {
+    List<String> verified = new ArrayList<>();
+
+    tc1.start();
+    new CallActivityHandler(tc1.instance, "callActivity").verify((pi, callActivity) -> {
+      pi.variables().containsEntry("a", "b");
+      verified.add("tc1");
+    });
+    tc1.createExecutor().withVariable("a", "b").withBean("callActivityMapping", new CallActivityMapping()).execute();
+    tc1.finish();
+
+    tc2.start();
+    new CallActivityHandler(tc2.instance, "callActivity").verify((pi, callActivity) -> {
+      pi.variables().containsEntry("x", "y");
+      verified.add("tc2");
+    });
+    tc2.createExecutor().withVariable("x", "y").withBean("callActivityMapping", new CallActivityMapping()).execute();
+
+    assertThat(tc2.getDeploymentId(), equalTo(tc1.getDeploymentId()));
+    assertThat(verified, contains("tc1", "tc2"));
+  }
+
+  /**
+   * Tests that a deployment, which is parsed again by another thread (e.g. after its process
+   * definition has been evicted from the process engine's deployment cache), is instrumented in the
+   * same way.
+   */
+  @Test
+  public void testParseAgain() throws InterruptedException {
+    tc1.start();
+
+    ProcessEngine processEngine = tc1.getProcessEngine();
+    RepositoryServiceImpl repositoryService = (RepositoryServiceImpl) processEngine.getRepositoryService();
+
+    String processDefinitionId = repositoryService.createProcessDefinitionQuery()
+        .deploymentId(tc1.getDeploymentId())
+        .singleResult()
+        .getId();
+
+    ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getDeploymentCache().discardProcessDefinitionCache();
+
+    AtomicReference<ReadOnlyProcessDefinition> processDefinition = new AtomicReference<>();
+
+    Thread thread = new Thread(() -> processDefinition.set(repositoryService.getDeployedProcessDefinition(processDefinitionId)));
+    thread.start();
+    thread.join();
+
+    assertThat(processDefinition.get().findActivity("callActivity").isAsyncBefore(), is(true));
+
+    tc1.createExecutor().withBean("callActivityMapping", new CallActivityMapping()).execute();
+  }
+
+  private class TestCase extends AbstractJUnit4TestCase<TestCase> {
+
+    private final String end;
+    private final boolean processEnd;
+
+    private boolean started;
+
+    private TestCase(String end, boolean processEnd) {
+      this.end = end;
+      this.processEnd = processEnd;
+
+      testClass = TestCaseInstanceTest.class;
+      testMethodName = "test";
+    }
+
+    void start() {
+      beforeEach();
+      started = true;
+    }
+
+    void finish() {
+      if (started) {
+        afterEach();
+        started = false;
+      }
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      ProcessInstanceAssert piAssert = ProcessEngineTests.assertThat(pi);
+
+      piAssert.hasPassed("startEvent").isWaitingAt("callActivity");
+
+      ProcessEngineTests.execute(ProcessEngineTests.job());
+
+      piAssert.hasPassed("callActivity", "endEvent").isEnded();
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simpleCallActivity.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleCallActivity";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return end;
+    }
+
+    @Override
+    protected boolean isProcessEnd() {
+      return processEnd;
+    }
+  }
+
+  private class MessageStartEventTestCase extends TestCase {
+
+    private MessageStartEventTestCase() {
+      super("endEvent", true);
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      BpmnModelInstance modelInstance = Bpmn.createExecutableProcess("messageStartEvent")
+          .startEvent("startEvent")
+          .message("startMessage")
+          .endEvent("endEvent")
+          .done();
+
+      return new ByteArrayInputStream(Bpmn.convertToString(modelInstance).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "messageStartEvent";
+    }
+  }
+
+  private class OtherTestCase extends TestCase {
+
+    private OtherTestCase() {
+      super("endEvent", true);
+    }
+  }
+
+  private class CallActivityMapping implements DelegateVariableMapping {
+
+    @Override
+    public void mapInputVariables(DelegateExecution superExecution, VariableMap subVariables) {
+      // nothing to do here
+    }
+
+    @Override
+    public void mapOutputVariables(DelegateExecution superExecution, VariableScope subInstance) {
+      // nothing to do here
+    }
+  }
+}
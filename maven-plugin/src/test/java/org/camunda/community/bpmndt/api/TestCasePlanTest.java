@@ -0,0 +1,127 @@
+package org.camunda.community.bpmndt.api;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class TestCasePlanTest {
+
+  private static final TestCasePlan PLAN = new TestCasePlan(
+      "hasPassed startEvent",
+      "isWaitingAt userTask",
+      "apply handleUserTask",
+      "hasPassed userTask",
+      "hasPassed endEvent"
+  );
+
+  @Rule
+  public TestCase tc = new TestCase();
+
+  @Test
+  public void testExecute() {
+    tc.handleUserTask().verify((pi, task) -> pi.isWaitingAt("userTask"));
+
+    tc.createExecutor().verify((pi) -> pi.isEnded()).execute();
+  }
+
+  @Test
+  public void testParse() {
+    TestCaseStep step = TestCaseStep.parse("isWaitingAt subProcess#multiInstanceBody");
+    assertThat(step.getType(), is(TestCaseStep.Type.IS_WAITING_AT));
+    assertThat(step.getValue(), is("subProcess#multiInstanceBody"));
+    assertThat(step.toString(), is("isWaitingAt subProcess#multiInstanceBody"));
+
+    assertThat(PLAN.getSteps().length, is(5));
+    assertThat(PLAN.getSteps()[2].getType(), is(TestCaseStep.Type.APPLY));
+    assertThat(PLAN.getSteps()[2].getValue(), is("handleUserTask"));
+  }
+
+  @Test
+  public void testParseInvalid() {
+    IllegalArgumentException e = null;
+    try {
+      TestCaseStep.parse("isWaitingAt");
+    } catch (IllegalArgumentException ex) {
+      e = ex;
+    }
+    assertThat(e, notNullValue());
+
+    e = null;
+    try {
+      TestCaseStep.parse("complete userTask");
+    } catch (IllegalArgumentException ex) {
+      e = ex;
+    }
+    assertThat(e, notNullValue());
+  }
+
+  @Test
+  public void testUnknownHandler() {
+    TestCasePlan plan = new TestCasePlan("apply unknown");
+
+    IllegalStateException e = null;
+    try {
+      plan.execute(null, tc, null);
+    } catch (IllegalStateException ex) {
+      e = ex;
+    }
+    assertThat(e, notNullValue());
+  }
+
+  private class TestCase extends AbstractJUnit4TestCase<TestCase> {
+
+    private UserTaskHandler userTask;
+
+    @Override
+    protected void beforeEach() {
+      super.beforeEach();
+
+      userTask = null;
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      PLAN.execute(instance, this, pi);
+    }
+
+    private UserTaskHandler handleUserTask() {
+      if (userTask == null) {
+        userTask = new UserTaskHandler(getProcessEngine(), "userTask");
+      }
+      return userTask;
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simpleUserTask.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleUserTask";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+}
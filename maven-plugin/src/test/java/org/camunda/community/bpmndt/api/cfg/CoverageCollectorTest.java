@@ -0,0 +1,218 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.delegate.DelegateListener;
+import org.camunda.bpm.engine.delegate.ExecutionListener;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.core.model.CoreModelElement;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.TransitionImpl;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CoverageCollectorTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder(new File("./target"));
+
+  /**
+   * Tests the collection with a process engine of its own, since a process engine, which is
+   * registered with the default name by another test (e.g. a Spring based test), would be used by a
+   * test case otherwise.
+   */
+  @Test
+  public void testExecute() throws IOException {
+    BpmndtProcessEnginePlugin plugin = new BpmndtProcessEnginePlugin();
+    plugin.setCoverageEnabled(true);
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+    processEngineConfiguration.setProcessEnginePlugins(Collections.singletonList(plugin));
+
+    ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+    try (InputStream bpmnResource = Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simpleUserTask.bpmn"))) {
+      processEngine.getRepositoryService().createDeployment().addInputStream("simpleUserTask.bpmn", bpmnResource).deploy();
+
+      CoverageCollector coverageCollector = CoverageCollector.find(processEngine);
+      assertThat(coverageCollector, notNullValue());
+      assertThat(coverageCollector.getDirectory(), is(Paths.get("target", "bpmndt-coverage").toAbsolutePath()));
+
+      ProcessInstance pi = processEngine.getRuntimeService().startProcessInstanceByKey("simpleUserTask");
+
+      assertThat(coverageCollector.getCoverage("simpleUserTask").contains("startEvent"), is(true));
+      assertThat(coverageCollector.getCoverage("simpleUserTask").contains("Flow_0miw6xn"), is(true));
+      assertThat(coverageCollector.getCoverage("simpleUserTask").contains("userTask"), is(true));
+      assertThat(coverageCollector.getCoverage("simpleUserTask").contains("endEvent"), is(false));
+
+      Task task = processEngine.getTaskService().createTaskQuery().processInstanceId(pi.getId()).singleResult();
+      processEngine.getTaskService().complete(task.getId());
+
+      assertThat(coverageCollector.getCoverage("simpleUserTask").contains("Flow_0pd7z5n"), is(true));
+      assertThat(coverageCollector.getCoverage("simpleUserTask").contains("endEvent"), is(true));
+    } finally {
+      processEngine.close();
+    }
+  }
+
+  /**
+   * Tests that the coverage is not collected by default.
+   */
+  @Test
+  public void testDisabled() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+
+    BpmndtProcessEnginePlugin plugin = new BpmndtProcessEnginePlugin();
+    plugin.preInit(processEngineConfiguration);
+
+    long count = processEngineConfiguration.getCustomPostBPMNParseListeners().stream()
+        .filter((postParseListener) -> postParseListener instanceof CoverageCollector)
+        .count();
+
+    assertThat(count, is(0L));
+  }
+
+  /**
+   * Tests that the coverage is collected, if a coverage directory is specified via system property.
+   */
+  @Test
+  public void testDirectoryProperty() {
+    Path directory = temporaryFolder.getRoot().toPath().resolve("bpmndt-coverage");
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+
+    System.setProperty(CoverageCollector.DIRECTORY_PROPERTY, directory.toString());
+    try {
+      BpmndtProcessEnginePlugin plugin = new BpmndtProcessEnginePlugin();
+      plugin.preInit(processEngineConfiguration);
+    } finally {
+      System.clearProperty(CoverageCollector.DIRECTORY_PROPERTY);
+    }
+
+    CoverageCollector coverageCollector = processEngineConfiguration.getCustomPostBPMNParseListeners().stream()
+        .filter((postParseListener) -> postParseListener instanceof CoverageCollector)
+        .map(CoverageCollector.class::cast)
+        .findFirst()
+        .orElse(null);
+
+    assertThat(coverageCollector, notNullValue());
+    assertThat(coverageCollector.getDirectory(), is(directory));
+  }
+
+  /**
+   * Tests that the coverage of a process definition, which is parsed again, is reused.
+   */
+  @Test
+  public void testParseProcessAgain() throws Exception {
+    CoverageCollector collector = new CoverageCollector(temporaryFolder.getRoot().toPath());
+
+    ProcessDefinitionEntity processDefinition = createProcessDefinition();
+    collector.parseProcess(null, processDefinition);
+
+    hit(processDefinition.findActivity("startEvent"), ExecutionListener.EVENTNAME_START);
+
+    // e.g. evicted from the deployment cache
+    processDefinition = createProcessDefinition();
+    collector.parseProcess(null, processDefinition);
+    assertThat(collector.size(), is(1));
+
+    hit(processDefinition.findActivity("endEvent"), ExecutionListener.EVENTNAME_START);
+
+    assertThat(collector.getCoverage("simple"), hasSize(2));
+    assertThat(collector.getCoverage("simple").contains("startEvent"), is(true));
+    assertThat(collector.getCoverage("simple").contains("endEvent"), is(true));
+
+    // new version with different elements
+    processDefinition = createProcessDefinition();
+    processDefinition.createActivity("userTask");
+    collector.parseProcess(null, processDefinition);
+    assertThat(collector.size(), is(2));
+
+    hit(processDefinition.findActivity("userTask"), ExecutionListener.EVENTNAME_START);
+
+    assertThat(collector.getCoverage("simple"), hasSize(3));
+  }
+
+  @Test
+  public void testWrite() throws Exception {
+    Path directory = temporaryFolder.getRoot().toPath().resolve("bpmndt-coverage");
+
+    CoverageCollector collector = new CoverageCollector(directory);
+
+    // nothing parsed
+    collector.write();
+    assertThat(Files.exists(directory), is(false));
+
+    ProcessDefinitionEntity processDefinition = createProcessDefinition();
+
+    ActivityImpl startEvent = processDefinition.findActivity("startEvent");
+    TransitionImpl flow = startEvent.findOutgoingTransition("flow");
+
+    collector.parseProcess(null, processDefinition);
+
+    assertThat(collector.getCoverage("simple"), empty());
+
+    hit(startEvent, ExecutionListener.EVENTNAME_START);
+    hit(flow, ExecutionListener.EVENTNAME_TAKE);
+    hit(flow, ExecutionListener.EVENTNAME_TAKE);
+
+    assertThat(collector.getCoverage("simple"), hasSize(2));
+    assertThat(collector.getCoverage("simple").contains("startEvent"), is(true));
+    assertThat(collector.getCoverage("simple").contains("flow"), is(true));
+    assertThat(collector.getCoverage("unknown"), empty());
+
+    collector.write();
+
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(directory)) {
+      files = paths.collect(Collectors.toList());
+    }
+
+    assertThat(files, hasSize(1));
+    assertThat(files.get(0).getFileName().toString().endsWith(CoverageCollector.FILE_EXTENSION), is(true));
+
+    List<String> lines = Files.readAllLines(files.get(0), StandardCharsets.UTF_8);
+    assertThat(lines, hasSize(2));
+    assertThat(lines.get(0), is("simple\tflow"));
+    assertThat(lines.get(1), is("simple\tstartEvent"));
+  }
+
+  private ProcessDefinitionEntity createProcessDefinition() {
+    ProcessDefinitionEntity processDefinition = new ProcessDefinitionEntity();
+    processDefinition.setKey("simple");
+
+    ActivityImpl startEvent = processDefinition.createActivity("startEvent");
+    ActivityImpl endEvent = processDefinition.createActivity("endEvent");
+    TransitionImpl flow = startEvent.createOutgoingTransition("flow");
+    flow.setDestination(endEvent);
+
+    return processDefinition;
+  }
+
+  private void hit(CoreModelElement element, String eventName) throws Exception {
+    for (DelegateListener<?> listener : element.getBuiltInListeners().get(eventName)) {
+      ((ExecutionListener) listener).notify(null);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class H2SchemaTemplateTest {
+
+  private ProcessEngine processEngine;
+
+  @Before
+  public void setUp() {
+    // ensure that the template exists
+    buildProcessEngine().close();
+  }
+
+  @After
+  public void tearDown() {
+    if (processEngine != null) {
+      processEngine.close();
+    }
+  }
+
+  @Test
+  public void testCreateDatabase() {
+    assertThat(Files.isRegularFile(H2SchemaTemplate.getFile()), is(true));
+
+    String url = H2SchemaTemplate.createDatabase("sa", "");
+    assertThat(url, notNullValue());
+    assertThat(url, startsWith("jdbc:h2:mem:bpmndt-"));
+  }
+
+  /**
+   * Tests that a template, which cannot be executed, is deleted and that no database is created.
+   */
+  @Test
+  public void testCreateDatabaseInvalidTemplate() throws IOException {
+    Path template = H2SchemaTemplate.getFile();
+    Files.write(template, "invalid SQL;".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(H2SchemaTemplate.createDatabase("sa", ""), nullValue());
+    assertThat(Files.exists(template), is(false));
+  }
+
+  @Test
+  public void testGetFile() throws IOException {
+    Path template = H2SchemaTemplate.getFile();
+    assertThat(template.isAbsolute(), is(true));
+    assertThat(template.getParent(), equalTo(Paths.get("target").toAbsolutePath()));
+
+    // schema only
+    String sql = new String(Files.readAllBytes(template), StandardCharsets.UTF_8);
+    assertThat(sql.contains("INSERT INTO"), is(false));
+  }
+
+  @Test
+  public void testProcessEngine() {
+    processEngine = buildProcessEngine();
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+    assertThat(processEngineConfiguration.getDatabaseSchemaUpdate(), is(ProcessEngineConfigurationImpl.DB_SCHEMA_UPDATE_FALSE));
+    assertThat(processEngineConfiguration.getHistoryLevel(), is(HistoryLevel.HISTORY_LEVEL_FULL));
+
+    // schema is usable
+    assertThat(processEngine.getRepositoryService().createDeploymentQuery().count(), is(0L));
+    assertThat(processEngine.getManagementService().getProperties().get("historyLevel"), is("3"));
+  }
+
+  private ProcessEngine buildProcessEngine() {
+    BpmndtProcessEnginePlugin plugin = new BpmndtProcessEnginePlugin();
+
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+    processEngineConfiguration.setProcessEngineName("h2SchemaTemplate");
+    processEngineConfiguration.setProcessEnginePlugins(Collections.singletonList(plugin));
+
+    return processEngineConfiguration.buildProcessEngine();
+  }
+}
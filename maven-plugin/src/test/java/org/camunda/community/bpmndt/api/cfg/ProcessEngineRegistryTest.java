@@ -0,0 +1,269 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import static org.camunda.community.bpmndt.api.TestCaseInstance.PROCESS_ENGINE_NAME;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngines;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.community.bpmndt.api.AbstractJUnit4TestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProcessEngineRegistryTest {
+
+  @Before
+  public void setUp() {
+    // make test independent
+    Optional.ofNullable(ProcessEngines.getProcessEngine(PROCESS_ENGINE_NAME)).ifPresent(ProcessEngines::unregister);
+  }
+
+  /**
+   * Tests that the process engine is built only once and that test cases are isolated by deleting
+   * their process instances.
+   */
+  @Test
+  public void testGet() {
+    TestCase tc1 = new TestCase();
+    tc1.start();
+
+    ProcessEngine processEngine = tc1.getProcessEngine();
+
+    ProcessInstance pi = tc1.createExecutor().execute();
+    tc1.finish();
+
+    assertThat(ProcessEngineRegistry.contains(processEngine), is(true));
+
+    long processInstanceCount = processEngine.getRuntimeService().createProcessInstanceQuery()
+        .processInstanceId(pi.getId())
+        .count();
+    assertThat(processInstanceCount, is(0L));
+
+    long historicProcessInstanceCount = processEngine.getHistoryService().createHistoricProcessInstanceQuery()
+        .processInstanceId(pi.getId())
+        .count();
+    assertThat(historicProcessInstanceCount, is(0L));
+
+    TestCase tc2 = new TestCase();
+    tc2.start();
+    tc2.finish();
+
+    assertThat(tc2.getProcessEngine(), sameInstance(processEngine));
+  }
+
+  /**
+   * Tests that test cases with different process engine plugins do not share a process engine.
+   */
+  @Test
+  public void testGetDifferentProcessEnginePlugins() {
+    TestCase tc1 = new TestCase();
+    tc1.start();
+    tc1.finish();
+
+    TestCase tc2 = new TestCase() {
+
+      @Override
+      protected List<ProcessEnginePlugin> getProcessEnginePlugins() {
+        return Collections.singletonList(new TestPlugin());
+      }
+    };
+    tc2.start();
+    tc2.finish();
+
+    assertThat(tc2.getProcessEngine(), not(sameInstance(tc1.getProcessEngine())));
+    assertThat(ProcessEngineRegistry.contains(tc2.getProcessEngine()), is(true));
+  }
+
+  /**
+   * Tests that test cases with differently configured process engine plugins of the same type do not
+   * share a process engine, while equally configured plugins do.
+   */
+  @Test
+  public void testGetDifferentProcessEnginePluginConfiguration() {
+    TestCase tc1 = new PluginTestCase("a");
+    tc1.start();
+    tc1.finish();
+
+    TestCase tc2 = new PluginTestCase("b");
+    tc2.start();
+    tc2.finish();
+
+    TestCase tc3 = new PluginTestCase("a");
+    tc3.start();
+    tc3.finish();
+
+    assertThat(tc2.getProcessEngine(), not(sameInstance(tc1.getProcessEngine())));
+    assertThat(tc3.getProcessEngine(), sameInstance(tc1.getProcessEngine()));
+  }
+
+  /**
+   * Tests that a test case, which builds its process engine differently, does not share the process
+   * engine.
+   */
+  @Test
+  public void testGetOverriddenBuildProcessEngine() {
+    TestCase tc1 = new TestCase();
+    tc1.start();
+    tc1.finish();
+
+    TestCase tc2 = new TestCase() {
+
+      @Override
+      protected ProcessEngine buildProcessEngine() {
+        return super.buildProcessEngine();
+      }
+    };
+    tc2.start();
+    tc2.finish();
+
+    assertThat(tc2.getProcessEngine(), not(sameInstance(tc1.getProcessEngine())));
+  }
+
+  @Test
+  public void testKeyOf() {
+    String key = ProcessEngineRegistry.keyOf(Collections.singletonList(new TestPlugin("a")), HistoryLevel.HISTORY_LEVEL_FULL);
+
+    assertThat(ProcessEngineRegistry.keyOf(Collections.singletonList(new TestPlugin("a")), HistoryLevel.HISTORY_LEVEL_FULL), is(key));
+    assertThat(ProcessEngineRegistry.keyOf(Collections.singletonList(new TestPlugin("b")), HistoryLevel.HISTORY_LEVEL_FULL), not(is(key)));
+    assertThat(ProcessEngineRegistry.keyOf(Collections.singletonList(new TestPlugin("a")), HistoryLevel.HISTORY_LEVEL_NONE), not(is(key)));
+    assertThat(ProcessEngineRegistry.keyOf(Collections.emptyList(), HistoryLevel.HISTORY_LEVEL_FULL), not(is(key)));
+  }
+
+  /**
+   * Tests that plugins, whose configuration cannot be read, are keyed by their type, so that each new
+   * plugin instance does not build a new process engine.
+   */
+  @Test
+  public void testKeyOfInaccessibleConfiguration() {
+    String key = ProcessEngineRegistry.keyOf(Collections.singletonList(new LockPlugin()), HistoryLevel.HISTORY_LEVEL_FULL);
+
+    assertThat(ProcessEngineRegistry.keyOf(Collections.singletonList(new LockPlugin()), HistoryLevel.HISTORY_LEVEL_FULL), is(key));
+  }
+
+  /**
+   * Tests that plugins, which implement {@code equals}, are keyed by equality.
+   */
+  @Test
+  public void testKeyOfEqualsImplemented() {
+    String key = ProcessEngineRegistry.keyOf(Collections.singletonList(new EqualPlugin("a")), HistoryLevel.HISTORY_LEVEL_FULL);
+
+    assertThat(ProcessEngineRegistry.keyOf(Collections.singletonList(new EqualPlugin("a")), HistoryLevel.HISTORY_LEVEL_FULL), is(key));
+    assertThat(ProcessEngineRegistry.keyOf(Collections.singletonList(new EqualPlugin("b")), HistoryLevel.HISTORY_LEVEL_FULL), not(is(key)));
+  }
+
+  private class PluginTestCase extends TestCase {
+
+    private final String value;
+
+    private PluginTestCase(String value) {
+      this.value = value;
+    }
+
+    @Override
+    protected List<ProcessEnginePlugin> getProcessEnginePlugins() {
+      return Collections.singletonList(new TestPlugin(value));
+    }
+  }
+
+  private class TestCase extends AbstractJUnit4TestCase<TestCase> {
+
+    private TestCase() {
+      testClass = ProcessEngineRegistryTest.class;
+      testMethodName = "test";
+    }
+
+    void start() {
+      beforeEach();
+    }
+
+    void finish() {
+      afterEach();
+    }
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      // nothing to do here
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simple.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simple";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+
+  private static class TestPlugin extends AbstractProcessEnginePlugin {
+
+    private final String value;
+
+    private TestPlugin() {
+      this(null);
+    }
+
+    private TestPlugin(String value) {
+      this.value = value;
+    }
+  }
+
+  private static class EqualPlugin extends AbstractProcessEnginePlugin {
+
+    private final String value;
+    /** Not considered by equals. */
+    private final long created;
+
+    private EqualPlugin(String value) {
+      this.value = value;
+
+      created = System.nanoTime();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualPlugin && Objects.equals(((EqualPlugin) obj).value, value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(value);
+    }
+  }
+
+  private static class LockPlugin extends AbstractProcessEnginePlugin {
+
+    private final ReentrantLock lock = new ReentrantLock();
+  }
+}
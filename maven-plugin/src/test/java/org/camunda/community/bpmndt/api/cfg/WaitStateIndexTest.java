@@ -0,0 +1,98 @@
+package org.camunda.community.bpmndt.api.cfg;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.community.bpmndt.api.AbstractJUnit4TestCase;
+import org.camunda.community.bpmndt.api.UserTaskHandler;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class WaitStateIndexTest {
+
+  @Rule
+  public TestCase tc = new TestCase();
+
+  @Test
+  public void testExecute() {
+    tc.createExecutor().execute();
+  }
+
+  @Test
+  public void testDisabled() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+
+    BpmndtProcessEnginePlugin plugin = new BpmndtProcessEnginePlugin();
+    plugin.setWaitStateIndexEnabled(false);
+    plugin.preInit(processEngineConfiguration);
+
+    List<?> commandInterceptors = processEngineConfiguration.getCustomPostCommandInterceptorsTxRequired();
+    assertThat(commandInterceptors == null || commandInterceptors.isEmpty(), is(true));
+  }
+
+  private class TestCase extends AbstractJUnit4TestCase<TestCase> {
+
+    @Override
+    protected void execute(ProcessInstance pi) {
+      WaitStateIndex waitStateIndex = WaitStateIndex.find(getProcessEngine());
+      assertThat(waitStateIndex, notNullValue());
+
+      List<Task> tasks = waitStateIndex.getTasks(getProcessEngine(), pi.getId(), "userTask");
+      assertThat(tasks, hasSize(1));
+      assertThat(tasks.get(0).getProcessInstanceId(), is(pi.getId()));
+      assertThat(waitStateIndex.getTasks(getProcessEngine(), pi.getId(), "startEvent"), hasSize(0));
+      assertThat(waitStateIndex.getJobs(getProcessEngine(), pi.getId(), "userTask"), hasSize(0));
+
+      // task is loaded, so that changes after the indexing are reflected
+      getProcessEngine().getTaskService().setAssignee(tasks.get(0).getId(), "assignee");
+
+      tasks = waitStateIndex.getTasks(getProcessEngine(), pi.getId(), "userTask");
+      assertThat(tasks, hasSize(1));
+      assertThat(tasks.get(0).getAssignee(), is("assignee"));
+
+      instance.isWaitingAt(pi, "userTask");
+      instance.apply(new UserTaskHandler(getProcessEngine(), "userTask"));
+
+      // task is removed, when completed
+      assertThat(waitStateIndex.getTasks(getProcessEngine(), pi.getId(), "userTask"), hasSize(0));
+
+      instance.hasPassed(pi, "endEvent");
+    }
+
+    @Override
+    protected InputStream getBpmnResource() {
+      try {
+        return Files.newInputStream(Paths.get("./src/test/it/simple/src/main/resources/simpleUserTask.bpmn"));
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public String getProcessDefinitionKey() {
+      return "simpleUserTask";
+    }
+
+    @Override
+    public String getStart() {
+      return "startEvent";
+    }
+
+    @Override
+    public String getEnd() {
+      return "endEvent";
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package org.camunda.community.bpmndt.cmd;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScanBpmnFileTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ScanBpmnFile scan;
+
+  @Before
+  public void setUp() {
+    scan = new ScanBpmnFile();
+  }
+
+  @Test
+  public void testTestCases() {
+    ScanBpmnFile.Result result = scan.apply(Paths.get("./src/test/resources/bpmn/happyPath.bpmn"));
+    assertThat(result.getProcessId(), equalTo("happy-path"));
+    assertThat(result.hasTestCases(), is(true));
+  }
+
+  @Test
+  public void testTestCasesCollaboration() {
+    ScanBpmnFile.Result result = scan.apply(Paths.get("./src/test/it/simple/src/main/resources/simpleCollaboration.bpmn"));
+    assertThat(result.getProcessId(), equalTo("simpleCollaboration"));
+    assertThat(result.hasTestCases(), is(true));
+  }
+
+  /**
+   * Should indicate test cases, if the process opts in to the automatic path enumeration.
+   */
+  @Test
+  public void testEnumeratePaths() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    sb.append("<bpmn:definitions xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\"");
+    sb.append(" xmlns:camunda=\"http://camunda.org/schema/1.0/bpmn\">");
+    sb.append("<bpmn:process id=\"enumerate-paths\">");
+    sb.append("<bpmn:extensionElements><camunda:properties>");
+    sb.append("<camunda:property name=\"bpmndt.enumeratePaths\" value=\"true\" />");
+    sb.append("</camunda:properties></bpmn:extensionElements>");
+    sb.append("<bpmn:startEvent id=\"startEvent\" />");
+    sb.append("</bpmn:process>");
+    sb.append("</bpmn:definitions>");
+
+    Path bpmnFile = temporaryFolder.newFile("enumeratePaths.bpmn").toPath();
+    Files.write(bpmnFile, sb.toString().getBytes(StandardCharsets.UTF_8));
+
+    ScanBpmnFile.Result result = scan.apply(bpmnFile);
+    assertThat(result.getProcessId(), equalTo("enumerate-paths"));
+    assertThat(result.hasTestCases(), is(true));
+
+    // other properties
+    Files.write(bpmnFile, sb.toString().replace("bpmndt.enumeratePaths", "other").getBytes(StandardCharsets.UTF_8));
+
+    result = scan.apply(bpmnFile);
+    assertThat(result.hasTestCases(), is(false));
+  }
+
+  @Test
+  public void testNoTestCases() {
+    ScanBpmnFile.Result result = scan.apply(Paths.get("./src/test/resources/bpmn/noTestCases.bpmn"));
+    assertThat(result.getProcessId(), equalTo("no-test-cases"));
+    assertThat(result.hasTestCases(), is(false));
+  }
+
+  /**
+   * Should indicate test cases, if the BPMN file cannot be scanned, so that the full parse reports
+   * the error.
+   */
+  @Test
+  public void testInvalidXml() throws IOException {
+    Path bpmnFile = temporaryFolder.newFile("invalid.bpmn").toPath();
+    Files.write(bpmnFile, "<bpmn:definitions".getBytes(StandardCharsets.UTF_8));
+
+    ScanBpmnFile.Result result = scan.apply(bpmnFile);
+    assertThat(result.getProcessId(), nullValue());
+    assertThat(result.hasTestCases(), is(true));
+  }
+}